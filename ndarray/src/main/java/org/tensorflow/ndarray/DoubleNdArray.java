@@ -16,6 +16,8 @@
  */
 package org.tensorflow.ndarray;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.index.Index;
@@ -105,4 +107,127 @@ public interface DoubleNdArray extends NdArray<Double> {
   DoubleNdArray write(DataBuffer<Double> src);
 
   DoubleNdArray write(DoubleDataBuffer src);
+
+  /**
+   * Replaces in place the value of each scalar of this array by the result of the given function.
+   *
+   * <p>This method iterates directly over the values of the underlying buffer, without allocating
+   * any element or coordinates. For example:
+   * <pre>{@code
+   *  DoubleNdArray pixels = NdArrays.ofDoubles(Shape.of(224, 224, 3));
+   *  pixels.mapInPlace(v -> v / 255.0);
+   * }</pre>
+   *
+   * @param operator function to apply to each value
+   * @return this array
+   */
+  DoubleNdArray mapInPlace(DoubleUnaryOperator operator);
+
+  /**
+   * Replaces in place the value of each scalar of this array by the result of the given function
+   * applied to this value and to the value at the same coordinates in {@code other}.
+   *
+   * @param other array of the same shape as this one
+   * @param operator function to apply to each pair of values
+   * @return this array
+   * @throws IllegalArgumentException if {@code other} does not have the same shape as this array
+   */
+  DoubleNdArray zipInPlace(DoubleNdArray other, DoubleBinaryOperator operator);
+
+  /**
+   * Returns the sum of all values of this array.
+   *
+   * <p>Values are summed with a compensation of rounding errors, so the result does not lose
+   * precision on large arrays.
+   *
+   * @return sum of all values, {@code 0} if this array is empty
+   */
+  double sum();
+
+  /**
+   * Computes the sum of the values of this array along the given axis.
+   *
+   * <p>Results are written to {@code dst}, whose shape must be the one of this array without
+   * {@code axis}, so that this method allocates no arrays.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid
+   */
+  DoubleNdArray sum(int axis, DoubleNdArray dst);
+
+  /**
+   * Returns the minimum value of this array, or {@code NaN} if it contains any {@code NaN}.
+   *
+   * @return minimum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  double min();
+
+  /**
+   * Computes the minimum of the values of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, DoubleNdArray)
+   */
+  DoubleNdArray min(int axis, DoubleNdArray dst);
+
+  /**
+   * Returns the maximum value of this array, or {@code NaN} if it contains any {@code NaN}.
+   *
+   * @return maximum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  double max();
+
+  /**
+   * Computes the maximum of the values of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, DoubleNdArray)
+   */
+  DoubleNdArray max(int axis, DoubleNdArray dst);
+
+  /**
+   * Returns the index of the maximum value of this array, as if its scalars were flattened in
+   * row-major order. If the maximum value occurs more than once, the first index is returned.
+   *
+   * <p>Like {@link #max()}, {@code NaN} is considered greater than any other value, so the index
+   * of the first {@code NaN} is returned if the array contains any.
+   *
+   * @return index of the maximum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  long argMax();
+
+  /**
+   * Computes the index of the maximum value of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, DoubleNdArray)
+   */
+  LongNdArray argMax(int axis, LongNdArray dst);
+
+  /**
+   * Returns the dot product of this array with another, i.e. the sum of the products of the values
+   * found at the same coordinates in both arrays.
+   *
+   * @param other array of the same shape as this one
+   * @return dot product of both arrays
+   * @throws IllegalArgumentException if {@code other} does not have the same shape as this array
+   */
+  double dot(DoubleNdArray other);
 }
@@ -16,6 +16,8 @@
  */
 package org.tensorflow.ndarray;
 
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 import org.tensorflow.ndarray.index.Index;
@@ -105,4 +107,128 @@ public interface IntNdArray extends NdArray<Integer> {
   IntNdArray write(DataBuffer<Integer> src);
 
   IntNdArray write(IntDataBuffer src);
+
+  /**
+   * Replaces in place the value of each scalar of this array by the result of the given function.
+   *
+   * <p>This method iterates directly over the values of the underlying buffer, without allocating
+   * any element or coordinates. For example:
+   * <pre>{@code
+   *  IntNdArray pixels = NdArrays.ofInts(Shape.of(224, 224, 3));
+   *  pixels.mapInPlace(v -> v * 2);
+   * }</pre>
+   *
+   * @param operator function to apply to each value
+   * @return this array
+   */
+  IntNdArray mapInPlace(IntUnaryOperator operator);
+
+  /**
+   * Replaces in place the value of each scalar of this array by the result of the given function
+   * applied to this value and to the value at the same coordinates in {@code other}.
+   *
+   * @param other array of the same shape as this one
+   * @param operator function to apply to each pair of values
+   * @return this array
+   * @throws IllegalArgumentException if {@code other} does not have the same shape as this array
+   */
+  IntNdArray zipInPlace(IntNdArray other, IntBinaryOperator operator);
+
+  /**
+   * Returns the sum of all values of this array.
+   *
+   * <p>Values are accumulated as {@code long}, so the sum does not overflow like an {@code int}
+   * would.
+   *
+   * @return sum of all values, {@code 0} if this array is empty
+   */
+  long sum();
+
+  /**
+   * Computes the sum of the values of this array along the given axis.
+   *
+   * <p>Results are written to {@code dst}, whose shape must be the one of this array without
+   * {@code axis}, so that this method allocates no arrays.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid
+   * @throws ArithmeticException if a sum does not fit in an {@code int}
+   */
+  IntNdArray sum(int axis, IntNdArray dst);
+
+  /**
+   * Returns the minimum value of this array.
+   *
+   * @return minimum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  int min();
+
+  /**
+   * Computes the minimum of the values of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, IntNdArray)
+   */
+  IntNdArray min(int axis, IntNdArray dst);
+
+  /**
+   * Returns the maximum value of this array.
+   *
+   * @return maximum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  int max();
+
+  /**
+   * Computes the maximum of the values of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, IntNdArray)
+   */
+  IntNdArray max(int axis, IntNdArray dst);
+
+  /**
+   * Returns the index of the maximum value of this array, as if its scalars were flattened in
+   * row-major order. If the maximum value occurs more than once, the first index is returned.
+   *
+   * @return index of the maximum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  long argMax();
+
+  /**
+   * Computes the index of the maximum value of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, IntNdArray)
+   */
+  LongNdArray argMax(int axis, LongNdArray dst);
+
+  /**
+   * Returns the dot product of this array with another, i.e. the sum of the products of the values
+   * found at the same coordinates in both arrays.
+   *
+   * <p>Products and their sum are computed as {@code long}, so the result does not overflow like an
+   * {@code int} would.
+   *
+   * @param other array of the same shape as this one
+   * @return dot product of both arrays
+   * @throws IllegalArgumentException if {@code other} does not have the same shape as this array
+   */
+  long dot(IntNdArray other);
 }
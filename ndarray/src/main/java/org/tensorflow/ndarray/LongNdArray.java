@@ -16,6 +16,8 @@
  */
 package org.tensorflow.ndarray;
 
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
 import org.tensorflow.ndarray.index.Index;
@@ -105,4 +107,121 @@ public interface LongNdArray extends NdArray<Long> {
   LongNdArray write(DataBuffer<Long> src);
 
   LongNdArray write(LongDataBuffer src);
+
+  /**
+   * Replaces in place the value of each scalar of this array by the result of the given function.
+   *
+   * <p>This method iterates directly over the values of the underlying buffer, without allocating
+   * any element or coordinates. For example:
+   * <pre>{@code
+   *  LongNdArray pixels = NdArrays.ofLongs(Shape.of(224, 224, 3));
+   *  pixels.mapInPlace(v -> v * 2);
+   * }</pre>
+   *
+   * @param operator function to apply to each value
+   * @return this array
+   */
+  LongNdArray mapInPlace(LongUnaryOperator operator);
+
+  /**
+   * Replaces in place the value of each scalar of this array by the result of the given function
+   * applied to this value and to the value at the same coordinates in {@code other}.
+   *
+   * @param other array of the same shape as this one
+   * @param operator function to apply to each pair of values
+   * @return this array
+   * @throws IllegalArgumentException if {@code other} does not have the same shape as this array
+   */
+  LongNdArray zipInPlace(LongNdArray other, LongBinaryOperator operator);
+
+  /**
+   * Returns the sum of all values of this array.
+   *
+   * @return sum of all values, {@code 0} if this array is empty
+   */
+  long sum();
+
+  /**
+   * Computes the sum of the values of this array along the given axis.
+   *
+   * <p>Results are written to {@code dst}, whose shape must be the one of this array without
+   * {@code axis}, so that this method allocates no arrays.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid
+   */
+  LongNdArray sum(int axis, LongNdArray dst);
+
+  /**
+   * Returns the minimum value of this array.
+   *
+   * @return minimum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  long min();
+
+  /**
+   * Computes the minimum of the values of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, LongNdArray)
+   */
+  LongNdArray min(int axis, LongNdArray dst);
+
+  /**
+   * Returns the maximum value of this array.
+   *
+   * @return maximum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  long max();
+
+  /**
+   * Computes the maximum of the values of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, LongNdArray)
+   */
+  LongNdArray max(int axis, LongNdArray dst);
+
+  /**
+   * Returns the index of the maximum value of this array, as if its scalars were flattened in
+   * row-major order. If the maximum value occurs more than once, the first index is returned.
+   *
+   * @return index of the maximum value
+   * @throws IllegalArgumentException if this array is empty
+   */
+  long argMax();
+
+  /**
+   * Computes the index of the maximum value of this array along the given axis.
+   *
+   * @param axis axis to reduce
+   * @param dst array receiving the result, of the shape of this array without {@code axis}
+   * @return {@code dst}
+   * @throws IllegalArgumentException if {@code axis} or the shape of {@code dst} are invalid, or if
+   *                                  {@code axis} is empty
+   * @see #sum(int, LongNdArray)
+   */
+  LongNdArray argMax(int axis, LongNdArray dst);
+
+  /**
+   * Returns the dot product of this array with another, i.e. the sum of the products of the values
+   * found at the same coordinates in both arrays.
+   *
+   * @param other array of the same shape as this one
+   * @return dot product of both arrays
+   * @throws IllegalArgumentException if {@code other} does not have the same shape as this array
+   */
+  long dot(LongNdArray other);
 }
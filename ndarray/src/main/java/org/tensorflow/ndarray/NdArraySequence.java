@@ -18,6 +18,9 @@
 package org.tensorflow.ndarray;
 
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.tensorflow.ndarray.buffer.DataBufferWindow;
 
 /**
@@ -64,4 +67,37 @@ public interface NdArraySequence<T extends NdArray<?>> extends Iterable<T> {
    * @see DataBufferWindow
    */
   NdArraySequence<T> asSlices();
+
+  /**
+   * Returns a sequential stream of the elements of this sequence.
+   *
+   * <p>The stream is backed by a {@link java.util.Spliterator} that splits the iterated dimensions
+   * into ranges of elements, so it can be efficiently turned into a parallel stream with {@link
+   * Stream#parallel()}. When elements are recycled (see {@link #asSlices()}), each range being
+   * processed in parallel recycles its own instance, so an element must not be shared between
+   * workers nor kept beyond its visit.
+   *
+   * @return a stream of the elements of this sequence
+   */
+  default Stream<T> stream() {
+    return StreamSupport.stream(spliterator(), false);
+  }
+
+  /**
+   * Visit each elements of this sequence in parallel, using the common fork-join pool.
+   *
+   * <p>Elements are visited in no particular order. As with {@link #stream()}, elements visited by
+   * different workers are distinct instances but the same instance might be recycled to visit all
+   * elements of a given worker.
+   *
+   * <pre>{@code
+   *     FloatNdArray batch = NdArrays.ofFloats(Shape.of(1000, 224, 224, 3));
+   *     batch.elements(0).parallelForEach(image -> normalize(image));  // each image is processed by one of the workers
+   * }</pre>
+   *
+   * @param consumer method to invoke for each elements
+   */
+  default void parallelForEach(Consumer<? super T> consumer) {
+    StreamSupport.stream(spliterator(), true).forEach(consumer);
+  }
 }
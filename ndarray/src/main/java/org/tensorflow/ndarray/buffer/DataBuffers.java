@@ -38,10 +38,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of bytes that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static ByteDataBuffer ofBytes(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateBytes(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new byte[(int)size], false);
@@ -52,10 +58,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of longs that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static LongDataBuffer ofLongs(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateLongs(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new long[(int)size], false);
@@ -66,10 +78,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of integers that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static IntDataBuffer ofInts(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateInts(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new int[(int)size], false);
@@ -80,10 +98,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of shorts that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static ShortDataBuffer ofShorts(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateShorts(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new short[(int)size], false);
@@ -94,10 +118,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of doubles that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static DoubleDataBuffer ofDoubles(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateDoubles(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new double[(int)size], false);
@@ -108,10 +138,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of floats that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static FloatDataBuffer ofFloats(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateFloats(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new float[(int)size], false);
@@ -122,10 +158,16 @@ public final class DataBuffers {
   /**
    * Creates a buffer of booleans that can store up to {@code size} values
    *
+   * <p>Buffers larger than what a Java array can hold are allocated off-heap when raw buffers
+   * are available on this platform.
+   *
    * @param size size of the buffer to allocate
    * @return a new buffer
    */
   public static BooleanDataBuffer ofBooleans(long size) {
+    if (size > MAX_32BITS && RawDataBufferFactory.canBeUsed()) {
+      return RawDataBufferFactory.allocateBooleans(size);
+    }
     Validator.createArgs(size, MAX_32BITS);
     if (RawDataBufferFactory.canBeUsed()) {
       return RawDataBufferFactory.create(new boolean[(int)size], false);
@@ -53,6 +53,46 @@ public interface FloatDataLayout<S extends DataBuffer<?>> extends DataLayout<S,
    */
   float readFloat(S buffer, long index);
 
+  /**
+   * Writes a sequence of floats into the buffer, starting at the given index, after converting them
+   * to the buffer type.
+   *
+   * <p>The default implementation simply invokes {@link #writeFloat(DataBuffer, float, long)} for
+   * each value, layouts that can convert values in bulk more efficiently should override it.
+   *
+   * @param buffer the buffer to write to
+   * @param src the array of floats to convert and write
+   * @param offset the offset of the first value to write in {@code src}
+   * @param length number of values to write
+   * @param index index in the buffer where the first converted value should be written
+   */
+  default void writeFloats(S buffer, float[] src, int offset, int length, long index) {
+    int scale = scale();
+    for (int i = 0; i < length; ++i) {
+      writeFloat(buffer, src[offset + i], index + (long)i * scale);
+    }
+  }
+
+  /**
+   * Reads a sequence of floats from the buffer, starting at the given index, and copy them into
+   * an array after conversion.
+   *
+   * <p>The default implementation simply invokes {@link #readFloat(DataBuffer, long)} for each
+   * value, layouts that can convert values in bulk more efficiently should override it.
+   *
+   * @param buffer the buffer to read from
+   * @param dst the array of floats where converted values are copied
+   * @param offset the offset of the first value to copy in {@code dst}
+   * @param length number of values to read
+   * @param index index in the buffer of the first value to read
+   */
+  default void readFloats(S buffer, float[] dst, int offset, int length, long index) {
+    int scale = scale();
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = readFloat(buffer, index + (long)i * scale);
+    }
+  }
+
   @Override
   default void writeObject(S buffer, Float value, long index) {
     writeFloat(buffer, value, index);
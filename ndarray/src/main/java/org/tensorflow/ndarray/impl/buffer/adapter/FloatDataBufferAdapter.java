@@ -41,18 +41,14 @@ class FloatDataBufferAdapter<S extends DataBuffer<?>> extends AbstractDataBuffer
   @Override
   public FloatDataBuffer read(float[] dst, int offset, int length) {
     Validator.readArgs(this, dst.length, offset, length);
-    for (int i = 0, j = offset; i < length; ++i, ++j) {
-      dst[j] = layout.readFloat(buffer(), i * layout.scale());
-    }
+    layout.readFloats(buffer(), dst, offset, length, 0);
     return this;
   }
 
   @Override
   public FloatDataBuffer write(float[] src, int offset, int length) {
     Validator.writeArgs(this, src.length, offset, length);
-    for (int i = 0, j = offset; i < length; ++i, ++j) {
-      layout.writeFloat(buffer(), src[j], i * layout.scale());
-    }
+    layout.writeFloats(buffer(), src, offset, length, 0);
     return this;
   }
 
@@ -36,6 +36,32 @@ public final class Bfloat16Layout implements FloatDataLayout<ShortDataBuffer> {
     return float16to32(buffer.getShort(index));
   }
 
+  @Override
+  public void writeFloats(ShortDataBuffer buffer, float[] src, int offset, int length, long index) {
+    short[] chunk = new short[Math.min(length, BULK_CHUNK_SIZE)];
+    for (int done = 0; done < length; ) {
+      int n = Math.min(length - done, chunk.length);
+      for (int i = 0, j = offset + done; i < n; ++i, ++j) {
+        chunk[i] = float32to16(src[j]);
+      }
+      buffer.offset(index + done).write(chunk, 0, n);
+      done += n;
+    }
+  }
+
+  @Override
+  public void readFloats(ShortDataBuffer buffer, float[] dst, int offset, int length, long index) {
+    short[] chunk = new short[Math.min(length, BULK_CHUNK_SIZE)];
+    for (int done = 0; done < length; ) {
+      int n = Math.min(length - done, chunk.length);
+      buffer.offset(index + done).read(chunk, 0, n);
+      for (int i = 0, j = offset + done; i < n; ++i, ++j) {
+        dst[j] = float16to32(chunk[i]);
+      }
+      done += n;
+    }
+  }
+
   //
   // FLOAT 32-bit to/from BFLOAT 16-bit conversions
   //
@@ -51,4 +77,7 @@ public final class Bfloat16Layout implements FloatDataLayout<ShortDataBuffer> {
   static float float16to32(short i16) {
     return Float.intBitsToFloat((int)i16 << 16);
   }
+
+  // max number of values converted at once before being copied in bulk to/from the buffer
+  private static final int BULK_CHUNK_SIZE = 1024;
 }
@@ -36,6 +36,32 @@ public final class Float16Layout implements FloatDataLayout<ShortDataBuffer> {
     return float16to32(buffer.getShort(index));
   }
 
+  @Override
+  public void writeFloats(ShortDataBuffer buffer, float[] src, int offset, int length, long index) {
+    short[] chunk = new short[Math.min(length, BULK_CHUNK_SIZE)];
+    for (int done = 0; done < length; ) {
+      int n = Math.min(length - done, chunk.length);
+      for (int i = 0, j = offset + done; i < n; ++i, ++j) {
+        chunk[i] = float32to16(src[j]);
+      }
+      buffer.offset(index + done).write(chunk, 0, n);
+      done += n;
+    }
+  }
+
+  @Override
+  public void readFloats(ShortDataBuffer buffer, float[] dst, int offset, int length, long index) {
+    short[] chunk = new short[Math.min(length, BULK_CHUNK_SIZE)];
+    for (int done = 0; done < length; ) {
+      int n = Math.min(length - done, chunk.length);
+      buffer.offset(index + done).read(chunk, 0, n);
+      for (int i = 0, j = offset + done; i < n; ++i, ++j) {
+        dst[j] = float16to32(chunk[i]);
+      }
+      done += n;
+    }
+  }
+
   //
   // FLOAT 32-bit to/from 16-bit conversions
   //
@@ -116,4 +142,7 @@ public final class Float16Layout implements FloatDataLayout<ShortDataBuffer> {
   private static final float MAGIC_32_16_FLOAT = Float.intBitsToFloat(MAGIC_32_16);
   private static final int MAGIC_16_32 = (E32BIAS - E16BIAS + 1) << E32SHIFT;
   private static final float MAGIC_16_32_FLOAT = Float.intBitsToFloat(MAGIC_16_32);
+
+  // max number of values converted at once before being copied in bulk to/from the buffer
+  private static final int BULK_CHUNK_SIZE = 1024;
 }
@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.ndarray.impl.buffer.raw;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Releases off-heap memory allocated for raw data buffers once it is no longer reachable.
+ *
+ * <p>Each allocation is tracked by an owner object that is shared by all memory handles pointing
+ * to it, including those of its slices and windows. When the owner becomes phantom reachable, a
+ * daemon thread frees the native memory.
+ *
+ * <p>Since memory is released asynchronously, allocating new memory does not wait for unreachable
+ * buffers to be released: an {@link OutOfMemoryError} is thrown right away if there is not enough
+ * memory available.
+ */
+final class OffHeapMemory {
+
+  /**
+   * Starts tracking memory allocated at the given address.
+   *
+   * @param address address of the allocated memory
+   * @return an owner object that must be referenced as long as the memory is in use
+   */
+  static Object track(long address) {
+    Object owner = new Object();
+    RELEASERS.add(new Releaser(owner, address));
+    return owner;
+  }
+
+  /**
+   * Ensures that the owner of some memory remains reachable until this point.
+   *
+   * <p>Memory is accessed through its address only, so the JIT compiler may consider the owner
+   * unreachable, and the memory released, while the access is still in progress. Accessors must
+   * call this method after accessing the memory of an owner.
+   *
+   * @param owner owner of the accessed memory
+   */
+  static void reachabilityFence(Object owner) {
+    if (REACHABILITY_FENCE != null) {
+      try {
+        REACHABILITY_FENCE.invokeExact(owner);
+      } catch (Throwable e) {
+        throw new AssertionError(e);
+      }
+    } else {
+      // Before Java 9, locking an object that has escaped cannot be elided and keeps it reachable
+      synchronized (owner) {}
+    }
+  }
+
+  private static final class Releaser extends PhantomReference<Object> {
+
+    Releaser(Object owner, long address) {
+      super(owner, QUEUE);
+      this.address = address;
+    }
+
+    void release() {
+      RELEASERS.remove(this);
+      UnsafeReference.UNSAFE.freeMemory(address);
+    }
+
+    private final long address;
+  }
+
+  private static final MethodHandle REACHABILITY_FENCE = findReachabilityFence();
+  private static final ReferenceQueue<Object> QUEUE = new ReferenceQueue<>();
+  private static final Set<Releaser> RELEASERS = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+
+  static {
+    Thread releaserThread = new Thread(() -> {
+      while (true) {
+        try {
+          ((Releaser)QUEUE.remove()).release();
+        } catch (InterruptedException e) {
+          // Ignore and keep releasing memory
+        }
+      }
+    }, "ndarray-off-heap-releaser");
+    releaserThread.setDaemon(true);
+    releaserThread.start();
+  }
+
+  private static MethodHandle findReachabilityFence() {
+    try {
+      return MethodHandles.lookup().findStatic(
+          Reference.class, "reachabilityFence", MethodType.methodType(void.class, Object.class));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;  // Java 8
+    }
+  }
+
+  private OffHeapMemory() {}
+}
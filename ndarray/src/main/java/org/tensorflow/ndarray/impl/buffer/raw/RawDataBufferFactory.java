@@ -81,6 +81,66 @@ public class RawDataBufferFactory {
     return new ShortRawDataBuffer(UnsafeMemoryHandle.fromArray(array, array.length), readOnly);
   }
 
+  /*
+   * Off-heap allocations are zero-initialized and not limited to 32 bits, unlike Java arrays. Their
+   * memory is released once the buffer and all its slices are no longer reachable.
+   */
+  public static BooleanDataBuffer allocateBooleans(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Byte.BYTES);
+    return new BooleanRawDataBuffer(UnsafeMemoryHandle.allocate(size, Byte.BYTES), false);
+  }
+
+  public static ByteDataBuffer allocateBytes(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Byte.BYTES);
+    return new ByteRawDataBuffer(UnsafeMemoryHandle.allocate(size, Byte.BYTES), false);
+  }
+
+  public static DoubleDataBuffer allocateDoubles(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Double.BYTES);
+    return new DoubleRawDataBuffer(UnsafeMemoryHandle.allocate(size, Double.BYTES), false);
+  }
+
+  public static FloatDataBuffer allocateFloats(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Float.BYTES);
+    return new FloatRawDataBuffer(UnsafeMemoryHandle.allocate(size, Float.BYTES), false);
+  }
+
+  public static IntDataBuffer allocateInts(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Integer.BYTES);
+    return new IntRawDataBuffer(UnsafeMemoryHandle.allocate(size, Integer.BYTES), false);
+  }
+
+  public static LongDataBuffer allocateLongs(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Long.BYTES);
+    return new LongRawDataBuffer(UnsafeMemoryHandle.allocate(size, Long.BYTES), false);
+  }
+
+  public static ShortDataBuffer allocateShorts(long size) {
+    if (!canBeUsed()) {
+      throw new IllegalStateException("Raw data buffers are not available");
+    }
+    Validator.createArgs(size, MAX_64BITS / Short.BYTES);
+    return new ShortRawDataBuffer(UnsafeMemoryHandle.allocate(size, Short.BYTES), false);
+  }
+
   protected static BooleanDataBuffer mapNativeBooleans(long address, long size, boolean readOnly) {
     if (!canBeUsed()) {
       throw new IllegalStateException("Raw data buffers are not available");
@@ -33,95 +33,125 @@ final class UnsafeMemoryHandle {
   static UnsafeMemoryHandle fromArray(Object array, int arrayOffset, int length) {
     long scale = UnsafeReference.UNSAFE.arrayIndexScale(array.getClass());
     int baseOffset = UnsafeReference.UNSAFE.arrayBaseOffset(array.getClass());
-    return new UnsafeMemoryHandle(array, baseOffset + (arrayOffset * scale), length * scale, scale);
+    return new UnsafeMemoryHandle(array, baseOffset + (arrayOffset * scale), length * scale, scale, null);
   }
 
   static UnsafeMemoryHandle fromAddress(long address, long byteSize, long scale) {
     return new UnsafeMemoryHandle(address, byteSize, scale);
   }
 
+  static UnsafeMemoryHandle allocate(long size, long scale) {
+    long byteSize = size * scale;
+    long address = UnsafeReference.UNSAFE.allocateMemory(byteSize);
+    UnsafeReference.UNSAFE.setMemory(address, byteSize, (byte)0);
+    return new UnsafeMemoryHandle(null, address, byteSize, scale, OffHeapMemory.track(address));
+  }
+
   long size() {
     return size;
   }
 
   byte getByte(long index) {
-    return UnsafeReference.UNSAFE.getByte(object, align(index));
+    byte value = UnsafeReference.UNSAFE.getByte(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setByte(byte value, long index) {
     UnsafeReference.UNSAFE.putByte(object, align(index), value);
+    keepAlive();
   }
 
   boolean getBoolean(long index) {
-    return UnsafeReference.UNSAFE.getBoolean(object, align(index));
+    boolean value = UnsafeReference.UNSAFE.getBoolean(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setBoolean(boolean value, long index) {
     UnsafeReference.UNSAFE.putBoolean(object, align(index), value);
+    keepAlive();
   }
 
   short getShort(long index) {
-    return UnsafeReference.UNSAFE.getShort(object, align(index));
+    short value = UnsafeReference.UNSAFE.getShort(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setShort(short value, long index) {
     UnsafeReference.UNSAFE.putShort(object, align(index), value);
+    keepAlive();
   }
 
   int getInt(long index) {
-    return UnsafeReference.UNSAFE.getInt(object, align(index));
+    int value = UnsafeReference.UNSAFE.getInt(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setInt(int value, long index) {
     UnsafeReference.UNSAFE.putInt(object, align(index), value);
+    keepAlive();
   }
 
   float getFloat(long index) {
-    return UnsafeReference.UNSAFE.getFloat(object, align(index));
+    float value = UnsafeReference.UNSAFE.getFloat(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setFloat(float value, long index) {
     UnsafeReference.UNSAFE.putFloat(object, align(index), value);
+    keepAlive();
   }
 
   double getDouble(long index) {
-    return UnsafeReference.UNSAFE.getDouble(object, align(index));
+    double value = UnsafeReference.UNSAFE.getDouble(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setDouble(double value, long index) {
     UnsafeReference.UNSAFE.putDouble(object, align(index), value);
+    keepAlive();
   }
 
   long getLong(long index) {
-    return UnsafeReference.UNSAFE.getLong(object, align(index));
+    long value = UnsafeReference.UNSAFE.getLong(object, align(index));
+    keepAlive();
+    return value;
   }
 
   void setLong(long value, long index) {
     UnsafeReference.UNSAFE.putLong(object, align(index), value);
+    keepAlive();
   }
 
   void copyTo(UnsafeMemoryHandle memory, long length) {
     UnsafeReference.UNSAFE.copyMemory(object, byteOffset, memory.object, memory.byteOffset, length * scale);
+    keepAlive();
+    memory.keepAlive();
   }
 
   UnsafeMemoryHandle offset(long index) {
     long offset = scale(index);
-    return new UnsafeMemoryHandle(object, this.byteOffset + offset, byteSize - offset, scale);
+    return new UnsafeMemoryHandle(object, this.byteOffset + offset, byteSize - offset, scale, owner);
   }
 
   UnsafeMemoryHandle narrow(long size) {
-    return new UnsafeMemoryHandle(object, byteOffset, scale(size), scale);
+    return new UnsafeMemoryHandle(object, byteOffset, scale(size), scale, owner);
   }
 
   UnsafeMemoryHandle slice(long index, long size) {
-    return new UnsafeMemoryHandle(object, this.byteOffset + scale(index), scale(size), scale);
+    return new UnsafeMemoryHandle(object, this.byteOffset + scale(index), scale(size), scale, owner);
   }
 
   UnsafeMemoryHandle rescale(long scale) {
     if (object != null) {
       throw new IllegalStateException("Raw heap memory cannot be rescaled");
     }
-    return new UnsafeMemoryHandle(null, byteOffset, byteSize, scale);
+    return new UnsafeMemoryHandle(null, byteOffset, byteSize, scale, owner);
   }
 
   void rebase(long index) {
@@ -171,18 +201,30 @@ final class UnsafeMemoryHandle {
   final long byteSize;
   final long scale;
   final long size;
+  final Object owner;  // keeps memory allocated by this library alive as long as it is referenced
 
-  private UnsafeMemoryHandle(Object object, long baseOffset, long byteSize, long scale) {
+  private UnsafeMemoryHandle(Object object, long baseOffset, long byteSize, long scale, Object owner) {
     this.object = object;
     this.baseOffset = baseOffset;
     byteOffset = baseOffset;
     this.byteSize = byteSize;
     this.scale = scale;
     size = byteSize / scale;
+    this.owner = owner;
   }
 
   private UnsafeMemoryHandle(long address, long byteSize, long scale) {
-    this(null, address, byteSize, scale);
+    this(null, address, byteSize, scale, null);
+  }
+
+  /**
+   * Keeps the memory allocated by this library reachable until this point, must be called after
+   * accessing it.
+   */
+  private void keepAlive() {
+    if (owner != null) {
+      OffHeapMemory.reachabilityFence(owner);
+    }
   }
 
   private long align(long index) {
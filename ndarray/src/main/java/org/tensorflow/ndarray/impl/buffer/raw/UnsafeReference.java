@@ -54,6 +54,9 @@ final class UnsafeReference {
         clazz.getDeclaredMethod("copyMemory", Object.class, long.class, Object.class, long.class, long.class);
         clazz.getDeclaredMethod("arrayBaseOffset", Class.class);
         clazz.getDeclaredMethod("arrayIndexScale", Class.class);
+        clazz.getDeclaredMethod("allocateMemory", long.class);
+        clazz.getDeclaredMethod("setMemory", long.class, long.class, byte.class);
+        clazz.getDeclaredMethod("freeMemory", long.class);
         unsafe = (Unsafe) instance;
       }
     } catch (ClassNotFoundException | NoSuchMethodException | NoSuchFieldException | SecurityException | IllegalAccessException | ClassCastException ex) {
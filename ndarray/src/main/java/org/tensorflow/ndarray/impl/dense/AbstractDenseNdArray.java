@@ -21,6 +21,7 @@ import org.tensorflow.ndarray.NdArraySequence;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
 import org.tensorflow.ndarray.impl.dimension.RelativeDimensionalSpace;
 import org.tensorflow.ndarray.impl.sequence.FastElementSequence;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 import org.tensorflow.ndarray.index.Index;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DataBufferWindow;
@@ -138,9 +139,19 @@ public abstract class AbstractDenseNdArray<T, U extends NdArray<T>> extends Abst
 
   abstract protected DataBuffer<T> buffer();
 
+  /**
+   * Returns an iterator over the buffer position of each scalar of this array, in row-major order.
+   */
+  PositionIterator scalarPositions() {
+    if (rank() == 0) {
+      return PositionIterator.sequence(1, 1);
+    }
+    return PositionIterator.create(dimensions(), rank() - 1);
+  }
+
   abstract U instantiate(DataBuffer<T> buffer, DimensionalSpace dimensions);
 
-  long positionOf(long[] coords, boolean isValue) {
+  protected long positionOf(long[] coords, boolean isValue) {
     if (coords == null || coords.length == 0) {
       return 0;
     }
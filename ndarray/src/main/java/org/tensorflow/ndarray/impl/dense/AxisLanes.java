@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * Visits the lanes of an array along a given axis, i.e. the vectors of scalars obtained by fixing
+ * all coordinates of the array but the one of that axis.
+ *
+ * <p>Lanes are visited in row-major order of their coordinates. Positions of the scalars of a lane
+ * are computed with a single multiplication when the array is not segmented.
+ */
+final class AxisLanes {
+
+  AxisLanes(DimensionalSpace dimensions, int axis) {
+    this.dimensions = dimensions;
+    this.axis = axis;
+    this.coords = new long[dimensions.numDimensions()];
+    this.laneCoords = new long[coords.length - 1];
+    this.laneSize = dimensions.numElements(axis);
+    this.stride = dimensions.isSegmented() ? -1L : dimensions.get(axis).elementSize();
+    long numLanes = 1;
+    for (int i = 0; i < coords.length; ++i) {
+      if (i != axis) {
+        numLanes *= dimensions.numElements(i);
+      }
+    }
+    this.remainingLanes = numLanes;
+  }
+
+  /**
+   * Moves to the next lane.
+   *
+   * @return false if all lanes have been visited
+   */
+  boolean next() {
+    if (remainingLanes-- <= 0) {
+      return false;
+    }
+    if (started) {
+      incrementCoords();
+    }
+    started = true;
+    if (stride >= 0) {
+      coords[axis] = 0;
+      basePosition = dimensions.positionOf(coords);
+    }
+    return true;
+  }
+
+  /**
+   * @return number of scalars in a lane
+   */
+  long size() {
+    return laneSize;
+  }
+
+  /**
+   * @param index index of the scalar in the current lane
+   * @return position of this scalar in the buffer of the array
+   */
+  long position(long index) {
+    if (stride >= 0) {
+      return basePosition + index * stride;
+    }
+    coords[axis] = index;
+    return dimensions.positionOf(coords);
+  }
+
+  /**
+   * @return coordinates of the current lane, excluding the axis (reused between lanes)
+   */
+  long[] coordinates() {
+    for (int i = 0, j = 0; i < coords.length; ++i) {
+      if (i != axis) {
+        laneCoords[j++] = coords[i];
+      }
+    }
+    return laneCoords;
+  }
+
+  private void incrementCoords() {
+    for (int i = coords.length - 1; i >= 0; --i) {
+      if (i == axis) {
+        continue;
+      }
+      if (coords[i] < dimensions.numElements(i) - 1) {
+        coords[i] += 1L;
+        return;
+      }
+      coords[i] = 0L;
+    }
+  }
+
+  private final DimensionalSpace dimensions;
+  private final int axis;
+  private final long[] coords;
+  private final long[] laneCoords;
+  private final long laneSize;
+  private final long stride;
+  private long remainingLanes;
+  private long basePosition;
+  private boolean started = false;
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.ndarray.impl.dense;
+
+/**
+ * Sums double values while keeping track of the rounding errors (Kahan-Babuska-Neumaier
+ * summation), so the result does not drift as values are added to a large running sum.
+ */
+final class CompensatedSum {
+
+  void add(double value) {
+    double t = sum + value;
+    if (Math.abs(sum) >= Math.abs(value)) {
+      compensation += (sum - t) + value;
+    } else {
+      compensation += (value - t) + sum;
+    }
+    sum = t;
+  }
+
+  double value() {
+    // Infinite or NaN sums would turn the compensation into NaN
+    return Double.isFinite(sum) ? sum + compensation : sum;
+  }
+
+  void reset() {
+    sum = 0.0;
+    compensation = 0.0;
+  }
+
+  private double sum = 0.0;
+  private double compensation = 0.0;
+}
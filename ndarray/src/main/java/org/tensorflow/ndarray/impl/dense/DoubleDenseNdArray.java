@@ -16,12 +16,16 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
 import org.tensorflow.ndarray.DoubleNdArray;
+import org.tensorflow.ndarray.LongNdArray;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.DoubleDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 
 public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArray>
     implements DoubleNdArray {
@@ -68,6 +72,152 @@ public class DoubleDenseNdArray extends AbstractDenseNdArray<Double, DoubleNdArr
     return this;
   }
 
+  @Override
+  public DoubleNdArray mapInPlace(DoubleUnaryOperator operator) {
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      long position = positions.nextLong();
+      buffer.setDouble(operator.applyAsDouble(buffer.getDouble(position)), position);
+    }
+    return this;
+  }
+
+  @Override
+  public DoubleNdArray zipInPlace(DoubleNdArray other, DoubleBinaryOperator operator) {
+    Validator.sameShapeArgs(this, other);
+    if (other instanceof DoubleDenseNdArray) {
+      DoubleDenseNdArray doubleOther = (DoubleDenseNdArray)other;
+      PositionIterator otherPositions = doubleOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        long position = positions.nextLong();
+        buffer.setDouble(operator.applyAsDouble(buffer.getDouble(position), doubleOther.buffer.getDouble(otherPositions.nextLong())), position);
+      }
+    } else {
+      scalars().forEachIndexed((coords, e) -> e.setDouble(operator.applyAsDouble(e.getDouble(), other.getDouble(coords))));
+    }
+    return this;
+  }
+
+  @Override
+  public double sum() {
+    CompensatedSum sum = new CompensatedSum();
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      sum.add(buffer.getDouble(positions.nextLong()));
+    }
+    return sum.value();
+  }
+
+  @Override
+  public DoubleNdArray sum(int axis, DoubleNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, false);
+    CompensatedSum sum = new CompensatedSum();
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      sum.reset();
+      for (long i = 0; i < lanes.size(); ++i) {
+        sum.add(buffer.getDouble(lanes.position(i)));
+      }
+      dst.setDouble(sum.value(), lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public double min() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    double min = buffer.getDouble(positions.nextLong());
+    while (positions.hasNext()) {
+      min = Math.min(min, buffer.getDouble(positions.nextLong()));
+    }
+    return min;
+  }
+
+  @Override
+  public DoubleNdArray min(int axis, DoubleNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      double min = buffer.getDouble(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        min = Math.min(min, buffer.getDouble(lanes.position(i)));
+      }
+      dst.setDouble(min, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public double max() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    double max = buffer.getDouble(positions.nextLong());
+    while (positions.hasNext()) {
+      max = Math.max(max, buffer.getDouble(positions.nextLong()));
+    }
+    return max;
+  }
+
+  @Override
+  public DoubleNdArray max(int axis, DoubleNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      double max = buffer.getDouble(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        max = Math.max(max, buffer.getDouble(lanes.position(i)));
+      }
+      dst.setDouble(max, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long argMax() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    double max = buffer.getDouble(positions.nextLong());
+    long argMax = 0;
+    for (long i = 1; positions.hasNext(); ++i) {
+      double value = buffer.getDouble(positions.nextLong());
+      if (value > max || (Double.isNaN(value) && !Double.isNaN(max))) {
+        max = value;
+        argMax = i;
+      }
+    }
+    return argMax;
+  }
+
+  @Override
+  public LongNdArray argMax(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      double max = buffer.getDouble(lanes.position(0));
+      long argMax = 0;
+      for (long i = 1; i < lanes.size(); ++i) {
+        double value = buffer.getDouble(lanes.position(i));
+        if (value > max || (Double.isNaN(value) && !Double.isNaN(max))) {
+          max = value;
+          argMax = i;
+        }
+      }
+      dst.setLong(argMax, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public double dot(DoubleNdArray other) {
+    Validator.sameShapeArgs(this, other);
+    CompensatedSum dot = new CompensatedSum();
+    if (other instanceof DoubleDenseNdArray) {
+      DoubleDenseNdArray doubleOther = (DoubleDenseNdArray)other;
+      PositionIterator otherPositions = doubleOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        dot.add(buffer.getDouble(positions.nextLong()) * doubleOther.buffer.getDouble(otherPositions.nextLong()));
+      }
+      return dot.value();
+    }
+    scalars().forEachIndexed((coords, e) -> dot.add(e.getDouble() * other.getDouble(coords)));
+    return dot.value();
+  }
+
   protected DoubleDenseNdArray(DoubleDataBuffer buffer, Shape shape) {
     this(buffer, DimensionalSpace.create(shape));
   }
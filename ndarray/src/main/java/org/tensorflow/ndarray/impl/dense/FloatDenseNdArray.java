@@ -17,11 +17,15 @@
 package org.tensorflow.ndarray.impl.dense;
 
 import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.FloatNdArray.FloatBinaryOperator;
+import org.tensorflow.ndarray.FloatNdArray.FloatUnaryOperator;
+import org.tensorflow.ndarray.LongNdArray;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.FloatDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 
 public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     implements FloatNdArray {
@@ -68,6 +72,152 @@ public class FloatDenseNdArray extends AbstractDenseNdArray<Float, FloatNdArray>
     return this;
   }
 
+  @Override
+  public FloatNdArray mapInPlace(FloatUnaryOperator operator) {
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      long position = positions.nextLong();
+      buffer.setFloat(operator.applyAsFloat(buffer.getFloat(position)), position);
+    }
+    return this;
+  }
+
+  @Override
+  public FloatNdArray zipInPlace(FloatNdArray other, FloatBinaryOperator operator) {
+    Validator.sameShapeArgs(this, other);
+    if (other instanceof FloatDenseNdArray) {
+      FloatDenseNdArray floatOther = (FloatDenseNdArray)other;
+      PositionIterator otherPositions = floatOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        long position = positions.nextLong();
+        buffer.setFloat(operator.applyAsFloat(buffer.getFloat(position), floatOther.buffer.getFloat(otherPositions.nextLong())), position);
+      }
+    } else {
+      scalars().forEachIndexed((coords, e) -> e.setFloat(operator.applyAsFloat(e.getFloat(), other.getFloat(coords))));
+    }
+    return this;
+  }
+
+  @Override
+  public float sum() {
+    double sum = 0.0;
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      sum += buffer.getFloat(positions.nextLong());
+    }
+    return (float)sum;
+  }
+
+  @Override
+  public FloatNdArray sum(int axis, FloatNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, false);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      double sum = 0.0;
+      for (long i = 0; i < lanes.size(); ++i) {
+        sum += buffer.getFloat(lanes.position(i));
+      }
+      dst.setFloat((float)sum, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public float min() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    float min = buffer.getFloat(positions.nextLong());
+    while (positions.hasNext()) {
+      min = Math.min(min, buffer.getFloat(positions.nextLong()));
+    }
+    return min;
+  }
+
+  @Override
+  public FloatNdArray min(int axis, FloatNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      float min = buffer.getFloat(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        min = Math.min(min, buffer.getFloat(lanes.position(i)));
+      }
+      dst.setFloat(min, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public float max() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    float max = buffer.getFloat(positions.nextLong());
+    while (positions.hasNext()) {
+      max = Math.max(max, buffer.getFloat(positions.nextLong()));
+    }
+    return max;
+  }
+
+  @Override
+  public FloatNdArray max(int axis, FloatNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      float max = buffer.getFloat(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        max = Math.max(max, buffer.getFloat(lanes.position(i)));
+      }
+      dst.setFloat(max, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long argMax() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    float max = buffer.getFloat(positions.nextLong());
+    long argMax = 0;
+    for (long i = 1; positions.hasNext(); ++i) {
+      float value = buffer.getFloat(positions.nextLong());
+      if (value > max || (Float.isNaN(value) && !Float.isNaN(max))) {
+        max = value;
+        argMax = i;
+      }
+    }
+    return argMax;
+  }
+
+  @Override
+  public LongNdArray argMax(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      float max = buffer.getFloat(lanes.position(0));
+      long argMax = 0;
+      for (long i = 1; i < lanes.size(); ++i) {
+        float value = buffer.getFloat(lanes.position(i));
+        if (value > max || (Float.isNaN(value) && !Float.isNaN(max))) {
+          max = value;
+          argMax = i;
+        }
+      }
+      dst.setLong(argMax, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public float dot(FloatNdArray other) {
+    Validator.sameShapeArgs(this, other);
+    double dot = 0.0;
+    if (other instanceof FloatDenseNdArray) {
+      FloatDenseNdArray floatOther = (FloatDenseNdArray)other;
+      PositionIterator otherPositions = floatOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        dot += (double)buffer.getFloat(positions.nextLong()) * floatOther.buffer.getFloat(otherPositions.nextLong());
+      }
+      return (float)dot;
+    }
+    double[] result = new double[1];
+    scalars().forEachIndexed((coords, e) -> result[0] += (double)e.getFloat() * other.getFloat(coords));
+    return (float)result[0];
+  }
+
   protected FloatDenseNdArray(FloatDataBuffer buffer, Shape shape) {
     this(buffer, DimensionalSpace.create(shape));
   }
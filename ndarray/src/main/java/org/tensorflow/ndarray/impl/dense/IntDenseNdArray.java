@@ -16,12 +16,16 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntUnaryOperator;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.IntDataBuffer;
 import org.tensorflow.ndarray.IntNdArray;
+import org.tensorflow.ndarray.LongNdArray;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 
 public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
     implements IntNdArray {
@@ -68,6 +72,152 @@ public class IntDenseNdArray extends AbstractDenseNdArray<Integer, IntNdArray>
     return this;
   }
 
+  @Override
+  public IntNdArray mapInPlace(IntUnaryOperator operator) {
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      long position = positions.nextLong();
+      buffer.setInt(operator.applyAsInt(buffer.getInt(position)), position);
+    }
+    return this;
+  }
+
+  @Override
+  public IntNdArray zipInPlace(IntNdArray other, IntBinaryOperator operator) {
+    Validator.sameShapeArgs(this, other);
+    if (other instanceof IntDenseNdArray) {
+      IntDenseNdArray intOther = (IntDenseNdArray)other;
+      PositionIterator otherPositions = intOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        long position = positions.nextLong();
+        buffer.setInt(operator.applyAsInt(buffer.getInt(position), intOther.buffer.getInt(otherPositions.nextLong())), position);
+      }
+    } else {
+      scalars().forEachIndexed((coords, e) -> e.setInt(operator.applyAsInt(e.getInt(), other.getInt(coords))));
+    }
+    return this;
+  }
+
+  @Override
+  public long sum() {
+    long sum = 0;
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      sum += buffer.getInt(positions.nextLong());
+    }
+    return sum;
+  }
+
+  @Override
+  public IntNdArray sum(int axis, IntNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, false);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      long sum = 0;
+      for (long i = 0; i < lanes.size(); ++i) {
+        sum += buffer.getInt(lanes.position(i));
+      }
+      dst.setInt(Math.toIntExact(sum), lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public int min() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    int min = buffer.getInt(positions.nextLong());
+    while (positions.hasNext()) {
+      min = Math.min(min, buffer.getInt(positions.nextLong()));
+    }
+    return min;
+  }
+
+  @Override
+  public IntNdArray min(int axis, IntNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      int min = buffer.getInt(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        min = Math.min(min, buffer.getInt(lanes.position(i)));
+      }
+      dst.setInt(min, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public int max() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    int max = buffer.getInt(positions.nextLong());
+    while (positions.hasNext()) {
+      max = Math.max(max, buffer.getInt(positions.nextLong()));
+    }
+    return max;
+  }
+
+  @Override
+  public IntNdArray max(int axis, IntNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      int max = buffer.getInt(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        max = Math.max(max, buffer.getInt(lanes.position(i)));
+      }
+      dst.setInt(max, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long argMax() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    int max = buffer.getInt(positions.nextLong());
+    long argMax = 0;
+    for (long i = 1; positions.hasNext(); ++i) {
+      int value = buffer.getInt(positions.nextLong());
+      if (value > max) {
+        max = value;
+        argMax = i;
+      }
+    }
+    return argMax;
+  }
+
+  @Override
+  public LongNdArray argMax(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      int max = buffer.getInt(lanes.position(0));
+      long argMax = 0;
+      for (long i = 1; i < lanes.size(); ++i) {
+        int value = buffer.getInt(lanes.position(i));
+        if (value > max) {
+          max = value;
+          argMax = i;
+        }
+      }
+      dst.setLong(argMax, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long dot(IntNdArray other) {
+    Validator.sameShapeArgs(this, other);
+    long dot = 0;
+    if (other instanceof IntDenseNdArray) {
+      IntDenseNdArray intOther = (IntDenseNdArray)other;
+      PositionIterator otherPositions = intOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        dot += (long)buffer.getInt(positions.nextLong()) * intOther.buffer.getInt(otherPositions.nextLong());
+      }
+      return dot;
+    }
+    long[] result = new long[1];
+    scalars().forEachIndexed((coords, e) -> result[0] += (long)e.getInt() * other.getInt(coords));
+    return result[0];
+  }
+
   protected IntDenseNdArray(IntDataBuffer buffer, Shape shape) {
     this(buffer, DimensionalSpace.create(shape));
   }
@@ -16,12 +16,15 @@
  */
 package org.tensorflow.ndarray.impl.dense;
 
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongUnaryOperator;
 import org.tensorflow.ndarray.LongNdArray;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.buffer.LongDataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+import org.tensorflow.ndarray.impl.sequence.PositionIterator;
 
 public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
     implements LongNdArray {
@@ -68,6 +71,152 @@ public class LongDenseNdArray extends AbstractDenseNdArray<Long, LongNdArray>
     return this;
   }
 
+  @Override
+  public LongNdArray mapInPlace(LongUnaryOperator operator) {
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      long position = positions.nextLong();
+      buffer.setLong(operator.applyAsLong(buffer.getLong(position)), position);
+    }
+    return this;
+  }
+
+  @Override
+  public LongNdArray zipInPlace(LongNdArray other, LongBinaryOperator operator) {
+    Validator.sameShapeArgs(this, other);
+    if (other instanceof LongDenseNdArray) {
+      LongDenseNdArray longOther = (LongDenseNdArray)other;
+      PositionIterator otherPositions = longOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        long position = positions.nextLong();
+        buffer.setLong(operator.applyAsLong(buffer.getLong(position), longOther.buffer.getLong(otherPositions.nextLong())), position);
+      }
+    } else {
+      scalars().forEachIndexed((coords, e) -> e.setLong(operator.applyAsLong(e.getLong(), other.getLong(coords))));
+    }
+    return this;
+  }
+
+  @Override
+  public long sum() {
+    long sum = 0L;
+    for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+      sum += buffer.getLong(positions.nextLong());
+    }
+    return sum;
+  }
+
+  @Override
+  public LongNdArray sum(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, false);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      long sum = 0L;
+      for (long i = 0; i < lanes.size(); ++i) {
+        sum += buffer.getLong(lanes.position(i));
+      }
+      dst.setLong(sum, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long min() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    long min = buffer.getLong(positions.nextLong());
+    while (positions.hasNext()) {
+      min = Math.min(min, buffer.getLong(positions.nextLong()));
+    }
+    return min;
+  }
+
+  @Override
+  public LongNdArray min(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      long min = buffer.getLong(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        min = Math.min(min, buffer.getLong(lanes.position(i)));
+      }
+      dst.setLong(min, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long max() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    long max = buffer.getLong(positions.nextLong());
+    while (positions.hasNext()) {
+      max = Math.max(max, buffer.getLong(positions.nextLong()));
+    }
+    return max;
+  }
+
+  @Override
+  public LongNdArray max(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      long max = buffer.getLong(lanes.position(0));
+      for (long i = 1; i < lanes.size(); ++i) {
+        max = Math.max(max, buffer.getLong(lanes.position(i)));
+      }
+      dst.setLong(max, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long argMax() {
+    Validator.notEmpty(this);
+    PositionIterator positions = scalarPositions();
+    long max = buffer.getLong(positions.nextLong());
+    long argMax = 0;
+    for (long i = 1; positions.hasNext(); ++i) {
+      long value = buffer.getLong(positions.nextLong());
+      if (value > max) {
+        max = value;
+        argMax = i;
+      }
+    }
+    return argMax;
+  }
+
+  @Override
+  public LongNdArray argMax(int axis, LongNdArray dst) {
+    Validator.reduceArgs(this, axis, dst, true);
+    for (AxisLanes lanes = new AxisLanes(dimensions(), axis); lanes.next();) {
+      long max = buffer.getLong(lanes.position(0));
+      long argMax = 0;
+      for (long i = 1; i < lanes.size(); ++i) {
+        long value = buffer.getLong(lanes.position(i));
+        if (value > max) {
+          max = value;
+          argMax = i;
+        }
+      }
+      dst.setLong(argMax, lanes.coordinates());
+    }
+    return dst;
+  }
+
+  @Override
+  public long dot(LongNdArray other) {
+    Validator.sameShapeArgs(this, other);
+    long dot = 0L;
+    if (other instanceof LongDenseNdArray) {
+      LongDenseNdArray longOther = (LongDenseNdArray)other;
+      PositionIterator otherPositions = longOther.scalarPositions();
+      for (PositionIterator positions = scalarPositions(); positions.hasNext();) {
+        dot += buffer.getLong(positions.nextLong()) * longOther.buffer.getLong(otherPositions.nextLong());
+      }
+      return dot;
+    }
+    long[] result = new long[1];
+    scalars().forEachIndexed((coords, e) -> result[0] += e.getLong() * other.getLong(coords));
+    return result[0];
+  }
+
   protected LongDenseNdArray(LongDataBuffer buffer, Shape shape) {
     this(buffer, DimensionalSpace.create(shape));
   }
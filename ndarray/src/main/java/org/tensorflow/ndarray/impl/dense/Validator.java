@@ -17,6 +17,7 @@
 package org.tensorflow.ndarray.impl.dense;
 
 import org.tensorflow.ndarray.IllegalRankException;
+import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
@@ -45,5 +46,39 @@ final class Validator extends org.tensorflow.ndarray.impl.Validator {
     };
   }
 
+  static void sameShapeArgs(NdArray<?> ndArray, NdArray<?> otherNdArray) {
+    if (!ndArray.shape().equals(otherNdArray.shape())) {
+      throw new IllegalArgumentException("Arrays must have the same shape (" +
+          ndArray.shape() + " != " + otherNdArray.shape() + ")");
+    }
+  }
+
+  static void reduceArgs(NdArray<?> ndArray, int axis, NdArray<?> dst, boolean requiresValues) {
+    Shape shape = ndArray.shape();
+    if (axis < 0 || axis >= shape.numDimensions()) {
+      throw new IllegalArgumentException("Axis " + axis + " is out of range for an array of shape " + shape);
+    }
+    Shape dstShape = dst.shape();
+    boolean validShape = dstShape.numDimensions() == shape.numDimensions() - 1;
+    for (int i = 0, j = 0; validShape && i < shape.numDimensions(); ++i) {
+      if (i != axis) {
+        validShape = dstShape.size(j++) == shape.size(i);
+      }
+    }
+    if (!validShape) {
+      throw new IllegalArgumentException("Destination array of shape " + dstShape +
+          " cannot receive the reduction of an array of shape " + shape + " along axis " + axis);
+    }
+    if (requiresValues && shape.size(axis) == 0 && dstShape.size() > 0) {
+      throw new IllegalArgumentException("Cannot reduce empty axis " + axis + " of an array of shape " + shape);
+    }
+  }
+
+  static void notEmpty(NdArray<?> ndArray) {
+    if (ndArray.size() == 0) {
+      throw new IllegalArgumentException("Cannot reduce an empty array");
+    }
+  }
+
   private Validator() {}
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.ndarray.impl.sequence;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
+
+/**
+ * A spliterator over the elements of a sequence, splitting them by ranges in the iterated
+ * dimensions.
+ *
+ * <p>Elements are retrieved from their position in the array by an element locator. Each
+ * spliterator obtained by splitting this one gets its own locator, so that locators recycling the
+ * same element instance (e.g. using a {@link org.tensorflow.ndarray.buffer.DataBufferWindow}) are
+ * never shared between workers.
+ *
+ * @param <U> Type of the elements
+ */
+final class ElementSpliterator<U> implements Spliterator<U> {
+
+  ElementSpliterator(DimensionalSpace dimensions, int dimensionIdx, LongFunction<U> elementLocator,
+      Supplier<LongFunction<U>> elementLocatorFactory) {
+    this(dimensions, dimensionIdx, elementLocator, elementLocatorFactory, 0, numElements(dimensions, dimensionIdx));
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super U> action) {
+    if (index >= end) {
+      return false;
+    }
+    action.accept(elementLocator.apply(positionOf(index++)));
+    return true;
+  }
+
+  @Override
+  public void forEachRemaining(Consumer<? super U> action) {
+    while (index < end) {
+      action.accept(elementLocator.apply(positionOf(index++)));
+    }
+  }
+
+  @Override
+  public Spliterator<U> trySplit() {
+    long mid = (index + end) >>> 1;
+    if (mid <= index) {
+      return null;
+    }
+    Spliterator<U> prefix = new ElementSpliterator<>(dimensions, dimensionIdx, elementLocatorFactory.get(),
+        elementLocatorFactory, index, mid);
+    index = mid;
+    return prefix;
+  }
+
+  @Override
+  public long estimateSize() {
+    return end - index;
+  }
+
+  @Override
+  public int characteristics() {
+    return ORDERED | SIZED | SUBSIZED | NONNULL;
+  }
+
+  private static long numElements(DimensionalSpace dimensions, int dimensionIdx) {
+    long size = 1;
+    for (int i = 0; i <= dimensionIdx; ++i) {
+      size *= dimensions.get(i).numElements();
+    }
+    return size;
+  }
+
+  private long positionOf(long elementIndex) {
+    if (coords == null) {
+      return elementIndex * stride;
+    }
+    for (int i = coords.length - 1; i >= 0; --i) {
+      long numElements = dimensions.get(i).numElements();
+      coords[i] = elementIndex % numElements;
+      elementIndex /= numElements;
+    }
+    return dimensions.positionOf(coords);
+  }
+
+  private ElementSpliterator(DimensionalSpace dimensions, int dimensionIdx, LongFunction<U> elementLocator,
+      Supplier<LongFunction<U>> elementLocatorFactory, long index, long end) {
+    this.dimensions = dimensions;
+    this.dimensionIdx = dimensionIdx;
+    this.elementLocator = elementLocator;
+    this.elementLocatorFactory = elementLocatorFactory;
+    this.index = index;
+    this.end = end;
+    this.stride = dimensions.get(dimensionIdx).elementSize();
+    this.coords = dimensions.isSegmented() ? new long[dimensionIdx + 1] : null;
+  }
+
+  private final DimensionalSpace dimensions;
+  private final int dimensionIdx;
+  private final LongFunction<U> elementLocator;
+  private final Supplier<LongFunction<U>> elementLocatorFactory;
+  private final long end;
+  private final long stride;
+  private final long[] coords;
+  private long index;
+}
@@ -18,12 +18,15 @@
 package org.tensorflow.ndarray.impl.sequence;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
 
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArraySequence;
 import org.tensorflow.ndarray.buffer.DataBufferWindow;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
+import org.tensorflow.ndarray.impl.dimension.DimensionalSpace;
 
 /**
  * A sequence recycling the same {@code NdArray} instance when iterating its elements
@@ -53,11 +56,32 @@ public final class FastElementSequence<T, U extends NdArray<T>> implements NdArr
     });
   }
 
+  @Override
+  public Spliterator<U> spliterator() {
+    return new ElementSpliterator<>(ndArray.dimensions(), dimensionIdx, this::slideTo, this::newElementLocator);
+  }
+
   @Override
   public NdArraySequence<U> asSlices() {
     return new SlicingElementSequence<T, U>(ndArray, dimensionIdx);
   }
 
+  private U slideTo(long position) {
+    elementWindow.slideTo(position);
+    return element;
+  }
+
+  @SuppressWarnings("unchecked")
+  private LongFunction<U> newElementLocator() {
+    // Allocates a new sequence to get an element instance and a window that are not shared with this one
+    NdArraySequence<U> sequence = (NdArraySequence<U>)ndArray.elements(dimensionIdx);
+    if (sequence instanceof FastElementSequence) {
+      return ((FastElementSequence<T, U>)sequence)::slideTo;
+    }
+    DimensionalSpace elementDimensions = ndArray.dimensions().from(dimensionIdx + 1);
+    return position -> ndArray.slice(position, elementDimensions);
+  }
+
   private class SequenceIterator implements Iterator<U> {
 
       @Override
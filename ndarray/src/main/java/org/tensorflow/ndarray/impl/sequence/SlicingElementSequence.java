@@ -18,7 +18,9 @@
 package org.tensorflow.ndarray.impl.sequence;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArraySequence;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
@@ -66,6 +68,12 @@ public final class SlicingElementSequence<T, U extends NdArray<T>> implements Nd
     );
   }
 
+  @Override
+  public Spliterator<U> spliterator() {
+    LongFunction<U> elementLocator = position -> ndArray.slice(position, elementDimensions);
+    return new ElementSpliterator<>(ndArray.dimensions(), dimensionIdx, elementLocator, () -> elementLocator);
+  }
+
   @Override
   public NdArraySequence<U> asSlices() {
     return this;
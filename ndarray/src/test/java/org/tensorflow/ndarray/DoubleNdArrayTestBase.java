@@ -17,8 +17,11 @@
 package org.tensorflow.ndarray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.index.Indices;
 
 public abstract class DoubleNdArrayTestBase extends NdArrayTestBase<Double> {
 
@@ -52,4 +55,86 @@ public abstract class DoubleNdArrayTestBase extends NdArrayTestBase<Double> {
         assertEquals(9, matrix3d.getDouble(0, 0, 4), 0.0);
         assertEquals(7, matrix3d.getDouble(0, 1, 2), 0.0);
     }
+
+    @Test
+    public void reducePrimitiveValues() {
+        DoubleNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setDouble((double)(coords[0] * 4 + coords[1]) * (coords[1] == 2 ? -1 : 1))
+        );
+        // [[0, 1, -2, 3], [4, 5, -6, 7], [8, 9, -10, 11]]
+        assertEquals(30, matrix.sum(), 0.0);
+        assertEquals(-10, matrix.min(), 0.0);
+        assertEquals(11, matrix.max(), 0.0);
+        assertEquals(11L, matrix.argMax());
+
+        DoubleNdArray sums = allocate(Shape.of(4));
+        matrix.sum(0, sums);
+        assertEquals(12, sums.getDouble(0), 0.0);
+        assertEquals(-18, sums.getDouble(2), 0.0);
+
+        DoubleNdArray maxs = allocate(Shape.of(3));
+        matrix.max(1, maxs);
+        assertEquals(3, maxs.getDouble(0), 0.0);
+        assertEquals(11, maxs.getDouble(2), 0.0);
+
+        DoubleNdArray mins = allocate(Shape.of(4));
+        matrix.min(0, mins);
+        assertEquals(0, mins.getDouble(0), 0.0);
+        assertEquals(-10, mins.getDouble(2), 0.0);
+
+        LongNdArray argMaxs = NdArrays.ofLongs(Shape.of(4));
+        matrix.argMax(0, argMaxs);
+        assertEquals(2L, argMaxs.getLong(1));
+        assertEquals(0L, argMaxs.getLong(2));
+
+        DoubleNdArray column = matrix.slice(Indices.all(), Indices.at(1));
+        assertEquals(15, column.sum(), 0.0);
+        assertEquals(107, column.dot(column), 0.0);
+    }
+
+    @Test
+    public void reduceWithoutLosingPrecision() {
+        DoubleNdArray vector = allocate(Shape.of(4));
+        vector.setDouble(1e16, 0);
+        vector.setDouble(1.0, 1);
+        vector.setDouble(1.0, 2);
+        vector.setDouble(-1e16, 3);
+        assertEquals(2.0, vector.sum(), 0.0);
+        assertEquals(2.0, vector.sum(0, allocate(Shape.scalar())).getDouble(), 0.0);
+    }
+
+    @Test
+    public void reduceNaN() {
+        DoubleNdArray vector = allocate(Shape.of(3));
+        vector.setDouble(1, 0);
+        vector.setDouble(Double.NaN, 1);
+        vector.setDouble(3, 2);
+        assertTrue(Double.isNaN(vector.max()));
+        assertTrue(Double.isNaN(vector.min()));
+        assertEquals(1L, vector.argMax());
+    }
+
+    @Test
+    public void mapAndZipPrimitiveValues() {
+        DoubleNdArray matrix = allocate(Shape.of(2, 3));
+        matrix.scalars().forEachIndexed((coords, scalar) -> scalar.setDouble((double)(coords[0] * 3 + coords[1])));
+
+        matrix.mapInPlace(v -> v * 2);
+        assertEquals(10, matrix.getDouble(1, 2), 0.0);
+
+        DoubleNdArray other = allocate(Shape.of(2, 3));
+        other.scalars().forEach(scalar -> scalar.setDouble(1));
+        matrix.zipInPlace(other, (a, b) -> a - b);
+        assertEquals(-1, matrix.getDouble(0, 0), 0.0);
+        assertEquals(9, matrix.getDouble(1, 2), 0.0);
+        assertEquals(24, matrix.dot(other), 0.0);
+
+        matrix.slice(Indices.all(), Indices.at(0)).mapInPlace(v -> 0);
+        assertEquals(0, matrix.getDouble(1, 0), 0.0);
+        assertEquals(7, matrix.getDouble(1, 1), 0.0);
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.zipInPlace(allocate(Shape.of(3, 2)), (a, b) -> a));
+        assertThrows(IllegalArgumentException.class, () -> matrix.sum(1, allocate(Shape.of(3))));
+    }
 }
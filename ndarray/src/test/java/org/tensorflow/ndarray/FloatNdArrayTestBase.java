@@ -17,8 +17,11 @@
 package org.tensorflow.ndarray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.index.Indices;
 
 public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
 
@@ -52,4 +55,87 @@ public abstract class FloatNdArrayTestBase extends NdArrayTestBase<Float> {
         assertEquals(9, matrix3d.getFloat(0, 0, 4), 0.0f);
         assertEquals(7, matrix3d.getFloat(0, 1, 2), 0.0f);
     }
+
+    @Test
+    public void reducePrimitiveValues() {
+        FloatNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setFloat((float)(coords[0] * 4 + coords[1]) * (coords[1] == 2 ? -1 : 1))
+        );
+        // [[0, 1, -2, 3], [4, 5, -6, 7], [8, 9, -10, 11]]
+        assertEquals(30f, matrix.sum(), 0.0f);
+        assertEquals(-10f, matrix.min(), 0.0f);
+        assertEquals(11f, matrix.max(), 0.0f);
+        assertEquals(11L, matrix.argMax());
+
+        FloatNdArray sums = allocate(Shape.of(4));
+        matrix.sum(0, sums);
+        assertEquals(12f, sums.getFloat(0), 0.0f);
+        assertEquals(-18f, sums.getFloat(2), 0.0f);
+
+        FloatNdArray maxs = allocate(Shape.of(3));
+        matrix.max(1, maxs);
+        assertEquals(3f, maxs.getFloat(0), 0.0f);
+        assertEquals(11f, maxs.getFloat(2), 0.0f);
+
+        FloatNdArray mins = allocate(Shape.of(4));
+        matrix.min(0, mins);
+        assertEquals(0f, mins.getFloat(0), 0.0f);
+        assertEquals(-10f, mins.getFloat(2), 0.0f);
+
+        LongNdArray argMaxs = NdArrays.ofLongs(Shape.of(4));
+        matrix.argMax(0, argMaxs);
+        assertEquals(2L, argMaxs.getLong(1));
+        assertEquals(0L, argMaxs.getLong(2));
+
+        FloatNdArray column = matrix.slice(Indices.all(), Indices.at(1));
+        assertEquals(15f, column.sum(), 0.0f);
+        assertEquals(107f, column.dot(column), 0.0f);
+    }
+
+    @Test
+    public void reduceWithoutLosingPrecision() {
+        FloatNdArray vector = allocate(Shape.of(5));
+        vector.setFloat(16777216f, 0);
+        vector.setFloat(1f, 1);
+        vector.setFloat(1f, 2);
+        vector.setFloat(1f, 3);
+        vector.setFloat(1f, 4);
+        assertEquals(16777220f, vector.sum(), 0.0f);
+        assertEquals(16777220f, vector.sum(0, allocate(Shape.scalar())).getFloat(), 0.0f);
+    }
+
+    @Test
+    public void reduceNaN() {
+        FloatNdArray vector = allocate(Shape.of(3));
+        vector.setFloat(1f, 0);
+        vector.setFloat(Float.NaN, 1);
+        vector.setFloat(3f, 2);
+        assertTrue(Float.isNaN(vector.max()));
+        assertTrue(Float.isNaN(vector.min()));
+        assertEquals(1L, vector.argMax());
+    }
+
+    @Test
+    public void mapAndZipPrimitiveValues() {
+        FloatNdArray matrix = allocate(Shape.of(2, 3));
+        matrix.scalars().forEachIndexed((coords, scalar) -> scalar.setFloat((float)(coords[0] * 3 + coords[1])));
+
+        matrix.mapInPlace(v -> v * 2);
+        assertEquals(10f, matrix.getFloat(1, 2), 0.0f);
+
+        FloatNdArray other = allocate(Shape.of(2, 3));
+        other.scalars().forEach(scalar -> scalar.setFloat(1f));
+        matrix.zipInPlace(other, (a, b) -> a - b);
+        assertEquals(-1f, matrix.getFloat(0, 0), 0.0f);
+        assertEquals(9f, matrix.getFloat(1, 2), 0.0f);
+        assertEquals(24f, matrix.dot(other), 0.0f);
+
+        matrix.slice(Indices.all(), Indices.at(0)).mapInPlace(v -> 0f);
+        assertEquals(0f, matrix.getFloat(1, 0), 0.0f);
+        assertEquals(7f, matrix.getFloat(1, 1), 0.0f);
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.zipInPlace(allocate(Shape.of(3, 2)), (a, b) -> a));
+        assertThrows(IllegalArgumentException.class, () -> matrix.sum(1, allocate(Shape.of(3))));
+    }
 }
@@ -17,8 +17,10 @@
 package org.tensorflow.ndarray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.index.Indices;
 
 public abstract class IntNdArrayTestBase extends NdArrayTestBase<Integer> {
 
@@ -52,4 +54,73 @@ public abstract class IntNdArrayTestBase extends NdArrayTestBase<Integer> {
         assertEquals(9, matrix3d.getInt(0, 0, 4));
         assertEquals(7, matrix3d.getInt(0, 1, 2));
     }
+
+    @Test
+    public void reducePrimitiveValues() {
+        IntNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setInt((int)(coords[0] * 4 + coords[1]) * (coords[1] == 2 ? -1 : 1))
+        );
+        // [[0, 1, -2, 3], [4, 5, -6, 7], [8, 9, -10, 11]]
+        assertEquals(30, matrix.sum());
+        assertEquals(-10, matrix.min());
+        assertEquals(11, matrix.max());
+        assertEquals(11L, matrix.argMax());
+
+        IntNdArray sums = allocate(Shape.of(4));
+        matrix.sum(0, sums);
+        assertEquals(12, sums.getInt(0));
+        assertEquals(-18, sums.getInt(2));
+
+        IntNdArray maxs = allocate(Shape.of(3));
+        matrix.max(1, maxs);
+        assertEquals(3, maxs.getInt(0));
+        assertEquals(11, maxs.getInt(2));
+
+        IntNdArray mins = allocate(Shape.of(4));
+        matrix.min(0, mins);
+        assertEquals(0, mins.getInt(0));
+        assertEquals(-10, mins.getInt(2));
+
+        LongNdArray argMaxs = NdArrays.ofLongs(Shape.of(4));
+        matrix.argMax(0, argMaxs);
+        assertEquals(2L, argMaxs.getLong(1));
+        assertEquals(0L, argMaxs.getLong(2));
+
+        IntNdArray column = matrix.slice(Indices.all(), Indices.at(1));
+        assertEquals(15, column.sum());
+        assertEquals(107, column.dot(column));
+    }
+
+    @Test
+    public void reduceWithoutOverflow() {
+        IntNdArray vector = allocate(Shape.of(2));
+        vector.scalars().forEach(scalar -> scalar.setInt(Integer.MAX_VALUE));
+        assertEquals(2L * Integer.MAX_VALUE, vector.sum());
+        assertEquals(2L * Integer.MAX_VALUE * Integer.MAX_VALUE, vector.dot(vector));
+        assertThrows(ArithmeticException.class, () -> vector.sum(0, allocate(Shape.scalar())));
+    }
+
+    @Test
+    public void mapAndZipPrimitiveValues() {
+        IntNdArray matrix = allocate(Shape.of(2, 3));
+        matrix.scalars().forEachIndexed((coords, scalar) -> scalar.setInt((int)(coords[0] * 3 + coords[1])));
+
+        matrix.mapInPlace(v -> v * 2);
+        assertEquals(10, matrix.getInt(1, 2));
+
+        IntNdArray other = allocate(Shape.of(2, 3));
+        other.scalars().forEach(scalar -> scalar.setInt(1));
+        matrix.zipInPlace(other, (a, b) -> a - b);
+        assertEquals(-1, matrix.getInt(0, 0));
+        assertEquals(9, matrix.getInt(1, 2));
+        assertEquals(24, matrix.dot(other));
+
+        matrix.slice(Indices.all(), Indices.at(0)).mapInPlace(v -> 0);
+        assertEquals(0, matrix.getInt(1, 0));
+        assertEquals(7, matrix.getInt(1, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.zipInPlace(allocate(Shape.of(3, 2)), (a, b) -> a));
+        assertThrows(IllegalArgumentException.class, () -> matrix.sum(1, allocate(Shape.of(3))));
+    }
 }
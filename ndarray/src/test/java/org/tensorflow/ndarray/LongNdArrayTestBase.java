@@ -17,8 +17,10 @@
 package org.tensorflow.ndarray;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.index.Indices;
 
 public abstract class LongNdArrayTestBase extends NdArrayTestBase<Long> {
 
@@ -52,4 +54,64 @@ public abstract class LongNdArrayTestBase extends NdArrayTestBase<Long> {
         assertEquals(9, matrix3d.getLong(0, 0, 4));
         assertEquals(7, matrix3d.getLong(0, 1, 2));
     }
+
+    @Test
+    public void reducePrimitiveValues() {
+        LongNdArray matrix = allocate(Shape.of(3, 4));
+        matrix.scalars().forEachIndexed((coords, scalar) ->
+            scalar.setLong((long)(coords[0] * 4 + coords[1]) * (coords[1] == 2 ? -1 : 1))
+        );
+        // [[0, 1, -2, 3], [4, 5, -6, 7], [8, 9, -10, 11]]
+        assertEquals(30L, matrix.sum());
+        assertEquals(-10L, matrix.min());
+        assertEquals(11L, matrix.max());
+        assertEquals(11L, matrix.argMax());
+
+        LongNdArray sums = allocate(Shape.of(4));
+        matrix.sum(0, sums);
+        assertEquals(12L, sums.getLong(0));
+        assertEquals(-18L, sums.getLong(2));
+
+        LongNdArray maxs = allocate(Shape.of(3));
+        matrix.max(1, maxs);
+        assertEquals(3L, maxs.getLong(0));
+        assertEquals(11L, maxs.getLong(2));
+
+        LongNdArray mins = allocate(Shape.of(4));
+        matrix.min(0, mins);
+        assertEquals(0L, mins.getLong(0));
+        assertEquals(-10L, mins.getLong(2));
+
+        LongNdArray argMaxs = NdArrays.ofLongs(Shape.of(4));
+        matrix.argMax(0, argMaxs);
+        assertEquals(2L, argMaxs.getLong(1));
+        assertEquals(0L, argMaxs.getLong(2));
+
+        LongNdArray column = matrix.slice(Indices.all(), Indices.at(1));
+        assertEquals(15L, column.sum());
+        assertEquals(107L, column.dot(column));
+    }
+
+    @Test
+    public void mapAndZipPrimitiveValues() {
+        LongNdArray matrix = allocate(Shape.of(2, 3));
+        matrix.scalars().forEachIndexed((coords, scalar) -> scalar.setLong((long)(coords[0] * 3 + coords[1])));
+
+        matrix.mapInPlace(v -> v * 2);
+        assertEquals(10L, matrix.getLong(1, 2));
+
+        LongNdArray other = allocate(Shape.of(2, 3));
+        other.scalars().forEach(scalar -> scalar.setLong(1L));
+        matrix.zipInPlace(other, (a, b) -> a - b);
+        assertEquals(-1L, matrix.getLong(0, 0));
+        assertEquals(9L, matrix.getLong(1, 2));
+        assertEquals(24L, matrix.dot(other));
+
+        matrix.slice(Indices.all(), Indices.at(0)).mapInPlace(v -> 0L);
+        assertEquals(0L, matrix.getLong(1, 0));
+        assertEquals(7L, matrix.getLong(1, 1));
+
+        assertThrows(IllegalArgumentException.class, () -> matrix.zipInPlace(allocate(Shape.of(3, 2)), (a, b) -> a));
+        assertThrows(IllegalArgumentException.class, () -> matrix.sum(1, allocate(Shape.of(3))));
+    }
 }
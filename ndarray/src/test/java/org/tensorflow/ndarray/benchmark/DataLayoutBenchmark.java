@@ -0,0 +1,93 @@
+/*
+ Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+package org.tensorflow.ndarray.benchmark;
+
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.buffer.layout.DataLayouts;
+import org.tensorflow.ndarray.buffer.layout.FloatDataLayout;
+
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class DataLayoutBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Param({"FLOAT16", "BFLOAT16"})
+  public String layoutName;
+
+  @Setup
+  public void setUp() {
+    layout = "FLOAT16".equals(layoutName) ? DataLayouts.FLOAT16 : DataLayouts.BFLOAT16;
+    values = new float[SIZE];
+    for (int i = 0; i < SIZE; ++i) {
+      values[i] = (i % 2048) * 0.125f;
+    }
+    rawBuffer = DataBuffers.ofShorts(SIZE);
+    buffer = layout.applyTo(rawBuffer);
+    buffer.write(values);
+  }
+
+  @Benchmark
+  public void writeFloatsOneByOne() {
+    for (int i = 0; i < SIZE; ++i) {
+      layout.writeFloat(rawBuffer, values[i], i);
+    }
+  }
+
+  @Benchmark
+  public void writeFloatsInBulk() {
+    buffer.write(values);
+  }
+
+  @Benchmark
+  public void readFloatsOneByOne() {
+    for (int i = 0; i < SIZE; ++i) {
+      values[i] = layout.readFloat(rawBuffer, i);
+    }
+  }
+
+  @Benchmark
+  public void readFloatsInBulk() {
+    buffer.read(values);
+  }
+
+  private static final int SIZE = 1024 * 1024;
+
+  private FloatDataLayout<ShortDataBuffer> layout;
+  private ShortDataBuffer rawBuffer;
+  private FloatDataBuffer buffer;
+  private float[] values;
+}
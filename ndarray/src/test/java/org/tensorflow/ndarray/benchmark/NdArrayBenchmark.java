@@ -35,6 +35,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.runner.RunnerException;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.LongNdArray;
 import org.tensorflow.ndarray.NdArrays;
 import org.tensorflow.ndarray.StdArrays;
 
@@ -66,6 +67,7 @@ public class NdArrayBenchmark {
 				StdArrays.copyTo(pixel, channels.slice(all(), at(pixelIdx)));
 			}
 		}
+		pixelsArgMax = NdArrays.ofLongs(Shape.of(numPixels));
 		batches = NdArrays.ofFloats(Shape.of(BATCH_SIZE, 3, numPixels));
 		firstBatch = batches.get(0);
 	}
@@ -153,6 +155,33 @@ public class NdArrayBenchmark {
 		);
 	}
 
+	@Benchmark
+	public float sumAllPixelsChannelsByIndex() {
+		float sum = 0.0f;
+		long[] shape = pixels.shape().asArray();
+		for (int i = 0; i < shape[0]; ++i) {
+			for (int j = 0; j < shape[1]; ++j) {
+				sum += pixels.getFloat(i, j);
+			}
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public float sumAllPixelsChannels() {
+		return pixels.sum();
+	}
+
+	@Benchmark
+	public void argMaxAllPixelsChannels() {
+		pixels.argMax(1, pixelsArgMax);
+	}
+
+	@Benchmark
+	public void invertAllPixelsChannels() {
+		channels.mapInPlace(v -> 255.0f - v);
+	}
+
 	private static final String TEST_IMAGE = "castle.jpg";
 	private static final int BATCH_SIZE = 60;
 
@@ -160,4 +189,5 @@ public class NdArrayBenchmark {
 	private FloatNdArray channels;
 	private FloatNdArray batches;
 	private FloatNdArray firstBatch;
+	private LongNdArray pixelsArgMax;
 }
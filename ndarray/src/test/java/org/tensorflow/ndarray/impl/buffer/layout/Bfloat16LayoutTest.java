@@ -17,9 +17,12 @@
 
 package org.tensorflow.ndarray.impl.buffer.layout;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
 
 public class Bfloat16LayoutTest {
 
@@ -81,4 +84,26 @@ public class Bfloat16LayoutTest {
     assertEquals(1.6171875f, Bfloat16Layout.float16to32((short)0x3FCF), 0);
     assertEquals(65536.0, Bfloat16Layout.float16to32((short)0x4780), 0);
   }
+
+  @Test
+  public void testBulkConversions() {
+    Bfloat16Layout layout = new Bfloat16Layout();
+    float[] values = new float[3000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (i - 1500) * 0.37f;
+    }
+    ShortDataBuffer buffer = DataBuffers.ofShorts(values.length + 2);
+    layout.writeFloats(buffer, values, 1, values.length - 1, 2);
+    for (int i = 1; i < values.length; ++i) {
+      assertEquals(Bfloat16Layout.float32to16(values[i]), buffer.getShort(i + 1));
+    }
+
+    float[] expected = new float[values.length];
+    for (int i = 1; i < values.length; ++i) {
+      expected[i] = Bfloat16Layout.float16to32(buffer.getShort(i + 1));
+    }
+    float[] actual = new float[values.length];
+    layout.readFloats(buffer, actual, 1, values.length - 1, 2);
+    assertArrayEquals(expected, actual);
+  }
 }
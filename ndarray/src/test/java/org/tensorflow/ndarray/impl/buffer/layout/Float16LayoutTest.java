@@ -17,9 +17,12 @@
 
 package org.tensorflow.ndarray.impl.buffer.layout;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
 
 public class Float16LayoutTest {
 
@@ -87,4 +90,26 @@ public class Float16LayoutTest {
     assertEquals(1.123f, Float16Layout.float16to32((short)0x3C7E), 1e-3f);
     assertEquals(-62.34f, Float16Layout.float16to32((short)0xD3CB), 1e-2f);
   }
+
+  @Test
+  public void testBulkConversions() {
+    Float16Layout layout = new Float16Layout();
+    float[] values = new float[3000];
+    for (int i = 0; i < values.length; ++i) {
+      values[i] = (i - 1500) * 0.37f;
+    }
+    ShortDataBuffer buffer = DataBuffers.ofShorts(values.length + 2);
+    layout.writeFloats(buffer, values, 1, values.length - 1, 2);
+    for (int i = 1; i < values.length; ++i) {
+      assertEquals(Float16Layout.float32to16(values[i]), buffer.getShort(i + 1));
+    }
+
+    float[] expected = new float[values.length];
+    for (int i = 1; i < values.length; ++i) {
+      expected[i] = Float16Layout.float16to32(buffer.getShort(i + 1));
+    }
+    float[] actual = new float[values.length];
+    layout.readFloats(buffer, actual, 1, values.length - 1, 2);
+    assertArrayEquals(expected, actual);
+  }
 }
@@ -0,0 +1,78 @@
+/*
+ Copyright 2019 The TensorFlow Authors. All Rights Reserved.
+
+ Licensed under the Apache License, Version 2.0 (the "License");
+ you may not use this file except in compliance with the License.
+ You may obtain a copy of the License at
+
+     http://www.apache.org/licenses/LICENSE-2.0
+
+ Unless required by applicable law or agreed to in writing, software
+ distributed under the License is distributed on an "AS IS" BASIS,
+ WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ See the License for the specific language governing permissions and
+ limitations under the License.
+ =======================================================================
+ */
+
+package org.tensorflow.ndarray.impl.buffer.raw;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
+import org.tensorflow.ndarray.buffer.ByteDataBufferTestBase;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+
+public class ByteOffHeapRawDataBufferTest extends ByteDataBufferTestBase {
+
+  @Override
+  protected ByteDataBuffer allocate(long size) {
+    return RawDataBufferFactory.allocateBytes(size);
+  }
+
+  @Override
+  protected long maxSize() {
+    return Integer.MAX_VALUE + 1024L;
+  }
+
+  @Test
+  public void allocatedMemoryIsZeroed() {
+    ByteDataBuffer buffer = allocate(1024L);
+    assertFalse(buffer.isReadOnly());
+    for (long i = 0; i < buffer.size(); ++i) {
+      assertEquals(0, buffer.getByte(i));
+    }
+  }
+
+  @Test
+  public void accessBeyond32BitsIndices() {
+    if (!enableLargeBufferTests) {
+      return;
+    }
+    long size = maxSize();
+    ByteDataBuffer buffer = DataBuffers.ofBytes(size);
+    assertEquals(size, buffer.size());
+
+    long index = Integer.MAX_VALUE + 10L;
+    buffer.setByte((byte)42, index);
+    buffer.setByte((byte)43, size - 1);
+    assertEquals(42, buffer.getByte(index));
+    assertEquals(43, buffer.getByte(size - 1));
+
+    ByteDataBuffer slice = buffer.slice(index, size - index);
+    assertEquals(size - index, slice.size());
+    assertEquals(42, slice.getByte(0));
+
+    byte[] tail = new byte[(int)(size - index)];
+    slice.read(tail);
+    assertEquals(42, tail[0]);
+    assertEquals(43, tail[tail.length - 1]);
+
+    ByteDataBuffer copy = DataBuffers.ofBytes(slice.size());
+    slice.copyTo(copy, slice.size());
+    assertEquals(42, copy.getByte(0));
+    assertEquals(43, copy.getByte(copy.size() - 1));
+  }
+}
@@ -33,6 +33,7 @@ import org.tensorflow.ndarray.IntNdArray;
 import org.tensorflow.ndarray.NdArraySequence;
 import org.tensorflow.ndarray.NdArrays;
 import org.tensorflow.ndarray.impl.AbstractNdArray;
+import org.tensorflow.ndarray.index.Indices;
 
 public class ElementSequenceTest {
 
@@ -107,6 +108,32 @@ public class ElementSequenceTest {
     });
   }
 
+  @Test
+  public void streamElementsInOrder() {
+    IntNdArray array = NdArrays.ofInts(Shape.of(4, 3, 2));
+    array.scalars().forEachIndexed((c, e) -> e.setInt((int)(c[0] * 6 + c[1] * 2 + c[2])));
+
+    List<Integer> values = new ArrayList<>();
+    array.elements(1).stream().forEach(e -> values.add(e.getInt(0)));
+    assertEquals(Arrays.asList(0, 2, 4, 6, 8, 10, 12, 14, 16, 18, 20, 22), values);
+
+    values.clear();
+    array.slice(Indices.all(), Indices.at(1)).elements(0).asSlices().stream().forEach(e -> values.add(e.getInt(1)));
+    assertEquals(Arrays.asList(3, 9, 15, 21), values);
+  }
+
+  @Test
+  public void parallelForEachVisitsAllElements() {
+    IntNdArray array = NdArrays.ofInts(Shape.of(1000, 16));
+    array.elements(0).parallelForEach(e -> e.scalars().forEach(s -> s.setInt(s.getInt() + 1)));
+    array.scalars().forEach(s -> assertEquals(1, s.getInt()));
+
+    IntNdArray strided = array.slice(Indices.all(), Indices.even());
+    strided.scalars().parallelForEach(s -> s.setInt(s.getInt() + 1));
+    array.scalars().forEachIndexed((c, s) -> assertEquals(c[1] % 2 == 0 ? 2 : 1, s.getInt()));
+    assertEquals(8000, strided.scalars().stream().parallel().mapToInt(IntNdArray::getInt).count());
+  }
+
   private DataBufferWindow<IntDataBuffer> mockDataBufferWindow(long size) {
     return new DataBufferWindow<IntDataBuffer>() {
 
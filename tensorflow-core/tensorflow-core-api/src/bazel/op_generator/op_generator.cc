@@ -79,6 +79,7 @@ void CollectOpDependencies(const OpSpec& op, RenderMode mode,
                            std::list<Type>* out) {
   out->push_back(Type::Class("Operation", "org.tensorflow"));
   out->push_back(Type::Class("OperationBuilder", "org.tensorflow"));
+  out->push_back(Type::Class("OperationDescriptor", "org.tensorflow"));
   out->push_back(Type::Class("Scope", "org.tensorflow.op"));
   out->push_back(Annotation::Create("Operator", "org.tensorflow.op.annotation"));
   out->push_back(Annotation::Create("Endpoint", "org.tensorflow.op.annotation"));
@@ -247,8 +248,8 @@ void RenderFactoryMethods(const OpSpec& op, const Type& op_class,
   factory_doc.add_tag("return", "a new instance of " + op_class.name());
 
   writer->BeginMethod(factory, PUBLIC | STATIC, &factory_doc);
-  writer->Append("OperationBuilder opBuilder = scope.env().opBuilder(\"" +
-                 op.graph_op_name() + "\", scope.makeOpName(\"" +
+  writer->Append("OperationBuilder opBuilder = scope.env().opBuilder("
+                 "OP_DESCRIPTOR, scope.makeOpName(\"" +
                  op_class.name() + "\"));");
   writer->EndLine();
   for (const ArgumentSpec& input : op.inputs()) {
@@ -435,6 +436,26 @@ inline Type ClassOf(const EndpointSpec& endpoint, const string& base_package) {
       base_package + "." + absl::AsciiStrToLower(endpoint.package()));
 }
 
+// Returns the initializer of the descriptor of an op, listing its number of
+// outputs and the names of the attributes that can be set on it
+string DescriptorOf(const OpSpec& op) {
+  string num_outputs = std::to_string(op.outputs().size());
+  for (const ArgumentSpec& output : op.outputs()) {
+    if (output.iterable()) {
+      num_outputs = "OperationDescriptor.VARIABLE_NUM_OUTPUTS";
+      break;
+    }
+  }
+  string initializer = "OperationDescriptor.of(OP_NAME, " + num_outputs;
+  for (const AttributeSpec& attribute : op.attributes()) {
+    initializer += ", \"" + attribute.op_def_name() + "\"";
+  }
+  for (const AttributeSpec& attribute : op.optional_attributes()) {
+    initializer += ", \"" + attribute.op_def_name() + "\"";
+  }
+  return initializer + ")";
+}
+
 void GenerateOp(const OpSpec& op, const EndpointSpec& endpoint,
                 const string& base_package, const string& output_dir,
                 Env* env) {
@@ -531,6 +552,14 @@ void GenerateOp(const OpSpec& op, const EndpointSpec& endpoint,
   Javadoc name_javadoc = Javadoc::Create("The name of this op, as known by TensorFlow core engine");
   string quoted_string = "\"" + op.graph_op_name() + "\"";
   writer.WriteFieldWithInitializer(nameVariable, PUBLIC|STATIC|FINAL, &name_javadoc, quoted_string );
+  writer.EndLine();
+
+  Variable descriptorVariable =
+      Variable::Create("OP_DESCRIPTOR", Type::Class("OperationDescriptor"));
+  Javadoc descriptor_javadoc =
+      Javadoc::Create("Static metadata of this op, used to speed up its creation");
+  writer.WriteFieldWithInitializer(descriptorVariable, PUBLIC|STATIC|FINAL,
+                                   &descriptor_javadoc, DescriptorOf(op));
 
 
   if(!op.outputs().empty()) {
@@ -1957,6 +1957,10 @@ public final class Ops {
    *  <p>Note: this endpoint cannot be simply called {@code constant} since it will conflict with
    *  other endpoints accepting an NdArray in parameter {e.g. {@link #tensorOf(Scope, FloatNdArray)}}.
    *
+   *  <p>In a graph where the {@link org.tensorflow.Graph#setConstantPoolThreshold(long) constant pool} is enabled,
+   *  large constants are added as a variable instead of a {@code Const} operation, initialized by
+   *  the graph initializers from a copy of {@code tensor} retained by the pool.
+   *
    * @param scope is a scope used to add the underlying operation.
    * @param tensor a Tensor holding the constant value
    * @return a constant of the same data type as `tensor`
@@ -20,6 +20,7 @@ package org.tensorflow.op.audio;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -92,7 +93,7 @@ public final class AudioSpectrogram extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static AudioSpectrogram create(Scope scope, Operand<TFloat32> input, Long windowSize, Long stride, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AudioSpectrogram", scope.makeOpName("AudioSpectrogram"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AudioSpectrogram"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("window_size", windowSize);
@@ -130,6 +131,9 @@ public final class AudioSpectrogram extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AudioSpectrogram";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "window_size", "stride", "magnitude_squared");
+  
   private Output<TFloat32> spectrogram;
   
   private AudioSpectrogram(Operation operation) {
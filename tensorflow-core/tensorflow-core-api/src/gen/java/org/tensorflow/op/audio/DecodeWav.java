@@ -20,6 +20,7 @@ package org.tensorflow.op.audio;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -88,7 +89,7 @@ public final class DecodeWav extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static DecodeWav create(Scope scope, Operand<TString> contents, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeWav", scope.makeOpName("DecodeWav"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeWav"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -135,6 +136,9 @@ public final class DecodeWav extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeWav";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "desired_channels", "desired_samples");
+  
   private Output<TFloat32> audio;
   private Output<TInt32> sampleRate;
   
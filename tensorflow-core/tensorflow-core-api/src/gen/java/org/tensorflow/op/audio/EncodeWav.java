@@ -20,6 +20,7 @@ package org.tensorflow.op.audio;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class EncodeWav extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static EncodeWav create(Scope scope, Operand<TFloat32> audio, Operand<TInt32> sampleRate) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EncodeWav", scope.makeOpName("EncodeWav"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EncodeWav"));
     opBuilder.addInput(audio.asOutput());
     opBuilder.addInput(sampleRate.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -75,6 +76,9 @@ public final class EncodeWav extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EncodeWav";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> contents;
   
   private EncodeWav(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.audio;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -101,7 +102,7 @@ public final class Mfcc extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static Mfcc create(Scope scope, Operand<TFloat32> spectrogram, Operand<TInt32> sampleRate, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Mfcc", scope.makeOpName("Mfcc"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Mfcc"));
     opBuilder.addInput(spectrogram.asOutput());
     opBuilder.addInput(sampleRate.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -168,6 +169,9 @@ public final class Mfcc extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Mfcc";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "upper_frequency_limit", "lower_frequency_limit", "filterbank_channel_count", "dct_coefficient_count");
+  
   private Output<TFloat32> output;
   
   private Mfcc(Operation operation) {
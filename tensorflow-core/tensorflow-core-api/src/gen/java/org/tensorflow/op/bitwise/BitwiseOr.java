@@ -20,6 +20,7 @@ package org.tensorflow.op.bitwise;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -65,7 +66,7 @@ public final class BitwiseOr<T extends TNumber> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> BitwiseOr<T> create(Scope scope, Operand<T> x, Operand<T> y) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BitwiseOr", scope.makeOpName("BitwiseOr"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BitwiseOr"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -86,6 +87,9 @@ public final class BitwiseOr<T extends TNumber> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BitwiseOr";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> z;
   
   private BitwiseOr(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.bitwise;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -85,7 +86,7 @@ public final class Invert<T extends TNumber> extends RawOp implements Operand<T>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> Invert<T> create(Scope scope, Operand<T> x) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Invert", scope.makeOpName("Invert"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Invert"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new Invert<T>(opBuilder.build());
@@ -105,6 +106,9 @@ public final class Invert<T extends TNumber> extends RawOp implements Operand<T>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Invert";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> y;
   
   private Invert(Operation operation) {
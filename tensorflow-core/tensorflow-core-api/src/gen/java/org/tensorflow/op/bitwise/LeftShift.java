@@ -20,6 +20,7 @@ package org.tensorflow.op.bitwise;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -76,7 +77,7 @@ public final class LeftShift<T extends TNumber> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> LeftShift<T> create(Scope scope, Operand<T> x, Operand<T> y) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LeftShift", scope.makeOpName("LeftShift"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LeftShift"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -97,6 +98,9 @@ public final class LeftShift<T extends TNumber> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LeftShift";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> z;
   
   private LeftShift(Operation operation) {
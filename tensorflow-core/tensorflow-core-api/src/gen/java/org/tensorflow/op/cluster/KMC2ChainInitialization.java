@@ -20,6 +20,7 @@ package org.tensorflow.op.cluster;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class KMC2ChainInitialization extends RawOp implements Operand<TInt
    */
   @Endpoint(describeByClass = true)
   public static KMC2ChainInitialization create(Scope scope, Operand<TFloat32> distances, Operand<TInt64> seed) {
-    OperationBuilder opBuilder = scope.env().opBuilder("KMC2ChainInitialization", scope.makeOpName("KMC2ChainInitialization"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("KMC2ChainInitialization"));
     opBuilder.addInput(distances.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -71,6 +72,9 @@ public final class KMC2ChainInitialization extends RawOp implements Operand<TInt
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "KMC2ChainInitialization";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> index;
   
   private KMC2ChainInitialization(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.cluster;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class KmeansPlusPlusInitialization extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static KmeansPlusPlusInitialization create(Scope scope, Operand<TFloat32> points, Operand<TInt64> numToSample, Operand<TInt64> seed, Operand<TInt64> numRetriesPerSample) {
-    OperationBuilder opBuilder = scope.env().opBuilder("KmeansPlusPlusInitialization", scope.makeOpName("KmeansPlusPlusInitialization"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("KmeansPlusPlusInitialization"));
     opBuilder.addInput(points.asOutput());
     opBuilder.addInput(numToSample.asOutput());
     opBuilder.addInput(seed.asOutput());
@@ -77,6 +78,9 @@ public final class KmeansPlusPlusInitialization extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "KmeansPlusPlusInitialization";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TFloat32> samples;
   
   private KmeansPlusPlusInitialization(Operation operation) {
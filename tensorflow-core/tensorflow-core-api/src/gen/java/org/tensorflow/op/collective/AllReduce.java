@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -88,7 +89,7 @@ public final class AllReduce<T extends TNumber> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> AllReduce<T> create(Scope scope, Operand<T> input, Long groupSize, Long groupKey, Long instanceKey, String mergeOp, String finalOp, List<Long> subdivOffsets, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CollectiveReduce", scope.makeOpName("AllReduce"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AllReduce"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("group_size", groupSize);
@@ -156,6 +157,9 @@ public final class AllReduce<T extends TNumber> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CollectiveReduce";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "group_size", "group_key", "instance_key", "merge_op", "final_op", "subdiv_offsets", "wait_for", "communication_hint", "timeout_seconds");
+  
   private Output<T> data;
   
   private AllReduce(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.collective;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -78,7 +79,7 @@ public final class BroadcastRecv<T extends TType> extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BroadcastRecv<T> create(Scope scope, Class<T> T, Long groupSize, Long groupKey, Long instanceKey, Shape shape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CollectiveBcastRecv", scope.makeOpName("BroadcastRecv"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BroadcastRecv"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("T", Operands.toDataType(T));
     opBuilder.setAttr("group_size", groupSize);
@@ -126,6 +127,9 @@ public final class BroadcastRecv<T extends TType> extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CollectiveBcastRecv";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "T", "group_size", "group_key", "instance_key", "shape", "communication_hint", "timeout_seconds");
+  
   private Output<T> data;
   
   private BroadcastRecv(Operation operation) {
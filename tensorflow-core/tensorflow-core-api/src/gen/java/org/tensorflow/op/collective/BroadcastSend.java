@@ -20,6 +20,7 @@ package org.tensorflow.op.collective;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.RawOp;
@@ -77,7 +78,7 @@ public final class BroadcastSend<T extends TType> extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BroadcastSend<T> create(Scope scope, Operand<T> input, Long groupSize, Long groupKey, Long instanceKey, Shape shape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CollectiveBcastSend", scope.makeOpName("BroadcastSend"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BroadcastSend"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("group_size", groupSize);
@@ -125,6 +126,9 @@ public final class BroadcastSend<T extends TType> extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CollectiveBcastSend";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "group_size", "group_key", "instance_key", "shape", "communication_hint", "timeout_seconds");
+  
   private Output<T> data;
   
   private BroadcastSend(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.collective;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -76,7 +77,7 @@ public final class GatherV2<T extends TNumber> extends RawOp implements Operand<
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> GatherV2<T> create(Scope scope, Operand<T> input, Operand<TInt32> groupSize, Operand<TInt32> groupKey, Operand<TInt32> instanceKey, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CollectiveGatherV2", scope.makeOpName("GatherV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("GatherV2"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(groupSize.asOutput());
     opBuilder.addInput(groupKey.asOutput());
@@ -123,6 +124,9 @@ public final class GatherV2<T extends TNumber> extends RawOp implements Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CollectiveGatherV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "communication_hint", "timeout_seconds");
+  
   private Output<T> data;
   
   private GatherV2(Operation operation) {
@@ -19,6 +19,7 @@ package org.tensorflow.op.core;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -72,7 +73,7 @@ public final class Abort extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static Abort create(Scope scope, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Abort", scope.makeOpName("Abort"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Abort"));
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
       for (Options opts : options) {
@@ -104,6 +105,9 @@ public final class Abort extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Abort";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "error_msg", "exit_without_error");
+  
   private Abort(Operation operation) {
     super(operation);
   }
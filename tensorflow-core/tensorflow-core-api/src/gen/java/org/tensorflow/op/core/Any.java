@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -70,7 +71,7 @@ public final class Any extends RawOp implements Operand<TBool> {
    */
   @Endpoint(describeByClass = true)
   public static Any create(Scope scope, Operand<TBool> input, Operand<? extends TNumber> axis, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Any", scope.makeOpName("Any"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Any"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -106,6 +107,9 @@ public final class Any extends RawOp implements Operand<TBool> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Any";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "keep_dims");
+  
   private Output<TBool> output;
   
   private Any(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -66,7 +67,7 @@ public final class AssertThat extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static AssertThat create(Scope scope, Operand<TBool> condition, Iterable<Operand<?>> data, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Assert", scope.makeOpName("AssertThat"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AssertThat"));
     opBuilder.addInput(condition.asOutput());
     opBuilder.addInputList(Operands.asOutputs(data));
     opBuilder = scope.apply(opBuilder);
@@ -90,6 +91,9 @@ public final class AssertThat extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Assert";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "summarize");
+  
   private AssertThat(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -80,7 +81,7 @@ public final class Assign<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Assign<T> create(Scope scope, Operand<T> ref, Operand<T> value, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Assign", scope.makeOpName("Assign"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Assign"));
     opBuilder.addInput(ref.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -130,6 +131,9 @@ public final class Assign<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Assign";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "validate_shape", "use_locking");
+  
   private Output<T> outputRef;
   
   private Assign(Operation operation) {
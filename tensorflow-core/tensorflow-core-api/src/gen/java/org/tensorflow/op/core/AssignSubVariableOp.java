@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -45,7 +46,7 @@ public final class AssignSubVariableOp extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static AssignSubVariableOp create(Scope scope, Operand<?> resource, Operand<? extends TType> value) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AssignSubVariableOp", scope.makeOpName("AssignSubVariableOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AssignSubVariableOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -55,6 +56,9 @@ public final class AssignSubVariableOp extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AssignSubVariableOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private AssignSubVariableOp(Operation operation) {
     super(operation);
   }
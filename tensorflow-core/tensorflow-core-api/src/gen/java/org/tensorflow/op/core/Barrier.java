@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -107,7 +108,7 @@ public final class Barrier extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static Barrier create(Scope scope, List<Class<? extends TType>> componentTypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Barrier", scope.makeOpName("Barrier"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Barrier"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("component_types", Operands.toDataTypes(componentTypes));
     if (options != null) {
@@ -181,6 +182,9 @@ public final class Barrier extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Barrier";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "component_types", "shapes", "capacity", "container", "shared_name");
+  
   private Output<TString> handle;
   
   private Barrier(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -70,7 +71,7 @@ public final class BarrierClose extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BarrierClose create(Scope scope, Operand<TString> handle, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BarrierClose", scope.makeOpName("BarrierClose"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BarrierClose"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -95,6 +96,9 @@ public final class BarrierClose extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BarrierClose";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "cancel_pending_enqueues");
+  
   private BarrierClose(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class BarrierIncompleteSize extends RawOp implements Operand<TInt32
    */
   @Endpoint(describeByClass = true)
   public static BarrierIncompleteSize create(Scope scope, Operand<TString> handle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BarrierIncompleteSize", scope.makeOpName("BarrierIncompleteSize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BarrierIncompleteSize"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new BarrierIncompleteSize(opBuilder.build());
@@ -65,6 +66,9 @@ public final class BarrierIncompleteSize extends RawOp implements Operand<TInt32
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BarrierIncompleteSize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt32> output;
   
   private BarrierIncompleteSize(Operation operation) {
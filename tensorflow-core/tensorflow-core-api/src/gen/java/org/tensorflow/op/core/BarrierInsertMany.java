@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -51,7 +52,7 @@ public final class BarrierInsertMany extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BarrierInsertMany create(Scope scope, Operand<TString> handle, Operand<TString> keys, Operand<? extends TType> values, Long componentIndex) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BarrierInsertMany", scope.makeOpName("BarrierInsertMany"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BarrierInsertMany"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(keys.asOutput());
     opBuilder.addInput(values.asOutput());
@@ -63,6 +64,9 @@ public final class BarrierInsertMany extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BarrierInsertMany";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "component_index");
+  
   private BarrierInsertMany(Operation operation) {
     super(operation);
   }
@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -100,7 +101,7 @@ public final class BarrierTakeMany extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BarrierTakeMany create(Scope scope, Operand<TString> handle, Operand<TInt32> numElements, List<Class<? extends TType>> componentTypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BarrierTakeMany", scope.makeOpName("BarrierTakeMany"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BarrierTakeMany"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(numElements.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -172,6 +173,9 @@ public final class BarrierTakeMany extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BarrierTakeMany";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "component_types", "allow_small_batch", "wait_for_incomplete", "timeout_ms");
+  
   private Output<TInt64> indices;
   private Output<TString> keys;
   private List<Output<?>> values;
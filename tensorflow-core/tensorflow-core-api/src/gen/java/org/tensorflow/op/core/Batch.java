@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -142,7 +143,7 @@ public final class Batch extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static Batch create(Scope scope, Iterable<Operand<?>> inTensors, Long numBatchThreads, Long maxBatchSize, Long batchTimeoutMicros, Long gradTimeoutMicros, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Batch", scope.makeOpName("Batch"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Batch"));
     opBuilder.addInputList(Operands.asOutputs(inTensors));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_batch_threads", numBatchThreads);
@@ -231,6 +232,9 @@ public final class Batch extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Batch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_batch_threads", "max_batch_size", "batch_timeout_micros", "grad_timeout_micros", "max_enqueued_batches", "allowed_batch_sizes", "container", "shared_name", "batching_queue");
+  
   private List<Output<?>> batchedTensors;
   private Output<TInt64> batchIndex;
   private Output<TInt64> id;
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -62,7 +63,7 @@ public final class BatchToSpace<T extends TType> extends RawOp implements Operan
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BatchToSpace<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> crops, Long blockSize) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BatchToSpace", scope.makeOpName("BatchToSpace"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BatchToSpace"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(crops.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -137,6 +138,9 @@ public final class BatchToSpace<T extends TType> extends RawOp implements Operan
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BatchToSpace";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "block_size");
+  
   private Output<T> output;
   
   private BatchToSpace(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -149,7 +150,7 @@ public final class BatchToSpaceNd<T extends TType> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BatchToSpaceNd<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> blockShape, Operand<? extends TNumber> crops) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BatchToSpaceND", scope.makeOpName("BatchToSpaceNd"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BatchToSpaceNd"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(blockShape.asOutput());
     opBuilder.addInput(crops.asOutput());
@@ -171,6 +172,9 @@ public final class BatchToSpaceNd<T extends TType> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BatchToSpaceND";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private BatchToSpaceNd(Operation operation) {
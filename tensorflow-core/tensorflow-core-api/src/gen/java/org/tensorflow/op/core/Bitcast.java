@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -97,7 +98,7 @@ public final class Bitcast<U extends TType> extends RawOp implements Operand<U>
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> Bitcast<U> create(Scope scope, Operand<? extends TType> input, Class<U> type) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Bitcast", scope.makeOpName("Bitcast"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Bitcast"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("type", Operands.toDataType(type));
@@ -118,6 +119,9 @@ public final class Bitcast<U extends TType> extends RawOp implements Operand<U>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Bitcast";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "type");
+  
   private Output<U> output;
   
   private Bitcast(Operation operation) {
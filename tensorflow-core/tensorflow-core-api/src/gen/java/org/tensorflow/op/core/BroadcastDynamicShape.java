@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -48,7 +49,7 @@ public final class BroadcastDynamicShape<T extends TNumber> extends RawOp implem
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> BroadcastDynamicShape<T> create(Scope scope, Operand<T> s0, Operand<T> s1) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BroadcastArgs", scope.makeOpName("BroadcastDynamicShape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BroadcastDynamicShape"));
     opBuilder.addInput(s0.asOutput());
     opBuilder.addInput(s1.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -69,6 +70,9 @@ public final class BroadcastDynamicShape<T extends TNumber> extends RawOp implem
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BroadcastArgs";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> r0;
   
   private BroadcastDynamicShape(Operation operation) {
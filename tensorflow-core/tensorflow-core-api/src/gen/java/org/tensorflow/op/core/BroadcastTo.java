@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -74,7 +75,7 @@ public final class BroadcastTo<T extends TType> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BroadcastTo<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> shape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BroadcastTo", scope.makeOpName("BroadcastTo"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BroadcastTo"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -96,6 +97,9 @@ public final class BroadcastTo<T extends TType> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BroadcastTo";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private BroadcastTo(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -56,7 +57,7 @@ public final class Bucketize extends RawOp implements Operand<TInt32> {
    */
   @Endpoint(describeByClass = true)
   public static Bucketize create(Scope scope, Operand<? extends TNumber> input, List<Float> boundaries) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Bucketize", scope.makeOpName("Bucketize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Bucketize"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     float[] boundariesArray = new float[boundaries.size()];
@@ -86,6 +87,9 @@ public final class Bucketize extends RawOp implements Operand<TInt32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Bucketize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "boundaries");
+  
   private Output<TInt32> output;
   
   private Bucketize(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class ClipByValue<T extends TType> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ClipByValue<T> create(Scope scope, Operand<T> t, Operand<T> clipValueMin, Operand<T> clipValueMax) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ClipByValue", scope.makeOpName("ClipByValue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ClipByValue"));
     opBuilder.addInput(t.asOutput());
     opBuilder.addInput(clipValueMin.asOutput());
     opBuilder.addInput(clipValueMax.asOutput());
@@ -76,6 +77,9 @@ public final class ClipByValue<T extends TType> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ClipByValue";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private ClipByValue(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -49,7 +50,7 @@ public final class Concat<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Concat<T> create(Scope scope, Iterable<Operand<T>> values, Operand<? extends TNumber> axis) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ConcatV2", scope.makeOpName("Concat"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Concat"));
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -73,6 +74,9 @@ public final class Concat<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ConcatV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private Concat(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -48,7 +49,7 @@ public final class ConsumeMutexLock extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ConsumeMutexLock create(Scope scope, Operand<?> mutexLock) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ConsumeMutexLock", scope.makeOpName("ConsumeMutexLock"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ConsumeMutexLock"));
     opBuilder.addInput(mutexLock.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new ConsumeMutexLock(opBuilder.build());
@@ -57,6 +58,9 @@ public final class ConsumeMutexLock extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ConsumeMutexLock";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private ConsumeMutexLock(Operation operation) {
     super(operation);
   }
@@ -19,6 +19,7 @@ package org.tensorflow.op.core;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -40,7 +41,7 @@ public final class ControlTrigger extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ControlTrigger create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ControlTrigger", scope.makeOpName("ControlTrigger"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ControlTrigger"));
     opBuilder = scope.apply(opBuilder);
     return new ControlTrigger(opBuilder.build());
   }
@@ -48,6 +49,9 @@ public final class ControlTrigger extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ControlTrigger";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private ControlTrigger(Operation operation) {
     super(operation);
   }
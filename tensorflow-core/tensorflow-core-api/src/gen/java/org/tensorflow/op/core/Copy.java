@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -86,7 +87,7 @@ public final class Copy<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Copy<T> create(Scope scope, Operand<T> input, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Copy", scope.makeOpName("Copy"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Copy"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -138,6 +139,9 @@ public final class Copy<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Copy";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "tensor_name", "debug_ops_spec");
+  
   private Output<T> output;
   
   private Copy(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -84,7 +85,7 @@ public final class CopyHost<T extends TType> extends RawOp implements Operand<T>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> CopyHost<T> create(Scope scope, Operand<T> input, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CopyHost", scope.makeOpName("CopyHost"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CopyHost"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -136,6 +137,9 @@ public final class CopyHost<T extends TType> extends RawOp implements Operand<T>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CopyHost";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "tensor_name", "debug_ops_spec");
+  
   private Output<T> output;
   
   private CopyHost(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -46,7 +47,7 @@ public final class CountUpTo<T extends TNumber> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> CountUpTo<T> create(Scope scope, Operand<T> ref, Long limit) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CountUpTo", scope.makeOpName("CountUpTo"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CountUpTo"));
     opBuilder.addInput(ref.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("limit", limit);
@@ -69,6 +70,9 @@ public final class CountUpTo<T extends TNumber> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CountUpTo";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "limit");
+  
   private Output<T> output;
   
   private CountUpTo(Operation operation) {
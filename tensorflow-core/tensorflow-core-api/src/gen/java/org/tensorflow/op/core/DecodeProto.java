@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -138,7 +139,7 @@ public final class DecodeProto extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static DecodeProto create(Scope scope, Operand<TString> bytes, String messageType, List<String> fieldNames, List<Class<? extends TType>> outputTypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeProtoV2", scope.makeOpName("DecodeProto"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeProto"));
     opBuilder.addInput(bytes.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("message_type", messageType);
@@ -207,6 +208,9 @@ public final class DecodeProto extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeProtoV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "message_type", "field_names", "output_types", "descriptor_source", "message_format", "sanitize");
+  
   private Output<TInt32> sizes;
   private List<Output<?>> values;
   
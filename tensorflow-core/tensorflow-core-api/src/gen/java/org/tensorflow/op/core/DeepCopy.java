@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class DeepCopy<T extends TType> extends RawOp implements Operand<T>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> DeepCopy<T> create(Scope scope, Operand<T> x) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DeepCopy", scope.makeOpName("DeepCopy"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DeepCopy"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DeepCopy<T>(opBuilder.build());
@@ -66,6 +67,9 @@ public final class DeepCopy<T extends TType> extends RawOp implements Operand<T>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DeepCopy";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> y;
   
   private DeepCopy(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -41,7 +42,7 @@ public final class DeleteSessionTensor extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static DeleteSessionTensor create(Scope scope, Operand<TString> handle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DeleteSessionTensor", scope.makeOpName("DeleteSessionTensor"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DeleteSessionTensor"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DeleteSessionTensor(opBuilder.build());
@@ -50,6 +51,9 @@ public final class DeleteSessionTensor extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DeleteSessionTensor";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private DeleteSessionTensor(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -64,7 +65,7 @@ public final class DestroyResourceOp extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static DestroyResourceOp create(Scope scope, Operand<?> resource, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DestroyResourceOp", scope.makeOpName("DestroyResourceOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DestroyResourceOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -88,6 +89,9 @@ public final class DestroyResourceOp extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DestroyResourceOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "ignore_lookup_error");
+  
   private DestroyResourceOp(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -54,7 +55,7 @@ public final class DestroyTemporaryVariable<T extends TType> extends RawOp imple
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> DestroyTemporaryVariable<T> create(Scope scope, Operand<T> ref, String varName) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DestroyTemporaryVariable", scope.makeOpName("DestroyTemporaryVariable"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DestroyTemporaryVariable"));
     opBuilder.addInput(ref.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("var_name", varName);
@@ -75,6 +76,9 @@ public final class DestroyTemporaryVariable<T extends TType> extends RawOp imple
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DestroyTemporaryVariable";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "var_name");
+  
   private Output<T> value;
   
   private DestroyTemporaryVariable(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class DeviceIndex extends RawOp implements Operand<TInt32> {
    */
   @Endpoint(describeByClass = true)
   public static DeviceIndex create(Scope scope, List<String> deviceNames) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DeviceIndex", scope.makeOpName("DeviceIndex"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DeviceIndex"));
     opBuilder = scope.apply(opBuilder);
     String[] deviceNamesArray = new String[deviceNames.size()];
     for (int i = 0; i < deviceNamesArray.length; ++i) {
@@ -71,6 +72,9 @@ public final class DeviceIndex extends RawOp implements Operand<TInt32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DeviceIndex";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "device_names");
+  
   private Output<TInt32> index;
   
   private DeviceIndex(Operation operation) {
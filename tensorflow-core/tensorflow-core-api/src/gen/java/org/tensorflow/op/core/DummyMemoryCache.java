@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -39,7 +40,7 @@ public final class DummyMemoryCache extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static DummyMemoryCache create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DummyMemoryCache", scope.makeOpName("DummyMemoryCache"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DummyMemoryCache"));
     opBuilder = scope.apply(opBuilder);
     return new DummyMemoryCache(opBuilder.build());
   }
@@ -59,6 +60,9 @@ public final class DummyMemoryCache extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DummyMemoryCache";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private DummyMemoryCache(Operation operation) {
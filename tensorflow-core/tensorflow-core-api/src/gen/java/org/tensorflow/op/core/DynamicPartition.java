@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -84,7 +85,7 @@ public final class DynamicPartition<T extends TType> extends RawOp implements It
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> DynamicPartition<T> create(Scope scope, Operand<T> data, Operand<TInt32> partitions, Long numPartitions) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DynamicPartition", scope.makeOpName("DynamicPartition"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DynamicPartition"));
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(partitions.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -107,6 +108,9 @@ public final class DynamicPartition<T extends TType> extends RawOp implements It
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DynamicPartition";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_partitions");
+  
   private List<Output<T>> outputs;
   
   @SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -83,7 +84,7 @@ public final class EditDistance extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> EditDistance create(Scope scope, Operand<TInt64> hypothesisIndices, Operand<T> hypothesisValues, Operand<TInt64> hypothesisShape, Operand<TInt64> truthIndices, Operand<T> truthValues, Operand<TInt64> truthShape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EditDistance", scope.makeOpName("EditDistance"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EditDistance"));
     opBuilder.addInput(hypothesisIndices.asOutput());
     opBuilder.addInput(hypothesisValues.asOutput());
     opBuilder.addInput(hypothesisShape.asOutput());
@@ -154,6 +155,9 @@ public final class EditDistance extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EditDistance";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "normalize");
+  
   private Output<TFloat32> output;
   
   private EditDistance(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -69,7 +70,7 @@ public final class Empty<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Empty<T> create(Scope scope, Operand<TInt32> shape, Class<T> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Empty", scope.makeOpName("Empty"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Empty"));
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -105,6 +106,9 @@ public final class Empty<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Empty";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "init");
+  
   private Output<T> output;
   
   private Empty(Operation operation) {
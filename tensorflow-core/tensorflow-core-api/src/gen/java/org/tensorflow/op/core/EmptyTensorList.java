@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -54,7 +55,7 @@ public final class EmptyTensorList extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> EmptyTensorList create(Scope scope, Operand<? extends TNumber> elementShape, Operand<TInt32> maxNumElements, Class<U> elementDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EmptyTensorList", scope.makeOpName("EmptyTensorList"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EmptyTensorList"));
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(maxNumElements.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -77,6 +78,9 @@ public final class EmptyTensorList extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EmptyTensorList";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "element_dtype");
+  
   private Output<?> handle;
   
   private EmptyTensorList(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class EmptyTensorMap extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static EmptyTensorMap create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EmptyTensorMap", scope.makeOpName("EmptyTensorMap"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EmptyTensorMap"));
     opBuilder = scope.apply(opBuilder);
     return new EmptyTensorMap(opBuilder.build());
   }
@@ -63,6 +64,9 @@ public final class EmptyTensorMap extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EmptyTensorMap";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private EmptyTensorMap(Operation operation) {
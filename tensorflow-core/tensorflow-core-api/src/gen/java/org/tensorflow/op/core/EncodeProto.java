@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -109,7 +110,7 @@ public final class EncodeProto extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static EncodeProto create(Scope scope, Operand<TInt32> sizes, Iterable<Operand<?>> values, List<String> fieldNames, String messageType, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EncodeProto", scope.makeOpName("EncodeProto"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EncodeProto"));
     opBuilder.addInput(sizes.asOutput());
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.apply(opBuilder);
@@ -151,6 +152,9 @@ public final class EncodeProto extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EncodeProto";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "field_names", "message_type", "descriptor_source");
+  
   private Output<TString> bytes;
   
   private EncodeProto(Operation operation) {
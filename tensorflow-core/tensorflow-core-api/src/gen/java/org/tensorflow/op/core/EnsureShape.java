@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.RawOp;
@@ -49,7 +50,7 @@ public final class EnsureShape<T extends TType> extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> EnsureShape<T> create(Scope scope, Operand<T> input, Shape shape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EnsureShape", scope.makeOpName("EnsureShape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EnsureShape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape", shape);
@@ -71,6 +72,9 @@ public final class EnsureShape<T extends TType> extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EnsureShape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape");
+  
   private Output<T> output;
   
   private EnsureShape(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -79,7 +80,7 @@ public final class Enter<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Enter<T> create(Scope scope, Operand<T> data, String frameName, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Enter", scope.makeOpName("Enter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Enter"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("frame_name", frameName);
@@ -125,6 +126,9 @@ public final class Enter<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Enter";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "frame_name", "is_constant", "parallel_iterations");
+  
   private Output<T> output;
   
   private Enter(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -77,7 +78,7 @@ public final class ExpandDims<T extends TType> extends RawOp implements Operand<
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ExpandDims<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> axis) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ExpandDims", scope.makeOpName("ExpandDims"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ExpandDims"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -100,6 +101,9 @@ public final class ExpandDims<T extends TType> extends RawOp implements Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ExpandDims";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private ExpandDims(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -56,7 +57,7 @@ public final class ExtractVolumePatches<T extends TNumber> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ExtractVolumePatches<T> create(Scope scope, Operand<T> input, List<Long> ksizes, List<Long> strides, String padding) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ExtractVolumePatches", scope.makeOpName("ExtractVolumePatches"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ExtractVolumePatches"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     long[] ksizesArray = new long[ksizes.size()];
@@ -92,6 +93,9 @@ public final class ExtractVolumePatches<T extends TNumber> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ExtractVolumePatches";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "ksizes", "strides", "padding");
+  
   private Output<T> patches;
   
   private ExtractVolumePatches(Operation operation) {
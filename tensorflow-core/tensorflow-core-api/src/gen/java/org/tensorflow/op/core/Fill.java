@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -73,7 +74,7 @@ public final class Fill<U extends TType> extends RawOp implements Operand<U> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> Fill<U> create(Scope scope, Operand<? extends TNumber> dims, Operand<U> value) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Fill", scope.makeOpName("Fill"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Fill"));
     opBuilder.addInput(dims.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -94,6 +95,9 @@ public final class Fill<U extends TType> extends RawOp implements Operand<U> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Fill";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<U> output;
   
   private Fill(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -75,7 +76,7 @@ public final class Fingerprint extends RawOp implements Operand<TUint8> {
    */
   @Endpoint(describeByClass = true)
   public static Fingerprint create(Scope scope, Operand<? extends TType> data, Operand<TString> method) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Fingerprint", scope.makeOpName("Fingerprint"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Fingerprint"));
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(method.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -99,6 +100,9 @@ public final class Fingerprint extends RawOp implements Operand<TUint8> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Fingerprint";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TUint8> fingerprint;
   
   private Fingerprint(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class GetSessionHandle extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static GetSessionHandle create(Scope scope, Operand<? extends TType> value) {
-    OperationBuilder opBuilder = scope.env().opBuilder("GetSessionHandleV2", scope.makeOpName("GetSessionHandle"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("GetSessionHandle"));
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new GetSessionHandle(opBuilder.build());
@@ -65,6 +66,9 @@ public final class GetSessionHandle extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "GetSessionHandleV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private GetSessionHandle(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -47,7 +48,7 @@ public final class GetSessionTensor<T extends TType> extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> GetSessionTensor<T> create(Scope scope, Operand<TString> handle, Class<T> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("GetSessionTensor", scope.makeOpName("GetSessionTensor"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("GetSessionTensor"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -69,6 +70,9 @@ public final class GetSessionTensor<T extends TType> extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "GetSessionTensor";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<T> value;
   
   private GetSessionTensor(Operation operation) {
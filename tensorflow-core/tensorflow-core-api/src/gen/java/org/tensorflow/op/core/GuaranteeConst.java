@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -51,7 +52,7 @@ public final class GuaranteeConst<T extends TType> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> GuaranteeConst<T> create(Scope scope, Operand<T> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("GuaranteeConst", scope.makeOpName("GuaranteeConst"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("GuaranteeConst"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new GuaranteeConst<T>(opBuilder.build());
@@ -71,6 +72,9 @@ public final class GuaranteeConst<T extends TType> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "GuaranteeConst";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private GuaranteeConst(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -89,7 +90,7 @@ public final class HashTable extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, U extends TType> HashTable create(Scope scope, Class<T> keyDtype, Class<U> valueDtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("HashTableV2", scope.makeOpName("HashTable"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("HashTable"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("key_dtype", Operands.toDataType(keyDtype));
     opBuilder.setAttr("value_dtype", Operands.toDataType(valueDtype));
@@ -149,6 +150,9 @@ public final class HashTable extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "HashTableV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "key_dtype", "value_dtype", "container", "shared_name", "use_node_name_sharing");
+  
   private Output<?> tableHandle;
   
   private HashTable(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -67,7 +68,7 @@ public final class HistogramFixedWidth<U extends TNumber> extends RawOp implemen
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TNumber> HistogramFixedWidth<U> create(Scope scope, Operand<T> values, Operand<T> valueRange, Operand<TInt32> nbins, Class<U> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("HistogramFixedWidth", scope.makeOpName("HistogramFixedWidth"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("HistogramFixedWidth"));
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(valueRange.asOutput());
     opBuilder.addInput(nbins.asOutput());
@@ -107,6 +108,9 @@ public final class HistogramFixedWidth<U extends TNumber> extends RawOp implemen
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "HistogramFixedWidth";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<U> out;
   
   private HistogramFixedWidth(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -62,7 +63,7 @@ public final class IdentityN extends RawOp implements Iterable<Operand<TType>> {
    */
   @Endpoint(describeByClass = true)
   public static IdentityN create(Scope scope, Iterable<Operand<?>> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IdentityN", scope.makeOpName("IdentityN"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IdentityN"));
     opBuilder.addInputList(Operands.asOutputs(input));
     opBuilder = scope.apply(opBuilder);
     return new IdentityN(opBuilder.build());
@@ -83,6 +84,9 @@ public final class IdentityN extends RawOp implements Iterable<Operand<TType>> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IdentityN";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS);
+  
   private List<Output<?>> output;
   
   private IdentityN(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -51,7 +52,7 @@ public final class ImmutableConst<T extends TType> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ImmutableConst<T> create(Scope scope, Class<T> dtype, Shape shape, String memoryRegionName) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ImmutableConst", scope.makeOpName("ImmutableConst"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ImmutableConst"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
     opBuilder.setAttr("shape", shape);
@@ -73,6 +74,9 @@ public final class ImmutableConst<T extends TType> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ImmutableConst";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "shape", "memory_region_name");
+  
   private Output<T> tensor;
   
   private ImmutableConst(Operation operation) {
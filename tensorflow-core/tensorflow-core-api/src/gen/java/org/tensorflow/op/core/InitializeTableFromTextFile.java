@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -85,7 +86,7 @@ public final class InitializeTableFromTextFile extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static InitializeTableFromTextFile create(Scope scope, Operand<?> tableHandle, Operand<TString> filename, Long keyIndex, Long valueIndex, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("InitializeTableFromTextFileV2", scope.makeOpName("InitializeTableFromTextFile"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("InitializeTableFromTextFile"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder.addInput(filename.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -121,6 +122,9 @@ public final class InitializeTableFromTextFile extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "InitializeTableFromTextFileV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "key_index", "value_index", "vocab_size", "delimiter");
+  
   private InitializeTableFromTextFile(Operation operation) {
     super(operation);
   }
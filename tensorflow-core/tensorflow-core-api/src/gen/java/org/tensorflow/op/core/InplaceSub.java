@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class InplaceSub<T extends TType> extends RawOp implements Operand<
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> InplaceSub<T> create(Scope scope, Operand<T> x, Operand<TInt32> i, Operand<T> v) {
-    OperationBuilder opBuilder = scope.env().opBuilder("InplaceSub", scope.makeOpName("InplaceSub"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("InplaceSub"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(i.asOutput());
     opBuilder.addInput(v.asOutput());
@@ -72,6 +73,9 @@ public final class InplaceSub<T extends TType> extends RawOp implements Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "InplaceSub";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> y;
   
   private InplaceSub(Operation operation) {
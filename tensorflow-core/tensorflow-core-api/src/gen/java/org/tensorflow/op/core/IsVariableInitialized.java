@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class IsVariableInitialized extends RawOp implements Operand<TBool>
    */
   @Endpoint(describeByClass = true)
   public static IsVariableInitialized create(Scope scope, Operand<? extends TType> ref) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IsVariableInitialized", scope.makeOpName("IsVariableInitialized"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IsVariableInitialized"));
     opBuilder.addInput(ref.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new IsVariableInitialized(opBuilder.build());
@@ -65,6 +66,9 @@ public final class IsVariableInitialized extends RawOp implements Operand<TBool>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IsVariableInitialized";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> isInitialized;
   
   private IsVariableInitialized(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -58,7 +59,7 @@ public final class KthOrderStatistic extends RawOp implements Operand<TFloat32>
    */
   @Endpoint(describeByClass = true)
   public static KthOrderStatistic create(Scope scope, Operand<TFloat32> input, Long k) {
-    OperationBuilder opBuilder = scope.env().opBuilder("KthOrderStatistic", scope.makeOpName("KthOrderStatistic"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("KthOrderStatistic"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("k", k);
@@ -79,6 +80,9 @@ public final class KthOrderStatistic extends RawOp implements Operand<TFloat32>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "KthOrderStatistic";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "k");
+  
   private Output<TFloat32> output;
   
   private KthOrderStatistic(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -55,7 +56,7 @@ public final class LinSpace<T extends TNumber> extends RawOp implements Operand<
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> LinSpace<T> create(Scope scope, Operand<T> start, Operand<T> stop, Operand<? extends TNumber> num) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LinSpace", scope.makeOpName("LinSpace"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LinSpace"));
     opBuilder.addInput(start.asOutput());
     opBuilder.addInput(stop.asOutput());
     opBuilder.addInput(num.asOutput());
@@ -78,6 +79,9 @@ public final class LinSpace<T extends TNumber> extends RawOp implements Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LinSpace";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private LinSpace(Operation operation) {
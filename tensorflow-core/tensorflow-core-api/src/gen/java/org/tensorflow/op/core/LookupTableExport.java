@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -48,7 +49,7 @@ public final class LookupTableExport<T extends TType, U extends TType> extends R
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, U extends TType> LookupTableExport<T, U> create(Scope scope, Operand<?> tableHandle, Class<T> Tkeys, Class<U> Tvalues) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LookupTableExportV2", scope.makeOpName("LookupTableExport"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LookupTableExport"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("Tkeys", Operands.toDataType(Tkeys));
@@ -73,6 +74,9 @@ public final class LookupTableExport<T extends TType, U extends TType> extends R
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LookupTableExportV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "Tkeys", "Tvalues");
+  
   private Output<T> keys;
   private Output<U> values;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -52,7 +53,7 @@ public final class LookupTableFind<U extends TType> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> LookupTableFind<U> create(Scope scope, Operand<?> tableHandle, Operand<? extends TType> keys, Operand<U> defaultValue) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LookupTableFindV2", scope.makeOpName("LookupTableFind"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LookupTableFind"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder.addInput(keys.asOutput());
     opBuilder.addInput(defaultValue.asOutput());
@@ -76,6 +77,9 @@ public final class LookupTableFind<U extends TType> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LookupTableFindV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<U> values;
   
   private LookupTableFind(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class LookupTableSize extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static LookupTableSize create(Scope scope, Operand<?> tableHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LookupTableSizeV2", scope.makeOpName("LookupTableSize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LookupTableSize"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new LookupTableSize(opBuilder.build());
@@ -63,6 +64,9 @@ public final class LookupTableSize extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LookupTableSizeV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> output;
   
   private LookupTableSize(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class LoopCond extends RawOp implements Operand<TBool> {
    */
   @Endpoint(describeByClass = true)
   public static LoopCond create(Scope scope, Operand<TBool> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LoopCond", scope.makeOpName("LoopCond"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LoopCond"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new LoopCond(opBuilder.build());
@@ -66,6 +67,9 @@ public final class LoopCond extends RawOp implements Operand<TBool> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LoopCond";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> output;
   
   private LoopCond(Operation operation) {
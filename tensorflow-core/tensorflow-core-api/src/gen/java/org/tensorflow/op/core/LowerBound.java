@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -67,7 +68,7 @@ public final class LowerBound<U extends TNumber> extends RawOp implements Operan
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TType> LowerBound<U> create(Scope scope, Operand<T> sortedInputs, Operand<T> values, Class<U> outType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LowerBound", scope.makeOpName("LowerBound"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LowerBound"));
     opBuilder.addInput(sortedInputs.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -106,6 +107,9 @@ public final class LowerBound<U extends TNumber> extends RawOp implements Operan
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LowerBound";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "out_type");
+  
   private Output<U> output;
   
   private LowerBound(Operation operation) {
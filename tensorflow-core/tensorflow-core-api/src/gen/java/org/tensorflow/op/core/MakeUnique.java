@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class MakeUnique extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static MakeUnique create(Scope scope, Operand<TFloat32> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MakeUnique", scope.makeOpName("MakeUnique"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MakeUnique"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new MakeUnique(opBuilder.build());
@@ -67,6 +68,9 @@ public final class MakeUnique extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MakeUnique";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TFloat32> output;
   
   private MakeUnique(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import java.util.List;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -89,7 +90,7 @@ public final class MapClear extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static MapClear create(Scope scope, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MapClear", scope.makeOpName("MapClear"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MapClear"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
     if (options != null) {
@@ -142,6 +143,9 @@ public final class MapClear extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MapClear";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private MapClear(Operation operation) {
     super(operation);
   }
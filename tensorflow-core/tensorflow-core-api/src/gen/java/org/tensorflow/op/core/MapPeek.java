@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -100,7 +101,7 @@ public final class MapPeek extends RawOp implements Iterable<Operand<TType>> {
    */
   @Endpoint(describeByClass = true)
   public static MapPeek create(Scope scope, Operand<TInt64> key, Operand<TInt32> indices, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MapPeek", scope.makeOpName("MapPeek"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MapPeek"));
     opBuilder.addInput(key.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -167,6 +168,9 @@ public final class MapPeek extends RawOp implements Iterable<Operand<TType>> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MapPeek";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private List<Output<?>> values;
   
   private MapPeek(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -78,7 +79,7 @@ public final class MirrorPad<T extends TType> extends RawOp implements Operand<T
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> MirrorPad<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> paddings, String mode) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MirrorPad", scope.makeOpName("MirrorPad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MirrorPad"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(paddings.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -101,6 +102,9 @@ public final class MirrorPad<T extends TType> extends RawOp implements Operand<T
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MirrorPad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "mode");
+  
   private Output<T> output;
   
   private MirrorPad(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -66,7 +67,7 @@ public final class MirrorPadGrad<T extends TType> extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> MirrorPadGrad<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> paddings, String mode) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MirrorPadGrad", scope.makeOpName("MirrorPadGrad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MirrorPadGrad"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(paddings.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -89,6 +90,9 @@ public final class MirrorPadGrad<T extends TType> extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MirrorPadGrad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "mode");
+  
   private Output<T> output;
   
   private MirrorPadGrad(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -78,7 +79,7 @@ public final class MlirPassthroughOp extends RawOp implements Iterable<Operand<T
    */
   @Endpoint(describeByClass = true)
   public static MlirPassthroughOp create(Scope scope, Iterable<Operand<?>> inputs, String mlirModule, List<Class<? extends TType>> Toutputs) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MlirPassthroughOp", scope.makeOpName("MlirPassthroughOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MlirPassthroughOp"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("mlir_module", mlirModule);
@@ -101,6 +102,9 @@ public final class MlirPassthroughOp extends RawOp implements Iterable<Operand<T
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MlirPassthroughOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "mlir_module", "Toutputs");
+  
   private List<Output<?>> outputs;
   
   private MlirPassthroughOp(Operation operation) {
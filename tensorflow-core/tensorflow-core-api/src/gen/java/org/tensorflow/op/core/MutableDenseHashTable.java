@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -123,7 +124,7 @@ public final class MutableDenseHashTable extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, U extends TType> MutableDenseHashTable create(Scope scope, Operand<T> emptyKey, Operand<T> deletedKey, Class<U> valueDtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MutableDenseHashTableV2", scope.makeOpName("MutableDenseHashTable"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MutableDenseHashTable"));
     opBuilder.addInput(emptyKey.asOutput());
     opBuilder.addInput(deletedKey.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -215,6 +216,9 @@ public final class MutableDenseHashTable extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MutableDenseHashTableV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "value_dtype", "container", "shared_name", "use_node_name_sharing", "value_shape", "initial_num_buckets", "max_load_factor");
+  
   private Output<?> tableHandle;
   
   private MutableDenseHashTable(Operation operation) {
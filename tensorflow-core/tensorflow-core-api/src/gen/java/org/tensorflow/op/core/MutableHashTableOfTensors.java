@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -98,7 +99,7 @@ public final class MutableHashTableOfTensors extends RawOp implements Operand<TT
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, U extends TType> MutableHashTableOfTensors create(Scope scope, Class<T> keyDtype, Class<U> valueDtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MutableHashTableOfTensorsV2", scope.makeOpName("MutableHashTableOfTensors"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MutableHashTableOfTensors"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("key_dtype", Operands.toDataType(keyDtype));
     opBuilder.setAttr("value_dtype", Operands.toDataType(valueDtype));
@@ -167,6 +168,9 @@ public final class MutableHashTableOfTensors extends RawOp implements Operand<TT
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MutableHashTableOfTensorsV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "key_dtype", "value_dtype", "container", "shared_name", "use_node_name_sharing", "value_shape");
+  
   private Output<?> tableHandle;
   
   private MutableHashTableOfTensors(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -78,7 +79,7 @@ public final class MutexLock extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static MutexLock create(Scope scope, Operand<?> mutex) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MutexLock", scope.makeOpName("MutexLock"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MutexLock"));
     opBuilder.addInput(mutex.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new MutexLock(opBuilder.build());
@@ -102,6 +103,9 @@ public final class MutexLock extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MutexLock";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> mutexLock;
   
   private MutexLock(Operation operation) {
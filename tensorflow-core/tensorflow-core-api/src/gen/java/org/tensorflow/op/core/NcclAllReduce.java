@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -59,7 +60,7 @@ public final class NcclAllReduce<T extends TNumber> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> NcclAllReduce<T> create(Scope scope, Operand<T> input, String reduction, Long numDevices, String sharedName) {
-    OperationBuilder opBuilder = scope.env().opBuilder("NcclAllReduce", scope.makeOpName("NcclAllReduce"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("NcclAllReduce"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("reduction", reduction);
@@ -82,6 +83,9 @@ public final class NcclAllReduce<T extends TNumber> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "NcclAllReduce";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "reduction", "num_devices", "shared_name");
+  
   private Output<T> data;
   
   private NcclAllReduce(Operation operation) {
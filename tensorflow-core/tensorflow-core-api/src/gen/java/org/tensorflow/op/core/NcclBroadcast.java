@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.RawOp;
@@ -55,7 +56,7 @@ public final class NcclBroadcast<T extends TNumber> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> NcclBroadcast<T> create(Scope scope, Operand<T> input, Shape shape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("NcclBroadcast", scope.makeOpName("NcclBroadcast"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("NcclBroadcast"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape", shape);
@@ -76,6 +77,9 @@ public final class NcclBroadcast<T extends TNumber> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "NcclBroadcast";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape");
+  
   private Output<T> output;
   
   private NcclBroadcast(Operation operation) {
@@ -19,6 +19,7 @@ package org.tensorflow.op.core;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -38,7 +39,7 @@ public final class NoOp extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static NoOp create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("NoOp", scope.makeOpName("NoOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("NoOp"));
     opBuilder = scope.apply(opBuilder);
     return new NoOp(opBuilder.build());
   }
@@ -46,6 +47,9 @@ public final class NoOp extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "NoOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private NoOp(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -150,7 +151,7 @@ public final class OneHot<U extends TType> extends RawOp implements Operand<U> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> OneHot<U> create(Scope scope, Operand<? extends TNumber> indices, Operand<TInt32> depth, Operand<U> onValue, Operand<U> offValue, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OneHot", scope.makeOpName("OneHot"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OneHot"));
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(depth.asOutput());
     opBuilder.addInput(onValue.asOutput());
@@ -188,6 +189,9 @@ public final class OneHot<U extends TType> extends RawOp implements Operand<U> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OneHot";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "axis");
+  
   private Output<U> output;
   
   private OneHot(Operation operation) {
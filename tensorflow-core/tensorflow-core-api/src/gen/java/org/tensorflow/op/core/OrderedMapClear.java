@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import java.util.List;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -89,7 +90,7 @@ public final class OrderedMapClear extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static OrderedMapClear create(Scope scope, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OrderedMapClear", scope.makeOpName("OrderedMapClear"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OrderedMapClear"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
     if (options != null) {
@@ -142,6 +143,9 @@ public final class OrderedMapClear extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OrderedMapClear";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private OrderedMapClear(Operation operation) {
     super(operation);
   }
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -92,7 +93,7 @@ public final class OrderedMapIncompleteSize extends RawOp implements Operand<TIn
    */
   @Endpoint(describeByClass = true)
   public static OrderedMapIncompleteSize create(Scope scope, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OrderedMapIncompleteSize", scope.makeOpName("OrderedMapIncompleteSize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OrderedMapIncompleteSize"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
     if (options != null) {
@@ -156,6 +157,9 @@ public final class OrderedMapIncompleteSize extends RawOp implements Operand<TIn
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OrderedMapIncompleteSize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private Output<TInt32> output;
   
   private OrderedMapIncompleteSize(Operation operation) {
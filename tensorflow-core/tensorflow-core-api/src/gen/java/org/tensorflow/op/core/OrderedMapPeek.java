@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -101,7 +102,7 @@ public final class OrderedMapPeek extends RawOp implements Iterable<Operand<TTyp
    */
   @Endpoint(describeByClass = true)
   public static OrderedMapPeek create(Scope scope, Operand<TInt64> key, Operand<TInt32> indices, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OrderedMapPeek", scope.makeOpName("OrderedMapPeek"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OrderedMapPeek"));
     opBuilder.addInput(key.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -168,6 +169,9 @@ public final class OrderedMapPeek extends RawOp implements Iterable<Operand<TTyp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OrderedMapPeek";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private List<Output<?>> values;
   
   private OrderedMapPeek(Operation operation) {
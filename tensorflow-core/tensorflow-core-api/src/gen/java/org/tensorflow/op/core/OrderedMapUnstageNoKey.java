@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -98,7 +99,7 @@ public final class OrderedMapUnstageNoKey extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static OrderedMapUnstageNoKey create(Scope scope, Operand<TInt32> indices, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OrderedMapUnstageNoKey", scope.makeOpName("OrderedMapUnstageNoKey"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OrderedMapUnstageNoKey"));
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
@@ -164,6 +165,9 @@ public final class OrderedMapUnstageNoKey extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OrderedMapUnstageNoKey";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private Output<TInt64> key;
   private List<Output<?>> values;
   
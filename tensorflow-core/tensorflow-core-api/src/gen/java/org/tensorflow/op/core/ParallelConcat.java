@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -64,7 +65,7 @@ public final class ParallelConcat<T extends TType> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ParallelConcat<T> create(Scope scope, Iterable<Operand<T>> values, Shape shape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ParallelConcat", scope.makeOpName("ParallelConcat"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ParallelConcat"));
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape", shape);
@@ -86,6 +87,9 @@ public final class ParallelConcat<T extends TType> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ParallelConcat";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape");
+  
   private Output<T> output;
   
   private ParallelConcat(Operation operation) {
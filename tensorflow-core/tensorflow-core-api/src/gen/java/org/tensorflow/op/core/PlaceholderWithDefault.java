@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.RawOp;
@@ -46,7 +47,7 @@ public final class PlaceholderWithDefault<T extends TType> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> PlaceholderWithDefault<T> create(Scope scope, Operand<T> input, Shape shape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("PlaceholderWithDefault", scope.makeOpName("PlaceholderWithDefault"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("PlaceholderWithDefault"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape", shape);
@@ -68,6 +69,9 @@ public final class PlaceholderWithDefault<T extends TType> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "PlaceholderWithDefault";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape");
+  
   private Output<T> output;
   
   private PlaceholderWithDefault(Operation operation) {
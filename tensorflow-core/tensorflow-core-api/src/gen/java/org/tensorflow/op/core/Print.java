@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -72,7 +73,7 @@ public final class Print extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static Print create(Scope scope, Operand<TString> input, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("PrintV2", scope.makeOpName("Print"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Print"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -105,6 +106,9 @@ public final class Print extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "PrintV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "output_stream", "end");
+  
   private Print(Operation operation) {
     super(operation);
   }
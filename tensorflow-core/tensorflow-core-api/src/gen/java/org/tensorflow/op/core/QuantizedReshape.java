@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -51,7 +52,7 @@ public final class QuantizedReshape<T extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> QuantizedReshape<T> create(Scope scope, Operand<T> tensor, Operand<? extends TNumber> shape, Operand<TFloat32> inputMin, Operand<TFloat32> inputMax) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizedReshape", scope.makeOpName("QuantizedReshape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizedReshape"));
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(inputMin.asOutput());
@@ -83,6 +84,9 @@ public final class QuantizedReshape<T extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizedReshape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3);
+  
   private Output<T> output;
   private Output<TFloat32> outputMin;
   private Output<TFloat32> outputMax;
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -58,7 +59,7 @@ public final class Range<T extends TNumber> extends RawOp implements Operand<T>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> Range<T> create(Scope scope, Operand<T> start, Operand<T> limit, Operand<T> delta) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Range", scope.makeOpName("Range"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Range"));
     opBuilder.addInput(start.asOutput());
     opBuilder.addInput(limit.asOutput());
     opBuilder.addInput(delta.asOutput());
@@ -81,6 +82,9 @@ public final class Range<T extends TNumber> extends RawOp implements Operand<T>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Range";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private Range(Operation operation) {
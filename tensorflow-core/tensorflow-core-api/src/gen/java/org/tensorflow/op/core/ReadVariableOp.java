@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -53,7 +54,7 @@ public final class ReadVariableOp<T extends TType> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ReadVariableOp<T> create(Scope scope, Operand<?> resource, Class<T> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReadVariableOp", scope.makeOpName("ReadVariableOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReadVariableOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -74,6 +75,9 @@ public final class ReadVariableOp<T extends TType> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReadVariableOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<T> value;
   
   private ReadVariableOp(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -71,7 +72,7 @@ public final class Recv<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Recv<T> create(Scope scope, Class<T> tensorType, String tensorName, String sendDevice, Long sendDeviceIncarnation, String recvDevice, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Recv", scope.makeOpName("Recv"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Recv"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("tensor_type", Operands.toDataType(tensorType));
     opBuilder.setAttr("tensor_name", tensorName);
@@ -113,6 +114,9 @@ public final class Recv<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Recv";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "tensor_type", "tensor_name", "send_device", "send_device_incarnation", "recv_device", "client_terminated");
+  
   private Output<T> tensor;
   
   private Recv(Operation operation) {
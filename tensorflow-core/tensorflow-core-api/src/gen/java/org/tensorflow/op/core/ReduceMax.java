@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -72,7 +73,7 @@ public final class ReduceMax<T extends TType> extends RawOp implements Operand<T
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ReduceMax<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> axis, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Max", scope.makeOpName("ReduceMax"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReduceMax"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -108,6 +109,9 @@ public final class ReduceMax<T extends TType> extends RawOp implements Operand<T
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Max";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "keep_dims");
+  
   private Output<T> output;
   
   private ReduceMax(Operation operation) {
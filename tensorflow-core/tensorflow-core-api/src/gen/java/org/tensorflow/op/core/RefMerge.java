@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -51,7 +52,7 @@ public final class RefMerge<T extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> RefMerge<T> create(Scope scope, Iterable<Operand<T>> inputs) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RefMerge", scope.makeOpName("RefMerge"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RefMerge"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.apply(opBuilder);
     return new RefMerge<T>(opBuilder.build());
@@ -74,6 +75,9 @@ public final class RefMerge<T extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RefMerge";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<T> output;
   private Output<TInt32> valueIndex;
   
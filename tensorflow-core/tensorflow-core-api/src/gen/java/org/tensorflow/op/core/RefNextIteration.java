@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class RefNextIteration<T extends TType> extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> RefNextIteration<T> create(Scope scope, Operand<T> data) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RefNextIteration", scope.makeOpName("RefNextIteration"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RefNextIteration"));
     opBuilder.addInput(data.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new RefNextIteration<T>(opBuilder.build());
@@ -65,6 +66,9 @@ public final class RefNextIteration<T extends TType> extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RefNextIteration";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private RefNextIteration(Operation operation) {
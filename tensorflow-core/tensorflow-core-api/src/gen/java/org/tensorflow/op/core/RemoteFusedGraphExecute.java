@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -57,7 +58,7 @@ public final class RemoteFusedGraphExecute extends RawOp implements Iterable<Ope
    */
   @Endpoint(describeByClass = true)
   public static RemoteFusedGraphExecute create(Scope scope, Iterable<Operand<?>> inputs, List<Class<? extends TType>> Toutputs, String serializedRemoteFusedGraphExecuteInfo) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RemoteFusedGraphExecute", scope.makeOpName("RemoteFusedGraphExecute"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RemoteFusedGraphExecute"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("Toutputs", Operands.toDataTypes(Toutputs));
@@ -81,6 +82,9 @@ public final class RemoteFusedGraphExecute extends RawOp implements Iterable<Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RemoteFusedGraphExecute";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "Toutputs", "serialized_remote_fused_graph_execute_info");
+  
   private List<Output<?>> outputs;
   
   private RemoteFusedGraphExecute(Operation operation) {
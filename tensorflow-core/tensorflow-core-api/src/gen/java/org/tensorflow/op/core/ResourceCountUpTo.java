@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -48,7 +49,7 @@ public final class ResourceCountUpTo<T extends TNumber> extends RawOp implements
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ResourceCountUpTo<T> create(Scope scope, Operand<?> resource, Long limit, Class<T> T) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResourceCountUpTo", scope.makeOpName("ResourceCountUpTo"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResourceCountUpTo"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("limit", limit);
@@ -72,6 +73,9 @@ public final class ResourceCountUpTo<T extends TNumber> extends RawOp implements
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResourceCountUpTo";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "limit", "T");
+  
   private Output<T> output;
   
   private ResourceCountUpTo(Operation operation) {
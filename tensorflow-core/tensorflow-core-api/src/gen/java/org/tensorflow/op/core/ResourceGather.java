@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -91,7 +92,7 @@ public final class ResourceGather<U extends TType> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> ResourceGather<U> create(Scope scope, Operand<?> resource, Operand<? extends TNumber> indices, Class<U> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResourceGather", scope.makeOpName("ResourceGather"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResourceGather"));
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -137,6 +138,9 @@ public final class ResourceGather<U extends TType> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResourceGather";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "batch_dims", "validate_indices");
+  
   private Output<U> output;
   
   private ResourceGather(Operation operation) {
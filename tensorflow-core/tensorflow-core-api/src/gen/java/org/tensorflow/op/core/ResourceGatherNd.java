@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -46,7 +47,7 @@ public final class ResourceGatherNd<U extends TType> extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> ResourceGatherNd<U> create(Scope scope, Operand<?> resource, Operand<? extends TNumber> indices, Class<U> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResourceGatherNd", scope.makeOpName("ResourceGatherNd"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResourceGatherNd"));
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -68,6 +69,9 @@ public final class ResourceGatherNd<U extends TType> extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResourceGatherNd";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<U> output;
   
   private ResourceGatherNd(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -121,7 +122,7 @@ public final class ReverseSequence<T extends TType> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ReverseSequence<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> seqLengths, Long seqDim, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReverseSequence", scope.makeOpName("ReverseSequence"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReverseSequence"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(seqLengths.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -158,6 +159,9 @@ public final class ReverseSequence<T extends TType> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReverseSequence";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "seq_dim", "batch_dim");
+  
   private Output<T> output;
   
   private ReverseSequence(Operation operation) {
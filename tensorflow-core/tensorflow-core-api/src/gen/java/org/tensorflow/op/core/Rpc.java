@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -137,7 +138,7 @@ public final class Rpc extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static Rpc create(Scope scope, Operand<TString> address, Operand<TString> method, Operand<TString> request, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Rpc", scope.makeOpName("Rpc"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Rpc"));
     opBuilder.addInput(address.asOutput());
     opBuilder.addInput(method.asOutput());
     opBuilder.addInput(request.asOutput());
@@ -199,6 +200,9 @@ public final class Rpc extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Rpc";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "protocol", "fail_fast", "timeout_in_ms");
+  
   private Output<TString> response;
   
   private Rpc(Operation operation) {
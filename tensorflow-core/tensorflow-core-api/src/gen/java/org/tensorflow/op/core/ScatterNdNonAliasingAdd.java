@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -83,7 +84,7 @@ public final class ScatterNdNonAliasingAdd<T extends TType> extends RawOp implem
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ScatterNdNonAliasingAdd<T> create(Scope scope, Operand<T> input, Operand<? extends TNumber> indices, Operand<T> updates) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ScatterNdNonAliasingAdd", scope.makeOpName("ScatterNdNonAliasingAdd"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ScatterNdNonAliasingAdd"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(updates.asOutput());
@@ -107,6 +108,9 @@ public final class ScatterNdNonAliasingAdd<T extends TType> extends RawOp implem
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ScatterNdNonAliasingAdd";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private ScatterNdNonAliasingAdd(Operation operation) {
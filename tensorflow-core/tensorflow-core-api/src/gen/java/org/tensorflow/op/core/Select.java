@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class Select<T extends TType> extends RawOp implements Operand<T> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Select<T> create(Scope scope, Operand<TBool> condition, Operand<T> t, Operand<T> e) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SelectV2", scope.makeOpName("Select"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Select"));
     opBuilder.addInput(condition.asOutput());
     opBuilder.addInput(t.asOutput());
     opBuilder.addInput(e.asOutput());
@@ -67,6 +68,9 @@ public final class Select<T extends TType> extends RawOp implements Operand<T> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SelectV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private Select(Operation operation) {
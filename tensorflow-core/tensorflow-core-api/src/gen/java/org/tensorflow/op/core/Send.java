@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -67,7 +68,7 @@ public final class Send extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static Send create(Scope scope, Operand<? extends TType> tensor, String tensorName, String sendDevice, Long sendDeviceIncarnation, String recvDevice, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Send", scope.makeOpName("Send"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Send"));
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("tensor_name", tensorName);
@@ -97,6 +98,9 @@ public final class Send extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Send";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "tensor_name", "send_device", "send_device_incarnation", "recv_device", "client_terminated");
+  
   private Send(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -73,7 +74,7 @@ public final class SetSize extends RawOp implements Operand<TInt32> {
    */
   @Endpoint(describeByClass = true)
   public static SetSize create(Scope scope, Operand<TInt64> setIndices, Operand<? extends TType> setValues, Operand<TInt64> setShape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SetSize", scope.makeOpName("SetSize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SetSize"));
     opBuilder.addInput(setIndices.asOutput());
     opBuilder.addInput(setValues.asOutput());
     opBuilder.addInput(setShape.asOutput());
@@ -112,6 +113,9 @@ public final class SetSize extends RawOp implements Operand<TInt32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SetSize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "validate_indices");
+  
   private Output<TInt32> output;
   
   private SetSize(Operation operation) {
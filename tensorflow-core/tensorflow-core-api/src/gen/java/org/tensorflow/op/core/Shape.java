@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -57,7 +58,7 @@ public final class Shape<U extends TNumber> extends RawOp implements Operand<U>
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Shape<U> create(Scope scope, Operand<? extends TType> input, Class<U> outType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Shape", scope.makeOpName("Shape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Shape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("out_type", Operands.toDataType(outType));
@@ -90,6 +91,9 @@ public final class Shape<U extends TNumber> extends RawOp implements Operand<U>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Shape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "out_type");
+  
   private Output<U> output;
   
   private Shape(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -53,7 +54,7 @@ public final class ShapeN<U extends TNumber> extends RawOp implements Iterable<O
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TType> ShapeN<U> create(Scope scope, Iterable<Operand<T>> input, Class<U> outType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ShapeN", scope.makeOpName("ShapeN"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ShapeN"));
     opBuilder.addInputList(Operands.asOutputs(input));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("out_type", Operands.toDataType(outType));
@@ -87,6 +88,9 @@ public final class ShapeN<U extends TNumber> extends RawOp implements Iterable<O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ShapeN";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "out_type");
+  
   private List<Output<U>> output;
   
   @SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -58,7 +59,7 @@ public final class Size<U extends TNumber> extends RawOp implements Operand<U> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Size<U> create(Scope scope, Operand<? extends TType> input, Class<U> outType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Size", scope.makeOpName("Size"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Size"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("out_type", Operands.toDataType(outType));
@@ -91,6 +92,9 @@ public final class Size<U extends TNumber> extends RawOp implements Operand<U> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Size";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "out_type");
+  
   private Output<U> output;
   
   private Size(Operation operation) {
@@ -19,6 +19,7 @@ package org.tensorflow.op.core;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -84,7 +85,7 @@ public final class Skipgram extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static Skipgram create(Scope scope, String filename, Long batchSize, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Skipgram", scope.makeOpName("Skipgram"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Skipgram"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("filename", filename);
     opBuilder.setAttr("batch_size", batchSize);
@@ -179,6 +180,9 @@ public final class Skipgram extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Skipgram";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 7, "filename", "batch_size", "window_size", "min_count", "subsample");
+  
   private Output<TString> vocabWord;
   private Output<TInt32> vocabFreq;
   private Output<TInt64> wordsPerEpoch;
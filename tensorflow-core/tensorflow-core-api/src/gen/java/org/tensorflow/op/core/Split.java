@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -52,7 +53,7 @@ public final class Split<T extends TType> extends RawOp implements Iterable<Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Split<T> create(Scope scope, Operand<TInt32> axis, Operand<T> value, Long numSplit) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Split", scope.makeOpName("Split"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Split"));
     opBuilder.addInput(axis.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -78,6 +79,9 @@ public final class Split<T extends TType> extends RawOp implements Iterable<Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Split";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_split");
+  
   private List<Output<T>> output;
   
   @SuppressWarnings("unchecked")
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -55,7 +56,7 @@ public final class SplitV<T extends TType> extends RawOp implements Iterable<Ope
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> SplitV<T> create(Scope scope, Operand<T> value, Operand<? extends TNumber> sizeSplits, Operand<TInt32> axis, Long numSplit) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SplitV", scope.makeOpName("SplitV"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SplitV"));
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(sizeSplits.asOutput());
     opBuilder.addInput(axis.asOutput());
@@ -82,6 +83,9 @@ public final class SplitV<T extends TType> extends RawOp implements Iterable<Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SplitV";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_split");
+  
   private List<Output<T>> output;
   
   @SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -95,7 +96,7 @@ public final class Stage extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static Stage create(Scope scope, Iterable<Operand<?>> values, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Stage", scope.makeOpName("Stage"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Stage"));
     opBuilder.addInputList(Operands.asOutputs(values));
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -151,6 +152,9 @@ public final class Stage extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Stage";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "capacity", "memory_limit", "container", "shared_name");
+  
   private Stage(Operation operation) {
     super(operation);
   }
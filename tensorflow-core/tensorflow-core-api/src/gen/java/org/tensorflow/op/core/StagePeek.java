@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -99,7 +100,7 @@ public final class StagePeek extends RawOp implements Iterable<Operand<TType>> {
    */
   @Endpoint(describeByClass = true)
   public static StagePeek create(Scope scope, Operand<TInt32> index, List<Class<? extends TType>> dtypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StagePeek", scope.makeOpName("StagePeek"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StagePeek"));
     opBuilder.addInput(index.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
@@ -165,6 +166,9 @@ public final class StagePeek extends RawOp implements Iterable<Operand<TType>> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StagePeek";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "dtypes", "capacity", "memory_limit", "container", "shared_name");
+  
   private List<Output<?>> values;
   
   private StagePeek(Operation operation) {
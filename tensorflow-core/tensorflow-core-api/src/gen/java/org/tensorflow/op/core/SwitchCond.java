@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -51,7 +52,7 @@ public final class SwitchCond<T extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> SwitchCond<T> create(Scope scope, Operand<T> data, Operand<TBool> pred) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Switch", scope.makeOpName("SwitchCond"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SwitchCond"));
     opBuilder.addInput(data.asOutput());
     opBuilder.addInput(pred.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -75,6 +76,9 @@ public final class SwitchCond<T extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Switch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<T> outputFalse;
   private Output<T> outputTrue;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -83,7 +84,7 @@ public final class TemporaryVariable<T extends TType> extends RawOp implements O
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TemporaryVariable<T> create(Scope scope, Shape shape, Class<T> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TemporaryVariable", scope.makeOpName("TemporaryVariable"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TemporaryVariable"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape", shape);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -120,6 +121,9 @@ public final class TemporaryVariable<T extends TType> extends RawOp implements O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TemporaryVariable";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape", "dtype", "var_name");
+  
   private Output<T> ref;
   
   private TemporaryVariable(Operation operation) {
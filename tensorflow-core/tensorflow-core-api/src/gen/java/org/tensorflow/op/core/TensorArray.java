@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -117,7 +118,7 @@ public final class TensorArray extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TensorArray create(Scope scope, Operand<TInt32> size, Class<T> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorArrayV3", scope.makeOpName("TensorArray"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorArray"));
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -207,6 +208,9 @@ public final class TensorArray extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorArrayV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "dtype", "element_shape", "dynamic_size", "clear_after_read", "identical_element_shapes", "tensor_array_name");
+  
   private Output<?> handle;
   private Output<TFloat32> flow;
   
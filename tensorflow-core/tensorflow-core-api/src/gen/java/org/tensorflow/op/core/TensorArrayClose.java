@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -43,7 +44,7 @@ public final class TensorArrayClose extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static TensorArrayClose create(Scope scope, Operand<?> handle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorArrayCloseV3", scope.makeOpName("TensorArrayClose"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorArrayClose"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new TensorArrayClose(opBuilder.build());
@@ -52,6 +53,9 @@ public final class TensorArrayClose extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorArrayCloseV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private TensorArrayClose(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -75,7 +76,7 @@ public final class TensorArrayGather<T extends TType> extends RawOp implements O
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TensorArrayGather<T> create(Scope scope, Operand<?> handle, Operand<TInt32> indices, Operand<TFloat32> flowIn, Class<T> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorArrayGatherV3", scope.makeOpName("TensorArrayGather"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorArrayGather"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(flowIn.asOutput());
@@ -116,6 +117,9 @@ public final class TensorArrayGather<T extends TType> extends RawOp implements O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorArrayGatherV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "element_shape");
+  
   private Output<T> value;
   
   private TensorArrayGather(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class TensorArrayScatter extends RawOp implements Operand<TFloat32>
    */
   @Endpoint(describeByClass = true)
   public static TensorArrayScatter create(Scope scope, Operand<?> handle, Operand<TInt32> indices, Operand<? extends TType> value, Operand<TFloat32> flowIn) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorArrayScatterV3", scope.makeOpName("TensorArrayScatter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorArrayScatter"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(value.asOutput());
@@ -73,6 +74,9 @@ public final class TensorArrayScatter extends RawOp implements Operand<TFloat32>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorArrayScatterV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TFloat32> flowOut;
   
   private TensorArrayScatter(Operation operation) {
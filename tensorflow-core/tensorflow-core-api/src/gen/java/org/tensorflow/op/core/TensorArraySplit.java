@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -70,7 +71,7 @@ public final class TensorArraySplit extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static TensorArraySplit create(Scope scope, Operand<?> handle, Operand<? extends TType> value, Operand<TInt64> lengths, Operand<TFloat32> flowIn) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorArraySplitV3", scope.makeOpName("TensorArraySplit"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorArraySplit"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(lengths.asOutput());
@@ -94,6 +95,9 @@ public final class TensorArraySplit extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorArraySplitV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TFloat32> flowOut;
   
   private TensorArraySplit(Operation operation) {
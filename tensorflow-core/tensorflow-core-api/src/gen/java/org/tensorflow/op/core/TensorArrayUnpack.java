@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class TensorArrayUnpack extends RawOp implements Operand<TFloat32>
    */
   @Endpoint(describeByClass = true)
   public static TensorArrayUnpack create(Scope scope, Operand<TString> handle, Operand<? extends TType> value, Operand<TFloat32> flowIn) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorArrayUnpack", scope.makeOpName("TensorArrayUnpack"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorArrayUnpack"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(value.asOutput());
     opBuilder.addInput(flowIn.asOutput());
@@ -67,6 +68,9 @@ public final class TensorArrayUnpack extends RawOp implements Operand<TFloat32>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorArrayUnpack";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TFloat32> flowOut;
   
   private TensorArrayUnpack(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class TensorForestTreePredict extends RawOp implements Operand<TFlo
    */
   @Endpoint(describeByClass = true)
   public static TensorForestTreePredict create(Scope scope, Operand<?> treeHandle, Operand<TFloat32> denseFeatures, Long logitsDimension) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorForestTreePredict", scope.makeOpName("TensorForestTreePredict"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorForestTreePredict"));
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder.addInput(denseFeatures.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -66,6 +67,9 @@ public final class TensorForestTreePredict extends RawOp implements Operand<TFlo
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorForestTreePredict";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "logits_dimension");
+  
   private Output<TFloat32> logits;
   
   private TensorForestTreePredict(Operation operation) {
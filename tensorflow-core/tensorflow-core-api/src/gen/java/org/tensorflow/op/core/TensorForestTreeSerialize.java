@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -41,7 +42,7 @@ public final class TensorForestTreeSerialize extends RawOp implements Operand<TS
    */
   @Endpoint(describeByClass = true)
   public static TensorForestTreeSerialize create(Scope scope, Operand<?> treeHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorForestTreeSerialize", scope.makeOpName("TensorForestTreeSerialize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorForestTreeSerialize"));
     opBuilder.addInput(treeHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new TensorForestTreeSerialize(opBuilder.build());
@@ -62,6 +63,9 @@ public final class TensorForestTreeSerialize extends RawOp implements Operand<TS
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorForestTreeSerialize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> treeConfig;
   
   private TensorForestTreeSerialize(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -63,7 +64,7 @@ public final class TensorListConcat<U extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> TensorListConcat<U> create(Scope scope, Operand<?> inputHandle, Operand<? extends TNumber> elementShape, Operand<TInt64> leadingDims, Class<U> elementDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListConcatV2", scope.makeOpName("TensorListConcat"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListConcat"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder.addInput(leadingDims.asOutput());
@@ -87,6 +88,9 @@ public final class TensorListConcat<U extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListConcatV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "element_dtype");
+  
   private Output<U> tensor;
   private Output<TInt64> lengths;
   
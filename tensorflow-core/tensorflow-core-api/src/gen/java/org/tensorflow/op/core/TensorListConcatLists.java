@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -44,7 +45,7 @@ public final class TensorListConcatLists extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TensorListConcatLists create(Scope scope, Operand<?> inputA, Operand<?> inputB, Class<T> elementDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListConcatLists", scope.makeOpName("TensorListConcatLists"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListConcatLists"));
     opBuilder.addInput(inputA.asOutput());
     opBuilder.addInput(inputB.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -67,6 +68,9 @@ public final class TensorListConcatLists extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListConcatLists";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "element_dtype");
+  
   private Output<?> output;
   
   private TensorListConcatLists(Operation operation) {
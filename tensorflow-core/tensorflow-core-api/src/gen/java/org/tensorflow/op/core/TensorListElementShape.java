@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -49,7 +50,7 @@ public final class TensorListElementShape<T extends TNumber> extends RawOp imple
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> TensorListElementShape<T> create(Scope scope, Operand<?> inputHandle, Class<T> shapeType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListElementShape", scope.makeOpName("TensorListElementShape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListElementShape"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape_type", Operands.toDataType(shapeType));
@@ -70,6 +71,9 @@ public final class TensorListElementShape<T extends TNumber> extends RawOp imple
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListElementShape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape_type");
+  
   private Output<T> elementShape;
   
   private TensorListElementShape(Operation operation) {
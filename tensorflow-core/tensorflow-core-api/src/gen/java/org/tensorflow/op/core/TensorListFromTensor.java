@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class TensorListFromTensor extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static TensorListFromTensor create(Scope scope, Operand<? extends TType> tensor, Operand<? extends TNumber> elementShape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListFromTensor", scope.makeOpName("TensorListFromTensor"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListFromTensor"));
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(elementShape.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -71,6 +72,9 @@ public final class TensorListFromTensor extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListFromTensor";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> outputHandle;
   
   private TensorListFromTensor(Operation operation) {
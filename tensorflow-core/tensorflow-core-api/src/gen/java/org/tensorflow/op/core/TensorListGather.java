@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -56,7 +57,7 @@ public final class TensorListGather<T extends TType> extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TensorListGather<T> create(Scope scope, Operand<?> inputHandle, Operand<TInt32> indices, Operand<TInt32> elementShape, Class<T> elementDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListGather", scope.makeOpName("TensorListGather"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListGather"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(elementShape.asOutput());
@@ -79,6 +80,9 @@ public final class TensorListGather<T extends TType> extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListGather";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "element_dtype");
+  
   private Output<T> values;
   
   private TensorListGather(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -47,7 +48,7 @@ public final class TensorListGetItem<T extends TType> extends RawOp implements O
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TensorListGetItem<T> create(Scope scope, Operand<?> inputHandle, Operand<TInt32> index, Operand<TInt32> elementShape, Class<T> elementDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListGetItem", scope.makeOpName("TensorListGetItem"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListGetItem"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(index.asOutput());
     opBuilder.addInput(elementShape.asOutput());
@@ -70,6 +71,9 @@ public final class TensorListGetItem<T extends TType> extends RawOp implements O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListGetItem";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "element_dtype");
+  
   private Output<T> item;
   
   private TensorListGetItem(Operation operation) {
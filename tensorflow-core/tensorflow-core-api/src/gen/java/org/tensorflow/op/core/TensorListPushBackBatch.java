@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class TensorListPushBackBatch extends RawOp implements Operand<TTyp
    */
   @Endpoint(describeByClass = true)
   public static TensorListPushBackBatch create(Scope scope, Operand<?> inputHandles, Operand<? extends TType> tensor) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListPushBackBatch", scope.makeOpName("TensorListPushBackBatch"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListPushBackBatch"));
     opBuilder.addInput(inputHandles.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -64,6 +65,9 @@ public final class TensorListPushBackBatch extends RawOp implements Operand<TTyp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListPushBackBatch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> outputHandles;
   
   private TensorListPushBackBatch(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class TensorListScatterIntoExistingList extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static TensorListScatterIntoExistingList create(Scope scope, Operand<?> inputHandle, Operand<? extends TType> tensor, Operand<TInt32> indices) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorListScatterIntoExistingList", scope.makeOpName("TensorListScatterIntoExistingList"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorListScatterIntoExistingList"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder.addInput(indices.asOutput());
@@ -76,6 +77,9 @@ public final class TensorListScatterIntoExistingList extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorListScatterIntoExistingList";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> outputHandle;
   
   private TensorListScatterIntoExistingList(Operation operation) {
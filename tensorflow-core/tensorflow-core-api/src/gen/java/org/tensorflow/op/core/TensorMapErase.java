@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -49,7 +50,7 @@ public final class TensorMapErase extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> TensorMapErase create(Scope scope, Operand<?> inputHandle, Operand<? extends TType> key, Class<U> valueDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorMapErase", scope.makeOpName("TensorMapErase"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorMapErase"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(key.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -72,6 +73,9 @@ public final class TensorMapErase extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorMapErase";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "value_dtype");
+  
   private Output<?> outputHandle;
   
   private TensorMapErase(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -51,7 +52,7 @@ public final class TensorMapLookup<U extends TType> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> TensorMapLookup<U> create(Scope scope, Operand<?> inputHandle, Operand<? extends TType> key, Class<U> valueDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorMapLookup", scope.makeOpName("TensorMapLookup"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorMapLookup"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder.addInput(key.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -73,6 +74,9 @@ public final class TensorMapLookup<U extends TType> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorMapLookup";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "value_dtype");
+  
   private Output<U> value;
   
   private TensorMapLookup(Operation operation) {
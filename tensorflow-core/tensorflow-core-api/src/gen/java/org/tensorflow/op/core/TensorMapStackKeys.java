@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -49,7 +50,7 @@ public final class TensorMapStackKeys<T extends TType> extends RawOp implements
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TensorMapStackKeys<T> create(Scope scope, Operand<?> inputHandle, Class<T> keyDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TensorMapStackKeys", scope.makeOpName("TensorMapStackKeys"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TensorMapStackKeys"));
     opBuilder.addInput(inputHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("key_dtype", Operands.toDataType(keyDtype));
@@ -70,6 +71,9 @@ public final class TensorMapStackKeys<T extends TType> extends RawOp implements
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TensorMapStackKeys";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "key_dtype");
+  
   private Output<T> keys;
   
   private TensorMapStackKeys(Operation operation) {
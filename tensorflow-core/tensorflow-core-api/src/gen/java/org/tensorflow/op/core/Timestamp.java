@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -46,7 +47,7 @@ public final class Timestamp extends RawOp implements Operand<TFloat64> {
    */
   @Endpoint(describeByClass = true)
   public static Timestamp create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Timestamp", scope.makeOpName("Timestamp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Timestamp"));
     opBuilder = scope.apply(opBuilder);
     return new Timestamp(opBuilder.build());
   }
@@ -65,6 +66,9 @@ public final class Timestamp extends RawOp implements Operand<TFloat64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Timestamp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TFloat64> ts;
   
   private Timestamp(Operation operation) {
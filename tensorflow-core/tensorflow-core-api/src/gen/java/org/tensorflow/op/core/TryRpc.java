@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -140,7 +141,7 @@ public final class TryRpc extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static TryRpc create(Scope scope, Operand<TString> address, Operand<TString> method, Operand<TString> request, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TryRpc", scope.makeOpName("TryRpc"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TryRpc"));
     opBuilder.addInput(address.asOutput());
     opBuilder.addInput(method.asOutput());
     opBuilder.addInput(request.asOutput());
@@ -212,6 +213,9 @@ public final class TryRpc extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TryRpc";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "protocol", "fail_fast", "timeout_in_ms");
+  
   private Output<TString> response;
   private Output<TInt32> statusCode;
   private Output<TString> statusMessage;
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -91,7 +92,7 @@ public final class Unique<T extends TType, V extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, V extends TNumber> Unique<T, V> create(Scope scope, Operand<T> x, Operand<? extends TNumber> axis, Class<V> outIdx) {
-    OperationBuilder opBuilder = scope.env().opBuilder("UniqueV2", scope.makeOpName("Unique"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Unique"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -131,6 +132,9 @@ public final class Unique<T extends TType, V extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "UniqueV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "out_idx");
+  
   private Output<T> y;
   private Output<V> idx;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -95,7 +96,7 @@ public final class UniqueWithCounts<T extends TType, V extends TNumber> extends
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, V extends TNumber> UniqueWithCounts<T, V> create(Scope scope, Operand<T> x, Operand<? extends TNumber> axis, Class<V> outIdx) {
-    OperationBuilder opBuilder = scope.env().opBuilder("UniqueWithCountsV2", scope.makeOpName("UniqueWithCounts"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("UniqueWithCounts"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(axis.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -142,6 +143,9 @@ public final class UniqueWithCounts<T extends TType, V extends TNumber> extends
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "UniqueWithCountsV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "out_idx");
+  
   private Output<T> y;
   private Output<V> idx;
   private Output<V> count;
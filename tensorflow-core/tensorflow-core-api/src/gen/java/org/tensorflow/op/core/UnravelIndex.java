@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -66,7 +67,7 @@ public final class UnravelIndex<T extends TNumber> extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> UnravelIndex<T> create(Scope scope, Operand<T> indices, Operand<T> dims) {
-    OperationBuilder opBuilder = scope.env().opBuilder("UnravelIndex", scope.makeOpName("UnravelIndex"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("UnravelIndex"));
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(dims.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -89,6 +90,9 @@ public final class UnravelIndex<T extends TNumber> extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "UnravelIndex";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private UnravelIndex(Operation operation) {
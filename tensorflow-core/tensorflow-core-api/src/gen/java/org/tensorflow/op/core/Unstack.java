@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -82,7 +83,7 @@ public final class Unstack<T extends TType> extends RawOp implements Iterable<Op
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Unstack<T> create(Scope scope, Operand<T> value, Long num, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Unpack", scope.makeOpName("Unstack"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Unstack"));
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num", num);
@@ -120,6 +121,9 @@ public final class Unstack<T extends TType> extends RawOp implements Iterable<Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Unpack";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num", "axis");
+  
   private List<Output<T>> output;
   
   @SuppressWarnings("unchecked")
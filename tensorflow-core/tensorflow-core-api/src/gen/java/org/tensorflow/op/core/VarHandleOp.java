@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -86,7 +87,7 @@ public final class VarHandleOp extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> VarHandleOp create(Scope scope, Class<T> dtype, Shape shape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("VarHandleOp", scope.makeOpName("VarHandleOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("VarHandleOp"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
     opBuilder.setAttr("shape", shape);
@@ -147,6 +148,9 @@ public final class VarHandleOp extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "VarHandleOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "shape", "container", "shared_name", "allowed_devices");
+  
   private Output<?> resource;
   
   private VarHandleOp(Operation operation) {
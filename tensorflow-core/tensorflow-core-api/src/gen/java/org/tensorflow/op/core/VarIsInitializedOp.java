@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class VarIsInitializedOp extends RawOp implements Operand<TBool> {
    */
   @Endpoint(describeByClass = true)
   public static VarIsInitializedOp create(Scope scope, Operand<?> resource) {
-    OperationBuilder opBuilder = scope.env().opBuilder("VarIsInitializedOp", scope.makeOpName("VarIsInitializedOp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("VarIsInitializedOp"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new VarIsInitializedOp(opBuilder.build());
@@ -64,6 +65,9 @@ public final class VarIsInitializedOp extends RawOp implements Operand<TBool> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "VarIsInitializedOp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> isInitialized;
   
   private VarIsInitializedOp(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -82,7 +83,7 @@ public final class Variable<T extends TType> extends RawOp implements Operand<T>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Variable<T> create(Scope scope, Shape shape, Class<T> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("VariableV2", scope.makeOpName("Variable"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Variable"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shape", shape);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -130,6 +131,9 @@ public final class Variable<T extends TType> extends RawOp implements Operand<T>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "VariableV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shape", "dtype", "container", "shared_name");
+  
   private Output<T> ref;
   
   private Variable(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -103,7 +104,7 @@ public final class Where extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static Where create(Scope scope, Operand<? extends TType> condition) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Where", scope.makeOpName("Where"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Where"));
     opBuilder.addInput(condition.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new Where(opBuilder.build());
@@ -123,6 +124,9 @@ public final class Where extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Where";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> index;
   
   private Where(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -50,7 +51,7 @@ public final class XlaSpmdFullToShardShape<T extends TType> extends RawOp implem
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> XlaSpmdFullToShardShape<T> create(Scope scope, Operand<T> input, String manualSharding) {
-    OperationBuilder opBuilder = scope.env().opBuilder("XlaSpmdFullToShardShape", scope.makeOpName("XlaSpmdFullToShardShape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("XlaSpmdFullToShardShape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("manual_sharding", manualSharding);
@@ -71,6 +72,9 @@ public final class XlaSpmdFullToShardShape<T extends TType> extends RawOp implem
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "XlaSpmdFullToShardShape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "manual_sharding");
+  
   private Output<T> output;
   
   private XlaSpmdFullToShardShape(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.core;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.RawOp;
@@ -51,7 +52,7 @@ public final class XlaSpmdShardToFullShape<T extends TType> extends RawOp implem
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> XlaSpmdShardToFullShape<T> create(Scope scope, Operand<T> input, String manualSharding, Shape fullShape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("XlaSpmdShardToFullShape", scope.makeOpName("XlaSpmdShardToFullShape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("XlaSpmdShardToFullShape"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("manual_sharding", manualSharding);
@@ -73,6 +74,9 @@ public final class XlaSpmdShardToFullShape<T extends TType> extends RawOp implem
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "XlaSpmdShardToFullShape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "manual_sharding", "full_shape");
+  
   private Output<T> output;
   
   private XlaSpmdShardToFullShape(Operation operation) {
@@ -19,6 +19,7 @@ package org.tensorflow.op.data;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -37,7 +38,7 @@ public final class AnonymousMemoryCache extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static AnonymousMemoryCache create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AnonymousMemoryCache", scope.makeOpName("AnonymousMemoryCache"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AnonymousMemoryCache"));
     opBuilder = scope.apply(opBuilder);
     return new AnonymousMemoryCache(opBuilder.build());
   }
@@ -57,6 +58,9 @@ public final class AnonymousMemoryCache extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AnonymousMemoryCache";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<?> handle;
   private Output<?> deleter;
   
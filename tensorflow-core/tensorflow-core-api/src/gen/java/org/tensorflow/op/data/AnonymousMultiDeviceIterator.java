@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import java.util.List;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -45,7 +46,7 @@ public final class AnonymousMultiDeviceIterator extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static AnonymousMultiDeviceIterator create(Scope scope, List<String> devices, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AnonymousMultiDeviceIterator", scope.makeOpName("AnonymousMultiDeviceIterator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AnonymousMultiDeviceIterator"));
     opBuilder = scope.apply(opBuilder);
     String[] devicesArray = new String[devices.size()];
     for (int i = 0; i < devicesArray.length; ++i) {
@@ -81,6 +82,9 @@ public final class AnonymousMultiDeviceIterator extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AnonymousMultiDeviceIterator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "devices", "output_types", "output_shapes");
+  
   private Output<?> handle;
   private Output<?> deleter;
   
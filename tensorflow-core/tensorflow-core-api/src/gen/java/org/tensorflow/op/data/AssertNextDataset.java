@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -59,7 +60,7 @@ public final class AssertNextDataset extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static AssertNextDataset create(Scope scope, Operand<?> inputDataset, Operand<TString> transformations, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AssertNextDataset", scope.makeOpName("AssertNextDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AssertNextDataset"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(transformations.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -87,6 +88,9 @@ public final class AssertNextDataset extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AssertNextDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private AssertNextDataset(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -86,7 +87,7 @@ public final class AutoShardDataset extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static AutoShardDataset create(Scope scope, Operand<?> inputDataset, Operand<TInt64> numWorkers, Operand<TInt64> index, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AutoShardDataset", scope.makeOpName("AutoShardDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AutoShardDataset"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(numWorkers.asOutput());
     opBuilder.addInput(index.asOutput());
@@ -139,6 +140,9 @@ public final class AutoShardDataset extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AutoShardDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes", "auto_shard_policy", "num_replicas");
+  
   private Output<?> handle;
   
   private AutoShardDataset(Operation operation) {
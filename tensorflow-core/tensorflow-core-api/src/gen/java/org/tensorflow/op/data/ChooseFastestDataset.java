@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -46,7 +47,7 @@ public final class ChooseFastestDataset extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static ChooseFastestDataset create(Scope scope, Iterable<Operand<?>> inputDatasets, Long numExperiments, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ChooseFastestDataset", scope.makeOpName("ChooseFastestDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ChooseFastestDataset"));
     opBuilder.addInputList(Operands.asOutputs(inputDatasets));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_experiments", numExperiments);
@@ -74,6 +75,9 @@ public final class ChooseFastestDataset extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ChooseFastestDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "num_experiments", "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private ChooseFastestDataset(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -48,7 +49,7 @@ public final class ConcatenateDataset extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static ConcatenateDataset create(Scope scope, Operand<?> inputDataset, Operand<?> anotherDataset, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ConcatenateDataset", scope.makeOpName("ConcatenateDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ConcatenateDataset"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(anotherDataset.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -76,6 +77,9 @@ public final class ConcatenateDataset extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ConcatenateDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private ConcatenateDataset(Operation operation) {
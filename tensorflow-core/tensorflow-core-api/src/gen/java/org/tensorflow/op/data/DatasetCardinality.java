@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class DatasetCardinality extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static DatasetCardinality create(Scope scope, Operand<?> inputDataset) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DatasetCardinality", scope.makeOpName("DatasetCardinality"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DatasetCardinality"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DatasetCardinality(opBuilder.build());
@@ -65,6 +66,9 @@ public final class DatasetCardinality extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DatasetCardinality";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> cardinality;
   
   private DatasetCardinality(Operation operation) {
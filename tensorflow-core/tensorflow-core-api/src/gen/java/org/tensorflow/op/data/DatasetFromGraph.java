@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class DatasetFromGraph extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static DatasetFromGraph create(Scope scope, Operand<TString> graphDef) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DatasetFromGraph", scope.makeOpName("DatasetFromGraph"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DatasetFromGraph"));
     opBuilder.addInput(graphDef.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DatasetFromGraph(opBuilder.build());
@@ -66,6 +67,9 @@ public final class DatasetFromGraph extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DatasetFromGraph";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private DatasetFromGraph(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -72,7 +73,7 @@ public final class DatasetToGraph extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static DatasetToGraph create(Scope scope, Operand<?> inputDataset, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DatasetToGraphV2", scope.makeOpName("DatasetToGraph"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DatasetToGraph"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -117,6 +118,9 @@ public final class DatasetToGraph extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DatasetToGraphV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "external_state_policy", "strip_device_assignment");
+  
   private Output<TString> graph;
   
   private DatasetToGraph(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -48,7 +49,7 @@ public final class DatasetToSingleElement extends RawOp implements Iterable<Oper
    */
   @Endpoint(describeByClass = true)
   public static DatasetToSingleElement create(Scope scope, Operand<?> dataset, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DatasetToSingleElement", scope.makeOpName("DatasetToSingleElement"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DatasetToSingleElement"));
     opBuilder.addInput(dataset.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_types", Operands.toDataTypes(outputTypes));
@@ -76,6 +77,9 @@ public final class DatasetToSingleElement extends RawOp implements Iterable<Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DatasetToSingleElement";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "output_types", "output_shapes");
+  
   private List<Output<?>> components;
   
   private DatasetToSingleElement(Operation operation) {
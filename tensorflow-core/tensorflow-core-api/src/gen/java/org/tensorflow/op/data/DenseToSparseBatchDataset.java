@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -52,7 +53,7 @@ public final class DenseToSparseBatchDataset extends RawOp implements Operand<TT
    */
   @Endpoint(describeByClass = true)
   public static DenseToSparseBatchDataset create(Scope scope, Operand<?> inputDataset, Operand<TInt64> batchSize, Operand<TInt64> rowShape, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DenseToSparseBatchDataset", scope.makeOpName("DenseToSparseBatchDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DenseToSparseBatchDataset"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(batchSize.asOutput());
     opBuilder.addInput(rowShape.asOutput());
@@ -81,6 +82,9 @@ public final class DenseToSparseBatchDataset extends RawOp implements Operand<TT
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DenseToSparseBatchDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private DenseToSparseBatchDataset(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class FixedLengthRecordDataset extends RawOp implements Operand<TTy
    */
   @Endpoint(describeByClass = true)
   public static FixedLengthRecordDataset create(Scope scope, Operand<TString> filenames, Operand<TInt64> headerBytes, Operand<TInt64> recordBytes, Operand<TInt64> footerBytes, Operand<TInt64> bufferSize, Operand<TString> compressionType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FixedLengthRecordDatasetV2", scope.makeOpName("FixedLengthRecordDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FixedLengthRecordDataset"));
     opBuilder.addInput(filenames.asOutput());
     opBuilder.addInput(headerBytes.asOutput());
     opBuilder.addInput(recordBytes.asOutput());
@@ -73,6 +74,9 @@ public final class FixedLengthRecordDataset extends RawOp implements Operand<TTy
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FixedLengthRecordDatasetV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private FixedLengthRecordDataset(Operation operation) {
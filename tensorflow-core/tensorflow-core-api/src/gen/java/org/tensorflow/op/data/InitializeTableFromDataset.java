@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -39,7 +40,7 @@ public final class InitializeTableFromDataset extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static InitializeTableFromDataset create(Scope scope, Operand<?> tableHandle, Operand<?> dataset) {
-    OperationBuilder opBuilder = scope.env().opBuilder("InitializeTableFromDataset", scope.makeOpName("InitializeTableFromDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("InitializeTableFromDataset"));
     opBuilder.addInput(tableHandle.asOutput());
     opBuilder.addInput(dataset.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -49,6 +50,9 @@ public final class InitializeTableFromDataset extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "InitializeTableFromDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private InitializeTableFromDataset(Operation operation) {
     super(operation);
   }
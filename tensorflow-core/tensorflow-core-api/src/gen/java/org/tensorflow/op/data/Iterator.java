@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -47,7 +48,7 @@ public final class Iterator extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static Iterator create(Scope scope, String sharedName, String container, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IteratorV2", scope.makeOpName("Iterator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Iterator"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("shared_name", sharedName);
     opBuilder.setAttr("container", container);
@@ -75,6 +76,9 @@ public final class Iterator extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IteratorV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "shared_name", "container", "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private Iterator(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -65,7 +66,7 @@ public final class IteratorFromStringHandle extends RawOp implements Operand<TTy
    */
   @Endpoint(describeByClass = true)
   public static IteratorFromStringHandle create(Scope scope, Operand<TString> stringHandle, List<Class<? extends TType>> outputTypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IteratorFromStringHandleV2", scope.makeOpName("IteratorFromStringHandle"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IteratorFromStringHandle"));
     opBuilder.addInput(stringHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_types", Operands.toDataTypes(outputTypes));
@@ -105,6 +106,9 @@ public final class IteratorFromStringHandle extends RawOp implements Operand<TTy
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IteratorFromStringHandleV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes");
+  
   private Output<?> resourceHandle;
   
   private IteratorFromStringHandle(Operation operation) {
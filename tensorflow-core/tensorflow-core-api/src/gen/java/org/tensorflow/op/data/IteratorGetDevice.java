@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -41,7 +42,7 @@ public final class IteratorGetDevice extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static IteratorGetDevice create(Scope scope, Operand<?> resource) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IteratorGetDevice", scope.makeOpName("IteratorGetDevice"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IteratorGetDevice"));
     opBuilder.addInput(resource.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new IteratorGetDevice(opBuilder.build());
@@ -61,6 +62,9 @@ public final class IteratorGetDevice extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IteratorGetDevice";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> device;
   
   private IteratorGetDevice(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -47,7 +48,7 @@ public final class IteratorGetNextAsOptional extends RawOp implements Operand<TT
    */
   @Endpoint(describeByClass = true)
   public static IteratorGetNextAsOptional create(Scope scope, Operand<?> iterator, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IteratorGetNextAsOptional", scope.makeOpName("IteratorGetNextAsOptional"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IteratorGetNextAsOptional"));
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_types", Operands.toDataTypes(outputTypes));
@@ -74,6 +75,9 @@ public final class IteratorGetNextAsOptional extends RawOp implements Operand<TT
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IteratorGetNextAsOptional";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes");
+  
   private Output<?> optional;
   
   private IteratorGetNextAsOptional(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -54,7 +55,7 @@ public final class IteratorGetNextSync extends RawOp implements Iterable<Operand
    */
   @Endpoint(describeByClass = true)
   public static IteratorGetNextSync create(Scope scope, Operand<?> iterator, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IteratorGetNextSync", scope.makeOpName("IteratorGetNextSync"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IteratorGetNextSync"));
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_types", Operands.toDataTypes(outputTypes));
@@ -81,6 +82,9 @@ public final class IteratorGetNextSync extends RawOp implements Iterable<Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IteratorGetNextSync";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "output_types", "output_shapes");
+  
   private List<Output<?>> components;
   
   private IteratorGetNextSync(Operation operation) {
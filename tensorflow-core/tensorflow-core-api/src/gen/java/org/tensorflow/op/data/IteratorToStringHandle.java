@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class IteratorToStringHandle extends RawOp implements Operand<TStri
    */
   @Endpoint(describeByClass = true)
   public static IteratorToStringHandle create(Scope scope, Operand<?> resourceHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IteratorToStringHandle", scope.makeOpName("IteratorToStringHandle"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IteratorToStringHandle"));
     opBuilder.addInput(resourceHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new IteratorToStringHandle(opBuilder.build());
@@ -63,6 +64,9 @@ public final class IteratorToStringHandle extends RawOp implements Operand<TStri
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IteratorToStringHandle";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> stringHandle;
   
   private IteratorToStringHandle(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -44,7 +45,7 @@ public final class MakeIterator extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static MakeIterator create(Scope scope, Operand<?> dataset, Operand<?> iterator) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MakeIterator", scope.makeOpName("MakeIterator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MakeIterator"));
     opBuilder.addInput(dataset.asOutput());
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -54,6 +55,9 @@ public final class MakeIterator extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MakeIterator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private MakeIterator(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -41,7 +42,7 @@ public final class MatchingFilesDataset extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static MatchingFilesDataset create(Scope scope, Operand<TString> patterns) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MatchingFilesDataset", scope.makeOpName("MatchingFilesDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MatchingFilesDataset"));
     opBuilder.addInput(patterns.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new MatchingFilesDataset(opBuilder.build());
@@ -62,6 +63,9 @@ public final class MatchingFilesDataset extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MatchingFilesDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private MatchingFilesDataset(Operation operation) {
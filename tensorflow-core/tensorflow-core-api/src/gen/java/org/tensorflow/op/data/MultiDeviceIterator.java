@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -50,7 +51,7 @@ public final class MultiDeviceIterator extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static MultiDeviceIterator create(Scope scope, List<String> devices, String sharedName, String container, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MultiDeviceIterator", scope.makeOpName("MultiDeviceIterator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MultiDeviceIterator"));
     opBuilder = scope.apply(opBuilder);
     String[] devicesArray = new String[devices.size()];
     for (int i = 0; i < devicesArray.length; ++i) {
@@ -84,6 +85,9 @@ public final class MultiDeviceIterator extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MultiDeviceIterator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "devices", "shared_name", "container", "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private MultiDeviceIterator(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class MultiDeviceIteratorInit extends RawOp implements Operand<TInt
    */
   @Endpoint(describeByClass = true)
   public static MultiDeviceIteratorInit create(Scope scope, Operand<?> dataset, Operand<?> multiDeviceIterator, Operand<TInt64> maxBufferSize) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MultiDeviceIteratorInit", scope.makeOpName("MultiDeviceIteratorInit"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MultiDeviceIteratorInit"));
     opBuilder.addInput(dataset.asOutput());
     opBuilder.addInput(multiDeviceIterator.asOutput());
     opBuilder.addInput(maxBufferSize.asOutput());
@@ -67,6 +68,9 @@ public final class MultiDeviceIteratorInit extends RawOp implements Operand<TInt
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MultiDeviceIteratorInit";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> incarnationId;
   
   private MultiDeviceIteratorInit(Operation operation) {
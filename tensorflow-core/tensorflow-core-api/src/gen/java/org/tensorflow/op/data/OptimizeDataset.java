@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -70,7 +71,7 @@ public final class OptimizeDataset extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static OptimizeDataset create(Scope scope, Operand<?> inputDataset, Operand<TString> optimizations, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OptimizeDataset", scope.makeOpName("OptimizeDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OptimizeDataset"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(optimizations.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -116,6 +117,9 @@ public final class OptimizeDataset extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OptimizeDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes", "optimization_configs");
+  
   private Output<?> handle;
   
   private OptimizeDataset(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -72,7 +73,7 @@ public final class OptimizeDatasetV2 extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static OptimizeDatasetV2 create(Scope scope, Operand<?> inputDataset, Operand<TString> optimizationsEnabled, Operand<TString> optimizationsDisabled, Operand<TString> optimizationsDefault, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OptimizeDatasetV2", scope.makeOpName("OptimizeDatasetV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OptimizeDatasetV2"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(optimizationsEnabled.asOutput());
     opBuilder.addInput(optimizationsDisabled.asOutput());
@@ -120,6 +121,9 @@ public final class OptimizeDatasetV2 extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OptimizeDatasetV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes", "optimization_configs");
+  
   private Output<?> handle;
   
   private OptimizeDatasetV2(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -43,7 +44,7 @@ public final class OptionalFromValue extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static OptionalFromValue create(Scope scope, Iterable<Operand<?>> components) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OptionalFromValue", scope.makeOpName("OptionalFromValue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OptionalFromValue"));
     opBuilder.addInputList(Operands.asOutputs(components));
     opBuilder = scope.apply(opBuilder);
     return new OptionalFromValue(opBuilder.build());
@@ -64,6 +65,9 @@ public final class OptionalFromValue extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OptionalFromValue";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> optional;
   
   private OptionalFromValue(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -49,7 +50,7 @@ public final class OptionalGetValue extends RawOp implements Iterable<Operand<TT
    */
   @Endpoint(describeByClass = true)
   public static OptionalGetValue create(Scope scope, Operand<?> optional, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OptionalGetValue", scope.makeOpName("OptionalGetValue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OptionalGetValue"));
     opBuilder.addInput(optional.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_types", Operands.toDataTypes(outputTypes));
@@ -76,6 +77,9 @@ public final class OptionalGetValue extends RawOp implements Iterable<Operand<TT
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OptionalGetValue";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "output_types", "output_shapes");
+  
   private List<Output<?>> components;
   
   private OptionalGetValue(Operation operation) {
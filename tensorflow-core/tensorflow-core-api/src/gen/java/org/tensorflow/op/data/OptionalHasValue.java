@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class OptionalHasValue extends RawOp implements Operand<TBool> {
    */
   @Endpoint(describeByClass = true)
   public static OptionalHasValue create(Scope scope, Operand<?> optional) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OptionalHasValue", scope.makeOpName("OptionalHasValue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OptionalHasValue"));
     opBuilder.addInput(optional.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new OptionalHasValue(opBuilder.build());
@@ -62,6 +63,9 @@ public final class OptionalHasValue extends RawOp implements Operand<TBool> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OptionalHasValue";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> hasValue;
   
   private OptionalHasValue(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -54,7 +55,7 @@ public final class RebatchDatasetV2 extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static RebatchDatasetV2 create(Scope scope, Operand<?> inputDataset, Operand<TInt64> batchSizes, Operand<TBool> dropRemainder, List<Class<? extends TType>> outputTypes, List<Shape> outputShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RebatchDatasetV2", scope.makeOpName("RebatchDatasetV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RebatchDatasetV2"));
     opBuilder.addInput(inputDataset.asOutput());
     opBuilder.addInput(batchSizes.asOutput());
     opBuilder.addInput(dropRemainder.asOutput());
@@ -83,6 +84,9 @@ public final class RebatchDatasetV2 extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RebatchDatasetV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_types", "output_shapes");
+  
   private Output<?> handle;
   
   private RebatchDatasetV2(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class RegisterDataset extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static RegisterDataset create(Scope scope, Operand<?> dataset, Operand<TString> address, Operand<TString> protocol, Long externalStatePolicy) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RegisterDataset", scope.makeOpName("RegisterDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RegisterDataset"));
     opBuilder.addInput(dataset.asOutput());
     opBuilder.addInput(address.asOutput());
     opBuilder.addInput(protocol.asOutput());
@@ -68,6 +69,9 @@ public final class RegisterDataset extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RegisterDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "external_state_policy");
+  
   private Output<TInt64> datasetId;
   
   private RegisterDataset(Operation operation) {
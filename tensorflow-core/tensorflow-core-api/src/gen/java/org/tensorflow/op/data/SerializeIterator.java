@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -62,7 +63,7 @@ public final class SerializeIterator extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static SerializeIterator create(Scope scope, Operand<?> resourceHandle, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SerializeIterator", scope.makeOpName("SerializeIterator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SerializeIterator"));
     opBuilder.addInput(resourceHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -99,6 +100,9 @@ public final class SerializeIterator extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SerializeIterator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "external_state_policy");
+  
   private Output<?> serialized;
   
   private SerializeIterator(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class SparseTensorSliceDataset extends RawOp implements Operand<TTy
    */
   @Endpoint(describeByClass = true)
   public static SparseTensorSliceDataset create(Scope scope, Operand<TInt64> indices, Operand<? extends TType> values, Operand<TInt64> denseShape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseTensorSliceDataset", scope.makeOpName("SparseTensorSliceDataset"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseTensorSliceDataset"));
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(denseShape.asOutput());
@@ -67,6 +68,9 @@ public final class SparseTensorSliceDataset extends RawOp implements Operand<TTy
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseTensorSliceDataset";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private SparseTensorSliceDataset(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -69,7 +70,7 @@ public final class StatsAggregatorHandle extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static StatsAggregatorHandle create(Scope scope, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatsAggregatorHandle", scope.makeOpName("StatsAggregatorHandle"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatsAggregatorHandle"));
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
       for (Options opts : options) {
@@ -113,6 +114,9 @@ public final class StatsAggregatorHandle extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatsAggregatorHandle";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "container", "shared_name");
+  
   private Output<?> handle;
   
   private StatsAggregatorHandle(Operation operation) {
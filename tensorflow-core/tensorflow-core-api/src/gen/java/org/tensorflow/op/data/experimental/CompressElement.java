@@ -20,6 +20,7 @@ package org.tensorflow.op.data.experimental;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -42,7 +43,7 @@ public final class CompressElement extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static CompressElement create(Scope scope, Iterable<Operand<?>> components) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CompressElement", scope.makeOpName("CompressElement"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CompressElement"));
     opBuilder.addInputList(Operands.asOutputs(components));
     opBuilder = scope.apply(opBuilder);
     return new CompressElement(opBuilder.build());
@@ -63,6 +64,9 @@ public final class CompressElement extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CompressElement";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> compressed;
   
   private CompressElement(Operation operation) {
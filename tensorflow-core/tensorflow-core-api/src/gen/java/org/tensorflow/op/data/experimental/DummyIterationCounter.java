@@ -20,6 +20,7 @@ package org.tensorflow.op.data.experimental;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -39,7 +40,7 @@ public final class DummyIterationCounter extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static DummyIterationCounter create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DummyIterationCounter", scope.makeOpName("DummyIterationCounter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DummyIterationCounter"));
     opBuilder = scope.apply(opBuilder);
     return new DummyIterationCounter(opBuilder.build());
   }
@@ -59,6 +60,9 @@ public final class DummyIterationCounter extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DummyIterationCounter";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> handle;
   
   private DummyIterationCounter(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.data.experimental;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -40,7 +41,7 @@ public final class StatsAggregatorSetSummaryWriter extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static StatsAggregatorSetSummaryWriter create(Scope scope, Operand<?> statsAggregator, Operand<?> summary) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatsAggregatorSetSummaryWriter", scope.makeOpName("StatsAggregatorSetSummaryWriter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatsAggregatorSetSummaryWriter"));
     opBuilder.addInput(statsAggregator.asOutput());
     opBuilder.addInput(summary.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -50,6 +51,9 @@ public final class StatsAggregatorSetSummaryWriter extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatsAggregatorSetSummaryWriter";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private StatsAggregatorSetSummaryWriter(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.data.experimental;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -41,7 +42,7 @@ public final class StatsAggregatorSummary extends RawOp implements Operand<TStri
    */
   @Endpoint(describeByClass = true)
   public static StatsAggregatorSummary create(Scope scope, Operand<?> iterator) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalStatsAggregatorSummary", scope.makeOpName("StatsAggregatorSummary"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatsAggregatorSummary"));
     opBuilder.addInput(iterator.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new StatsAggregatorSummary(opBuilder.build());
@@ -61,6 +62,9 @@ public final class StatsAggregatorSummary extends RawOp implements Operand<TStri
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ExperimentalStatsAggregatorSummary";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> summary;
   
   private StatsAggregatorSummary(Operation operation) {
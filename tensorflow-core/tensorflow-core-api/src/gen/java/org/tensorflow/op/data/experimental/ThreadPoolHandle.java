@@ -20,6 +20,7 @@ package org.tensorflow.op.data.experimental;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -83,7 +84,7 @@ public final class ThreadPoolHandle extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static ThreadPoolHandle create(Scope scope, Long numThreads, String displayName, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ExperimentalThreadPoolHandle", scope.makeOpName("ThreadPoolHandle"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ThreadPoolHandle"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_threads", numThreads);
     opBuilder.setAttr("display_name", displayName);
@@ -142,6 +143,9 @@ public final class ThreadPoolHandle extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ExperimentalThreadPoolHandle";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "num_threads", "display_name", "max_intra_op_parallelism", "container", "shared_name");
+  
   private Output<?> handle;
   
   private ThreadPoolHandle(Operation operation) {
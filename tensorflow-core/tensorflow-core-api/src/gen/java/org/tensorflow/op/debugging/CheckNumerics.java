@@ -20,6 +20,7 @@ package org.tensorflow.op.debugging;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class CheckNumerics<T extends TNumber> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> CheckNumerics<T> create(Scope scope, Operand<T> tensor, String message) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CheckNumericsV2", scope.makeOpName("CheckNumerics"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CheckNumerics"));
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("message", message);
@@ -70,6 +71,9 @@ public final class CheckNumerics<T extends TNumber> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CheckNumericsV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "message");
+  
   private Output<T> output;
   
   private CheckNumerics(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.debugging;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class DebugGradientIdentity<T extends TType> extends RawOp implemen
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> DebugGradientIdentity<T> create(Scope scope, Operand<T> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DebugGradientIdentity", scope.makeOpName("DebugGradientIdentity"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DebugGradientIdentity"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DebugGradientIdentity<T>(opBuilder.build());
@@ -67,6 +68,9 @@ public final class DebugGradientIdentity<T extends TType> extends RawOp implemen
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DebugGradientIdentity";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private DebugGradientIdentity(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.debugging;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class DebugGradientRefIdentity<T extends TType> extends RawOp imple
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> DebugGradientRefIdentity<T> create(Scope scope, Operand<T> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DebugGradientRefIdentity", scope.makeOpName("DebugGradientRefIdentity"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DebugGradientRefIdentity"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DebugGradientRefIdentity<T>(opBuilder.build());
@@ -67,6 +68,9 @@ public final class DebugGradientRefIdentity<T extends TType> extends RawOp imple
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DebugGradientRefIdentity";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private DebugGradientRefIdentity(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -98,7 +99,7 @@ public final class DebugNanCount extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static DebugNanCount create(Scope scope, Operand<? extends TType> input, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DebugNanCount", scope.makeOpName("DebugNanCount"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DebugNanCount"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -172,6 +173,9 @@ public final class DebugNanCount extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DebugNanCount";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "device_name", "tensor_name", "debug_urls", "gated_grpc");
+  
   private Output<TInt64> output;
   
   private DebugNanCount(Operation operation) {
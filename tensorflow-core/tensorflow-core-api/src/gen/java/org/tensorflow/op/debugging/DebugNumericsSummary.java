@@ -20,6 +20,7 @@ package org.tensorflow.op.debugging;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -133,7 +134,7 @@ public final class DebugNumericsSummary<U extends TNumber> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> DebugNumericsSummary<U> create(Scope scope, Operand<? extends TType> input, Class<U> outputDtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DebugNumericSummaryV2", scope.makeOpName("DebugNumericsSummary"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DebugNumericsSummary"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_dtype", Operands.toDataType(outputDtype));
@@ -244,6 +245,9 @@ public final class DebugNumericsSummary<U extends TNumber> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DebugNumericSummaryV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_dtype", "tensor_debug_mode", "tensor_id");
+  
   private Output<U> output;
   
   private DebugNumericsSummary(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.dtypes;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -117,7 +118,7 @@ public final class AsString extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static AsString create(Scope scope, Operand<? extends TType> input, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AsString", scope.makeOpName("AsString"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AsString"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -196,6 +197,9 @@ public final class AsString extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AsString";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "precision", "scientific", "shortest", "width", "fill");
+  
   private Output<TString> output;
   
   private AsString(Operation operation) {
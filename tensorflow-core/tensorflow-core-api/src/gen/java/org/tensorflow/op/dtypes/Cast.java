@@ -20,6 +20,7 @@ package org.tensorflow.op.dtypes;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -66,7 +67,7 @@ public final class Cast<U extends TType> extends RawOp implements Operand<U> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> Cast<U> create(Scope scope, Operand<? extends TType> x, Class<U> DstT, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Cast", scope.makeOpName("Cast"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Cast"));
     opBuilder.addInput(x.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("DstT", Operands.toDataType(DstT));
@@ -101,6 +102,9 @@ public final class Cast<U extends TType> extends RawOp implements Operand<U> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Cast";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "DstT", "Truncate");
+  
   private Output<U> y;
   
   private Cast(Operation operation) {
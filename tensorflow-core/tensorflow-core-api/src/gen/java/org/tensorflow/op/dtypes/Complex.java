@@ -20,6 +20,7 @@ package org.tensorflow.op.dtypes;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -63,7 +64,7 @@ public final class Complex<U extends TType> extends RawOp implements Operand<U>
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType, T extends TNumber> Complex<U> create(Scope scope, Operand<T> real, Operand<T> imag, Class<U> Tout) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Complex", scope.makeOpName("Complex"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Complex"));
     opBuilder.addInput(real.asOutput());
     opBuilder.addInput(imag.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -85,6 +86,9 @@ public final class Complex<U extends TType> extends RawOp implements Operand<U>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Complex";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Tout");
+  
   private Output<U> out;
   
   private Complex(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -51,7 +52,7 @@ public final class BoostedTreesBucketize extends RawOp implements Iterable<Opera
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesBucketize create(Scope scope, Iterable<Operand<TFloat32>> floatValues, Iterable<Operand<TFloat32>> bucketBoundaries) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesBucketize", scope.makeOpName("BoostedTreesBucketize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesBucketize"));
     opBuilder.addInputList(Operands.asOutputs(floatValues));
     opBuilder.addInputList(Operands.asOutputs(bucketBoundaries));
     opBuilder = scope.apply(opBuilder);
@@ -74,6 +75,9 @@ public final class BoostedTreesBucketize extends RawOp implements Iterable<Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesBucketize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS);
+  
   private List<Output<TInt32>> buckets;
   
   @SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -78,7 +79,7 @@ public final class BoostedTreesCalculateBestFeatureSplit extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesCalculateBestFeatureSplit create(Scope scope, Operand<TInt32> nodeIdRange, Operand<TFloat32> statsSummary, Operand<TFloat32> l1, Operand<TFloat32> l2, Operand<TFloat32> treeComplexity, Operand<TFloat32> minNodeWeight, Long logitsDimension, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesCalculateBestFeatureSplit", scope.makeOpName("BoostedTreesCalculateBestFeatureSplit"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesCalculateBestFeatureSplit"));
     opBuilder.addInput(nodeIdRange.asOutput());
     opBuilder.addInput(statsSummary.asOutput());
     opBuilder.addInput(l1.asOutput());
@@ -157,6 +158,9 @@ public final class BoostedTreesCalculateBestFeatureSplit extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesCalculateBestFeatureSplit";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 7, "logits_dimension", "split_type");
+  
   private Output<TInt32> nodeIds;
   private Output<TFloat32> gains;
   private Output<TInt32> featureDimensions;
@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -61,7 +62,7 @@ public final class BoostedTreesCalculateBestFeatureSplitV2 extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesCalculateBestFeatureSplitV2 create(Scope scope, Operand<TInt32> nodeIdRange, Iterable<Operand<TFloat32>> statsSummariesList, Operand<TString> splitTypes, Operand<TInt32> candidateFeatureIds, Operand<TFloat32> l1, Operand<TFloat32> l2, Operand<TFloat32> treeComplexity, Operand<TFloat32> minNodeWeight, Long logitsDimension) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesCalculateBestFeatureSplitV2", scope.makeOpName("BoostedTreesCalculateBestFeatureSplitV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesCalculateBestFeatureSplitV2"));
     opBuilder.addInput(nodeIdRange.asOutput());
     opBuilder.addInputList(Operands.asOutputs(statsSummariesList));
     opBuilder.addInput(splitTypes.asOutput());
@@ -135,6 +136,9 @@ public final class BoostedTreesCalculateBestFeatureSplitV2 extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesCalculateBestFeatureSplitV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 8, "logits_dimension");
+  
   private Output<TInt32> nodeIds;
   private Output<TFloat32> gains;
   private Output<TInt32> featureIds;
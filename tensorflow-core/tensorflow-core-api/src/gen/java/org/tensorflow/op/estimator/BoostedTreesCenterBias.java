@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -46,7 +47,7 @@ public final class BoostedTreesCenterBias extends RawOp implements Operand<TBool
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesCenterBias create(Scope scope, Operand<?> treeEnsembleHandle, Operand<TFloat32> meanGradients, Operand<TFloat32> meanHessians, Operand<TFloat32> l1, Operand<TFloat32> l2) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesCenterBias", scope.makeOpName("BoostedTreesCenterBias"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesCenterBias"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder.addInput(meanGradients.asOutput());
     opBuilder.addInput(meanHessians.asOutput());
@@ -71,6 +72,9 @@ public final class BoostedTreesCenterBias extends RawOp implements Operand<TBool
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesCenterBias";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> continueCentering;
   
   private BoostedTreesCenterBias(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -63,7 +64,7 @@ public final class BoostedTreesCreateQuantileStreamResource extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesCreateQuantileStreamResource create(Scope scope, Operand<?> quantileStreamResourceHandle, Operand<TFloat32> epsilon, Operand<TInt64> numStreams, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesCreateQuantileStreamResource", scope.makeOpName("BoostedTreesCreateQuantileStreamResource"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesCreateQuantileStreamResource"));
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder.addInput(epsilon.asOutput());
     opBuilder.addInput(numStreams.asOutput());
@@ -88,6 +89,9 @@ public final class BoostedTreesCreateQuantileStreamResource extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesCreateQuantileStreamResource";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "max_elements");
+  
   private BoostedTreesCreateQuantileStreamResource(Operation operation) {
     super(operation);
   }
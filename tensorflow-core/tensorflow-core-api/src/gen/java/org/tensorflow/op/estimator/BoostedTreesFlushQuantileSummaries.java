@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class BoostedTreesFlushQuantileSummaries extends RawOp implements I
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesFlushQuantileSummaries create(Scope scope, Operand<?> quantileStreamResourceHandle, Long numFeatures) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesFlushQuantileSummaries", scope.makeOpName("BoostedTreesFlushQuantileSummaries"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesFlushQuantileSummaries"));
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_features", numFeatures);
@@ -71,6 +72,9 @@ public final class BoostedTreesFlushQuantileSummaries extends RawOp implements I
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesFlushQuantileSummaries";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_features");
+  
   private List<Output<TFloat32>> summaries;
   
   @SuppressWarnings("unchecked")
@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class BoostedTreesGetEnsembleStates extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesGetEnsembleStates create(Scope scope, Operand<?> treeEnsembleHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesGetEnsembleStates", scope.makeOpName("BoostedTreesGetEnsembleStates"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesGetEnsembleStates"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new BoostedTreesGetEnsembleStates(opBuilder.build());
@@ -87,6 +88,9 @@ public final class BoostedTreesGetEnsembleStates extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesGetEnsembleStates";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 5);
+  
   private Output<TInt64> stampToken;
   private Output<TInt32> numTrees;
   private Output<TInt32> numFinalizedTrees;
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -50,7 +51,7 @@ public final class BoostedTreesMakeQuantileSummaries extends RawOp implements It
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesMakeQuantileSummaries create(Scope scope, Iterable<Operand<TFloat32>> floatValues, Operand<TFloat32> exampleWeights, Operand<TFloat32> epsilon) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesMakeQuantileSummaries", scope.makeOpName("BoostedTreesMakeQuantileSummaries"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesMakeQuantileSummaries"));
     opBuilder.addInputList(Operands.asOutputs(floatValues));
     opBuilder.addInput(exampleWeights.asOutput());
     opBuilder.addInput(epsilon.asOutput());
@@ -75,6 +76,9 @@ public final class BoostedTreesMakeQuantileSummaries extends RawOp implements It
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesMakeQuantileSummaries";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS);
+  
   private List<Output<TFloat32>> summaries;
   
   @SuppressWarnings("unchecked")
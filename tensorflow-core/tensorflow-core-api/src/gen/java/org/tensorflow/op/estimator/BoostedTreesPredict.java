@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -50,7 +51,7 @@ public final class BoostedTreesPredict extends RawOp implements Operand<TFloat32
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesPredict create(Scope scope, Operand<?> treeEnsembleHandle, Iterable<Operand<TInt32>> bucketizedFeatures, Long logitsDimension) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesPredict", scope.makeOpName("BoostedTreesPredict"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesPredict"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder.addInputList(Operands.asOutputs(bucketizedFeatures));
     opBuilder = scope.apply(opBuilder);
@@ -73,6 +74,9 @@ public final class BoostedTreesPredict extends RawOp implements Operand<TFloat32
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesPredict";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "logits_dimension");
+  
   private Output<TFloat32> logits;
   
   private BoostedTreesPredict(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -46,7 +47,7 @@ public final class BoostedTreesQuantileStreamResourceAddSummaries extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesQuantileStreamResourceAddSummaries create(Scope scope, Operand<?> quantileStreamResourceHandle, Iterable<Operand<TFloat32>> summaries) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesQuantileStreamResourceAddSummaries", scope.makeOpName("BoostedTreesQuantileStreamResourceAddSummaries"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesQuantileStreamResourceAddSummaries"));
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder.addInputList(Operands.asOutputs(summaries));
     opBuilder = scope.apply(opBuilder);
@@ -56,6 +57,9 @@ public final class BoostedTreesQuantileStreamResourceAddSummaries extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesQuantileStreamResourceAddSummaries";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private BoostedTreesQuantileStreamResourceAddSummaries(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class BoostedTreesSerializeEnsemble extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesSerializeEnsemble create(Scope scope, Operand<?> treeEnsembleHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesSerializeEnsemble", scope.makeOpName("BoostedTreesSerializeEnsemble"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesSerializeEnsemble"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new BoostedTreesSerializeEnsemble(opBuilder.build());
@@ -65,6 +66,9 @@ public final class BoostedTreesSerializeEnsemble extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesSerializeEnsemble";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<TInt64> stampToken;
   private Output<TString> treeEnsembleSerialized;
   
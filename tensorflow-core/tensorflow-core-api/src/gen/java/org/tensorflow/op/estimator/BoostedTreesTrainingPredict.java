@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -55,7 +56,7 @@ public final class BoostedTreesTrainingPredict extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static BoostedTreesTrainingPredict create(Scope scope, Operand<?> treeEnsembleHandle, Operand<TInt32> cachedTreeIds, Operand<TInt32> cachedNodeIds, Iterable<Operand<TInt32>> bucketizedFeatures, Long logitsDimension) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BoostedTreesTrainingPredict", scope.makeOpName("BoostedTreesTrainingPredict"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BoostedTreesTrainingPredict"));
     opBuilder.addInput(treeEnsembleHandle.asOutput());
     opBuilder.addInput(cachedTreeIds.asOutput());
     opBuilder.addInput(cachedNodeIds.asOutput());
@@ -90,6 +91,9 @@ public final class BoostedTreesTrainingPredict extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BoostedTreesTrainingPredict";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "logits_dimension");
+  
   private Output<TFloat32> partialLogits;
   private Output<TInt32> treeIds;
   private Output<TInt32> nodeIds;
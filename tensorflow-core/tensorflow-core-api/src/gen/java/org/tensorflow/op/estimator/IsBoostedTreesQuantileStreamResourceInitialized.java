@@ -20,6 +20,7 @@ package org.tensorflow.op.estimator;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class IsBoostedTreesQuantileStreamResourceInitialized extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static IsBoostedTreesQuantileStreamResourceInitialized create(Scope scope, Operand<?> quantileStreamResourceHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IsBoostedTreesQuantileStreamResourceInitialized", scope.makeOpName("IsBoostedTreesQuantileStreamResourceInitialized"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IsBoostedTreesQuantileStreamResourceInitialized"));
     opBuilder.addInput(quantileStreamResourceHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new IsBoostedTreesQuantileStreamResourceInitialized(opBuilder.build());
@@ -64,6 +65,9 @@ public final class IsBoostedTreesQuantileStreamResourceInitialized extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IsBoostedTreesQuantileStreamResourceInitialized";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> isInitialized;
   
   private IsBoostedTreesQuantileStreamResourceInitialized(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -103,7 +104,7 @@ public final class CombinedNonMaxSuppression extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static CombinedNonMaxSuppression create(Scope scope, Operand<TFloat32> boxes, Operand<TFloat32> scores, Operand<TInt32> maxOutputSizePerClass, Operand<TInt32> maxTotalSize, Operand<TFloat32> iouThreshold, Operand<TFloat32> scoreThreshold, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CombinedNonMaxSuppression", scope.makeOpName("CombinedNonMaxSuppression"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CombinedNonMaxSuppression"));
     opBuilder.addInput(boxes.asOutput());
     opBuilder.addInput(scores.asOutput());
     opBuilder.addInput(maxOutputSizePerClass.asOutput());
@@ -181,6 +182,9 @@ public final class CombinedNonMaxSuppression extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CombinedNonMaxSuppression";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 4, "pad_per_class", "clip_boxes");
+  
   private Output<TFloat32> nmsedBoxes;
   private Output<TFloat32> nmsedScores;
   private Output<TFloat32> nmsedClasses;
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -108,7 +109,7 @@ public final class CropAndResize extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static CropAndResize create(Scope scope, Operand<? extends TNumber> image, Operand<TFloat32> boxes, Operand<TInt32> boxInd, Operand<TInt32> cropSize, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CropAndResize", scope.makeOpName("CropAndResize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CropAndResize"));
     opBuilder.addInput(image.asOutput());
     opBuilder.addInput(boxes.asOutput());
     opBuilder.addInput(boxInd.asOutput());
@@ -158,6 +159,9 @@ public final class CropAndResize extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CropAndResize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "method", "extrapolation_value");
+  
   private Output<TFloat32> crops;
   
   private CropAndResize(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -79,7 +80,7 @@ public final class CropAndResizeGradBoxes extends RawOp implements Operand<TFloa
    */
   @Endpoint(describeByClass = true)
   public static CropAndResizeGradBoxes create(Scope scope, Operand<TFloat32> grads, Operand<? extends TNumber> image, Operand<TFloat32> boxes, Operand<TInt32> boxInd, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CropAndResizeGradBoxes", scope.makeOpName("CropAndResizeGradBoxes"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CropAndResizeGradBoxes"));
     opBuilder.addInput(grads.asOutput());
     opBuilder.addInput(image.asOutput());
     opBuilder.addInput(boxes.asOutput());
@@ -118,6 +119,9 @@ public final class CropAndResizeGradBoxes extends RawOp implements Operand<TFloa
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CropAndResizeGradBoxes";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "method");
+  
   private Output<TFloat32> output;
   
   private CropAndResizeGradBoxes(Operation operation) {
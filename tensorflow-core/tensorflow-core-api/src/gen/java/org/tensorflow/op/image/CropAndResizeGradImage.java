@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -84,7 +85,7 @@ public final class CropAndResizeGradImage<T extends TNumber> extends RawOp imple
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> CropAndResizeGradImage<T> create(Scope scope, Operand<TFloat32> grads, Operand<TFloat32> boxes, Operand<TInt32> boxInd, Operand<TInt32> imageSize, Class<T> T, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CropAndResizeGradImage", scope.makeOpName("CropAndResizeGradImage"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CropAndResizeGradImage"));
     opBuilder.addInput(grads.asOutput());
     opBuilder.addInput(boxes.asOutput());
     opBuilder.addInput(boxInd.asOutput());
@@ -124,6 +125,9 @@ public final class CropAndResizeGradImage<T extends TNumber> extends RawOp imple
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CropAndResizeGradImage";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "T", "method");
+  
   private Output<T> output;
   
   private CropAndResizeGradImage(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -142,7 +143,7 @@ public final class DecodeAndCropJpeg extends RawOp implements Operand<TUint8> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeAndCropJpeg create(Scope scope, Operand<TString> contents, Operand<TInt32> cropWindow, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeAndCropJpeg", scope.makeOpName("DecodeAndCropJpeg"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeAndCropJpeg"));
     opBuilder.addInput(contents.asOutput());
     opBuilder.addInput(cropWindow.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -235,6 +236,9 @@ public final class DecodeAndCropJpeg extends RawOp implements Operand<TUint8> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeAndCropJpeg";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "channels", "ratio", "fancy_upscaling", "try_recover_truncated", "acceptable_fraction", "dct_method");
+  
   private Output<TUint8> image;
   
   private DecodeAndCropJpeg(Operation operation) {
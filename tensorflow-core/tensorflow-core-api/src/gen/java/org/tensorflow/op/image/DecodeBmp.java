@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -77,7 +78,7 @@ public final class DecodeBmp extends RawOp implements Operand<TUint8> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeBmp create(Scope scope, Operand<TString> contents, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeBmp", scope.makeOpName("DecodeBmp"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeBmp"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -112,6 +113,9 @@ public final class DecodeBmp extends RawOp implements Operand<TUint8> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeBmp";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "channels");
+  
   private Output<TUint8> image;
   
   private DecodeBmp(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -52,7 +53,7 @@ public final class DecodeGif extends RawOp implements Operand<TUint8> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeGif create(Scope scope, Operand<TString> contents) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeGif", scope.makeOpName("DecodeGif"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeGif"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DecodeGif(opBuilder.build());
@@ -73,6 +74,9 @@ public final class DecodeGif extends RawOp implements Operand<TUint8> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeGif";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TUint8> image;
   
   private DecodeGif(Operation operation) {
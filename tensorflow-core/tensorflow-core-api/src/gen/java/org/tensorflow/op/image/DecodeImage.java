@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -98,7 +99,7 @@ public final class DecodeImage<T extends TNumber> extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> DecodeImage<T> create(Scope scope, Operand<TString> contents, Class<T> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeImage", scope.makeOpName("DecodeImage"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeImage"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -161,6 +162,9 @@ public final class DecodeImage<T extends TNumber> extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeImage";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "channels", "expand_animations");
+  
   private Output<T> image;
   
   private DecodeImage(Operation operation) {
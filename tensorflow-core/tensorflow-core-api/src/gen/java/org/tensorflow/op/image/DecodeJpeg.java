@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -140,7 +141,7 @@ public final class DecodeJpeg extends RawOp implements Operand<TUint8> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeJpeg create(Scope scope, Operand<TString> contents, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeJpeg", scope.makeOpName("DecodeJpeg"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeJpeg"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -232,6 +233,9 @@ public final class DecodeJpeg extends RawOp implements Operand<TUint8> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeJpeg";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "channels", "ratio", "fancy_upscaling", "try_recover_truncated", "acceptable_fraction", "dct_method");
+  
   private Output<TUint8> image;
   
   private DecodeJpeg(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -162,7 +163,7 @@ public final class EncodeJpeg extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static EncodeJpeg create(Scope scope, Operand<TUint8> image, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EncodeJpeg", scope.makeOpName("EncodeJpeg"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EncodeJpeg"));
     opBuilder.addInput(image.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -278,6 +279,9 @@ public final class EncodeJpeg extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EncodeJpeg";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "format", "quality", "progressive", "optimize_size", "chroma_downsampling", "density_unit", "x_density", "y_density", "xmp_metadata");
+  
   private Output<TString> contents;
   
   private EncodeJpeg(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class EncodeJpegVariableQuality extends RawOp implements Operand<TS
    */
   @Endpoint(describeByClass = true)
   public static EncodeJpegVariableQuality create(Scope scope, Operand<TUint8> images, Operand<TInt32> quality) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EncodeJpegVariableQuality", scope.makeOpName("EncodeJpegVariableQuality"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EncodeJpegVariableQuality"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(quality.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -71,6 +72,9 @@ public final class EncodeJpegVariableQuality extends RawOp implements Operand<TS
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EncodeJpegVariableQuality";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> contents;
   
   private EncodeJpegVariableQuality(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -83,7 +84,7 @@ public final class EncodePng extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static EncodePng create(Scope scope, Operand<? extends TNumber> image, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EncodePng", scope.makeOpName("EncodePng"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EncodePng"));
     opBuilder.addInput(image.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -118,6 +119,9 @@ public final class EncodePng extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EncodePng";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "compression");
+  
   private Output<TString> contents;
   
   private EncodePng(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -127,7 +128,7 @@ public final class ExtractGlimpse extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static ExtractGlimpse create(Scope scope, Operand<TFloat32> input, Operand<TInt32> size, Operand<TFloat32> offsets, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ExtractGlimpseV2", scope.makeOpName("ExtractGlimpse"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ExtractGlimpse"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder.addInput(offsets.asOutput());
@@ -201,6 +202,9 @@ public final class ExtractGlimpse extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ExtractGlimpseV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "centered", "normalized", "uniform_noise", "noise");
+  
   private Output<TFloat32> glimpse;
   
   private ExtractGlimpse(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -51,7 +52,7 @@ public final class ExtractJpegShape<T extends TNumber> extends RawOp implements
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ExtractJpegShape<T> create(Scope scope, Operand<TString> contents, Class<T> outputType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ExtractJpegShape", scope.makeOpName("ExtractJpegShape"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ExtractJpegShape"));
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_type", Operands.toDataType(outputType));
@@ -85,6 +86,9 @@ public final class ExtractJpegShape<T extends TNumber> extends RawOp implements
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ExtractJpegShape";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_type");
+  
   private Output<T> imageShape;
   
   private ExtractJpegShape(Operation operation) {
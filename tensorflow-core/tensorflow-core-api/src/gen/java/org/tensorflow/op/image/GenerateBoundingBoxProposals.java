@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -81,7 +82,7 @@ public final class GenerateBoundingBoxProposals extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static GenerateBoundingBoxProposals create(Scope scope, Operand<TFloat32> scores, Operand<TFloat32> bboxDeltas, Operand<TFloat32> imageInfo, Operand<TFloat32> anchors, Operand<TFloat32> nmsThreshold, Operand<TInt32> preNmsTopn, Operand<TFloat32> minSize, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("GenerateBoundingBoxProposals", scope.makeOpName("GenerateBoundingBoxProposals"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("GenerateBoundingBoxProposals"));
     opBuilder.addInput(scores.asOutput());
     opBuilder.addInput(bboxDeltas.asOutput());
     opBuilder.addInput(imageInfo.asOutput());
@@ -126,6 +127,9 @@ public final class GenerateBoundingBoxProposals extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "GenerateBoundingBoxProposals";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "post_nms_topn");
+  
   private Output<TFloat32> rois;
   private Output<TFloat32> roiProbabilities;
   
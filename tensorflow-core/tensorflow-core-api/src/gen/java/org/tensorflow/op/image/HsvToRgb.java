@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -50,7 +51,7 @@ public final class HsvToRgb<T extends TNumber> extends RawOp implements Operand<
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> HsvToRgb<T> create(Scope scope, Operand<T> images) {
-    OperationBuilder opBuilder = scope.env().opBuilder("HSVToRGB", scope.makeOpName("HsvToRgb"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("HsvToRgb"));
     opBuilder.addInput(images.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new HsvToRgb<T>(opBuilder.build());
@@ -71,6 +72,9 @@ public final class HsvToRgb<T extends TNumber> extends RawOp implements Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "HSVToRGB";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private HsvToRgb(Operation operation) {
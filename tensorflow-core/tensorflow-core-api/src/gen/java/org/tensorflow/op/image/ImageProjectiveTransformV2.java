@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -76,7 +77,7 @@ public final class ImageProjectiveTransformV2<T extends TNumber> extends RawOp i
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ImageProjectiveTransformV2<T> create(Scope scope, Operand<T> images, Operand<TFloat32> transforms, Operand<TInt32> outputShape, String interpolation, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ImageProjectiveTransformV2", scope.makeOpName("ImageProjectiveTransformV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ImageProjectiveTransformV2"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(transforms.asOutput());
     opBuilder.addInput(outputShape.asOutput());
@@ -115,6 +116,9 @@ public final class ImageProjectiveTransformV2<T extends TNumber> extends RawOp i
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ImageProjectiveTransformV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "interpolation", "fill_mode");
+  
   private Output<T> transformedImages;
   
   private ImageProjectiveTransformV2(Operation operation) {
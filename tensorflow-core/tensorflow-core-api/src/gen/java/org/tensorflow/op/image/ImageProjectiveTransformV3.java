@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -77,7 +78,7 @@ public final class ImageProjectiveTransformV3<T extends TNumber> extends RawOp i
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ImageProjectiveTransformV3<T> create(Scope scope, Operand<T> images, Operand<TFloat32> transforms, Operand<TInt32> outputShape, Operand<TFloat32> fillValue, String interpolation, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ImageProjectiveTransformV3", scope.makeOpName("ImageProjectiveTransformV3"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ImageProjectiveTransformV3"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(transforms.asOutput());
     opBuilder.addInput(outputShape.asOutput());
@@ -117,6 +118,9 @@ public final class ImageProjectiveTransformV3<T extends TNumber> extends RawOp i
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ImageProjectiveTransformV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "interpolation", "fill_mode");
+  
   private Output<T> transformedImages;
   
   private ImageProjectiveTransformV3(Operation operation) {
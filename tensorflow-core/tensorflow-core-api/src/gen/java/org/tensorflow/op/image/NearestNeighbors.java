@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class NearestNeighbors extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static NearestNeighbors create(Scope scope, Operand<TFloat32> points, Operand<TFloat32> centers, Operand<TInt64> k) {
-    OperationBuilder opBuilder = scope.env().opBuilder("NearestNeighbors", scope.makeOpName("NearestNeighbors"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("NearestNeighbors"));
     opBuilder.addInput(points.asOutput());
     opBuilder.addInput(centers.asOutput());
     opBuilder.addInput(k.asOutput());
@@ -76,6 +77,9 @@ public final class NearestNeighbors extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "NearestNeighbors";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<TInt64> nearestCenterIndices;
   private Output<TFloat32> nearestCenterDistances;
   
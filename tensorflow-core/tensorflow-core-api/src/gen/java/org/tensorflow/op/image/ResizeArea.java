@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -79,7 +80,7 @@ public final class ResizeArea extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static ResizeArea create(Scope scope, Operand<? extends TNumber> images, Operand<TInt32> size, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResizeArea", scope.makeOpName("ResizeArea"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResizeArea"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -117,6 +118,9 @@ public final class ResizeArea extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResizeArea";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "align_corners");
+  
   private Output<TFloat32> resizedImages;
   
   private ResizeArea(Operation operation) {
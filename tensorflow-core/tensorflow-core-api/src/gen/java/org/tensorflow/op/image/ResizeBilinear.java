@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -78,7 +79,7 @@ public final class ResizeBilinear extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static ResizeBilinear create(Scope scope, Operand<? extends TNumber> images, Operand<TInt32> size, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResizeBilinear", scope.makeOpName("ResizeBilinear"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResizeBilinear"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -126,6 +127,9 @@ public final class ResizeBilinear extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResizeBilinear";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "align_corners", "half_pixel_centers");
+  
   private Output<TFloat32> resizedImages;
   
   private ResizeBilinear(Operation operation) {
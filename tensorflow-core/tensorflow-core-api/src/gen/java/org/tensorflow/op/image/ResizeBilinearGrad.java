@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -76,7 +77,7 @@ public final class ResizeBilinearGrad<T extends TNumber> extends RawOp implement
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ResizeBilinearGrad<T> create(Scope scope, Operand<TFloat32> grads, Operand<T> originalImage, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResizeBilinearGrad", scope.makeOpName("ResizeBilinearGrad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResizeBilinearGrad"));
     opBuilder.addInput(grads.asOutput());
     opBuilder.addInput(originalImage.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -125,6 +126,9 @@ public final class ResizeBilinearGrad<T extends TNumber> extends RawOp implement
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResizeBilinearGrad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "align_corners", "half_pixel_centers");
+  
   private Output<T> output;
   
   private ResizeBilinearGrad(Operation operation) {
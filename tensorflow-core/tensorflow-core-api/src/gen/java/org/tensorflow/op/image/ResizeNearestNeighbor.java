@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -77,7 +78,7 @@ public final class ResizeNearestNeighbor<T extends TNumber> extends RawOp implem
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> ResizeNearestNeighbor<T> create(Scope scope, Operand<T> images, Operand<TInt32> size, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResizeNearestNeighbor", scope.makeOpName("ResizeNearestNeighbor"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResizeNearestNeighbor"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -125,6 +126,9 @@ public final class ResizeNearestNeighbor<T extends TNumber> extends RawOp implem
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResizeNearestNeighbor";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "align_corners", "half_pixel_centers");
+  
   private Output<T> resizedImages;
   
   private ResizeNearestNeighbor(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.image;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -75,7 +76,7 @@ public final class ScaleAndTranslate extends RawOp implements Operand<TFloat32>
    */
   @Endpoint(describeByClass = true)
   public static ScaleAndTranslate create(Scope scope, Operand<? extends TNumber> images, Operand<TInt32> size, Operand<TFloat32> scale, Operand<TFloat32> translation, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ScaleAndTranslate", scope.makeOpName("ScaleAndTranslate"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ScaleAndTranslate"));
     opBuilder.addInput(images.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder.addInput(scale.asOutput());
@@ -122,6 +123,9 @@ public final class ScaleAndTranslate extends RawOp implements Operand<TFloat32>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ScaleAndTranslate";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "kernel_type", "antialias");
+  
   private Output<TFloat32> resizedImages;
   
   private ScaleAndTranslate(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -166,7 +167,7 @@ public final class StatelessSampleDistortedBoundingBox<T extends TNumber> extend
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> StatelessSampleDistortedBoundingBox<T> create(Scope scope, Operand<T> imageSize, Operand<TFloat32> boundingBoxes, Operand<TFloat32> minObjectCovered, Operand<? extends TNumber> seed, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessSampleDistortedBoundingBox", scope.makeOpName("StatelessSampleDistortedBoundingBox"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessSampleDistortedBoundingBox"));
     opBuilder.addInput(imageSize.asOutput());
     opBuilder.addInput(boundingBoxes.asOutput());
     opBuilder.addInput(minObjectCovered.asOutput());
@@ -260,6 +261,9 @@ public final class StatelessSampleDistortedBoundingBox<T extends TNumber> extend
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessSampleDistortedBoundingBox";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "aspect_ratio_range", "area_range", "max_attempts", "use_image_if_no_bounding_boxes");
+  
   private Output<T> begin;
   private Output<T> size;
   private Output<TFloat32> bboxes;
@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -70,7 +71,7 @@ public final class DecodeCompressed extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeCompressed create(Scope scope, Operand<TString> bytes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeCompressed", scope.makeOpName("DecodeCompressed"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeCompressed"));
     opBuilder.addInput(bytes.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -107,6 +108,9 @@ public final class DecodeCompressed extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeCompressed";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "compression_type");
+  
   private Output<TString> output;
   
   private DecodeCompressed(Operation operation) {
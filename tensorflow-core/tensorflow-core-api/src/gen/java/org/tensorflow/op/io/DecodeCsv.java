@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -104,7 +105,7 @@ public final class DecodeCsv extends RawOp implements Iterable<Operand<TType>> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeCsv create(Scope scope, Operand<TString> records, Iterable<Operand<?>> recordDefaults, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeCSV", scope.makeOpName("DecodeCsv"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeCsv"));
     opBuilder.addInput(records.asOutput());
     opBuilder.addInputList(Operands.asOutputs(recordDefaults));
     opBuilder = scope.apply(opBuilder);
@@ -177,6 +178,9 @@ public final class DecodeCsv extends RawOp implements Iterable<Operand<TType>> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeCSV";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "field_delim", "use_quote_delim", "na_value", "select_cols");
+  
   private List<Output<?>> output;
   
   private DecodeCsv(Operation operation) {
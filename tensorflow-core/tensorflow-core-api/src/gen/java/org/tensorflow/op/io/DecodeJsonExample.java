@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -50,7 +51,7 @@ public final class DecodeJsonExample extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static DecodeJsonExample create(Scope scope, Operand<TString> jsonExamples) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodeJSONExample", scope.makeOpName("DecodeJsonExample"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodeJsonExample"));
     opBuilder.addInput(jsonExamples.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new DecodeJsonExample(opBuilder.build());
@@ -72,6 +73,9 @@ public final class DecodeJsonExample extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodeJSONExample";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> binaryExamples;
   
   private DecodeJsonExample(Operation operation) {
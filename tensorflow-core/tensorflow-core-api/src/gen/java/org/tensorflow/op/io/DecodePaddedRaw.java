@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -71,7 +72,7 @@ public final class DecodePaddedRaw<T extends TNumber> extends RawOp implements O
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> DecodePaddedRaw<T> create(Scope scope, Operand<TString> inputBytes, Operand<TInt32> fixedLength, Class<T> outType, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DecodePaddedRaw", scope.makeOpName("DecodePaddedRaw"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DecodePaddedRaw"));
     opBuilder.addInput(inputBytes.asOutput());
     opBuilder.addInput(fixedLength.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -111,6 +112,9 @@ public final class DecodePaddedRaw<T extends TNumber> extends RawOp implements O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DecodePaddedRaw";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "out_type", "little_endian");
+  
   private Output<T> output;
   
   private DecodePaddedRaw(Operation operation) {
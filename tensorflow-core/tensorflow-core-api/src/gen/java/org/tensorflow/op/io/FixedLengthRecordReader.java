@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -111,7 +112,7 @@ public final class FixedLengthRecordReader extends RawOp implements Operand<TTyp
    */
   @Endpoint(describeByClass = true)
   public static FixedLengthRecordReader create(Scope scope, Long recordBytes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FixedLengthRecordReaderV2", scope.makeOpName("FixedLengthRecordReader"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FixedLengthRecordReader"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("record_bytes", recordBytes);
     if (options != null) {
@@ -201,6 +202,9 @@ public final class FixedLengthRecordReader extends RawOp implements Operand<TTyp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FixedLengthRecordReaderV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "record_bytes", "header_bytes", "footer_bytes", "hop_bytes", "container", "shared_name", "encoding");
+  
   private Output<?> readerHandle;
   
   private FixedLengthRecordReader(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -46,7 +47,7 @@ public final class MatchingFiles extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static MatchingFiles create(Scope scope, Operand<TString> pattern) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MatchingFiles", scope.makeOpName("MatchingFiles"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MatchingFiles"));
     opBuilder.addInput(pattern.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new MatchingFiles(opBuilder.build());
@@ -67,6 +68,9 @@ public final class MatchingFiles extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MatchingFiles";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> filenames;
   
   private MatchingFiles(Operation operation) {
@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -98,7 +99,7 @@ public final class ParseExample extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ParseExample create(Scope scope, Operand<TString> serialized, Operand<TString> names, Operand<TString> sparseKeys, Operand<TString> denseKeys, Operand<TString> raggedKeys, Iterable<Operand<?>> denseDefaults, Long numSparse, List<Class<? extends TType>> sparseTypes, List<Class<? extends TType>> raggedValueTypes, List<Class<? extends TNumber>> raggedSplitTypes, List<Shape> denseShapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ParseExampleV2", scope.makeOpName("ParseExample"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ParseExample"));
     opBuilder.addInput(serialized.asOutput());
     opBuilder.addInput(names.asOutput());
     opBuilder.addInput(sparseKeys.asOutput());
@@ -157,6 +158,9 @@ public final class ParseExample extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ParseExampleV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_sparse", "sparse_types", "ragged_value_types", "ragged_split_types", "dense_shapes");
+  
   private List<Output<TInt64>> sparseIndices;
   private List<Output<?>> sparseValues;
   private List<Output<TInt64>> sparseShapes;
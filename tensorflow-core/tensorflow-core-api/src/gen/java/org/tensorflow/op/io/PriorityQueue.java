@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -96,7 +97,7 @@ public final class PriorityQueue extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static PriorityQueue create(Scope scope, List<Class<? extends TType>> componentTypes, List<Shape> shapes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("PriorityQueueV2", scope.makeOpName("PriorityQueue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("PriorityQueue"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("component_types", Operands.toDataTypes(componentTypes));
     Shape[] shapesArray = new Shape[shapes.size()];
@@ -160,6 +161,9 @@ public final class PriorityQueue extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "PriorityQueueV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "component_types", "shapes", "capacity", "container", "shared_name");
+  
   private Output<?> handle;
   
   private PriorityQueue(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -67,7 +68,7 @@ public final class QueueClose extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static QueueClose create(Scope scope, Operand<?> handle, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QueueCloseV2", scope.makeOpName("QueueClose"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QueueClose"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -91,6 +92,9 @@ public final class QueueClose extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QueueCloseV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "cancel_pending_enqueues");
+  
   private QueueClose(Operation operation) {
     super(operation);
   }
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -76,7 +77,7 @@ public final class QueueDequeue extends RawOp implements Iterable<Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static QueueDequeue create(Scope scope, Operand<?> handle, List<Class<? extends TType>> componentTypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QueueDequeueV2", scope.makeOpName("QueueDequeue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QueueDequeue"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("component_types", Operands.toDataTypes(componentTypes));
@@ -115,6 +116,9 @@ public final class QueueDequeue extends RawOp implements Iterable<Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QueueDequeueV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "component_types", "timeout_ms");
+  
   private List<Output<?>> components;
   
   private QueueDequeue(Operation operation) {
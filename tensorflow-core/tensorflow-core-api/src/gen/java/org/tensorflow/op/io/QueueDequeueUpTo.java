@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -89,7 +90,7 @@ public final class QueueDequeueUpTo extends RawOp implements Iterable<Operand<TT
    */
   @Endpoint(describeByClass = true)
   public static QueueDequeueUpTo create(Scope scope, Operand<?> handle, Operand<TInt32> n, List<Class<? extends TType>> componentTypes, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QueueDequeueUpToV2", scope.makeOpName("QueueDequeueUpTo"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QueueDequeueUpTo"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(n.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -129,6 +130,9 @@ public final class QueueDequeueUpTo extends RawOp implements Iterable<Operand<TT
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QueueDequeueUpToV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "component_types", "timeout_ms");
+  
   private List<Output<?>> components;
   
   private QueueDequeueUpTo(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class ReadFile extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static ReadFile create(Scope scope, Operand<TString> filename) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReadFile", scope.makeOpName("ReadFile"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReadFile"));
     opBuilder.addInput(filename.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new ReadFile(opBuilder.build());
@@ -62,6 +63,9 @@ public final class ReadFile extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReadFile";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> contents;
   
   private ReadFile(Operation operation) {
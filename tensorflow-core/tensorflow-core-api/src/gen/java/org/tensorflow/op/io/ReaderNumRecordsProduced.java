@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class ReaderNumRecordsProduced extends RawOp implements Operand<TIn
    */
   @Endpoint(describeByClass = true)
   public static ReaderNumRecordsProduced create(Scope scope, Operand<?> readerHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReaderNumRecordsProducedV2", scope.makeOpName("ReaderNumRecordsProduced"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReaderNumRecordsProduced"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new ReaderNumRecordsProduced(opBuilder.build());
@@ -65,6 +66,9 @@ public final class ReaderNumRecordsProduced extends RawOp implements Operand<TIn
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReaderNumRecordsProducedV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> recordsProduced;
   
   private ReaderNumRecordsProduced(Operation operation) {
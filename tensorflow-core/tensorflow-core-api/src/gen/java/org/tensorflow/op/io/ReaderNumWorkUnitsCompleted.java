@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class ReaderNumWorkUnitsCompleted extends RawOp implements Operand<
    */
   @Endpoint(describeByClass = true)
   public static ReaderNumWorkUnitsCompleted create(Scope scope, Operand<?> readerHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReaderNumWorkUnitsCompletedV2", scope.makeOpName("ReaderNumWorkUnitsCompleted"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReaderNumWorkUnitsCompleted"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new ReaderNumWorkUnitsCompleted(opBuilder.build());
@@ -62,6 +63,9 @@ public final class ReaderNumWorkUnitsCompleted extends RawOp implements Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReaderNumWorkUnitsCompletedV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> unitsCompleted;
   
   private ReaderNumWorkUnitsCompleted(Operation operation) {
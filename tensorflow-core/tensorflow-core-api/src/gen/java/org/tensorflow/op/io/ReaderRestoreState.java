@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -46,7 +47,7 @@ public final class ReaderRestoreState extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ReaderRestoreState create(Scope scope, Operand<?> readerHandle, Operand<TString> state) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReaderRestoreStateV2", scope.makeOpName("ReaderRestoreState"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReaderRestoreState"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder.addInput(state.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -56,6 +57,9 @@ public final class ReaderRestoreState extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReaderRestoreStateV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private ReaderRestoreState(Operation operation) {
     super(operation);
   }
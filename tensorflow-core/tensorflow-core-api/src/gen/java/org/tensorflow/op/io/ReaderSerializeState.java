@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -45,7 +46,7 @@ public final class ReaderSerializeState extends RawOp implements Operand<TString
    */
   @Endpoint(describeByClass = true)
   public static ReaderSerializeState create(Scope scope, Operand<?> readerHandle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReaderSerializeStateV2", scope.makeOpName("ReaderSerializeState"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReaderSerializeState"));
     opBuilder.addInput(readerHandle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new ReaderSerializeState(opBuilder.build());
@@ -65,6 +66,9 @@ public final class ReaderSerializeState extends RawOp implements Operand<TString
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReaderSerializeStateV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> state;
   
   private ReaderSerializeState(Operation operation) {
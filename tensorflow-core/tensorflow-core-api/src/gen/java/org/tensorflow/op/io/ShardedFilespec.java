@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class ShardedFilespec extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static ShardedFilespec create(Scope scope, Operand<TString> basename, Operand<TInt32> numShards) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ShardedFilespec", scope.makeOpName("ShardedFilespec"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ShardedFilespec"));
     opBuilder.addInput(basename.asOutput());
     opBuilder.addInput(numShards.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -65,6 +66,9 @@ public final class ShardedFilespec extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ShardedFilespec";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> filename;
   
   private ShardedFilespec(Operation operation) {
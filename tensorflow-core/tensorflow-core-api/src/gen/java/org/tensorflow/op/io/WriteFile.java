@@ -20,6 +20,7 @@ package org.tensorflow.op.io;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -44,7 +45,7 @@ public final class WriteFile extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static WriteFile create(Scope scope, Operand<TString> filename, Operand<TString> contents) {
-    OperationBuilder opBuilder = scope.env().opBuilder("WriteFile", scope.makeOpName("WriteFile"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("WriteFile"));
     opBuilder.addInput(filename.asOutput());
     opBuilder.addInput(contents.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -54,6 +55,9 @@ public final class WriteFile extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "WriteFile";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private WriteFile(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -71,7 +72,7 @@ public final class BandedTriangularSolve<T extends TType> extends RawOp implemen
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BandedTriangularSolve<T> create(Scope scope, Operand<T> matrix, Operand<T> rhs, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BandedTriangularSolve", scope.makeOpName("BandedTriangularSolve"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BandedTriangularSolve"));
     opBuilder.addInput(matrix.asOutput());
     opBuilder.addInput(rhs.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -116,6 +117,9 @@ public final class BandedTriangularSolve<T extends TType> extends RawOp implemen
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BandedTriangularSolve";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "lower", "adjoint");
+  
   private Output<T> output;
   
   private BandedTriangularSolve(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -42,7 +43,7 @@ public final class BatchMatrixDeterminant<T extends TType> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BatchMatrixDeterminant<T> create(Scope scope, Operand<T> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BatchMatrixDeterminant", scope.makeOpName("BatchMatrixDeterminant"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BatchMatrixDeterminant"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new BatchMatrixDeterminant<T>(opBuilder.build());
@@ -62,6 +63,9 @@ public final class BatchMatrixDeterminant<T extends TType> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BatchMatrixDeterminant";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private BatchMatrixDeterminant(Operation operation) {
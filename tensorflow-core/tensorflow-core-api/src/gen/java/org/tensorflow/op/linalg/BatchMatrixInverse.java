@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -62,7 +63,7 @@ public final class BatchMatrixInverse<T extends TNumber> extends RawOp implement
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> BatchMatrixInverse<T> create(Scope scope, Operand<T> input, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BatchMatrixInverse", scope.makeOpName("BatchMatrixInverse"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BatchMatrixInverse"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -96,6 +97,9 @@ public final class BatchMatrixInverse<T extends TNumber> extends RawOp implement
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BatchMatrixInverse";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "adjoint");
+  
   private Output<T> output;
   
   private BatchMatrixInverse(Operation operation) {
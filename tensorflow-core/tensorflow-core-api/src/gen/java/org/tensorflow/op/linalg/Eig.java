@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -79,7 +80,7 @@ public final class Eig<U extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> Eig<U> create(Scope scope, Operand<? extends TType> input, Class<U> Tout, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Eig", scope.makeOpName("Eig"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Eig"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("Tout", Operands.toDataType(Tout));
@@ -118,6 +119,9 @@ public final class Eig<U extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Eig";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "Tout", "compute_v");
+  
   private Output<U> e;
   private Output<U> v;
   
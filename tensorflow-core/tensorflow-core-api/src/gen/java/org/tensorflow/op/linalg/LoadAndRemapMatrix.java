@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -121,7 +122,7 @@ public final class LoadAndRemapMatrix extends RawOp implements Operand<TFloat32>
    */
   @Endpoint(describeByClass = true)
   public static LoadAndRemapMatrix create(Scope scope, Operand<TString> ckptPath, Operand<TString> oldTensorName, Operand<TInt64> rowRemapping, Operand<TInt64> colRemapping, Operand<TFloat32> initializingValues, Long numRows, Long numCols, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LoadAndRemapMatrix", scope.makeOpName("LoadAndRemapMatrix"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LoadAndRemapMatrix"));
     opBuilder.addInput(ckptPath.asOutput());
     opBuilder.addInput(oldTensorName.asOutput());
     opBuilder.addInput(rowRemapping.asOutput());
@@ -165,6 +166,9 @@ public final class LoadAndRemapMatrix extends RawOp implements Operand<TFloat32>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LoadAndRemapMatrix";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "num_rows", "num_cols", "max_rows_in_memory");
+  
   private Output<TFloat32> outputMatrix;
   
   private LoadAndRemapMatrix(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -68,7 +69,7 @@ public final class Lu<T extends TType, U extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, U extends TNumber> Lu<T, U> create(Scope scope, Operand<T> input, Class<U> outputIdxType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Lu", scope.makeOpName("Lu"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Lu"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_idx_type", Operands.toDataType(outputIdxType));
@@ -114,6 +115,9 @@ public final class Lu<T extends TType, U extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Lu";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "output_idx_type");
+  
   private Output<T> lu;
   private Output<U> p;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -175,7 +176,7 @@ public final class MatrixDiagPartV3<T extends TType> extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> MatrixDiagPartV3<T> create(Scope scope, Operand<T> input, Operand<TInt32> k, Operand<T> paddingValue, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MatrixDiagPartV3", scope.makeOpName("MatrixDiagPartV3"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MatrixDiagPartV3"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(k.asOutput());
     opBuilder.addInput(paddingValue.asOutput());
@@ -218,6 +219,9 @@ public final class MatrixDiagPartV3<T extends TType> extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MatrixDiagPartV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "align");
+  
   private Output<T> diagonal;
   
   private MatrixDiagPartV3(Operation operation) {
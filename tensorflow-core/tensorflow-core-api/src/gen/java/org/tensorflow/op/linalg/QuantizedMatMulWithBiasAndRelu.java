@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -99,7 +100,7 @@ public final class QuantizedMatMulWithBiasAndRelu<V extends TType> extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static <V extends TType> QuantizedMatMulWithBiasAndRelu<V> create(Scope scope, Operand<? extends TType> a, Operand<? extends TType> b, Operand<TFloat32> bias, Operand<TFloat32> minA, Operand<TFloat32> maxA, Operand<TFloat32> minB, Operand<TFloat32> maxB, Class<V> Toutput, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizedMatMulWithBiasAndRelu", scope.makeOpName("QuantizedMatMulWithBiasAndRelu"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizedMatMulWithBiasAndRelu"));
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder.addInput(bias.asOutput());
@@ -169,6 +170,9 @@ public final class QuantizedMatMulWithBiasAndRelu<V extends TType> extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizedMatMulWithBiasAndRelu";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "Toutput", "transpose_a", "transpose_b", "input_quant_mode");
+  
   private Output<V> out;
   private Output<TFloat32> minOut;
   private Output<TFloat32> maxOut;
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -102,7 +103,7 @@ public final class QuantizedMatMulWithBiasAndReluAndRequantize<W extends TType>
    */
   @Endpoint(describeByClass = true)
   public static <W extends TType> QuantizedMatMulWithBiasAndReluAndRequantize<W> create(Scope scope, Operand<? extends TType> a, Operand<? extends TType> b, Operand<? extends TType> bias, Operand<TFloat32> minA, Operand<TFloat32> maxA, Operand<TFloat32> minB, Operand<TFloat32> maxB, Operand<TFloat32> minFreezedOutput, Operand<TFloat32> maxFreezedOutput, Class<W> Toutput, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizedMatMulWithBiasAndReluAndRequantize", scope.makeOpName("QuantizedMatMulWithBiasAndReluAndRequantize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizedMatMulWithBiasAndReluAndRequantize"));
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder.addInput(bias.asOutput());
@@ -174,6 +175,9 @@ public final class QuantizedMatMulWithBiasAndReluAndRequantize<W extends TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizedMatMulWithBiasAndReluAndRequantize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "Toutput", "transpose_a", "transpose_b", "input_quant_mode");
+  
   private Output<W> out;
   private Output<TFloat32> minOut;
   private Output<TFloat32> maxOut;
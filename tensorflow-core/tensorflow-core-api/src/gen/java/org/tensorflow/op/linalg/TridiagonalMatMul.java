@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -52,7 +53,7 @@ public final class TridiagonalMatMul<T extends TType> extends RawOp implements O
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> TridiagonalMatMul<T> create(Scope scope, Operand<T> superdiag, Operand<T> maindiag, Operand<T> subdiag, Operand<T> rhs) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TridiagonalMatMul", scope.makeOpName("TridiagonalMatMul"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TridiagonalMatMul"));
     opBuilder.addInput(superdiag.asOutput());
     opBuilder.addInput(maindiag.asOutput());
     opBuilder.addInput(subdiag.asOutput());
@@ -76,6 +77,9 @@ public final class TridiagonalMatMul<T extends TType> extends RawOp implements O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TridiagonalMatMul";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<T> output;
   
   private TridiagonalMatMul(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -45,7 +46,7 @@ public final class CSRSparseMatrixToDense<T extends TType> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> CSRSparseMatrixToDense<T> create(Scope scope, Operand<?> sparseInput, Class<T> type) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CSRSparseMatrixToDense", scope.makeOpName("CSRSparseMatrixToDense"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CSRSparseMatrixToDense"));
     opBuilder.addInput(sparseInput.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("type", Operands.toDataType(type));
@@ -67,6 +68,9 @@ public final class CSRSparseMatrixToDense<T extends TType> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CSRSparseMatrixToDense";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "type");
+  
   private Output<T> denseOutput;
   
   private CSRSparseMatrixToDense(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class DenseToCSRSparseMatrix extends RawOp implements Operand<TType
    */
   @Endpoint(describeByClass = true)
   public static DenseToCSRSparseMatrix create(Scope scope, Operand<? extends TType> denseInput, Operand<TInt64> indices) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DenseToCSRSparseMatrix", scope.makeOpName("DenseToCSRSparseMatrix"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DenseToCSRSparseMatrix"));
     opBuilder.addInput(denseInput.asOutput());
     opBuilder.addInput(indices.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -66,6 +67,9 @@ public final class DenseToCSRSparseMatrix extends RawOp implements Operand<TType
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DenseToCSRSparseMatrix";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> sparseOutput;
   
   private DenseToCSRSparseMatrix(Operation operation) {
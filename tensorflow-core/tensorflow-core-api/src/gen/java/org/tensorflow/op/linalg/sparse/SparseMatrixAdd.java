@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class SparseMatrixAdd extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> SparseMatrixAdd create(Scope scope, Operand<?> a, Operand<?> b, Operand<T> alpha, Operand<T> beta) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseMatrixAdd", scope.makeOpName("SparseMatrixAdd"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseMatrixAdd"));
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder.addInput(alpha.asOutput());
@@ -72,6 +73,9 @@ public final class SparseMatrixAdd extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseMatrixAdd";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<?> c;
   
   private SparseMatrixAdd(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -89,7 +90,7 @@ public final class SparseMatrixOrderingAMD extends RawOp implements Operand<TInt
    */
   @Endpoint(describeByClass = true)
   public static SparseMatrixOrderingAMD create(Scope scope, Operand<?> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseMatrixOrderingAMD", scope.makeOpName("SparseMatrixOrderingAMD"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseMatrixOrderingAMD"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new SparseMatrixOrderingAMD(opBuilder.build());
@@ -110,6 +111,9 @@ public final class SparseMatrixOrderingAMD extends RawOp implements Operand<TInt
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseMatrixOrderingAMD";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt32> output;
   
   private SparseMatrixOrderingAMD(Operation operation) {
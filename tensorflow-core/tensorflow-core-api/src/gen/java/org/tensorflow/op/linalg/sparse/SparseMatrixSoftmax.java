@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -50,7 +51,7 @@ public final class SparseMatrixSoftmax extends RawOp implements Operand<TType> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> SparseMatrixSoftmax create(Scope scope, Operand<?> logits, Class<T> type) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseMatrixSoftmax", scope.makeOpName("SparseMatrixSoftmax"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseMatrixSoftmax"));
     opBuilder.addInput(logits.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("type", Operands.toDataType(type));
@@ -73,6 +74,9 @@ public final class SparseMatrixSoftmax extends RawOp implements Operand<TType> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseMatrixSoftmax";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "type");
+  
   private Output<?> softmax;
   
   private SparseMatrixSoftmax(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -45,7 +46,7 @@ public final class SparseMatrixSoftmaxGrad extends RawOp implements Operand<TTyp
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> SparseMatrixSoftmaxGrad create(Scope scope, Operand<?> softmax, Operand<?> gradSoftmax, Class<T> type) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseMatrixSoftmaxGrad", scope.makeOpName("SparseMatrixSoftmaxGrad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseMatrixSoftmaxGrad"));
     opBuilder.addInput(softmax.asOutput());
     opBuilder.addInput(gradSoftmax.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -69,6 +70,9 @@ public final class SparseMatrixSoftmaxGrad extends RawOp implements Operand<TTyp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseMatrixSoftmaxGrad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "type");
+  
   private Output<?> gradient;
   
   private SparseMatrixSoftmaxGrad(Operation operation) {
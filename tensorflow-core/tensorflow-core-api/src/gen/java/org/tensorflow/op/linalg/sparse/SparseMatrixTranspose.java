@@ -20,6 +20,7 @@ package org.tensorflow.op.linalg.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -66,7 +67,7 @@ public final class SparseMatrixTranspose extends RawOp implements Operand<TType>
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> SparseMatrixTranspose create(Scope scope, Operand<?> input, Class<T> type, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseMatrixTranspose", scope.makeOpName("SparseMatrixTranspose"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseMatrixTranspose"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("type", Operands.toDataType(type));
@@ -103,6 +104,9 @@ public final class SparseMatrixTranspose extends RawOp implements Operand<TType>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseMatrixTranspose";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "type", "conjugate");
+  
   private Output<?> output;
   
   private SparseMatrixTranspose(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.math;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -64,7 +65,7 @@ public final class Angle<U extends TNumber> extends RawOp implements Operand<U>
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Angle<U> create(Scope scope, Operand<? extends TType> input, Class<U> Tout) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Angle", scope.makeOpName("Angle"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Angle"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("Tout", Operands.toDataType(Tout));
@@ -97,6 +98,9 @@ public final class Angle<U extends TNumber> extends RawOp implements Operand<U>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Angle";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Tout");
+  
   private Output<U> output;
   
   private Angle(Operation operation) {
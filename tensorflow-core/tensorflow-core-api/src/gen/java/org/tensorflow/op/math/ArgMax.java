@@ -20,6 +20,7 @@ package org.tensorflow.op.math;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -64,7 +65,7 @@ public final class ArgMax<V extends TNumber> extends RawOp implements Operand<V>
    */
   @Endpoint(describeByClass = true)
   public static <V extends TNumber> ArgMax<V> create(Scope scope, Operand<? extends TType> input, Operand<? extends TNumber> dimension, Class<V> outputType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ArgMax", scope.makeOpName("ArgMax"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ArgMax"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(dimension.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -101,6 +102,9 @@ public final class ArgMax<V extends TNumber> extends RawOp implements Operand<V>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ArgMax";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_type");
+  
   private Output<V> output;
   
   private ArgMax(Operation operation) {
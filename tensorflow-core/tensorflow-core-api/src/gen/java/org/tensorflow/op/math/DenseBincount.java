@@ -20,6 +20,7 @@ package org.tensorflow.op.math;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -76,7 +77,7 @@ public final class DenseBincount<U extends TNumber> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TNumber> DenseBincount<U> create(Scope scope, Operand<T> input, Operand<T> size, Operand<U> weights, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DenseBincount", scope.makeOpName("DenseBincount"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DenseBincount"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder.addInput(weights.asOutput());
@@ -114,6 +115,9 @@ public final class DenseBincount<U extends TNumber> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DenseBincount";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "binary_output");
+  
   private Output<U> output;
   
   private DenseBincount(Operation operation) {
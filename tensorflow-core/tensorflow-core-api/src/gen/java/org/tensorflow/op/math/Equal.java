@@ -20,6 +20,7 @@ package org.tensorflow.op.math;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -77,7 +78,7 @@ public final class Equal extends RawOp implements Operand<TBool> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Equal create(Scope scope, Operand<T> x, Operand<T> y, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Equal", scope.makeOpName("Equal"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Equal"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(y.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -112,6 +113,9 @@ public final class Equal extends RawOp implements Operand<TBool> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Equal";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "incompatible_shape_error");
+  
   private Output<TBool> z;
   
   private Equal(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.math;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -41,7 +42,7 @@ public final class Fact extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static Fact create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Fact", scope.makeOpName("Fact"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Fact"));
     opBuilder = scope.apply(opBuilder);
     return new Fact(opBuilder.build());
   }
@@ -60,6 +61,9 @@ public final class Fact extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Fact";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> fact;
   
   private Fact(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.math;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -60,7 +61,7 @@ public final class Imag<U extends TNumber> extends RawOp implements Operand<U> {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Imag<U> create(Scope scope, Operand<? extends TType> input, Class<U> Tout) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Imag", scope.makeOpName("Imag"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Imag"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("Tout", Operands.toDataType(Tout));
@@ -93,6 +94,9 @@ public final class Imag<U extends TNumber> extends RawOp implements Operand<U> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Imag";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Tout");
+  
   private Output<U> output;
   
   private Imag(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -60,7 +61,7 @@ public final class BatchNormWithGlobalNormalization<T extends TType> extends Raw
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BatchNormWithGlobalNormalization<T> create(Scope scope, Operand<T> t, Operand<T> m, Operand<T> v, Operand<T> beta, Operand<T> gamma, Float varianceEpsilon, Boolean scaleAfterNormalization) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BatchNormWithGlobalNormalization", scope.makeOpName("BatchNormWithGlobalNormalization"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BatchNormWithGlobalNormalization"));
     opBuilder.addInput(t.asOutput());
     opBuilder.addInput(m.asOutput());
     opBuilder.addInput(v.asOutput());
@@ -86,6 +87,9 @@ public final class BatchNormWithGlobalNormalization<T extends TType> extends Raw
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BatchNormWithGlobalNormalization";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "variance_epsilon", "scale_after_normalization");
+  
   private Output<T> result;
   
   private BatchNormWithGlobalNormalization(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -59,7 +60,7 @@ public final class BatchNormWithGlobalNormalizationGrad<T extends TType> extends
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> BatchNormWithGlobalNormalizationGrad<T> create(Scope scope, Operand<T> t, Operand<T> m, Operand<T> v, Operand<T> gamma, Operand<T> backprop, Float varianceEpsilon, Boolean scaleAfterNormalization) {
-    OperationBuilder opBuilder = scope.env().opBuilder("BatchNormWithGlobalNormalizationGrad", scope.makeOpName("BatchNormWithGlobalNormalizationGrad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("BatchNormWithGlobalNormalizationGrad"));
     opBuilder.addInput(t.asOutput());
     opBuilder.addInput(m.asOutput());
     opBuilder.addInput(v.asOutput());
@@ -109,6 +110,9 @@ public final class BatchNormWithGlobalNormalizationGrad<T extends TType> extends
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "BatchNormWithGlobalNormalizationGrad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 5, "variance_epsilon", "scale_after_normalization");
+  
   private Output<T> dx;
   private Output<T> dm;
   private Output<T> dv;
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -95,7 +96,7 @@ public final class CTCLossV2 extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static CTCLossV2 create(Scope scope, Operand<TFloat32> inputs, Operand<TInt64> labelsIndices, Operand<TInt32> labelsValues, Operand<TInt32> sequenceLength, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CTCLossV2", scope.makeOpName("CTCLossV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CTCLossV2"));
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(labelsIndices.asOutput());
     opBuilder.addInput(labelsValues.asOutput());
@@ -161,6 +162,9 @@ public final class CTCLossV2 extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CTCLossV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "preprocess_collapse_repeated", "ctc_merge_repeated", "ignore_longer_outputs_than_inputs");
+  
   private Output<TFloat32> loss;
   private Output<TFloat32> gradient;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -178,7 +179,7 @@ public final class CudnnRNN<T extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> CudnnRNN<T> create(Scope scope, Operand<T> input, Operand<T> inputH, Operand<T> inputC, Operand<T> params, Operand<TInt32> sequenceLengths, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CudnnRNNV3", scope.makeOpName("CudnnRNN"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CudnnRNN"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(inputH.asOutput());
     opBuilder.addInput(inputC.asOutput());
@@ -315,6 +316,9 @@ public final class CudnnRNN<T extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CudnnRNNV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 5, "rnn_mode", "input_mode", "direction", "dropout", "seed", "seed2", "num_proj", "is_training", "time_major");
+  
   private Output<T> output;
   private Output<T> outputH;
   private Output<T> outputC;
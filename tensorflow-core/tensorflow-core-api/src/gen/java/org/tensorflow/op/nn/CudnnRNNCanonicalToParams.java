@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -155,7 +156,7 @@ public final class CudnnRNNCanonicalToParams<T extends TNumber> extends RawOp im
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> CudnnRNNCanonicalToParams<T> create(Scope scope, Operand<TInt32> numLayers, Operand<TInt32> numUnits, Operand<TInt32> inputSize, Iterable<Operand<T>> weights, Iterable<Operand<T>> biases, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CudnnRNNCanonicalToParamsV2", scope.makeOpName("CudnnRNNCanonicalToParams"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CudnnRNNCanonicalToParams"));
     opBuilder.addInput(numLayers.asOutput());
     opBuilder.addInput(numUnits.asOutput());
     opBuilder.addInput(inputSize.asOutput());
@@ -253,6 +254,9 @@ public final class CudnnRNNCanonicalToParams<T extends TNumber> extends RawOp im
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CudnnRNNCanonicalToParamsV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "rnn_mode", "input_mode", "direction", "dropout", "seed", "seed2", "num_proj");
+  
   private Output<T> params;
   
   private CudnnRNNCanonicalToParams(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -104,7 +105,7 @@ public final class DepthwiseConv2dNativeBackpropFilter<T extends TNumber> extend
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> DepthwiseConv2dNativeBackpropFilter<T> create(Scope scope, Operand<T> input, Operand<TInt32> filterSizes, Operand<T> outBackprop, List<Long> strides, String padding, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DepthwiseConv2dNativeBackpropFilter", scope.makeOpName("DepthwiseConv2dNativeBackpropFilter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DepthwiseConv2dNativeBackpropFilter"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(filterSizes.asOutput());
     opBuilder.addInput(outBackprop.asOutput());
@@ -185,6 +186,9 @@ public final class DepthwiseConv2dNativeBackpropFilter<T extends TNumber> extend
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DepthwiseConv2dNativeBackpropFilter";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "strides", "padding", "explicit_paddings", "data_format", "dilations");
+  
   private Output<T> output;
   
   private DepthwiseConv2dNativeBackpropFilter(Operation operation) {
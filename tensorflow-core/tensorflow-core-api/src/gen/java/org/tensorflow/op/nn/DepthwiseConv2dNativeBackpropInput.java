@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -103,7 +104,7 @@ public final class DepthwiseConv2dNativeBackpropInput<T extends TNumber> extends
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> DepthwiseConv2dNativeBackpropInput<T> create(Scope scope, Operand<TInt32> inputSizes, Operand<T> filter, Operand<T> outBackprop, List<Long> strides, String padding, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DepthwiseConv2dNativeBackpropInput", scope.makeOpName("DepthwiseConv2dNativeBackpropInput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DepthwiseConv2dNativeBackpropInput"));
     opBuilder.addInput(inputSizes.asOutput());
     opBuilder.addInput(filter.asOutput());
     opBuilder.addInput(outBackprop.asOutput());
@@ -185,6 +186,9 @@ public final class DepthwiseConv2dNativeBackpropInput<T extends TNumber> extends
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DepthwiseConv2dNativeBackpropInput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "strides", "padding", "explicit_paddings", "data_format", "dilations");
+  
   private Output<T> output;
   
   private DepthwiseConv2dNativeBackpropInput(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -52,7 +53,7 @@ public final class Dilation2dBackpropFilter<T extends TNumber> extends RawOp imp
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> Dilation2dBackpropFilter<T> create(Scope scope, Operand<T> input, Operand<T> filter, Operand<T> outBackprop, List<Long> strides, List<Long> rates, String padding) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Dilation2DBackpropFilter", scope.makeOpName("Dilation2dBackpropFilter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Dilation2dBackpropFilter"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(filter.asOutput());
     opBuilder.addInput(outBackprop.asOutput());
@@ -86,6 +87,9 @@ public final class Dilation2dBackpropFilter<T extends TNumber> extends RawOp imp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Dilation2DBackpropFilter";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "strides", "rates", "padding");
+  
   private Output<T> filterBackprop;
   
   private Dilation2dBackpropFilter(Operation operation) {
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -168,7 +169,7 @@ public final class FixedUnigramCandidateSampler extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static FixedUnigramCandidateSampler create(Scope scope, Operand<TInt64> trueClasses, Long numTrue, Long numSampled, Boolean unique, Long rangeMax, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FixedUnigramCandidateSampler", scope.makeOpName("FixedUnigramCandidateSampler"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FixedUnigramCandidateSampler"));
     opBuilder.addInput(trueClasses.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_true", numTrue);
@@ -315,6 +316,9 @@ public final class FixedUnigramCandidateSampler extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FixedUnigramCandidateSampler";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "num_true", "num_sampled", "unique", "range_max", "vocab_file", "distortion", "num_reserved_ids", "num_shards", "shard", "unigrams", "seed", "seed2");
+  
   private Output<TInt64> sampledCandidates;
   private Output<TFloat32> trueExpectedCount;
   private Output<TFloat32> sampledExpectedCount;
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -128,7 +129,7 @@ public final class FractionalAvgPool<T extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> FractionalAvgPool<T> create(Scope scope, Operand<T> value, List<Float> poolingRatio, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FractionalAvgPool", scope.makeOpName("FractionalAvgPool"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FractionalAvgPool"));
     opBuilder.addInput(value.asOutput());
     opBuilder = scope.apply(opBuilder);
     float[] poolingRatioArray = new float[poolingRatio.size()];
@@ -232,6 +233,9 @@ public final class FractionalAvgPool<T extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FractionalAvgPool";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "pooling_ratio", "pseudo_random", "overlapping", "deterministic", "seed", "seed2");
+  
   private Output<T> output;
   private Output<TInt64> rowPoolingSequence;
   private Output<TInt64> colPoolingSequence;
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -102,7 +103,7 @@ public final class FusedBatchNorm<T extends TNumber, U extends TNumber> extends
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber, U extends TNumber> FusedBatchNorm<T, U> create(Scope scope, Operand<T> x, Operand<U> scale, Operand<U> offset, Operand<U> mean, Operand<U> variance, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FusedBatchNormV3", scope.makeOpName("FusedBatchNorm"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FusedBatchNorm"));
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(scale.asOutput());
     opBuilder.addInput(offset.asOutput());
@@ -207,6 +208,9 @@ public final class FusedBatchNorm<T extends TNumber, U extends TNumber> extends
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FusedBatchNormV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 6, "epsilon", "exponential_avg_factor", "data_format", "is_training");
+  
   private Output<T> y;
   private Output<U> batchMean;
   private Output<U> batchVariance;
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -103,7 +104,7 @@ public final class FusedBatchNormGrad<T extends TNumber, U extends TNumber> exte
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber, U extends TNumber> FusedBatchNormGrad<T, U> create(Scope scope, Operand<T> yBackprop, Operand<T> x, Operand<TFloat32> scale, Operand<U> reserveSpace1, Operand<U> reserveSpace2, Operand<U> reserveSpace3, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FusedBatchNormGradV3", scope.makeOpName("FusedBatchNormGrad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FusedBatchNormGrad"));
     opBuilder.addInput(yBackprop.asOutput());
     opBuilder.addInput(x.asOutput());
     opBuilder.addInput(scale.asOutput());
@@ -189,6 +190,9 @@ public final class FusedBatchNormGrad<T extends TNumber, U extends TNumber> exte
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FusedBatchNormGradV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 5, "epsilon", "data_format", "is_training");
+  
   private Output<T> xBackprop;
   private Output<U> scaleBackprop;
   private Output<U> offsetBackprop;
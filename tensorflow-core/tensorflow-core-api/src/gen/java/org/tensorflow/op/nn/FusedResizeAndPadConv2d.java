@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -88,7 +89,7 @@ public final class FusedResizeAndPadConv2d<T extends TNumber> extends RawOp impl
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> FusedResizeAndPadConv2d<T> create(Scope scope, Operand<T> input, Operand<TInt32> size, Operand<TInt32> paddings, Operand<T> filter, String mode, List<Long> strides, String padding, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FusedResizeAndPadConv2D", scope.makeOpName("FusedResizeAndPadConv2d"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FusedResizeAndPadConv2d"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(size.asOutput());
     opBuilder.addInput(paddings.asOutput());
@@ -133,6 +134,9 @@ public final class FusedResizeAndPadConv2d<T extends TNumber> extends RawOp impl
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FusedResizeAndPadConv2D";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "mode", "strides", "padding", "resize_align_corners");
+  
   private Output<T> output;
   
   private FusedResizeAndPadConv2d(Operation operation) {
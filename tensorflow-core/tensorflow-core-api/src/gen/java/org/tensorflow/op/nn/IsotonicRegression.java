@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -47,7 +48,7 @@ public final class IsotonicRegression<U extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> IsotonicRegression<U> create(Scope scope, Operand<? extends TNumber> input, Class<U> outputDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IsotonicRegression", scope.makeOpName("IsotonicRegression"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("IsotonicRegression"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("output_dtype", Operands.toDataType(outputDtype));
@@ -83,6 +84,9 @@ public final class IsotonicRegression<U extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IsotonicRegression";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "output_dtype");
+  
   private Output<U> output;
   private Output<TInt32> segments;
   
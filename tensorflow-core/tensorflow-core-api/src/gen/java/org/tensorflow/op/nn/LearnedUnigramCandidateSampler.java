@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -91,7 +92,7 @@ public final class LearnedUnigramCandidateSampler extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static LearnedUnigramCandidateSampler create(Scope scope, Operand<TInt64> trueClasses, Long numTrue, Long numSampled, Boolean unique, Long rangeMax, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LearnedUnigramCandidateSampler", scope.makeOpName("LearnedUnigramCandidateSampler"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LearnedUnigramCandidateSampler"));
     opBuilder.addInput(trueClasses.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_true", numTrue);
@@ -157,6 +158,9 @@ public final class LearnedUnigramCandidateSampler extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LearnedUnigramCandidateSampler";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "num_true", "num_sampled", "unique", "range_max", "seed", "seed2");
+  
   private Output<TInt64> sampledCandidates;
   private Output<TFloat32> trueExpectedCount;
   private Output<TFloat32> sampledExpectedCount;
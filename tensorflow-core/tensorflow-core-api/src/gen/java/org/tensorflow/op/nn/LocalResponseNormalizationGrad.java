@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -92,7 +93,7 @@ public final class LocalResponseNormalizationGrad<T extends TNumber> extends Raw
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> LocalResponseNormalizationGrad<T> create(Scope scope, Operand<T> inputGrads, Operand<T> inputImage, Operand<T> outputImage, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LRNGrad", scope.makeOpName("LocalResponseNormalizationGrad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LocalResponseNormalizationGrad"));
     opBuilder.addInput(inputGrads.asOutput());
     opBuilder.addInput(inputImage.asOutput());
     opBuilder.addInput(outputImage.asOutput());
@@ -159,6 +160,9 @@ public final class LocalResponseNormalizationGrad<T extends TNumber> extends Raw
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LRNGrad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "depth_radius", "bias", "alpha", "beta");
+  
   private Output<T> output;
   
   private LocalResponseNormalizationGrad(Operation operation) {
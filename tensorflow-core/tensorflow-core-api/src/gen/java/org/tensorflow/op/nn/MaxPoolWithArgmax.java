@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -83,7 +84,7 @@ public final class MaxPoolWithArgmax<T extends TNumber, U extends TNumber> exten
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber, U extends TNumber> MaxPoolWithArgmax<T, U> create(Scope scope, Operand<T> input, List<Long> ksize, List<Long> strides, Class<U> Targmax, String padding, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MaxPoolWithArgmax", scope.makeOpName("MaxPoolWithArgmax"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MaxPoolWithArgmax"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     long[] ksizeArray = new long[ksize.size()];
@@ -149,6 +150,9 @@ public final class MaxPoolWithArgmax<T extends TNumber, U extends TNumber> exten
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MaxPoolWithArgmax";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "ksize", "strides", "Targmax", "padding", "include_batch_in_index");
+  
   private Output<T> output;
   private Output<U> argmax;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -54,7 +55,7 @@ public final class QuantizedBiasAdd<V extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <V extends TType> QuantizedBiasAdd<V> create(Scope scope, Operand<? extends TType> input, Operand<? extends TType> bias, Operand<TFloat32> minInput, Operand<TFloat32> maxInput, Operand<TFloat32> minBias, Operand<TFloat32> maxBias, Class<V> outType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizedBiasAdd", scope.makeOpName("QuantizedBiasAdd"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizedBiasAdd"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(bias.asOutput());
     opBuilder.addInput(minInput.asOutput());
@@ -89,6 +90,9 @@ public final class QuantizedBiasAdd<V extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizedBiasAdd";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "out_type");
+  
   private Output<V> output;
   private Output<TFloat32> minOut;
   private Output<TFloat32> maxOut;
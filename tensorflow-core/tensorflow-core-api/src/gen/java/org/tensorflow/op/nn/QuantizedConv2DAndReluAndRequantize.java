@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -83,7 +84,7 @@ public final class QuantizedConv2DAndReluAndRequantize<V extends TType> extends
    */
   @Endpoint(describeByClass = true)
   public static <V extends TType> QuantizedConv2DAndReluAndRequantize<V> create(Scope scope, Operand<? extends TType> input, Operand<? extends TType> filter, Operand<TFloat32> minInput, Operand<TFloat32> maxInput, Operand<TFloat32> minFilter, Operand<TFloat32> maxFilter, Operand<TFloat32> minFreezedOutput, Operand<TFloat32> maxFreezedOutput, Class<V> outType, List<Long> strides, String padding, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizedConv2DAndReluAndRequantize", scope.makeOpName("QuantizedConv2DAndReluAndRequantize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizedConv2DAndReluAndRequantize"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(filter.asOutput());
     opBuilder.addInput(minInput.asOutput());
@@ -156,6 +157,9 @@ public final class QuantizedConv2DAndReluAndRequantize<V extends TType> extends
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizedConv2DAndReluAndRequantize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "out_type", "strides", "padding", "dilations", "padding_list");
+  
   private Output<V> output;
   private Output<TFloat32> minOutput;
   private Output<TFloat32> maxOutput;
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn.raw;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class SoftmaxCrossEntropyWithLogits<T extends TNumber> extends RawO
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> SoftmaxCrossEntropyWithLogits<T> create(Scope scope, Operand<T> features, Operand<T> labels) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SoftmaxCrossEntropyWithLogits", scope.makeOpName("SoftmaxCrossEntropyWithLogits"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SoftmaxCrossEntropyWithLogits"));
     opBuilder.addInput(features.asOutput());
     opBuilder.addInput(labels.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -73,6 +74,9 @@ public final class SoftmaxCrossEntropyWithLogits<T extends TNumber> extends RawO
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SoftmaxCrossEntropyWithLogits";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<T> loss;
   private Output<T> backprop;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.nn.raw;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class SparseSoftmaxCrossEntropyWithLogits<T extends TNumber> extend
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> SparseSoftmaxCrossEntropyWithLogits<T> create(Scope scope, Operand<T> features, Operand<? extends TNumber> labels) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseSoftmaxCrossEntropyWithLogits", scope.makeOpName("SparseSoftmaxCrossEntropyWithLogits"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseSoftmaxCrossEntropyWithLogits"));
     opBuilder.addInput(features.asOutput());
     opBuilder.addInput(labels.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -77,6 +78,9 @@ public final class SparseSoftmaxCrossEntropyWithLogits<T extends TNumber> extend
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseSoftmaxCrossEntropyWithLogits";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<T> loss;
   private Output<T> backprop;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -138,7 +139,7 @@ public final class Dequantize<U extends TNumber> extends RawOp implements Operan
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Dequantize<U> create(Scope scope, Operand<? extends TType> input, Operand<TFloat32> minRange, Operand<TFloat32> maxRange, Class<U> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Dequantize", scope.makeOpName("Dequantize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Dequantize"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(minRange.asOutput());
     opBuilder.addInput(maxRange.asOutput());
@@ -210,6 +211,9 @@ public final class Dequantize<U extends TNumber> extends RawOp implements Operan
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Dequantize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "mode", "narrow_range", "axis");
+  
   private Output<U> output;
   
   private Dequantize(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -122,7 +123,7 @@ public final class FakeQuantWithMinMaxArgs extends RawOp implements Operand<TFlo
    */
   @Endpoint(describeByClass = true)
   public static FakeQuantWithMinMaxArgs create(Scope scope, Operand<TFloat32> inputs, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FakeQuantWithMinMaxArgs", scope.makeOpName("FakeQuantWithMinMaxArgs"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FakeQuantWithMinMaxArgs"));
     opBuilder.addInput(inputs.asOutput());
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -186,6 +187,9 @@ public final class FakeQuantWithMinMaxArgs extends RawOp implements Operand<TFlo
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FakeQuantWithMinMaxArgs";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "min", "max", "num_bits", "narrow_range");
+  
   private Output<TFloat32> outputs;
   
   private FakeQuantWithMinMaxArgs(Operation operation) {
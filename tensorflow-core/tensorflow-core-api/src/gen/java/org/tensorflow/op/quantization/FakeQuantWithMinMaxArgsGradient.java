@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -90,7 +91,7 @@ public final class FakeQuantWithMinMaxArgsGradient extends RawOp implements Oper
    */
   @Endpoint(describeByClass = true)
   public static FakeQuantWithMinMaxArgsGradient create(Scope scope, Operand<TFloat32> gradients, Operand<TFloat32> inputs, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FakeQuantWithMinMaxArgsGradient", scope.makeOpName("FakeQuantWithMinMaxArgsGradient"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FakeQuantWithMinMaxArgsGradient"));
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(inputs.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -157,6 +158,9 @@ public final class FakeQuantWithMinMaxArgsGradient extends RawOp implements Oper
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FakeQuantWithMinMaxArgsGradient";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "min", "max", "num_bits", "narrow_range");
+  
   private Output<TFloat32> backprops;
   
   private FakeQuantWithMinMaxArgsGradient(Operation operation) {
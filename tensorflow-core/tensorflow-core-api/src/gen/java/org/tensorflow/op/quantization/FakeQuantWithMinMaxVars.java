@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -110,7 +111,7 @@ public final class FakeQuantWithMinMaxVars extends RawOp implements Operand<TFlo
    */
   @Endpoint(describeByClass = true)
   public static FakeQuantWithMinMaxVars create(Scope scope, Operand<TFloat32> inputs, Operand<TFloat32> min, Operand<TFloat32> max, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FakeQuantWithMinMaxVars", scope.makeOpName("FakeQuantWithMinMaxVars"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FakeQuantWithMinMaxVars"));
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(min.asOutput());
     opBuilder.addInput(max.asOutput());
@@ -156,6 +157,9 @@ public final class FakeQuantWithMinMaxVars extends RawOp implements Operand<TFlo
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FakeQuantWithMinMaxVars";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "num_bits", "narrow_range");
+  
   private Output<TFloat32> outputs;
   
   private FakeQuantWithMinMaxVars(Operation operation) {
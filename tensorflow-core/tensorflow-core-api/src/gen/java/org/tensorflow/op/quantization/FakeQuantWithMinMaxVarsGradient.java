@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -75,7 +76,7 @@ public final class FakeQuantWithMinMaxVarsGradient extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static FakeQuantWithMinMaxVarsGradient create(Scope scope, Operand<TFloat32> gradients, Operand<TFloat32> inputs, Operand<TFloat32> min, Operand<TFloat32> max, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("FakeQuantWithMinMaxVarsGradient", scope.makeOpName("FakeQuantWithMinMaxVarsGradient"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("FakeQuantWithMinMaxVarsGradient"));
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(min.asOutput());
@@ -135,6 +136,9 @@ public final class FakeQuantWithMinMaxVarsGradient extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "FakeQuantWithMinMaxVarsGradient";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "num_bits", "narrow_range");
+  
   private Output<TFloat32> backpropsWrtInput;
   private Output<TFloat32> backpropWrtMin;
   private Output<TFloat32> backpropWrtMax;
@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -98,7 +99,7 @@ public final class QuantizeAndDequantizeV3<T extends TNumber> extends RawOp impl
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> QuantizeAndDequantizeV3<T> create(Scope scope, Operand<T> input, Operand<T> inputMin, Operand<T> inputMax, Operand<TInt32> numBits, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizeAndDequantizeV3", scope.makeOpName("QuantizeAndDequantizeV3"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizeAndDequantizeV3"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(inputMin.asOutput());
     opBuilder.addInput(inputMax.asOutput());
@@ -165,6 +166,9 @@ public final class QuantizeAndDequantizeV3<T extends TNumber> extends RawOp impl
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizeAndDequantizeV3";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "signed_input", "range_given", "narrow_range", "axis");
+  
   private Output<T> output;
   
   private QuantizeAndDequantizeV3(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -114,7 +115,7 @@ public final class QuantizeAndDequantizeV4<T extends TNumber> extends RawOp impl
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> QuantizeAndDequantizeV4<T> create(Scope scope, Operand<T> input, Operand<T> inputMin, Operand<T> inputMax, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizeAndDequantizeV4", scope.makeOpName("QuantizeAndDequantizeV4"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizeAndDequantizeV4"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(inputMin.asOutput());
     opBuilder.addInput(inputMax.asOutput());
@@ -200,6 +201,9 @@ public final class QuantizeAndDequantizeV4<T extends TNumber> extends RawOp impl
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizeAndDequantizeV4";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "signed_input", "num_bits", "range_given", "round_mode", "narrow_range", "axis");
+  
   private Output<T> output;
   
   private QuantizeAndDequantizeV4(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -70,7 +71,7 @@ public final class QuantizeAndDequantizeV4Grad<T extends TNumber> extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> QuantizeAndDequantizeV4Grad<T> create(Scope scope, Operand<T> gradients, Operand<T> input, Operand<T> inputMin, Operand<T> inputMax, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizeAndDequantizeV4Grad", scope.makeOpName("QuantizeAndDequantizeV4Grad"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizeAndDequantizeV4Grad"));
     opBuilder.addInput(gradients.asOutput());
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(inputMin.asOutput());
@@ -114,6 +115,9 @@ public final class QuantizeAndDequantizeV4Grad<T extends TNumber> extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizeAndDequantizeV4Grad";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "axis");
+  
   private Output<T> inputBackprop;
   private Output<T> inputMinBackprop;
   private Output<T> inputMaxBackprop;
@@ -20,6 +20,7 @@ package org.tensorflow.op.quantization;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -91,7 +92,7 @@ public final class QuantizedMatMulWithBiasAndDequantize<W extends TNumber> exten
    */
   @Endpoint(describeByClass = true)
   public static <W extends TNumber> QuantizedMatMulWithBiasAndDequantize<W> create(Scope scope, Operand<? extends TType> a, Operand<? extends TType> b, Operand<? extends TType> bias, Operand<TFloat32> minA, Operand<TFloat32> maxA, Operand<TFloat32> minB, Operand<TFloat32> maxB, Operand<TFloat32> minFreezedOutput, Operand<TFloat32> maxFreezedOutput, Class<W> Toutput, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("QuantizedMatMulWithBiasAndDequantize", scope.makeOpName("QuantizedMatMulWithBiasAndDequantize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("QuantizedMatMulWithBiasAndDequantize"));
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder.addInput(bias.asOutput());
@@ -154,6 +155,9 @@ public final class QuantizedMatMulWithBiasAndDequantize<W extends TNumber> exten
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "QuantizedMatMulWithBiasAndDequantize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Toutput", "transpose_a", "transpose_b", "input_quant_mode");
+  
   private Output<W> out;
   
   private QuantizedMatMulWithBiasAndDequantize(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.ragged;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -78,7 +79,7 @@ public final class RaggedBincount<U extends TNumber> extends RawOp implements Op
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TNumber> RaggedBincount<U> create(Scope scope, Operand<TInt64> splits, Operand<T> values, Operand<T> size, Operand<U> weights, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedBincount", scope.makeOpName("RaggedBincount"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedBincount"));
     opBuilder.addInput(splits.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(size.asOutput());
@@ -117,6 +118,9 @@ public final class RaggedBincount<U extends TNumber> extends RawOp implements Op
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedBincount";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "binary_output");
+  
   private Output<U> output;
   
   private RaggedBincount(Operation operation) {
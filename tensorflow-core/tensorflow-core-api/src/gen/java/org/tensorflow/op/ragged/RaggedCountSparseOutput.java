@@ -20,6 +20,7 @@ package org.tensorflow.op.ragged;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -79,7 +80,7 @@ public final class RaggedCountSparseOutput<U extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> RaggedCountSparseOutput<U> create(Scope scope, Operand<TInt64> splits, Operand<? extends TNumber> values, Operand<U> weights, Boolean binaryOutput, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedCountSparseOutput", scope.makeOpName("RaggedCountSparseOutput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedCountSparseOutput"));
     opBuilder.addInput(splits.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(weights.asOutput());
@@ -142,6 +143,9 @@ public final class RaggedCountSparseOutput<U extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedCountSparseOutput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "binary_output", "minlength", "maxlength");
+  
   private Output<TInt64> outputIndices;
   private Output<U> outputValues;
   private Output<TInt64> outputDenseShape;
@@ -20,6 +20,7 @@ package org.tensorflow.op.ragged;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -62,7 +63,7 @@ public final class RaggedCross<T extends TType, U extends TNumber> extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType, U extends TNumber> RaggedCross<T, U> create(Scope scope, Iterable<Operand<?>> raggedValues, Iterable<Operand<?>> raggedRowSplits, Iterable<Operand<TInt64>> sparseIndices, Iterable<Operand<?>> sparseValues, Iterable<Operand<TInt64>> sparseShape, Iterable<Operand<?>> denseInputs, String inputOrder, Boolean hashedOutput, Long numBuckets, Long hashKey, Class<T> outValuesType, Class<U> outRowSplitsType) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedCross", scope.makeOpName("RaggedCross"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedCross"));
     opBuilder.addInputList(Operands.asOutputs(raggedValues));
     opBuilder.addInputList(Operands.asOutputs(raggedRowSplits));
     opBuilder.addInputList(Operands.asOutputs(sparseIndices));
@@ -96,6 +97,9 @@ public final class RaggedCross<T extends TType, U extends TNumber> extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedCross";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "input_order", "hashed_output", "num_buckets", "hash_key", "out_values_type", "out_row_splits_type");
+  
   private Output<T> outputValues;
   private Output<U> outputRowSplits;
   
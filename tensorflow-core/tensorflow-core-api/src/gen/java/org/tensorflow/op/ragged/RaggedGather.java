@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -85,7 +86,7 @@ public final class RaggedGather<T extends TNumber, U extends TType> extends RawO
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber, U extends TType> RaggedGather<T, U> create(Scope scope, Iterable<Operand<T>> paramsNestedSplits, Operand<U> paramsDenseValues, Operand<? extends TNumber> indices, Long OUTPUTRAGGEDRANK) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedGather", scope.makeOpName("RaggedGather"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedGather"));
     opBuilder.addInputList(Operands.asOutputs(paramsNestedSplits));
     opBuilder.addInput(paramsDenseValues.asOutput());
     opBuilder.addInput(indices.asOutput());
@@ -112,6 +113,9 @@ public final class RaggedGather<T extends TNumber, U extends TType> extends RawO
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedGather";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "OUTPUT_RAGGED_RANK");
+  
   private List<Output<T>> outputNestedSplits;
   private Output<U> outputDenseValues;
   
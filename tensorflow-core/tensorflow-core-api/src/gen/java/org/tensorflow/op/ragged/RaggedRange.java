@@ -20,6 +20,7 @@ package org.tensorflow.op.ragged;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -64,7 +65,7 @@ public final class RaggedRange<U extends TNumber, T extends TNumber> extends Raw
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TNumber> RaggedRange<U, T> create(Scope scope, Operand<T> starts, Operand<T> limits, Operand<T> deltas, Class<U> Tsplits) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedRange", scope.makeOpName("RaggedRange"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedRange"));
     opBuilder.addInput(starts.asOutput());
     opBuilder.addInput(limits.asOutput());
     opBuilder.addInput(deltas.asOutput());
@@ -104,6 +105,9 @@ public final class RaggedRange<U extends TNumber, T extends TNumber> extends Raw
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedRange";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "Tsplits");
+  
   private Output<U> rtNestedSplits;
   private Output<T> rtDenseValues;
   
@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -68,7 +69,7 @@ public final class RaggedTensorFromVariant<U extends TNumber, T extends TType> e
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber, T extends TType> RaggedTensorFromVariant<U, T> create(Scope scope, Operand<?> encodedRagged, Long inputRaggedRank, Long outputRaggedRank, Class<T> Tvalues, Class<U> Tsplits) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedTensorFromVariant", scope.makeOpName("RaggedTensorFromVariant"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedTensorFromVariant"));
     opBuilder.addInput(encodedRagged.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("input_ragged_rank", inputRaggedRank);
@@ -113,6 +114,9 @@ public final class RaggedTensorFromVariant<U extends TNumber, T extends TType> e
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedTensorFromVariant";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "input_ragged_rank", "output_ragged_rank", "Tvalues", "Tsplits");
+  
   private List<Output<U>> outputNestedSplits;
   private Output<T> outputDenseValues;
   
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -107,7 +108,7 @@ public final class RaggedTensorToTensor<U extends TType> extends RawOp implement
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType, V extends TNumber> RaggedTensorToTensor<U> create(Scope scope, Operand<? extends TNumber> shape, Operand<U> values, Operand<U> defaultValue, Iterable<Operand<V>> rowPartitionTensors, List<String> rowPartitionTypes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedTensorToTensor", scope.makeOpName("RaggedTensorToTensor"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedTensorToTensor"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(defaultValue.asOutput());
@@ -136,6 +137,9 @@ public final class RaggedTensorToTensor<U extends TType> extends RawOp implement
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedTensorToTensor";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "row_partition_types");
+  
   private Output<U> result;
   
   private RaggedTensorToTensor(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.ragged;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -55,7 +56,7 @@ public final class RaggedTensorToVariantGradient<U extends TType> extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static <U extends TType> RaggedTensorToVariantGradient<U> create(Scope scope, Operand<?> encodedRaggedGrad, Operand<? extends TNumber> rowSplits, Operand<TInt32> denseValuesShape, Class<U> Tvalues) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RaggedTensorToVariantGradient", scope.makeOpName("RaggedTensorToVariantGradient"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RaggedTensorToVariantGradient"));
     opBuilder.addInput(encodedRaggedGrad.asOutput());
     opBuilder.addInput(rowSplits.asOutput());
     opBuilder.addInput(denseValuesShape.asOutput());
@@ -79,6 +80,9 @@ public final class RaggedTensorToVariantGradient<U extends TType> extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RaggedTensorToVariantGradient";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Tvalues");
+  
   private Output<U> denseValuesGrad;
   
   private RaggedTensorToVariantGradient(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -90,7 +91,7 @@ public final class AllCandidateSampler extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static AllCandidateSampler create(Scope scope, Operand<TInt64> trueClasses, Long numTrue, Long numSampled, Boolean unique, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AllCandidateSampler", scope.makeOpName("AllCandidateSampler"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AllCandidateSampler"));
     opBuilder.addInput(trueClasses.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_true", numTrue);
@@ -155,6 +156,9 @@ public final class AllCandidateSampler extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AllCandidateSampler";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "num_true", "num_sampled", "unique", "seed", "seed2");
+  
   private Output<TInt64> sampledCandidates;
   private Output<TFloat32> trueExpectedCount;
   private Output<TFloat32> sampledExpectedCount;
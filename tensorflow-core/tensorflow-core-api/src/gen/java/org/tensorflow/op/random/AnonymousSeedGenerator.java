@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class AnonymousSeedGenerator extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static AnonymousSeedGenerator create(Scope scope, Operand<TInt64> seed, Operand<TInt64> seed2, Operand<TBool> reshuffle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AnonymousSeedGenerator", scope.makeOpName("AnonymousSeedGenerator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AnonymousSeedGenerator"));
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(seed2.asOutput());
     opBuilder.addInput(reshuffle.asOutput());
@@ -66,6 +67,9 @@ public final class AnonymousSeedGenerator extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AnonymousSeedGenerator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2);
+  
   private Output<?> handle;
   private Output<?> deleter;
   
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -80,7 +81,7 @@ public final class Multinomial<U extends TNumber> extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Multinomial<U> create(Scope scope, Operand<? extends TNumber> logits, Operand<TInt32> numSamples, Class<U> outputDtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Multinomial", scope.makeOpName("Multinomial"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Multinomial"));
     opBuilder.addInput(logits.asOutput());
     opBuilder.addInput(numSamples.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -144,6 +145,9 @@ public final class Multinomial<U extends TNumber> extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Multinomial";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_dtype", "seed", "seed2");
+  
   private Output<U> output;
   
   private Multinomial(Operation operation) {
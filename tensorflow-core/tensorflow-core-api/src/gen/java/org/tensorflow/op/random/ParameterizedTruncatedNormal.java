@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -83,7 +84,7 @@ public final class ParameterizedTruncatedNormal<U extends TNumber> extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> ParameterizedTruncatedNormal<U> create(Scope scope, Operand<? extends TNumber> shape, Operand<U> means, Operand<U> stdevs, Operand<U> minvals, Operand<U> maxvals, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ParameterizedTruncatedNormal", scope.makeOpName("ParameterizedTruncatedNormal"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ParameterizedTruncatedNormal"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(means.asOutput());
     opBuilder.addInput(stdevs.asOutput());
@@ -135,6 +136,9 @@ public final class ParameterizedTruncatedNormal<U extends TNumber> extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ParameterizedTruncatedNormal";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "seed", "seed2");
+  
   private Output<U> output;
   
   private ParameterizedTruncatedNormal(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -82,7 +83,7 @@ public final class RandomGamma<U extends TNumber> extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> RandomGamma<U> create(Scope scope, Operand<? extends TNumber> shape, Operand<U> alpha, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RandomGamma", scope.makeOpName("RandomGamma"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RandomGamma"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(alpha.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -132,6 +133,9 @@ public final class RandomGamma<U extends TNumber> extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RandomGamma";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "seed", "seed2");
+  
   private Output<U> output;
   
   private RandomGamma(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -91,7 +92,7 @@ public final class RandomPoisson<V extends TNumber> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <V extends TNumber> RandomPoisson<V> create(Scope scope, Operand<? extends TNumber> shape, Operand<? extends TNumber> rate, Class<V> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RandomPoissonV2", scope.makeOpName("RandomPoisson"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RandomPoisson"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(rate.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -158,6 +159,9 @@ public final class RandomPoisson<V extends TNumber> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RandomPoissonV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "seed", "seed2");
+  
   private Output<V> output;
   
   private RandomPoisson(Operation operation) {
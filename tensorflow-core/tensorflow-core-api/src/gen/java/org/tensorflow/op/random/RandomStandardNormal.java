@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -79,7 +80,7 @@ public final class RandomStandardNormal<U extends TNumber> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> RandomStandardNormal<U> create(Scope scope, Operand<? extends TNumber> shape, Class<U> dtype, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RandomStandardNormal", scope.makeOpName("RandomStandardNormal"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RandomStandardNormal"));
     opBuilder.addInput(shape.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
@@ -127,6 +128,9 @@ public final class RandomStandardNormal<U extends TNumber> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RandomStandardNormal";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "seed", "seed2");
+  
   private Output<U> output;
   
   private RandomStandardNormal(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -85,7 +86,7 @@ public final class RandomUniformInt<U extends TNumber> extends RawOp implements
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> RandomUniformInt<U> create(Scope scope, Operand<? extends TNumber> shape, Operand<U> minval, Operand<U> maxval, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RandomUniformInt", scope.makeOpName("RandomUniformInt"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RandomUniformInt"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(minval.asOutput());
     opBuilder.addInput(maxval.asOutput());
@@ -134,6 +135,9 @@ public final class RandomUniformInt<U extends TNumber> extends RawOp implements
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RandomUniformInt";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "seed", "seed2");
+  
   private Output<U> output;
   
   private RandomUniformInt(Operation operation) {
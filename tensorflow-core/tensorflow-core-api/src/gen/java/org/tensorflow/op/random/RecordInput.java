@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -109,7 +110,7 @@ public final class RecordInput extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static RecordInput create(Scope scope, String filePattern, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RecordInput", scope.makeOpName("RecordInput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RecordInput"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("file_pattern", filePattern);
     if (options != null) {
@@ -196,6 +197,9 @@ public final class RecordInput extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RecordInput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "file_pattern", "file_random_seed", "file_shuffle_shift_ratio", "file_buffer_size", "file_parallelism", "batch_size", "compression_type");
+  
   private Output<TString> records;
   
   private RecordInput(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class RngReadAndSkip extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static RngReadAndSkip create(Scope scope, Operand<?> resource, Operand<TInt32> alg, Operand<?> delta) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RngReadAndSkip", scope.makeOpName("RngReadAndSkip"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RngReadAndSkip"));
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(alg.asOutput());
     opBuilder.addInput(delta.asOutput());
@@ -72,6 +73,9 @@ public final class RngReadAndSkip extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RngReadAndSkip";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt64> value;
   
   private RngReadAndSkip(Operation operation) {
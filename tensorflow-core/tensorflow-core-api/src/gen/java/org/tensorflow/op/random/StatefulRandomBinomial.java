@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -49,7 +50,7 @@ public final class StatefulRandomBinomial<V extends TNumber> extends RawOp imple
    */
   @Endpoint(describeByClass = true)
   public static <V extends TNumber, U extends TNumber> StatefulRandomBinomial<V> create(Scope scope, Operand<?> resource, Operand<TInt64> algorithm, Operand<? extends TNumber> shape, Operand<U> counts, Operand<U> probs, Class<V> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatefulRandomBinomial", scope.makeOpName("StatefulRandomBinomial"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatefulRandomBinomial"));
     opBuilder.addInput(resource.asOutput());
     opBuilder.addInput(algorithm.asOutput());
     opBuilder.addInput(shape.asOutput());
@@ -90,6 +91,9 @@ public final class StatefulRandomBinomial<V extends TNumber> extends RawOp imple
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatefulRandomBinomial";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<V> output;
   
   private StatefulRandomBinomial(Operation operation) {
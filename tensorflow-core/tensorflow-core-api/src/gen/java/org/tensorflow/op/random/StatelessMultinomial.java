@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -51,7 +52,7 @@ public final class StatelessMultinomial<V extends TNumber> extends RawOp impleme
    */
   @Endpoint(describeByClass = true)
   public static <V extends TNumber> StatelessMultinomial<V> create(Scope scope, Operand<? extends TNumber> logits, Operand<TInt32> numSamples, Operand<? extends TNumber> seed, Class<V> outputDtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessMultinomial", scope.makeOpName("StatelessMultinomial"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessMultinomial"));
     opBuilder.addInput(logits.asOutput());
     opBuilder.addInput(numSamples.asOutput());
     opBuilder.addInput(seed.asOutput());
@@ -91,6 +92,9 @@ public final class StatelessMultinomial<V extends TNumber> extends RawOp impleme
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessMultinomial";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_dtype");
+  
   private Output<V> output;
   
   private StatelessMultinomial(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -47,7 +48,7 @@ public final class StatelessParameterizedTruncatedNormal<V extends TNumber> exte
    */
   @Endpoint(describeByClass = true)
   public static <V extends TNumber> StatelessParameterizedTruncatedNormal<V> create(Scope scope, Operand<? extends TNumber> shape, Operand<? extends TNumber> seed, Operand<V> means, Operand<V> stddevs, Operand<V> minvals, Operand<V> maxvals) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessParameterizedTruncatedNormal", scope.makeOpName("StatelessParameterizedTruncatedNormal"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessParameterizedTruncatedNormal"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(means.asOutput());
@@ -74,6 +75,9 @@ public final class StatelessParameterizedTruncatedNormal<V extends TNumber> exte
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessParameterizedTruncatedNormal";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<V> output;
   
   private StatelessParameterizedTruncatedNormal(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -55,7 +56,7 @@ public final class StatelessRandomBinomial<W extends TNumber> extends RawOp impl
    */
   @Endpoint(describeByClass = true)
   public static <W extends TNumber, V extends TNumber> StatelessRandomBinomial<W> create(Scope scope, Operand<? extends TNumber> shape, Operand<? extends TNumber> seed, Operand<V> counts, Operand<V> probs, Class<W> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessRandomBinomial", scope.makeOpName("StatelessRandomBinomial"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessRandomBinomial"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(counts.asOutput());
@@ -97,6 +98,9 @@ public final class StatelessRandomBinomial<W extends TNumber> extends RawOp impl
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessRandomBinomial";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<W> output;
   
   private StatelessRandomBinomial(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class StatelessRandomGetKeyCounterAlg extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static StatelessRandomGetKeyCounterAlg create(Scope scope, Operand<? extends TNumber> seed) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessRandomGetKeyCounterAlg", scope.makeOpName("StatelessRandomGetKeyCounterAlg"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessRandomGetKeyCounterAlg"));
     opBuilder.addInput(seed.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new StatelessRandomGetKeyCounterAlg(opBuilder.build());
@@ -74,6 +75,9 @@ public final class StatelessRandomGetKeyCounterAlg extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessRandomGetKeyCounterAlg";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3);
+  
   private Output<?> key;
   private Output<?> counter;
   private Output<TInt32> alg;
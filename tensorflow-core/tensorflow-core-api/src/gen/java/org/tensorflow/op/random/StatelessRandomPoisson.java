@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -52,7 +53,7 @@ public final class StatelessRandomPoisson<W extends TNumber> extends RawOp imple
    */
   @Endpoint(describeByClass = true)
   public static <W extends TNumber> StatelessRandomPoisson<W> create(Scope scope, Operand<? extends TNumber> shape, Operand<? extends TNumber> seed, Operand<? extends TNumber> lam, Class<W> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessRandomPoisson", scope.makeOpName("StatelessRandomPoisson"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessRandomPoisson"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(lam.asOutput());
@@ -76,6 +77,9 @@ public final class StatelessRandomPoisson<W extends TNumber> extends RawOp imple
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessRandomPoisson";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<W> output;
   
   private StatelessRandomPoisson(Operation operation) {
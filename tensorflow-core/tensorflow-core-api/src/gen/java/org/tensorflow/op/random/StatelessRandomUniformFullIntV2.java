@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -53,7 +54,7 @@ public final class StatelessRandomUniformFullIntV2<U extends TNumber> extends Ra
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> StatelessRandomUniformFullIntV2<U> create(Scope scope, Operand<? extends TNumber> shape, Operand<?> key, Operand<?> counter, Operand<TInt32> alg, Class<U> dtype) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessRandomUniformFullIntV2", scope.makeOpName("StatelessRandomUniformFullIntV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessRandomUniformFullIntV2"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(key.asOutput());
     opBuilder.addInput(counter.asOutput());
@@ -78,6 +79,9 @@ public final class StatelessRandomUniformFullIntV2<U extends TNumber> extends Ra
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessRandomUniformFullIntV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype");
+  
   private Output<U> output;
   
   private StatelessRandomUniformFullIntV2(Operation operation) {
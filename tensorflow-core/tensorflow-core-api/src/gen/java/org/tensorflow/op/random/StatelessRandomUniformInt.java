@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -50,7 +51,7 @@ public final class StatelessRandomUniformInt<V extends TNumber> extends RawOp im
    */
   @Endpoint(describeByClass = true)
   public static <V extends TNumber> StatelessRandomUniformInt<V> create(Scope scope, Operand<? extends TNumber> shape, Operand<? extends TNumber> seed, Operand<V> minval, Operand<V> maxval) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessRandomUniformInt", scope.makeOpName("StatelessRandomUniformInt"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessRandomUniformInt"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(seed.asOutput());
     opBuilder.addInput(minval.asOutput());
@@ -74,6 +75,9 @@ public final class StatelessRandomUniformInt<V extends TNumber> extends RawOp im
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessRandomUniformInt";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<V> output;
   
   private StatelessRandomUniformInt(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.random;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class StatelessRandomUniformIntV2<U extends TNumber> extends RawOp
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> StatelessRandomUniformIntV2<U> create(Scope scope, Operand<? extends TNumber> shape, Operand<?> key, Operand<?> counter, Operand<TInt32> alg, Operand<U> minval, Operand<U> maxval) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StatelessRandomUniformIntV2", scope.makeOpName("StatelessRandomUniformIntV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StatelessRandomUniformIntV2"));
     opBuilder.addInput(shape.asOutput());
     opBuilder.addInput(key.asOutput());
     opBuilder.addInput(counter.asOutput());
@@ -79,6 +80,9 @@ public final class StatelessRandomUniformIntV2<U extends TNumber> extends RawOp
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StatelessRandomUniformIntV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<U> output;
   
   private StatelessRandomUniformIntV2(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.signal;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -64,7 +65,7 @@ public final class Irfft<U extends TNumber> extends RawOp implements Operand<U>
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> Irfft<U> create(Scope scope, Operand<? extends TType> input, Operand<TInt32> fftLength, Class<U> Treal) {
-    OperationBuilder opBuilder = scope.env().opBuilder("IRFFT", scope.makeOpName("Irfft"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Irfft"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(fftLength.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -106,6 +107,9 @@ public final class Irfft<U extends TNumber> extends RawOp implements Operand<U>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "IRFFT";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Treal");
+  
   private Output<U> output;
   
   private Irfft(Operation operation) {
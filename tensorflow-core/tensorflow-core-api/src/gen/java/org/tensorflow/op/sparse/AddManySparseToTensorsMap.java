@@ -20,6 +20,7 @@ package org.tensorflow.op.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -99,7 +100,7 @@ public final class AddManySparseToTensorsMap extends RawOp implements Operand<TI
    */
   @Endpoint(describeByClass = true)
   public static AddManySparseToTensorsMap create(Scope scope, Operand<TInt64> sparseIndices, Operand<? extends TType> sparseValues, Operand<TInt64> sparseShape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AddManySparseToTensorsMap", scope.makeOpName("AddManySparseToTensorsMap"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AddManySparseToTensorsMap"));
     opBuilder.addInput(sparseIndices.asOutput());
     opBuilder.addInput(sparseValues.asOutput());
     opBuilder.addInput(sparseShape.asOutput());
@@ -148,6 +149,9 @@ public final class AddManySparseToTensorsMap extends RawOp implements Operand<TI
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AddManySparseToTensorsMap";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "container", "shared_name");
+  
   private Output<TInt64> sparseHandles;
   
   private AddManySparseToTensorsMap(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -78,7 +79,7 @@ public final class DenseCountSparseOutput<U extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> DenseCountSparseOutput<U> create(Scope scope, Operand<? extends TNumber> values, Operand<U> weights, Boolean binaryOutput, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("DenseCountSparseOutput", scope.makeOpName("DenseCountSparseOutput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("DenseCountSparseOutput"));
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(weights.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -134,6 +135,9 @@ public final class DenseCountSparseOutput<U extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "DenseCountSparseOutput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "binary_output", "minlength", "maxlength");
+  
   private Output<TInt64> outputIndices;
   private Output<U> outputValues;
   private Output<TInt64> outputDenseShape;
@@ -20,6 +20,7 @@ package org.tensorflow.op.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -55,7 +56,7 @@ public final class SparseAccumulatorApplyGradient extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static SparseAccumulatorApplyGradient create(Scope scope, Operand<TString> handle, Operand<TInt64> localStep, Operand<TInt64> gradientIndices, Operand<? extends TType> gradientValues, Operand<TInt64> gradientShape, Boolean hasKnownShape) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseAccumulatorApplyGradient", scope.makeOpName("SparseAccumulatorApplyGradient"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseAccumulatorApplyGradient"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(localStep.asOutput());
     opBuilder.addInput(gradientIndices.asOutput());
@@ -69,6 +70,9 @@ public final class SparseAccumulatorApplyGradient extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseAccumulatorApplyGradient";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "has_known_shape");
+  
   private SparseAccumulatorApplyGradient(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -93,7 +94,7 @@ public final class SparseConditionalAccumulator extends RawOp implements Operand
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> SparseConditionalAccumulator create(Scope scope, Class<T> dtype, Shape shape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseConditionalAccumulator", scope.makeOpName("SparseConditionalAccumulator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseConditionalAccumulator"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
     opBuilder.setAttr("shape", shape);
@@ -151,6 +152,9 @@ public final class SparseConditionalAccumulator extends RawOp implements Operand
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseConditionalAccumulator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "shape", "container", "shared_name", "reduction_type");
+  
   private Output<TString> handle;
   
   private SparseConditionalAccumulator(Operation operation) {
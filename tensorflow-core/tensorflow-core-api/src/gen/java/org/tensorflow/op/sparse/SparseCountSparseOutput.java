@@ -20,6 +20,7 @@ package org.tensorflow.op.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -80,7 +81,7 @@ public final class SparseCountSparseOutput<U extends TNumber> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <U extends TNumber> SparseCountSparseOutput<U> create(Scope scope, Operand<TInt64> indices, Operand<? extends TNumber> values, Operand<TInt64> denseShape, Operand<U> weights, Boolean binaryOutput, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseCountSparseOutput", scope.makeOpName("SparseCountSparseOutput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseCountSparseOutput"));
     opBuilder.addInput(indices.asOutput());
     opBuilder.addInput(values.asOutput());
     opBuilder.addInput(denseShape.asOutput());
@@ -138,6 +139,9 @@ public final class SparseCountSparseOutput<U extends TNumber> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseCountSparseOutput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "binary_output", "minlength", "maxlength");
+  
   private Output<TInt64> outputIndices;
   private Output<U> outputValues;
   private Output<TInt64> outputDenseShape;
@@ -20,6 +20,7 @@ package org.tensorflow.op.sparse;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -101,7 +102,7 @@ public final class SparseMatMul extends RawOp implements Operand<TFloat32> {
    */
   @Endpoint(describeByClass = true)
   public static SparseMatMul create(Scope scope, Operand<? extends TNumber> a, Operand<? extends TNumber> b, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SparseMatMul", scope.makeOpName("SparseMatMul"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SparseMatMul"));
     opBuilder.addInput(a.asOutput());
     opBuilder.addInput(b.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -166,6 +167,9 @@ public final class SparseMatMul extends RawOp implements Operand<TFloat32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SparseMatMul";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "transpose_a", "transpose_b", "a_is_sparse", "b_is_sparse");
+  
   private Output<TFloat32> product;
   
   private SparseMatMul(Operation operation) {
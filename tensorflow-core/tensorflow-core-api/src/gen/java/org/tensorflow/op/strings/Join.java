@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -73,7 +74,7 @@ public final class Join extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static Join create(Scope scope, Iterable<Operand<TString>> inputs, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StringJoin", scope.makeOpName("Join"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Join"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -107,6 +108,9 @@ public final class Join extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StringJoin";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "separator");
+  
   private Output<TString> output;
   
   private Join(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -99,7 +100,7 @@ public final class ReduceJoin extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static ReduceJoin create(Scope scope, Operand<TString> inputs, Operand<TInt32> reductionIndices, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ReduceJoin", scope.makeOpName("ReduceJoin"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReduceJoin"));
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(reductionIndices.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -146,6 +147,9 @@ public final class ReduceJoin extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ReduceJoin";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "keep_dims", "separator");
+  
   private Output<TString> output;
   
   private ReduceJoin(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -58,7 +59,7 @@ public final class RegexFullMatch extends RawOp implements Operand<TBool> {
    */
   @Endpoint(describeByClass = true)
   public static RegexFullMatch create(Scope scope, Operand<TString> input, Operand<TString> pattern) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RegexFullMatch", scope.makeOpName("RegexFullMatch"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RegexFullMatch"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(pattern.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -80,6 +81,9 @@ public final class RegexFullMatch extends RawOp implements Operand<TBool> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RegexFullMatch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TBool> output;
   
   private RegexFullMatch(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -50,7 +51,7 @@ public final class StaticRegexFullMatch extends RawOp implements Operand<TBool>
    */
   @Endpoint(describeByClass = true)
   public static StaticRegexFullMatch create(Scope scope, Operand<TString> input, String pattern) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StaticRegexFullMatch", scope.makeOpName("StaticRegexFullMatch"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StaticRegexFullMatch"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("pattern", pattern);
@@ -72,6 +73,9 @@ public final class StaticRegexFullMatch extends RawOp implements Operand<TBool>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StaticRegexFullMatch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "pattern");
+  
   private Output<TBool> output;
   
   private StaticRegexFullMatch(Operation operation) {
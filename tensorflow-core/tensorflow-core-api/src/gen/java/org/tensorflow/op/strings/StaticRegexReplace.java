@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -66,7 +67,7 @@ public final class StaticRegexReplace extends RawOp implements Operand<TString>
    */
   @Endpoint(describeByClass = true)
   public static StaticRegexReplace create(Scope scope, Operand<TString> input, String pattern, String rewrite, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StaticRegexReplace", scope.makeOpName("StaticRegexReplace"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StaticRegexReplace"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("pattern", pattern);
@@ -104,6 +105,9 @@ public final class StaticRegexReplace extends RawOp implements Operand<TString>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StaticRegexReplace";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "pattern", "rewrite", "replace_global");
+  
   private Output<TString> output;
   
   private StaticRegexReplace(Operation operation) {
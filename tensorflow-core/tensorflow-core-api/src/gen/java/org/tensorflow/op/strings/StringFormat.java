@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -83,7 +84,7 @@ public final class StringFormat extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static StringFormat create(Scope scope, Iterable<Operand<?>> inputs, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StringFormat", scope.makeOpName("StringFormat"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StringFormat"));
     opBuilder.addInputList(Operands.asOutputs(inputs));
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
@@ -138,6 +139,9 @@ public final class StringFormat extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StringFormat";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "template", "placeholder", "summarize");
+  
   private Output<TString> output;
   
   private StringFormat(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -88,7 +89,7 @@ public final class StringSplit extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static StringSplit create(Scope scope, Operand<TString> input, Operand<TString> sep, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StringSplitV2", scope.makeOpName("StringSplit"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("StringSplit"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(sep.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -130,6 +131,9 @@ public final class StringSplit extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StringSplitV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "maxsplit");
+  
   private Output<TInt64> indices;
   private Output<TString> values;
   private Output<TInt64> shape;
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -145,7 +146,7 @@ public final class Substr extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber> Substr create(Scope scope, Operand<TString> input, Operand<T> pos, Operand<T> len, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("Substr", scope.makeOpName("Substr"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Substr"));
     opBuilder.addInput(input.asOutput());
     opBuilder.addInput(pos.asOutput());
     opBuilder.addInput(len.asOutput());
@@ -186,6 +187,9 @@ public final class Substr extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "Substr";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "unit");
+  
   private Output<TString> output;
   
   private Substr(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -51,7 +52,7 @@ public final class ToHashBucket extends RawOp implements Operand<TInt64> {
    */
   @Endpoint(describeByClass = true)
   public static ToHashBucket create(Scope scope, Operand<TString> stringTensor, Long numBuckets) {
-    OperationBuilder opBuilder = scope.env().opBuilder("StringToHashBucket", scope.makeOpName("ToHashBucket"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ToHashBucket"));
     opBuilder.addInput(stringTensor.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_buckets", numBuckets);
@@ -73,6 +74,9 @@ public final class ToHashBucket extends RawOp implements Operand<TInt64> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "StringToHashBucket";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "num_buckets");
+  
   private Output<TInt64> output;
   
   private ToHashBucket(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -102,7 +103,7 @@ public final class UnicodeEncode extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static UnicodeEncode create(Scope scope, Operand<TInt32> inputValues, Operand<? extends TNumber> inputSplits, String outputEncoding, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("UnicodeEncode", scope.makeOpName("UnicodeEncode"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("UnicodeEncode"));
     opBuilder.addInput(inputValues.asOutput());
     opBuilder.addInput(inputSplits.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -158,6 +159,9 @@ public final class UnicodeEncode extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "UnicodeEncode";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "output_encoding", "errors", "replacement_char");
+  
   private Output<TString> output;
   
   private UnicodeEncode(Operation operation) {
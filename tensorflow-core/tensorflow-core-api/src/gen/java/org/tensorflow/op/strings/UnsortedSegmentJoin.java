@@ -20,6 +20,7 @@ package org.tensorflow.op.strings;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -93,7 +94,7 @@ public final class UnsortedSegmentJoin extends RawOp implements Operand<TString>
    */
   @Endpoint(describeByClass = true)
   public static UnsortedSegmentJoin create(Scope scope, Operand<TString> inputs, Operand<? extends TNumber> segmentIds, Operand<? extends TNumber> numSegments, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("UnsortedSegmentJoin", scope.makeOpName("UnsortedSegmentJoin"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("UnsortedSegmentJoin"));
     opBuilder.addInput(inputs.asOutput());
     opBuilder.addInput(segmentIds.asOutput());
     opBuilder.addInput(numSegments.asOutput());
@@ -129,6 +130,9 @@ public final class UnsortedSegmentJoin extends RawOp implements Operand<TString>
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "UnsortedSegmentJoin";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "separator");
+  
   private Output<TString> output;
   
   private UnsortedSegmentJoin(Operation operation) {
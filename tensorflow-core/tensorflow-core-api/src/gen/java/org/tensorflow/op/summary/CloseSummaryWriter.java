@@ -20,6 +20,7 @@ package org.tensorflow.op.summary;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -38,7 +39,7 @@ public final class CloseSummaryWriter extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static CloseSummaryWriter create(Scope scope, Operand<?> writer) {
-    OperationBuilder opBuilder = scope.env().opBuilder("CloseSummaryWriter", scope.makeOpName("CloseSummaryWriter"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CloseSummaryWriter"));
     opBuilder.addInput(writer.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new CloseSummaryWriter(opBuilder.build());
@@ -47,6 +48,9 @@ public final class CloseSummaryWriter extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "CloseSummaryWriter";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private CloseSummaryWriter(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.summary;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.Tensor;
 import org.tensorflow.op.RawOp;
@@ -122,7 +123,7 @@ public final class ImageSummary extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static ImageSummary create(Scope scope, Operand<TString> tag, Operand<? extends TNumber> tensor, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ImageSummary", scope.makeOpName("ImageSummary"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ImageSummary"));
     opBuilder.addInput(tag.asOutput());
     opBuilder.addInput(tensor.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -168,6 +169,9 @@ public final class ImageSummary extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ImageSummary";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "max_images", "bad_color");
+  
   private Output<TString> summary;
   
   private ImageSummary(Operation operation) {
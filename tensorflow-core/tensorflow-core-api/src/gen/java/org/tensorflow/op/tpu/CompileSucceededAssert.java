@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -45,7 +46,7 @@ public final class CompileSucceededAssert extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static CompileSucceededAssert create(Scope scope, Operand<TString> compilationStatus) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUCompileSucceededAssert", scope.makeOpName("CompileSucceededAssert"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("CompileSucceededAssert"));
     opBuilder.addInput(compilationStatus.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new CompileSucceededAssert(opBuilder.build());
@@ -54,6 +55,9 @@ public final class CompileSucceededAssert extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUCompileSucceededAssert";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private CompileSucceededAssert(Operation operation) {
     super(operation);
   }
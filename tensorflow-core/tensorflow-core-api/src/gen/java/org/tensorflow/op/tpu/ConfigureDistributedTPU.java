@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -97,7 +98,7 @@ public final class ConfigureDistributedTPU extends RawOp implements Operand<TStr
    */
   @Endpoint(describeByClass = true)
   public static ConfigureDistributedTPU create(Scope scope, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ConfigureDistributedTPU", scope.makeOpName("ConfigureDistributedTPU"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ConfigureDistributedTPU"));
     opBuilder = scope.apply(opBuilder);
     if (options != null) {
       for (Options opts : options) {
@@ -173,6 +174,9 @@ public final class ConfigureDistributedTPU extends RawOp implements Operand<TStr
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ConfigureDistributedTPU";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "embedding_config", "tpu_embedding_config", "is_global_init", "enable_whole_mesh_compilations", "compilation_failure_closes_chips");
+  
   private Output<TString> topology;
   
   private ConfigureDistributedTPU(Operation operation) {
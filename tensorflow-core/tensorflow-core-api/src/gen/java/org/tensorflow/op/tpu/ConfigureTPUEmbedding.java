@@ -19,6 +19,7 @@ package org.tensorflow.op.tpu;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -39,7 +40,7 @@ public final class ConfigureTPUEmbedding extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ConfigureTPUEmbedding create(Scope scope, String config) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ConfigureTPUEmbedding", scope.makeOpName("ConfigureTPUEmbedding"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ConfigureTPUEmbedding"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("config", config);
     return new ConfigureTPUEmbedding(opBuilder.build());
@@ -48,6 +49,9 @@ public final class ConfigureTPUEmbedding extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ConfigureTPUEmbedding";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "config");
+  
   private ConfigureTPUEmbedding(Operation operation) {
     super(operation);
   }
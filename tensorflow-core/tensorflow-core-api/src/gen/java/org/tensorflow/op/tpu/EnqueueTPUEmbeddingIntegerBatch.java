@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -68,7 +69,7 @@ public final class EnqueueTPUEmbeddingIntegerBatch extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static EnqueueTPUEmbeddingIntegerBatch create(Scope scope, Iterable<Operand<TInt32>> batch, Operand<TString> modeOverride, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EnqueueTPUEmbeddingIntegerBatch", scope.makeOpName("EnqueueTPUEmbeddingIntegerBatch"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EnqueueTPUEmbeddingIntegerBatch"));
     opBuilder.addInputList(Operands.asOutputs(batch));
     opBuilder.addInput(modeOverride.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -93,6 +94,9 @@ public final class EnqueueTPUEmbeddingIntegerBatch extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EnqueueTPUEmbeddingIntegerBatch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "device_ordinal");
+  
   private EnqueueTPUEmbeddingIntegerBatch(Operation operation) {
     super(operation);
   }
@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -114,7 +115,7 @@ public final class EnqueueTPUEmbeddingRaggedTensorBatch extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TNumber, U extends TNumber, V extends TNumber> EnqueueTPUEmbeddingRaggedTensorBatch create(Scope scope, Iterable<Operand<T>> sampleSplits, Iterable<Operand<U>> embeddingIndices, Iterable<Operand<V>> aggregationWeights, Operand<TString> modeOverride, List<Long> tableIds, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("EnqueueTPUEmbeddingRaggedTensorBatch", scope.makeOpName("EnqueueTPUEmbeddingRaggedTensorBatch"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("EnqueueTPUEmbeddingRaggedTensorBatch"));
     opBuilder.addInputList(Operands.asOutputs(sampleSplits));
     opBuilder.addInputList(Operands.asOutputs(embeddingIndices));
     opBuilder.addInputList(Operands.asOutputs(aggregationWeights));
@@ -179,6 +180,9 @@ public final class EnqueueTPUEmbeddingRaggedTensorBatch extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "EnqueueTPUEmbeddingRaggedTensorBatch";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "table_ids", "device_ordinal", "combiners", "max_sequence_lengths");
+  
   private EnqueueTPUEmbeddingRaggedTensorBatch(Operation operation) {
     super(operation);
   }
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -59,7 +60,7 @@ public final class ExecuteAndUpdateVariables extends RawOp implements Iterable<O
    */
   @Endpoint(describeByClass = true)
   public static ExecuteAndUpdateVariables create(Scope scope, Iterable<Operand<?>> args, Operand<TString> key, List<Class<? extends TType>> Tresults, List<Long> deviceVarReadsIndices, List<Long> deviceVarUpdatesIndices) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUExecuteAndUpdateVariables", scope.makeOpName("ExecuteAndUpdateVariables"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ExecuteAndUpdateVariables"));
     opBuilder.addInputList(Operands.asOutputs(args));
     opBuilder.addInput(key.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -92,6 +93,9 @@ public final class ExecuteAndUpdateVariables extends RawOp implements Iterable<O
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUExecuteAndUpdateVariables";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "Tresults", "device_var_reads_indices", "device_var_updates_indices");
+  
   private List<Output<?>> results;
   
   private ExecuteAndUpdateVariables(Operation operation) {
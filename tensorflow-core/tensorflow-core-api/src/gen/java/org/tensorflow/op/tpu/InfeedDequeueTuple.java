@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -47,7 +48,7 @@ public final class InfeedDequeueTuple extends RawOp implements Iterable<Operand<
    */
   @Endpoint(describeByClass = true)
   public static InfeedDequeueTuple create(Scope scope, List<Class<? extends TType>> dtypes, List<Shape> shapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("InfeedDequeueTuple", scope.makeOpName("InfeedDequeueTuple"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("InfeedDequeueTuple"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
     Shape[] shapesArray = new Shape[shapes.size()];
@@ -74,6 +75,9 @@ public final class InfeedDequeueTuple extends RawOp implements Iterable<Operand<
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "InfeedDequeueTuple";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "dtypes", "shapes");
+  
   private List<Output<?>> outputs;
   
   private InfeedDequeueTuple(Operation operation) {
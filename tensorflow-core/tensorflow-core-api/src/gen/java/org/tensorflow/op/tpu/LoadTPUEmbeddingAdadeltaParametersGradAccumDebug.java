@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -89,7 +90,7 @@ public final class LoadTPUEmbeddingAdadeltaParametersGradAccumDebug extends RawO
    */
   @Endpoint(describeByClass = true)
   public static LoadTPUEmbeddingAdadeltaParametersGradAccumDebug create(Scope scope, Operand<TFloat32> parameters, Operand<TFloat32> accumulators, Operand<TFloat32> updates, Operand<TFloat32> gradientAccumulators, Long numShards, Long shardId, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LoadTPUEmbeddingAdadeltaParametersGradAccumDebug", scope.makeOpName("LoadTPUEmbeddingAdadeltaParametersGradAccumDebug"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LoadTPUEmbeddingAdadeltaParametersGradAccumDebug"));
     opBuilder.addInput(parameters.asOutput());
     opBuilder.addInput(accumulators.asOutput());
     opBuilder.addInput(updates.asOutput());
@@ -137,6 +138,9 @@ public final class LoadTPUEmbeddingAdadeltaParametersGradAccumDebug extends RawO
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LoadTPUEmbeddingAdadeltaParametersGradAccumDebug";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "num_shards", "shard_id", "table_id", "table_name", "config");
+  
   private LoadTPUEmbeddingAdadeltaParametersGradAccumDebug(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -86,7 +87,7 @@ public final class LoadTPUEmbeddingStochasticGradientDescentParameters extends R
    */
   @Endpoint(describeByClass = true)
   public static LoadTPUEmbeddingStochasticGradientDescentParameters create(Scope scope, Operand<TFloat32> parameters, Long numShards, Long shardId, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LoadTPUEmbeddingStochasticGradientDescentParameters", scope.makeOpName("LoadTPUEmbeddingStochasticGradientDescentParameters"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LoadTPUEmbeddingStochasticGradientDescentParameters"));
     opBuilder.addInput(parameters.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
@@ -131,6 +132,9 @@ public final class LoadTPUEmbeddingStochasticGradientDescentParameters extends R
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LoadTPUEmbeddingStochasticGradientDescentParameters";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "num_shards", "shard_id", "table_id", "table_name", "config");
+  
   private LoadTPUEmbeddingStochasticGradientDescentParameters(Operation operation) {
     super(operation);
   }
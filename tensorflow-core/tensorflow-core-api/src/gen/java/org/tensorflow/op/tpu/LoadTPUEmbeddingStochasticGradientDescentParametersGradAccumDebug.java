@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -87,7 +88,7 @@ public final class LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumD
    */
   @Endpoint(describeByClass = true)
   public static LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumDebug create(Scope scope, Operand<TFloat32> parameters, Operand<TFloat32> gradientAccumulators, Long numShards, Long shardId, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumDebug", scope.makeOpName("LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumDebug"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumDebug"));
     opBuilder.addInput(parameters.asOutput());
     opBuilder.addInput(gradientAccumulators.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -133,6 +134,9 @@ public final class LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumD
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumDebug";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "num_shards", "shard_id", "table_id", "table_name", "config");
+  
   private LoadTPUEmbeddingStochasticGradientDescentParametersGradAccumDebug(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class OrdinalSelector extends RawOp implements Operand<TInt32> {
    */
   @Endpoint(describeByClass = true)
   public static OrdinalSelector create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUOrdinalSelector", scope.makeOpName("OrdinalSelector"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OrdinalSelector"));
     opBuilder = scope.apply(opBuilder);
     return new OrdinalSelector(opBuilder.build());
   }
@@ -64,6 +65,9 @@ public final class OrdinalSelector extends RawOp implements Operand<TInt32> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUOrdinalSelector";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt32> deviceOrdinals;
   
   private OrdinalSelector(Operation operation) {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -55,7 +56,7 @@ public final class OutfeedDequeueTupleV2 extends RawOp implements Iterable<Opera
    */
   @Endpoint(describeByClass = true)
   public static OutfeedDequeueTupleV2 create(Scope scope, Operand<TInt32> deviceOrdinal, List<Class<? extends TType>> dtypes, List<Shape> shapes) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OutfeedDequeueTupleV2", scope.makeOpName("OutfeedDequeueTupleV2"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OutfeedDequeueTupleV2"));
     opBuilder.addInput(deviceOrdinal.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtypes", Operands.toDataTypes(dtypes));
@@ -83,6 +84,9 @@ public final class OutfeedDequeueTupleV2 extends RawOp implements Iterable<Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OutfeedDequeueTupleV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "dtypes", "shapes");
+  
   private List<Output<?>> outputs;
   
   private OutfeedDequeueTupleV2(Operation operation) {
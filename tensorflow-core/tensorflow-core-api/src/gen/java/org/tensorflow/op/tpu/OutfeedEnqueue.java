@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -40,7 +41,7 @@ public final class OutfeedEnqueue extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static OutfeedEnqueue create(Scope scope, Operand<? extends TType> input) {
-    OperationBuilder opBuilder = scope.env().opBuilder("OutfeedEnqueue", scope.makeOpName("OutfeedEnqueue"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("OutfeedEnqueue"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new OutfeedEnqueue(opBuilder.build());
@@ -49,6 +50,9 @@ public final class OutfeedEnqueue extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "OutfeedEnqueue";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private OutfeedEnqueue(Operation operation) {
     super(operation);
   }
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -70,7 +71,7 @@ public final class PartitionedOutput<T extends TType> extends RawOp implements I
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> PartitionedOutput<T> create(Scope scope, Operand<T> inputs, Long numSplits, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUPartitionedOutput", scope.makeOpName("PartitionedOutput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("PartitionedOutput"));
     opBuilder.addInput(inputs.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_splits", numSplits);
@@ -107,6 +108,9 @@ public final class PartitionedOutput<T extends TType> extends RawOp implements I
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUPartitionedOutput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_splits", "partition_dim");
+  
   private List<Output<T>> output;
   
   @SuppressWarnings("unchecked")
@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -53,7 +54,7 @@ public final class RecvTPUEmbeddingActivations extends RawOp implements Iterable
    */
   @Endpoint(describeByClass = true)
   public static RecvTPUEmbeddingActivations create(Scope scope, Long numOutputs, String config) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RecvTPUEmbeddingActivations", scope.makeOpName("RecvTPUEmbeddingActivations"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RecvTPUEmbeddingActivations"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_outputs", numOutputs);
     opBuilder.setAttr("config", config);
@@ -77,6 +78,9 @@ public final class RecvTPUEmbeddingActivations extends RawOp implements Iterable
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RecvTPUEmbeddingActivations";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_outputs", "config");
+  
   private List<Output<TFloat32>> outputs;
   
   @SuppressWarnings("unchecked")
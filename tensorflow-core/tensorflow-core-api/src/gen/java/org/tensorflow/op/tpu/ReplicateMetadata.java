@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import java.util.List;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -142,7 +143,7 @@ public final class ReplicateMetadata extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ReplicateMetadata create(Scope scope, Long numReplicas, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUReplicateMetadata", scope.makeOpName("ReplicateMetadata"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReplicateMetadata"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_replicas", numReplicas);
     if (options != null) {
@@ -271,6 +272,9 @@ public final class ReplicateMetadata extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUReplicateMetadata";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "num_replicas", "num_cores_per_replica", "topology", "use_tpu", "device_assignment", "computation_shape", "host_compute_core", "padding_map", "step_marker_location", "allow_soft_placement", "use_spmd_for_xla_partitioning");
+  
   private ReplicateMetadata(Operation operation) {
     super(operation);
   }
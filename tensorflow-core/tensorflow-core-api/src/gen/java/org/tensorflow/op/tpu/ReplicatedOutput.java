@@ -23,6 +23,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -57,7 +58,7 @@ public final class ReplicatedOutput<T extends TType> extends RawOp implements It
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ReplicatedOutput<T> create(Scope scope, Operand<T> input, Long numReplicas) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUReplicatedOutput", scope.makeOpName("ReplicatedOutput"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ReplicatedOutput"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_replicas", numReplicas);
@@ -79,6 +80,9 @@ public final class ReplicatedOutput<T extends TType> extends RawOp implements It
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUReplicatedOutput";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "num_replicas");
+  
   private List<Output<T>> outputs;
   
   @SuppressWarnings("unchecked")
@@ -19,6 +19,7 @@ package org.tensorflow.op.tpu;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -84,7 +85,7 @@ public final class RetrieveTPUEmbeddingADAMParameters extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static RetrieveTPUEmbeddingADAMParameters create(Scope scope, Long numShards, Long shardId, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("RetrieveTPUEmbeddingADAMParameters", scope.makeOpName("RetrieveTPUEmbeddingADAMParameters"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("RetrieveTPUEmbeddingADAMParameters"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("num_shards", numShards);
     opBuilder.setAttr("shard_id", shardId);
@@ -149,6 +150,9 @@ public final class RetrieveTPUEmbeddingADAMParameters extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "RetrieveTPUEmbeddingADAMParameters";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "num_shards", "shard_id", "table_id", "table_name", "config");
+  
   private Output<TFloat32> parameters;
   private Output<TFloat32> momenta;
   private Output<TFloat32> velocities;
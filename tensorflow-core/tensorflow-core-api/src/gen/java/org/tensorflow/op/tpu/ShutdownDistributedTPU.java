@@ -19,6 +19,7 @@ package org.tensorflow.op.tpu;
 
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -39,7 +40,7 @@ public final class ShutdownDistributedTPU extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ShutdownDistributedTPU create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ShutdownDistributedTPU", scope.makeOpName("ShutdownDistributedTPU"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ShutdownDistributedTPU"));
     opBuilder = scope.apply(opBuilder);
     return new ShutdownDistributedTPU(opBuilder.build());
   }
@@ -47,6 +48,9 @@ public final class ShutdownDistributedTPU extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ShutdownDistributedTPU";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private ShutdownDistributedTPU(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class TPUCompilationResult extends RawOp implements Operand<TString
    */
   @Endpoint(describeByClass = true)
   public static TPUCompilationResult create(Scope scope) {
-    OperationBuilder opBuilder = scope.env().opBuilder("TPUCompilationResult", scope.makeOpName("TPUCompilationResult"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("TPUCompilationResult"));
     opBuilder = scope.apply(opBuilder);
     return new TPUCompilationResult(opBuilder.build());
   }
@@ -63,6 +64,9 @@ public final class TPUCompilationResult extends RawOp implements Operand<TString
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "TPUCompilationResult";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> output;
   
   private TPUCompilationResult(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.tpu;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -44,7 +45,7 @@ public final class WorkerHeartbeat extends RawOp implements Operand<TString> {
    */
   @Endpoint(describeByClass = true)
   public static WorkerHeartbeat create(Scope scope, Operand<TString> request) {
-    OperationBuilder opBuilder = scope.env().opBuilder("WorkerHeartbeat", scope.makeOpName("WorkerHeartbeat"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("WorkerHeartbeat"));
     opBuilder.addInput(request.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new WorkerHeartbeat(opBuilder.build());
@@ -65,6 +66,9 @@ public final class WorkerHeartbeat extends RawOp implements Operand<TString> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "WorkerHeartbeat";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TString> response;
   
   private WorkerHeartbeat(Operation operation) {
@@ -20,6 +20,7 @@ package org.tensorflow.op.train;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -43,7 +44,7 @@ public final class AccumulatorNumAccumulated extends RawOp implements Operand<TI
    */
   @Endpoint(describeByClass = true)
   public static AccumulatorNumAccumulated create(Scope scope, Operand<TString> handle) {
-    OperationBuilder opBuilder = scope.env().opBuilder("AccumulatorNumAccumulated", scope.makeOpName("AccumulatorNumAccumulated"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("AccumulatorNumAccumulated"));
     opBuilder.addInput(handle.asOutput());
     opBuilder = scope.apply(opBuilder);
     return new AccumulatorNumAccumulated(opBuilder.build());
@@ -64,6 +65,9 @@ public final class AccumulatorNumAccumulated extends RawOp implements Operand<TI
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "AccumulatorNumAccumulated";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1);
+  
   private Output<TInt32> numAccumulated;
   
   private AccumulatorNumAccumulated(Operation operation) {
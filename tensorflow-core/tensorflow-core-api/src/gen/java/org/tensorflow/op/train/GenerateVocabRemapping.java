@@ -20,6 +20,7 @@ package org.tensorflow.op.train;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -97,7 +98,7 @@ public final class GenerateVocabRemapping extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static GenerateVocabRemapping create(Scope scope, Operand<TString> newVocabFile, Operand<TString> oldVocabFile, Long newVocabOffset, Long numNewVocab, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("GenerateVocabRemapping", scope.makeOpName("GenerateVocabRemapping"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("GenerateVocabRemapping"));
     opBuilder.addInput(newVocabFile.asOutput());
     opBuilder.addInput(oldVocabFile.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -140,6 +141,9 @@ public final class GenerateVocabRemapping extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "GenerateVocabRemapping";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 2, "new_vocab_offset", "num_new_vocab", "old_vocab_size");
+  
   private Output<TInt64> remapping;
   private Output<TInt32> numPresent;
   
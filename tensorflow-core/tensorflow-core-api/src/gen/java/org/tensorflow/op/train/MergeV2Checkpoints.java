@@ -20,6 +20,7 @@ package org.tensorflow.op.train;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -72,7 +73,7 @@ public final class MergeV2Checkpoints extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static MergeV2Checkpoints create(Scope scope, Operand<TString> checkpointPrefixes, Operand<TString> destinationPrefix, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("MergeV2Checkpoints", scope.makeOpName("MergeV2Checkpoints"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("MergeV2Checkpoints"));
     opBuilder.addInput(checkpointPrefixes.asOutput());
     opBuilder.addInput(destinationPrefix.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -96,6 +97,9 @@ public final class MergeV2Checkpoints extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "MergeV2Checkpoints";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "delete_old_dirs");
+  
   private MergeV2Checkpoints(Operation operation) {
     super(operation);
   }
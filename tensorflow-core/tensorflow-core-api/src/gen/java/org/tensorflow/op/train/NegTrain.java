@@ -21,6 +21,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -49,7 +50,7 @@ public final class NegTrain extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static NegTrain create(Scope scope, Operand<TFloat32> wIn, Operand<TFloat32> wOut, Operand<TInt32> examples, Operand<TInt32> labels, Operand<TFloat32> lr, List<Long> vocabCount, Long numNegativeSamples) {
-    OperationBuilder opBuilder = scope.env().opBuilder("NegTrain", scope.makeOpName("NegTrain"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("NegTrain"));
     opBuilder.addInput(wIn.asOutput());
     opBuilder.addInput(wOut.asOutput());
     opBuilder.addInput(examples.asOutput());
@@ -68,6 +69,9 @@ public final class NegTrain extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "NegTrain";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "vocab_count", "num_negative_samples");
+  
   private NegTrain(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.train;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -44,7 +45,7 @@ public final class ResourceAccumulatorSetGlobalStep extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static ResourceAccumulatorSetGlobalStep create(Scope scope, Operand<?> handle, Operand<TInt64> newGlobalStep) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResourceAccumulatorSetGlobalStep", scope.makeOpName("ResourceAccumulatorSetGlobalStep"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResourceAccumulatorSetGlobalStep"));
     opBuilder.addInput(handle.asOutput());
     opBuilder.addInput(newGlobalStep.asOutput());
     opBuilder = scope.apply(opBuilder);
@@ -54,6 +55,9 @@ public final class ResourceAccumulatorSetGlobalStep extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResourceAccumulatorSetGlobalStep";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0);
+  
   private ResourceAccumulatorSetGlobalStep(Operation operation) {
     super(operation);
   }
@@ -20,6 +20,7 @@ package org.tensorflow.op.train;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -93,7 +94,7 @@ public final class ResourceConditionalAccumulator extends RawOp implements Opera
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> ResourceConditionalAccumulator create(Scope scope, Class<T> dtype, Shape shape, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("ResourceConditionalAccumulator", scope.makeOpName("ResourceConditionalAccumulator"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("ResourceConditionalAccumulator"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("dtype", Operands.toDataType(dtype));
     opBuilder.setAttr("shape", shape);
@@ -152,6 +153,9 @@ public final class ResourceConditionalAccumulator extends RawOp implements Opera
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "ResourceConditionalAccumulator";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "dtype", "shape", "container", "shared_name", "reduction_type");
+  
   private Output<?> handle;
   
   private ResourceConditionalAccumulator(Operation operation) {
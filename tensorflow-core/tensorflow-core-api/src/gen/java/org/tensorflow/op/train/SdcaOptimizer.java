@@ -22,6 +22,7 @@ import java.util.List;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.Operands;
 import org.tensorflow.op.RawOp;
@@ -105,7 +106,7 @@ public final class SdcaOptimizer extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static SdcaOptimizer create(Scope scope, Iterable<Operand<TInt64>> sparseExampleIndices, Iterable<Operand<TInt64>> sparseFeatureIndices, Iterable<Operand<TFloat32>> sparseFeatureValues, Iterable<Operand<TFloat32>> denseFeatures, Operand<TFloat32> exampleWeights, Operand<TFloat32> exampleLabels, Iterable<Operand<TInt64>> sparseIndices, Iterable<Operand<TFloat32>> sparseWeights, Iterable<Operand<TFloat32>> denseWeights, Operand<TFloat32> exampleStateData, String lossType, Float l1, Float l2, Long numLossPartitions, Long numInnerIterations, Options... options) {
-    OperationBuilder opBuilder = scope.env().opBuilder("SdcaOptimizerV2", scope.makeOpName("SdcaOptimizer"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("SdcaOptimizer"));
     opBuilder.addInputList(Operands.asOutputs(sparseExampleIndices));
     opBuilder.addInputList(Operands.asOutputs(sparseFeatureIndices));
     opBuilder.addInputList(Operands.asOutputs(sparseFeatureValues));
@@ -166,6 +167,9 @@ public final class SdcaOptimizer extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "SdcaOptimizerV2";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, OperationDescriptor.VARIABLE_NUM_OUTPUTS, "loss_type", "l1", "l2", "num_loss_partitions", "num_inner_iterations", "adaptive");
+  
   private Output<TFloat32> outExampleStateData;
   private List<Output<TFloat32>> outDeltaSparseWeights;
   private List<Output<TFloat32>> outDeltaDenseWeights;
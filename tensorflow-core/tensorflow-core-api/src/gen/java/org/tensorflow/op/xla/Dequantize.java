@@ -20,6 +20,7 @@ package org.tensorflow.op.xla;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -49,7 +50,7 @@ public final class Dequantize extends RawOp implements Operand<TBfloat16> {
    */
   @Endpoint(describeByClass = true)
   public static Dequantize create(Scope scope, Operand<?> input, Float minRange, Float maxRange, String mode, Boolean transposeOutput) {
-    OperationBuilder opBuilder = scope.env().opBuilder("XlaDequantize", scope.makeOpName("Dequantize"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Dequantize"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("min_range", minRange);
@@ -76,6 +77,9 @@ public final class Dequantize extends RawOp implements Operand<TBfloat16> {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "XlaDequantize";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "min_range", "max_range", "mode", "transpose_output");
+  
   private Output<TBfloat16> output;
   
   private Dequantize(Operation operation) {
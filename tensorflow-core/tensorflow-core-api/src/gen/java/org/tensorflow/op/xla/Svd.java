@@ -20,6 +20,7 @@ package org.tensorflow.op.xla;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
@@ -55,7 +56,7 @@ public final class Svd<T extends TType> extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> Svd<T> create(Scope scope, Operand<T> a, Long maxIter, Float epsilon, String precisionConfig) {
-    OperationBuilder opBuilder = scope.env().opBuilder("XlaSvd", scope.makeOpName("Svd"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("Svd"));
     opBuilder.addInput(a.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("max_iter", maxIter);
@@ -89,6 +90,9 @@ public final class Svd<T extends TType> extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "XlaSvd";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 3, "max_iter", "epsilon", "precision_config");
+  
   private Output<T> s;
   private Output<T> u;
   private Output<T> v;
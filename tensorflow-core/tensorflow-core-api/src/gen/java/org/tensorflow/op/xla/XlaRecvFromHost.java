@@ -20,6 +20,7 @@ package org.tensorflow.op.xla;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.Output;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Operands;
@@ -53,7 +54,7 @@ public final class XlaRecvFromHost<T extends TType> extends RawOp implements Ope
    */
   @Endpoint(describeByClass = true)
   public static <T extends TType> XlaRecvFromHost<T> create(Scope scope, Class<T> Toutput, Shape shape, String key) {
-    OperationBuilder opBuilder = scope.env().opBuilder("XlaRecvFromHost", scope.makeOpName("XlaRecvFromHost"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("XlaRecvFromHost"));
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("Toutput", Operands.toDataType(Toutput));
     opBuilder.setAttr("shape", shape);
@@ -75,6 +76,9 @@ public final class XlaRecvFromHost<T extends TType> extends RawOp implements Ope
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "XlaRecvFromHost";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 1, "Toutput", "shape", "key");
+  
   private Output<T> output;
   
   private XlaRecvFromHost(Operation operation) {
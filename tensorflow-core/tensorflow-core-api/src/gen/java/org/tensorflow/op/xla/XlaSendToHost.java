@@ -20,6 +20,7 @@ package org.tensorflow.op.xla;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
+import org.tensorflow.OperationDescriptor;
 import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
@@ -46,7 +47,7 @@ public final class XlaSendToHost extends RawOp {
    */
   @Endpoint(describeByClass = true)
   public static XlaSendToHost create(Scope scope, Operand<? extends TType> input, String key) {
-    OperationBuilder opBuilder = scope.env().opBuilder("XlaSendToHost", scope.makeOpName("XlaSendToHost"));
+    OperationBuilder opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName("XlaSendToHost"));
     opBuilder.addInput(input.asOutput());
     opBuilder = scope.apply(opBuilder);
     opBuilder.setAttr("key", key);
@@ -56,6 +57,9 @@ public final class XlaSendToHost extends RawOp {
   /** The name of this op, as known by TensorFlow core engine */
   public static final String OP_NAME = "XlaSendToHost";
   
+  /** Static metadata of this op, used to speed up its creation */
+  public static final OperationDescriptor OP_DESCRIPTOR = OperationDescriptor.of(OP_NAME, 0, "key");
+  
   private XlaSendToHost(Operation operation) {
     super(operation);
   }
@@ -0,0 +1,66 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Distributes items, like variables to save or restore, in groups of similar total sizes.
+ */
+final class BalancedGroups {
+
+  /**
+   * Distributes items in groups of similar total sizes, largest items first.
+   *
+   * <p>Each item is added to the group with the smallest total size, or to the one with the fewest
+   * items if several groups have the same size. Items of unknown size, given as 0, are therefore
+   * spread evenly across the groups.
+   *
+   * @param sizes size of each item
+   * @param numGroups number of groups
+   * @return indices of the items of each group, some groups being empty if there are fewer items
+   *     than groups
+   */
+  static List<List<Integer>> of(long[] sizes, int numGroups) {
+    Integer[] bySize = new Integer[sizes.length];
+    for (int i = 0; i < bySize.length; ++i) {
+      bySize[i] = i;
+    }
+    Arrays.sort(bySize, (a, b) -> Long.compare(sizes[b], sizes[a]));
+    List<List<Integer>> groups = new ArrayList<>(numGroups);
+    long[] groupSizes = new long[numGroups];
+    for (int i = 0; i < numGroups; ++i) {
+      groups.add(new ArrayList<>());
+    }
+    for (Integer index : bySize) {
+      int smallest = 0;
+      for (int i = 1; i < numGroups; ++i) {
+        if (groupSizes[i] < groupSizes[smallest]
+            || (groupSizes[i] == groupSizes[smallest]
+                && groups.get(i).size() < groups.get(smallest).size())) {
+          smallest = i;
+        }
+      }
+      groups.get(smallest).add(index);
+      groupSizes[smallest] += sizes[index];
+    }
+    return groups;
+  }
+
+  private BalancedGroups() {}
+}
@@ -0,0 +1,422 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Constant;
+import org.tensorflow.op.core.Placeholder;
+import org.tensorflow.op.train.MergeV2Checkpoints;
+import org.tensorflow.types.TString;
+import org.tensorflow.types.family.TType;
+
+/**
+ * Saves checkpoints of the variables of a session without blocking the training loop.
+ *
+ * <p>When a checkpoint is requested, the values of the variables are copied synchronously to host
+ * tensors, which only takes the time of a memory copy. These tensors are then written to disk by
+ * a background thread, while the training continues. Writing is done by {@code SaveV2} operations
+ * running in a session dedicated to this manager; variables can be split in multiple shards, which
+ * are written concurrently and then merged into a single checkpoint.
+ *
+ * <p>Checkpoints are named after the step at which they have been taken and only the most recent
+ * ones are kept on disk. They follow the same format as those written by {@link
+ * Session#save(String)} and can be restored using {@link Session#restore(String)}.
+ *
+ * <pre>{@code
+ * try (CheckpointManager checkpoints = CheckpointManager.builder(session, graph, dir).maxToKeep(3).build()) {
+ *   for (long step = 0; step < numSteps; ++step) {
+ *     session.run(train);
+ *     if (step % 1000 == 0) {
+ *       checkpoints.save(step);
+ *     }
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Only {@code VariableV2} variables existing in the graph when the manager is built are saved.
+ * At most one checkpoint is being written at a time: saving a new checkpoint waits until the
+ * previous one has been written, so the memory used by the copies of the variables is bounded.
+ *
+ * <p>Instances of this class are thread-safe.
+ */
+public final class CheckpointManager implements AutoCloseable {
+
+  /**
+   * Builds a {@link CheckpointManager}.
+   */
+  public static final class Builder {
+
+    /**
+     * Sets the name of the checkpoints, followed by the step at which they were taken. Default is
+     * {@code "ckpt"}.
+     *
+     * @param checkpointName base name of the checkpoint files
+     * @return this builder
+     */
+    public Builder checkpointName(String checkpointName) {
+      this.checkpointName = checkpointName;
+      return this;
+    }
+
+    /**
+     * Sets the number of most recent checkpoints to keep on disk. Default is 5.
+     *
+     * @param maxToKeep number of checkpoints to keep, must be positive
+     * @return this builder
+     */
+    public Builder maxToKeep(int maxToKeep) {
+      if (maxToKeep <= 0) {
+        throw new IllegalArgumentException("Number of checkpoints to keep must be positive, got " + maxToKeep);
+      }
+      this.maxToKeep = maxToKeep;
+      return this;
+    }
+
+    /**
+     * Sets the number of shards in which variables are split, to be written concurrently. Default
+     * is 1.
+     *
+     * <p>Variables are distributed so that shards have about the same size.
+     *
+     * @param numShards number of shards, must be positive
+     * @return this builder
+     */
+    public Builder numShards(int numShards) {
+      if (numShards <= 0) {
+        throw new IllegalArgumentException("Number of shards must be positive, got " + numShards);
+      }
+      this.numShards = numShards;
+      return this;
+    }
+
+    /**
+     * Builds the manager.
+     *
+     * @return the manager
+     * @throws IllegalStateException if the graph has no variable to save
+     * @throws IOException if the checkpoint directory cannot be created
+     */
+    public CheckpointManager build() throws IOException {
+      return new CheckpointManager(this);
+    }
+
+    private final Session session;
+    private final Graph graph;
+    private final Path directory;
+    private String checkpointName = "ckpt";
+    private int maxToKeep = 5;
+    private int numShards = 1;
+
+    private Builder(Session session, Graph graph, Path directory) {
+      this.session = session;
+      this.graph = graph;
+      this.directory = directory;
+    }
+  }
+
+  /**
+   * Returns a new builder for creating a manager of checkpoints.
+   *
+   * @param session session holding the values of the variables
+   * @param graph graph of the session
+   * @param directory directory of the checkpoints, created if it does not exist
+   */
+  public static Builder builder(Session session, Graph graph, Path directory) {
+    return new Builder(session, graph, directory);
+  }
+
+  /**
+   * Takes a checkpoint of the variables and writes it in background.
+   *
+   * <p>This method returns once the variables have been copied, so they can be updated by the next
+   * training step. If the previous checkpoint is still being written, it first waits for it to
+   * complete.
+   *
+   * @param step step at which the checkpoint is taken
+   * @return a future completed with the prefix of the checkpoint when it has been written
+   * @throws IllegalStateException if this manager is closed
+   * @throws InterruptedException if the calling thread is interrupted while waiting for the
+   *     previous checkpoint to be written
+   */
+  public synchronized Future<String> save(long step) throws InterruptedException {
+    if (closed) {
+      throw new IllegalStateException("Checkpoint manager is closed");
+    }
+    if (pendingWrite != null) {
+      try {
+        pendingWrite.get();
+      } catch (ExecutionException e) {
+        // reported by the future of the previous checkpoint
+      }
+    }
+    String prefix = directory.resolve(checkpointName + "-" + step).toString();
+    List<Tensor> values = snapshot();
+    CompletableFuture<String> write = new CompletableFuture<>();
+    executor.execute(() -> {
+      try {
+        write(prefix, values);
+        write.complete(prefix);
+      } catch (Throwable t) {
+        write.completeExceptionally(t);
+      } finally {
+        values.forEach(Tensor::close);
+      }
+    });
+    pendingWrite = write;
+    return write;
+  }
+
+  /**
+   * Returns the prefix of the most recent checkpoint written by this manager, or null if none.
+   */
+  public String latestCheckpoint() {
+    synchronized (checkpoints) {
+      return checkpoints.peekLast();
+    }
+  }
+
+  /**
+   * Returns the prefixes of the checkpoints written by this manager and still kept on disk, from the
+   * oldest to the most recent.
+   */
+  public List<String> checkpoints() {
+    synchronized (checkpoints) {
+      return new ArrayList<>(checkpoints);
+    }
+  }
+
+  /**
+   * Waits for the pending checkpoint to be written and releases the resources of this manager.
+   *
+   * <p>This method does not close the session nor the graph of the variables.
+   */
+  @Override
+  public void close() {
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      closed = true;
+    }
+    executor.shutdown();
+    boolean interrupted = false;
+    while (!executor.isTerminated()) {
+      try {
+        executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (writerSession != null) {
+      writerSession.close();
+      writerGraph.close();
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private final Session session;
+  private final Path directory;
+  private final String checkpointName;
+  private final int maxToKeep;
+  private final int numShards;
+  private final List<Output<?>> variables = new ArrayList<>();
+  private final ExecutorService executor;
+  private final Deque<String> checkpoints = new ArrayDeque<>();  // guarded by itself
+  private Future<String> pendingWrite;
+  private boolean closed = false;
+
+  // Only accessed by the writer thread
+  private Graph writerGraph;
+  private Session writerSession;
+  private Placeholder<TString> writerPrefix;
+  private List<Placeholder<?>> writerValues;
+  private Op writerTarget;
+
+  private CheckpointManager(Builder builder) throws IOException {
+    for (GraphOperation op : builder.graph.variables()) {
+      if (op.type().equals(Graph.VARIABLE_V2)) {
+        variables.add(op.output(0));
+      }
+    }
+    if (variables.isEmpty()) {
+      throw new IllegalStateException("Graph has no variable to save");
+    }
+    Files.createDirectories(builder.directory);
+    session = builder.session;
+    directory = builder.directory;
+    checkpointName = builder.checkpointName;
+    maxToKeep = builder.maxToKeep;
+    numShards = Math.min(builder.numShards, variables.size());
+    executor = Executors.newSingleThreadExecutor(r -> {
+      Thread thread = new Thread(r, "checkpoint-writer-" + checkpointName);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Copies the actual values of the variables to host tensors.
+   *
+   * <p>Tensors fetched from a session might share their memory with the variables, so their
+   * content is copied before the variables get updated by the next steps.
+   */
+  private List<Tensor> snapshot() {
+    Session.Runner runner = session.runner();
+    variables.forEach(runner::fetch);
+    List<Tensor> fetched = runner.run();
+    List<Tensor> values = new ArrayList<>(fetched.size());
+    try {
+      for (Tensor value : fetched) {
+        values.add(copyOf((TType) value));
+      }
+    } catch (RuntimeException e) {
+      values.forEach(Tensor::close);
+      throw e;
+    } finally {
+      fetched.forEach(Tensor::close);
+    }
+    return values;
+  }
+
+  private static Tensor copyOf(TType value) {
+    if (value instanceof TString) {
+      return TString.tensorOfBytes(((TString) value).asBytes());
+    }
+    return Tensor.of(value.type(), value.shape(), value.asRawTensor().data());
+  }
+
+  private void write(String prefix, List<Tensor> values) throws IOException {
+    if (writerSession == null) {
+      buildWriter(values);
+    }
+    try (TString prefixTensor = TString.scalarOf(prefix)) {
+      Session.Runner runner = writerSession.runner()
+          .addTarget(writerTarget)
+          .feed(writerPrefix, prefixTensor);
+      for (int i = 0; i < values.size(); ++i) {
+        runner.feed(writerValues.get(i), values.get(i));
+      }
+      runner.run();
+    }
+    String expired = null;
+    synchronized (checkpoints) {
+      checkpoints.remove(prefix);  // overwritten
+      checkpoints.addLast(prefix);
+      if (checkpoints.size() > maxToKeep) {
+        expired = checkpoints.removeFirst();
+      }
+    }
+    if (expired != null) {
+      delete(expired);
+    }
+  }
+
+  /**
+   * Builds the graph saving the copies of the variables fed to it.
+   *
+   * <p>With more than one shard, each shard is saved in a temporary checkpoint by its own {@code
+   * SaveV2} operation, so they are written concurrently by the session, before being merged.
+   */
+  private void buildWriter(List<Tensor> values) {
+    writerGraph = new Graph();
+    Ops tf = Ops.create(writerGraph);
+    writerPrefix = tf.withName("prefix").placeholder(TString.class);
+    writerValues = new ArrayList<>(values.size());
+    for (Tensor value : values) {
+      writerValues.add(tf.placeholder(((TType) value).type()));
+    }
+    if (numShards == 1) {
+      List<Integer> all = new ArrayList<>(values.size());
+      for (int i = 0; i < values.size(); ++i) {
+        all.add(i);
+      }
+      writerTarget = saveShard(tf, writerPrefix, all);
+    } else {
+      Operand<TString> tmpPrefix = tf.strings.join(Arrays.asList(writerPrefix, tf.constant("_temp/part")));
+      List<Op> saves = new ArrayList<>(numShards);
+      List<Operand<TString>> shardPrefixes = new ArrayList<>(numShards);
+      List<List<Integer>> shards = balanceShards(values);
+      for (int shard = 0; shard < numShards; ++shard) {
+        Operand<TString> shardPrefix = tf.io.shardedFilename(tmpPrefix, tf.constant(shard), tf.constant(numShards));
+        saves.add(saveShard(tf, shardPrefix, shards.get(shard)));
+        shardPrefixes.add(shardPrefix);
+      }
+      writerTarget = tf.withControlDependencies(saves).train.mergeV2Checkpoints(
+          tf.stack(shardPrefixes),
+          writerPrefix,
+          MergeV2Checkpoints.deleteOldDirs(true)
+      );
+    }
+    writerSession = new Session(writerGraph);
+  }
+
+  private Op saveShard(Ops tf, Operand<TString> prefix, List<Integer> indices) {
+    String[] names = new String[indices.size()];
+    List<Operand<?>> tensors = new ArrayList<>(indices.size());
+    for (int i = 0; i < names.length; ++i) {
+      int index = indices.get(i);
+      names[i] = variables.get(index).op().name();
+      tensors.add(writerValues.get(index));
+    }
+    Constant<TString> tensorNames = tf.constant(StdArrays.ndCopyOf(names));
+    return tf.train.save(prefix, tensorNames, tf.zerosLike(tensorNames), tensors);
+  }
+
+  /**
+   * Distributes variables in shards of similar sizes, largest variables first.
+   */
+  private List<List<Integer>> balanceShards(List<Tensor> values) {
+    long[] sizes = new long[values.size()];
+    for (int i = 0; i < sizes.length; ++i) {
+      sizes[i] = values.get(i).numBytes();
+    }
+    return BalancedGroups.of(sizes, numShards);
+  }
+
+  /**
+   * Deletes the index and data files of a checkpoint.
+   */
+  private static void delete(String prefix) throws IOException {
+    Path prefixPath = Paths.get(prefix);
+    String filePrefix = prefixPath.getFileName().toString() + ".";
+    try (DirectoryStream<Path> files = Files.newDirectoryStream(prefixPath.getParent(),
+        f -> f.getFileName().toString().startsWith(filePrefix))) {
+      for (Path file : files) {
+        Files.deleteIfExists(file);
+      }
+    }
+  }
+}
@@ -42,6 +42,8 @@ import org.bytedeco.javacpp.LongPointer;
 import org.bytedeco.javacpp.PointerPointer;
 import org.bytedeco.javacpp.PointerScope;
 import org.bytedeco.javacpp.SizeTPointer;
+import org.tensorflow.instrumentation.Instrumentation;
+import org.tensorflow.instrumentation.Instrumentations;
 import org.tensorflow.internal.c_api.TFE_Context;
 import org.tensorflow.internal.c_api.TFE_Op;
 import org.tensorflow.internal.c_api.TFE_TensorHandle;
@@ -59,12 +61,32 @@ final class EagerOperationBuilder implements OperationBuilder {
     this.session = session;
     this.type = type;
     this.name = name;
-    this.opHandle = allocate(session, type);
+    this.descriptor = null;
+    try (PointerScope scope = new PointerScope()) {
+      this.opHandle = allocate(session, new BytePointer(type));
+    }
+  }
+
+  EagerOperationBuilder(EagerSession session, OperationDescriptor descriptor, String name) {
+    this.session = session;
+    this.type = descriptor.type();
+    this.name = name;
+    this.descriptor = descriptor;
+    this.opHandle = allocate(session, descriptor.nativeType());
   }
 
   @Override
   public EagerOperation build() {
-    TFE_TensorHandle[] tensorHandles = execute(opHandle, session);
+    int maxOutputs = MAX_OUTPUTS_PER_OP;
+    if (descriptor != null && descriptor.numOutputs() != OperationDescriptor.VARIABLE_NUM_OUTPUTS) {
+      maxOutputs = descriptor.numOutputs();
+    }
+    Instrumentation instrumentation = Instrumentations.current();
+    long startTime = instrumentation != null ? System.nanoTime() : 0L;
+    TFE_TensorHandle[] tensorHandles = execute(opHandle, session, maxOutputs);
+    if (instrumentation != null) {
+      instrumentation.eagerOperationExecuted(type, System.nanoTime() - startTime);
+    }
     return new EagerOperation(session, opHandle, tensorHandles, type, name);
   }
 
@@ -110,55 +132,73 @@ final class EagerOperationBuilder implements OperationBuilder {
     for (int i = 0; i < values.length; ++i) {
       objects[i] = values[i].getBytes(utf8);
     }
-    setAttrStringList(opHandle, name, objects);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrStringList(opHandle, attrName(name), objects);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, byte[] values) {
-    setAttrString(opHandle, name, values);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrString(opHandle, attrName(name), values);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, long value) {
-    setAttrInt(opHandle, name, value);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrInt(opHandle, attrName(name), value);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, long[] values) {
-    setAttrIntList(opHandle, name, values);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrIntList(opHandle, attrName(name), values);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, float value) {
-    setAttrFloat(opHandle, name, value);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrFloat(opHandle, attrName(name), value);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, float[] values) {
-    setAttrFloatList(opHandle, name, values);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrFloatList(opHandle, attrName(name), values);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, boolean value) {
-    setAttrBool(opHandle, name, value);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrBool(opHandle, attrName(name), value);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, boolean[] values) {
-    setAttrBoolList(opHandle, name, values);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrBoolList(opHandle, attrName(name), values);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, DataType value) {
-    setAttrType(opHandle, name, value.getNumber());
+    try (PointerScope scope = new PointerScope()) {
+      setAttrType(opHandle, attrName(name), value.getNumber());
+    }
     return this;
   }
 
@@ -168,13 +208,17 @@ final class EagerOperationBuilder implements OperationBuilder {
     for (int i = 0; i < values.length; ++i) {
       c[i] = values[i].getNumber();
     }
-    setAttrTypeList(opHandle, name, c);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrTypeList(opHandle, attrName(name), c);
+    }
     return this;
   }
 
   @Override
   public EagerOperationBuilder setAttr(String name, Tensor value) {
-    setAttrTensor(opHandle, name, value.asRawTensor().nativeHandle());
+    try (PointerScope scope = new PointerScope()) {
+      setAttrTensor(opHandle, attrName(name), value.asRawTensor().nativeHandle());
+    }
     return this;
   }
 
@@ -187,7 +231,9 @@ final class EagerOperationBuilder implements OperationBuilder {
 
   @Override
   public EagerOperationBuilder setAttr(String name, Shape value) {
-    setAttrShape(opHandle, name, value.asArray(), value.numDimensions());
+    try (PointerScope scope = new PointerScope()) {
+      setAttrShape(opHandle, attrName(name), value.asArray(), value.numDimensions());
+    }
     return this;
   }
 
@@ -213,7 +259,9 @@ final class EagerOperationBuilder implements OperationBuilder {
         }
       }
     }
-    setAttrShapeList(opHandle, name, shapes, numDimensions);
+    try (PointerScope scope = new PointerScope()) {
+      setAttrShapeList(opHandle, attrName(name), shapes, numDimensions);
+    }
     return this;
   }
 
@@ -222,9 +270,11 @@ final class EagerOperationBuilder implements OperationBuilder {
   private final EagerSession session;
   private final String type;
   private final String name;
+  private final OperationDescriptor descriptor;
 
   /**
-   * This value should be >= to the maximum number of outputs in any op
+   * This value should be >= to the maximum number of outputs in any op not described by an {@link
+   * OperationDescriptor}
    */
   private static final int MAX_OUTPUTS_PER_OP = 1000;
 
@@ -252,7 +302,18 @@ final class EagerOperationBuilder implements OperationBuilder {
     }
   }
 
-  private static TFE_Op allocate(EagerSession session, String type) {
+  /**
+   * Returns the native name of an attribute.
+   *
+   * <p>Names that are not described by the descriptor of the operation are allocated in the current
+   * pointer scope.
+   */
+  private BytePointer attrName(String name) {
+    BytePointer nativeName = descriptor != null ? descriptor.nativeAttributeName(name) : null;
+    return nativeName != null ? nativeName : new BytePointer(name);
+  }
+
+  private static TFE_Op allocate(EagerSession session, BytePointer type) {
     requireContext(session.nativeHandle());
     try (PointerScope scope = new PointerScope()) {
       TF_Status status = TF_Status.newStatus();
@@ -263,11 +324,11 @@ final class EagerOperationBuilder implements OperationBuilder {
     }
   }
 
-  private static TFE_TensorHandle[] execute(TFE_Op opHandle, EagerSession session) {
+  private static TFE_TensorHandle[] execute(TFE_Op opHandle, EagerSession session, int maxOutputs) {
     requireOp(opHandle);
     try (PointerScope scope = new PointerScope()) {
-      IntPointer numRetvals = new IntPointer(1).put(MAX_OUTPUTS_PER_OP);
-      PointerPointer<TFE_TensorHandle> retvals = new PointerPointer<TFE_TensorHandle>(MAX_OUTPUTS_PER_OP);
+      IntPointer numRetvals = new IntPointer(1).put(maxOutputs);
+      PointerPointer<TFE_TensorHandle> retvals = new PointerPointer<TFE_TensorHandle>(Math.max(maxOutputs, 1));
       TF_Status status = TF_Status.newStatus();
       TFE_Execute(opHandle, retvals, numRetvals, status);
       status.throwExceptionIfNotOK();
@@ -314,14 +375,14 @@ final class EagerOperationBuilder implements OperationBuilder {
     }
   }
 
-  private static void setAttrString(TFE_Op opHandle, String name, byte[] value) {
+  private static void setAttrString(TFE_Op opHandle, BytePointer name, byte[] value) {
     requireOp(opHandle);
     try (PointerScope scope = new PointerScope()) {
       TFE_OpSetAttrString(opHandle, name, new BytePointer(value), value.length);
     }
   }
 
-  private static void setAttrStringList(TFE_Op opHandle, String name, byte[][] value) {
+  private static void setAttrStringList(TFE_Op opHandle, BytePointer name, byte[][] value) {
     requireOp(opHandle);
     try (PointerScope scope = new PointerScope()) {
       PointerPointer<BytePointer> valuePointers = new PointerPointer<BytePointer>(value.length);
@@ -335,49 +396,49 @@ final class EagerOperationBuilder implements OperationBuilder {
     }
   }
 
-  private static void setAttrInt(TFE_Op opHandle, String name, long value) {
+  private static void setAttrInt(TFE_Op opHandle, BytePointer name, long value) {
     requireOp(opHandle);
     TFE_OpSetAttrInt(opHandle, name, value);
   }
 
-  private static void setAttrIntList(TFE_Op opHandle, String name, long[] values) {
+  private static void setAttrIntList(TFE_Op opHandle, BytePointer name, long[] values) {
     requireOp(opHandle);
     TFE_OpSetAttrIntList(opHandle, name, values, values.length);
   }
 
-  private static void setAttrFloat(TFE_Op opHandle, String name, float value) {
+  private static void setAttrFloat(TFE_Op opHandle, BytePointer name, float value) {
     requireOp(opHandle);
     TFE_OpSetAttrFloat(opHandle, name, value);
   }
 
-  private static void setAttrFloatList(TFE_Op opHandle, String name, float[] values) {
+  private static void setAttrFloatList(TFE_Op opHandle, BytePointer name, float[] values) {
     requireOp(opHandle);
     TFE_OpSetAttrFloatList(opHandle, name, values, values.length);
   }
 
-  private static void setAttrBool(TFE_Op opHandle, String name, boolean value) {
+  private static void setAttrBool(TFE_Op opHandle, BytePointer name, boolean value) {
     requireOp(opHandle);
     TFE_OpSetAttrBool(opHandle, name, (byte) (value ? 1 : 0));
   }
 
-  private static void setAttrBoolList(TFE_Op opHandle, String name, boolean[] values) {
+  private static void setAttrBoolList(TFE_Op opHandle, BytePointer name, boolean[] values) {
     requireOp(opHandle);
     try (PointerScope scope = new PointerScope()) {
       TFE_OpSetAttrBoolList(opHandle, name, new BytePointer(new BooleanPointer(values)), values.length);
     }
   }
 
-  private static void setAttrType(TFE_Op opHandle, String name, int type) {
+  private static void setAttrType(TFE_Op opHandle, BytePointer name, int type) {
     requireOp(opHandle);
     TFE_OpSetAttrType(opHandle, name, type);
   }
 
-  private static void setAttrTypeList(TFE_Op opHandle, String name, int[] types) {
+  private static void setAttrTypeList(TFE_Op opHandle, BytePointer name, int[] types) {
     requireOp(opHandle);
     TFE_OpSetAttrTypeList(opHandle, name, types, types.length);
   }
 
-  private static void setAttrTensor(TFE_Op opHandle, String name, TF_Tensor tensorHandle) {
+  private static void setAttrTensor(TFE_Op opHandle, BytePointer name, TF_Tensor tensorHandle) {
     requireOp(opHandle);
     requireTensor(tensorHandle);
     try (PointerScope scope = new PointerScope()) {
@@ -387,7 +448,7 @@ final class EagerOperationBuilder implements OperationBuilder {
     }
   }
 
-  private static void setAttrShape(TFE_Op opHandle, String name, long[] shape, int numDims) {
+  private static void setAttrShape(TFE_Op opHandle, BytePointer name, long[] shape, int numDims) {
     requireOp(opHandle);
     // num_dims and env->GetArrayLength(shape) are assumed to be consistent.
     // i.e., either num_dims < 0 or num_dims == env->GetArrayLength(shape).
@@ -398,7 +459,7 @@ final class EagerOperationBuilder implements OperationBuilder {
     }
   }
 
-  private static void setAttrShapeList(TFE_Op opHandle, String name, long[] shapes, int[] numDims) {
+  private static void setAttrShapeList(TFE_Op opHandle, BytePointer name, long[] shapes, int[] numDims) {
     requireOp(opHandle);
     try (PointerScope scope = new PointerScope()) {
       LongPointer shapesPointer = new LongPointer(shapes);
@@ -408,7 +469,7 @@ final class EagerOperationBuilder implements OperationBuilder {
         shapesPointer.position(shapesPointer.position() + numDims[i] * 8);
       }
       TF_Status status = TF_Status.newStatus();
-      TFE_OpSetAttrShapeList(opHandle, new BytePointer(name), shapesPointers, new IntPointer(numDims),
+      TFE_OpSetAttrShapeList(opHandle, name, shapesPointers, new IntPointer(numDims),
           numDims.length, status);
     }
   }
@@ -282,6 +282,15 @@ public final class EagerSession implements ExecutionEnvironment, AutoCloseable {
     return new EagerOperationBuilder(this, type, name);
   }
 
+  @Override
+  public OperationBuilder opBuilder(OperationDescriptor descriptor, String name) {
+    checkSession();
+    if (!isOpEnabled(descriptor.type())) {
+      throw new IllegalArgumentException("Op " + descriptor.type() + " is not valid in eager mode.");
+    }
+    return new EagerOperationBuilder(this, descriptor, name);
+  }
+
   @Override
   public Types environmentType() {
     return Types.EAGER;
@@ -38,6 +38,22 @@ public interface ExecutionEnvironment {
    */
   OperationBuilder opBuilder(String type, String name);
 
+  /**
+   * Returns a builder to create a new {@link Operation} of a described type.
+   *
+   * <p>Environments can take advantage of the static metadata of the operation for building it
+   * faster. By default, this is equivalent to {@code opBuilder(descriptor.type(), name)}.
+   *
+   * @param descriptor describes the type of the Operation
+   * @param name to refer to the created Operation in this environment scope.
+   * @return an {@link OperationBuilder} to create an Operation when {@link
+   *     OperationBuilder#build()} is invoked. If {@link OperationBuilder#build()} is not invoked,
+   *     then some resources may leak.
+   */
+  default OperationBuilder opBuilder(OperationDescriptor descriptor, String name) {
+    return opBuilder(descriptor.type(), name);
+  }
+
   /**
    * Returns true if the given operation is valid in this execution environment.
    *
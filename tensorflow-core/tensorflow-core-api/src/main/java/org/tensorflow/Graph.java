@@ -31,11 +31,17 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.Pointer;
@@ -49,6 +55,9 @@ import org.tensorflow.internal.c_api.TF_Operation;
 import org.tensorflow.internal.c_api.TF_Output;
 import org.tensorflow.internal.c_api.TF_Status;
 import org.tensorflow.internal.c_api.TF_WhileParams;
+import org.tensorflow.internal.types.registry.TensorTypeInfo;
+import org.tensorflow.internal.types.registry.TensorTypeRegistry;
+import org.tensorflow.ndarray.Shape;
 import org.tensorflow.ndarray.StdArrays;
 import org.tensorflow.op.Op;
 import org.tensorflow.op.Ops;
@@ -58,6 +67,7 @@ import org.tensorflow.op.core.NoOp;
 import org.tensorflow.op.core.Placeholder;
 import org.tensorflow.op.train.Restore;
 import org.tensorflow.op.train.Save;
+import org.tensorflow.proto.framework.DataType;
 import org.tensorflow.proto.framework.GraphDef;
 import org.tensorflow.proto.util.SaverDef;
 import org.tensorflow.types.TString;
@@ -86,6 +96,7 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
    */
   Graph(TF_Graph nativeHandle) {
     this.nativeHandle = nativeHandle;
+    this.variablesStale = true;
   }
 
   Graph(TF_Graph nativeHandle, SaverDef saverDef) {
@@ -105,10 +116,13 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
       if (nativeHandle == null || nativeHandle.isNull()) {
         return;
       }
-      while (refcount > 0) {
+      // New references are refused from now on, wait for the active ones to be released
+      closing = true;
+      while (refcount.get() > 0) {
         try {
           nativeHandleLock.wait();
         } catch (InterruptedException e) {
+          closing = false;
           Thread.currentThread().interrupt();
           // Possible leak of the graph in this case?
           return;
@@ -116,7 +130,10 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
       }
       delete(nativeHandle);
       nativeHandle = null;
+      operationsByName.clear();
+      outputsByName.clear();
     }
+    releaseConstantPool();
   }
 
   /**
@@ -124,16 +141,25 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
    *
    * <p>Or {@code null} if no such operation exists in the Graph.
    *
+   * <p>Operations are never removed from a graph, so they are cached once found and subsequent lookups of the same
+   * name do not need to acquire any lock nor to call the native library.
+   *
    * @param name name of the operation to look for
    * @return operation in the graph with this name or null if not found
    */
   public GraphOperation operation(String name) {
+    GraphOperation op = operationsByName.get(name);
+    if (op != null) {
+      return op;
+    }
     synchronized (nativeHandleLock) {
       TF_Operation oph = operation(nativeHandle, name);
       if (oph == null || oph.isNull()) {
         return null;
       }
-      return new GraphOperation(this, oph);
+      op = new GraphOperation(this, oph);
+      operationsByName.put(name, op);
+      return op;
     }
   }
 
@@ -159,11 +185,24 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
    * format {@code /scope/op}, with an optional index: {@code /scope/op:1}. {@code 0} is used if the index is not
    * specified.
    *
+   * <p>Like operations, outputs are cached once found.
+   *
    * @param output the output to get
    * @return the output with this name, or null if there isn't one
    */
-  @SuppressWarnings("rawtypes")
   public Output<?> output(String output) {
+    Output<?> o = outputsByName.get(output);
+    if (o == null) {
+      o = parseOutput(output);
+      if (o != null) {
+        outputsByName.put(output, o);
+      }
+    }
+    return o;
+  }
+
+  @SuppressWarnings("rawtypes")
+  private Output<?> parseOutput(String output) {
     int colon = output.lastIndexOf(':');
     if (colon == -1 || colon == output.length() - 1) {
       GraphOperation op = operation(output);
@@ -419,6 +458,9 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
     synchronized (nativeHandleLock) {
       importGraphDef(nativeHandle, graphDef, prefix);
     }
+    synchronized (this) {
+      variablesStale = true;
+    }
   }
 
   /**
@@ -433,6 +475,163 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
     }
   }
 
+  /**
+   * Import a serialized {@code GraphDef} in a single native call, without parsing it in Java.
+   *
+   * @param graphDef the serialized representation of a TensorFlow graph
+   * @param prefix a prefix that will be prepended to names in graphDef
+   * @throws IllegalArgumentException if graphDef is not a recognized serialization of a graph.
+   */
+  void importGraphDef(byte[] graphDef, String prefix) throws IllegalArgumentException {
+    synchronized (nativeHandleLock) {
+      importGraphDef(nativeHandle, graphDef, prefix);
+    }
+    synchronized (this) {
+      variablesStale = true;
+    }
+  }
+
+  /**
+   * Generate a serialized representation of the Graph, without parsing it in Java.
+   *
+   * @see #importGraphDef(byte[], String)
+   */
+  byte[] toGraphDefBytes() {
+    synchronized (nativeHandleLock) {
+      return toGraphDefBytes(nativeHandle);
+    }
+  }
+
+  /**
+   * Sets the minimum size of the constants to keep in the constant pool of this graph.
+   *
+   * <p>By default, the data of a constant is copied to the {@code value} attribute of its
+   * operation, so it is duplicated in the graph definition and in every session running the graph.
+   * When the constant pool is enabled, constants of at least {@code minByteSize} bytes are instead
+   * added to the graph as variables, which are initialized with the other {@link #initializers()
+   * initializers} from a tensor retained by the pool. This keeps large lookup tables or embeddings
+   * out of the graph definition, making it smaller and faster to load or export, at the cost of
+   * running the initializers before using these constants. Pooled constants are not returned by
+   * {@link #variables()}, so they are neither trained, saved nor restored like other variables.
+   *
+   * <p>The tensors of the pool are fed automatically to the executions running the initializers of
+   * this graph, like {@link Session#runInit()} or an {@link org.tensorflow.op.core.Init} operation,
+   * until {@link #releaseConstantPool()} is called or the graph is closed. Other executions do not
+   * carry them. Only constants of fixed-size data types are pooled, {@link TString} constants are
+   * always stored in the graph. A graph with pooled constants cannot be captured by a {@link
+   * GraphSnapshot} nor exported as a {@link SavedModelBundle saved model}, as neither would contain
+   * their values.
+   *
+   * <p>Constants added before calling this method are not affected.
+   *
+   * @param minByteSize minimum size in bytes of the pooled constants, or a negative value to
+   *     disable the constant pool
+   */
+  public void setConstantPoolThreshold(long minByteSize) {
+    constantPoolThreshold = minByteSize;
+  }
+
+  /**
+   * Returns the minimum size in bytes of the constants added to the constant pool of this graph, or
+   * a negative value if the pool is disabled.
+   *
+   * @see #setConstantPoolThreshold(long)
+   */
+  public long constantPoolThreshold() {
+    return constantPoolThreshold;
+  }
+
+  /**
+   * Adds a pooled constant to the constant pool.
+   *
+   * <p>This is normally called only by {@link Constant}. The graph keeps its own copy of {@code
+   * value}, which is fed to {@code placeholder} whenever a session runs the initializers of this
+   * graph. The caller retains ownership of {@code value}.
+   *
+   * <p>The variable holding the constant is excluded from the {@link #variables() variables} of
+   * this graph.
+   *
+   * @param variable variable holding the constant
+   * @param initializer operation assigning the value of the placeholder to the variable
+   * @param placeholder placeholder receiving the value
+   * @param value initial value of the constant
+   * @throws IllegalArgumentException if {@code value} is a {@link TString} tensor
+   */
+  public void addToConstantPool(Operation variable, Operation initializer, Output<?> placeholder, TType value) {
+    if (value.dataType() == DataType.DT_STRING) {
+      throw new IllegalArgumentException("String tensors cannot be added to the constant pool");
+    }
+    Tensor copy = Tensor.of(value.type(), value.shape(), value.asRawTensor().data());
+    synchronized (this) {
+      pooledVariables.add((GraphOperation) variable);
+      variables.remove(variable);
+    }
+    synchronized (constantPoolLock) {
+      Map<Output<?>, Tensor> pool = new LinkedHashMap<>(constantPool);
+      pool.put(placeholder, copy);
+      constantPool = Collections.unmodifiableMap(pool);
+      Set<GraphOperation> poolInitializers = new HashSet<>(constantPoolInitializers);
+      poolInitializers.add((GraphOperation) initializer);
+      constantPoolInitializers = Collections.unmodifiableSet(poolInitializers);
+    }
+  }
+
+  /**
+   * Releases the tensors retained by the constant pool of this graph.
+   *
+   * <p>This can be called once all sessions using pooled constants have run the initializers of
+   * the graph, to free the memory held by the pool. Pooled constants are not saved in checkpoints,
+   * so initializing them in a session after this call fails.
+   */
+  public void releaseConstantPool() {
+    Map<Output<?>, Tensor> pool;
+    synchronized (constantPoolLock) {
+      pool = constantPool;
+      constantPool = Collections.emptyMap();
+    }
+    pool.values().forEach(Tensor::close);
+  }
+
+  /**
+   * Returns the tensors of the constant pool, mapped by the placeholder they must be fed to.
+   */
+  Map<Output<?>, Tensor> constantPool() {
+    return constantPool;
+  }
+
+  /**
+   * Returns true if executing the given targets runs the initializers of pooled constants, which
+   * then need the tensors of the pool to be fed.
+   *
+   * <p>A target runs these initializers if it is one of them, or if it depends directly on one of
+   * them, like the operation returned by {@link org.tensorflow.op.core.Init#create}.
+   */
+  boolean needsConstantPool(List<GraphOperation> targets) {
+    if (constantPool.isEmpty()) {
+      return false;
+    }
+    Set<GraphOperation> poolInitializers = constantPoolInitializers;
+    for (GraphOperation target : targets) {
+      if (poolInitializers.contains(target)) {
+        return true;
+      }
+      for (GraphOperation controlInput : target.controlInputs()) {
+        if (poolInitializers.contains(controlInput)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns true if constants of this graph have been added to its constant pool, even if the pool
+   * has been released since.
+   */
+  synchronized boolean hasPooledConstants() {
+    return !pooledVariables.isEmpty();
+  }
+
   /**
    * Adds an initializer to the graph initializer list.
    *
@@ -442,11 +641,37 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
     initializers.add(initializer);
   }
 
+  /**
+   * Returns all variables ({@code VariableV2} and {@code VarHandleOp} operations) of this graph, in creation order.
+   *
+   * <p>Variables holding {@link #setConstantPoolThreshold(long) pooled constants} are not returned.
+   *
+   * <p>Variables are indexed as they are built, so this method does not need to iterate over all operations of the
+   * graph, except once after a graph definition has been imported or when the graph wraps an existing native handle.
+   *
+   * @return the variables of this graph
+   */
+  public synchronized Set<GraphOperation> variables() {
+    if (variablesStale) {
+      variables.clear();
+      for (Iterator<Operation> iter = operations(); iter.hasNext(); ) {
+        GraphOperation op = (GraphOperation) iter.next();
+        if (isVariable(op.type()) && !pooledVariables.contains(op)) {
+          variables.add(op);
+        }
+      }
+      variablesStale = false;
+    }
+    return Collections.unmodifiableSet(new LinkedHashSet<>(variables));
+  }
+
   /**
    * Returns all initializers added to the graph via {@link #addInitializer(Op)}
+   *
+   * <p>The returned list is a snapshot, it is not updated by initializers added afterwards.
    */
-  public List<Op> initializers() {
-    return Collections.unmodifiableList(initializers);
+  public synchronized List<Op> initializers() {
+    return Collections.unmodifiableList(new ArrayList<>(initializers));
   }
 
   /**
@@ -688,12 +913,73 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
     return saverDef;
   }
 
+  /**
+   * Returns the {@link SaverDef} of this graph if it has already been built or loaded, null otherwise.
+   *
+   * <p>Unlike {@link #saverDef()}, this method never mutates the graph.
+   */
+  synchronized SaverDef existingSaverDef() {
+    return saverDef;
+  }
+
+  synchronized void setSaverDef(SaverDef saverDef) {
+    this.saverDef = saverDef;
+  }
+
+  /**
+   * Returns the name of an operation restoring all variables of this graph by reading the checkpoint with concurrent
+   * {@code RestoreV2} operations.
+   *
+   * <p>Variables are distributed in {@code parallelism} groups of similar sizes, each of them restored by its own
+   * {@code RestoreV2} operation, so the session can read them concurrently. Variables whose static shape is not fully
+   * known are spread evenly across the groups. The restore operation is fed with the same
+   * filename tensor as the {@link #saverDef() SaverDef} of this graph, which is built first if needed. Like the
+   * {@code SaverDef}, the operation for a given parallelism is added only once to the graph.
+   *
+   * @param parallelism maximum number of variable groups to restore concurrently
+   * @return name of the restore operation
+   */
+  synchronized String parallelRestoreOpName(int parallelism) {
+    SaverDef saverDef = saverDef();
+    if (parallelism <= 1) {
+      return saverDef.getRestoreOpName();
+    }
+    return parallelRestoreOpNames.computeIfAbsent(parallelism, n -> addParallelRestore(this, saverDef, n));
+  }
+
   private final Object nativeHandleLock = new Object();
-  private TF_Graph nativeHandle;
-  private int refcount = 0;
+  private volatile TF_Graph nativeHandle;
+  private volatile boolean closing = false;
+  private final AtomicInteger refcount = new AtomicInteger();
   private SaverDef saverDef;
+  private final Map<Integer, String> parallelRestoreOpNames = new HashMap<>();
 
+  private final Map<String, GraphOperation> operationsByName = new ConcurrentHashMap<>();
+  private final Map<String, Output<?>> outputsByName = new ConcurrentHashMap<>();
   private final List<Op> initializers = new ArrayList<>();
+  private final Object constantPoolLock = new Object();
+  private volatile Map<Output<?>, Tensor> constantPool = Collections.emptyMap();
+  private volatile Set<GraphOperation> constantPoolInitializers = Collections.emptySet();
+  private volatile long constantPoolThreshold = -1;
+  private final Set<GraphOperation> pooledVariables = new HashSet<>();
+  private final Set<GraphOperation> variables = new LinkedHashSet<>();
+  private boolean variablesStale = false;
+
+  static final String VARIABLE_V2 = "VariableV2";
+  static final String VAR_HANDLE_OP = "VarHandleOp";
+
+  static boolean isVariable(String type) {
+    return VARIABLE_V2.equals(type) || VAR_HANDLE_OP.equals(type);
+  }
+
+  /**
+   * Invoked by {@link GraphOperationBuilder} each time a new operation is added to this graph.
+   */
+  synchronized void onOperationBuilt(GraphOperation op, String type) {
+    if (!variablesStale && isVariable(type)) {
+      variables.add(op);
+    }
+  }
 
   // Related native objects (such as the TF_Operation object backing an Operation instance)
   // have a validity tied to that of the Graph. The handles to those native objects are not
@@ -701,39 +987,45 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
   //
   // Instances of the Reference class should be used to ensure the Graph has not been closed
   // while dependent handles are in use.
+  //
+  // References are acquired and released without locking, so that operations can be added to the
+  // same graph concurrently from multiple threads. A reference first increments the count and
+  // then checks if the graph is closing, while close() does the opposite, so at least one of them
+  // always sees the other.
   class Reference implements AutoCloseable {
 
     private Reference() {
-      synchronized (Graph.this.nativeHandleLock) {
-        active = Graph.this.nativeHandle != null && !Graph.this.nativeHandle.isNull();
-        if (!active) {
-          throw new IllegalStateException("close() has been called on the Graph");
-        }
-        active = true;
-        Graph.this.refcount++;
+      Graph.this.refcount.incrementAndGet();
+      TF_Graph handle = Graph.this.nativeHandle;
+      if (Graph.this.closing || handle == null || handle.isNull()) {
+        release();
+        throw new IllegalStateException("close() has been called on the Graph");
       }
+      active = true;
     }
 
     @Override
     public void close() {
-      synchronized (Graph.this.nativeHandleLock) {
-        if (!active) {
-          return;
-        }
-        active = false;
-        if (--Graph.this.refcount == 0) {
-          Graph.this.nativeHandleLock.notifyAll();
-        }
+      if (!active) {
+        return;
       }
+      active = false;
+      release();
     }
 
     public TF_Graph nativeHandle() {
-      synchronized (Graph.this.nativeHandleLock) {
-        return active ? Graph.this.nativeHandle : null;
+      return active ? Graph.this.nativeHandle : null;
+    }
+
+    private void release() {
+      if (Graph.this.refcount.decrementAndGet() == 0 && Graph.this.closing) {
+        synchronized (Graph.this.nativeHandleLock) {
+          Graph.this.nativeHandleLock.notifyAll();
+        }
       }
     }
 
-    private boolean active;
+    private volatile boolean active;
   }
 
   Reference ref() {
@@ -831,7 +1123,15 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
 
   private static void importGraphDef(TF_Graph handle, GraphDef graphDef, String prefix)
       throws IllegalArgumentException {
+    importGraphDef(handle, graphDef.toByteArray(), prefix);
+  }
+
+  private static void importGraphDef(TF_Graph handle, byte[] graphDef, String prefix)
+      throws IllegalArgumentException {
     requireHandle(handle);
+    if (graphDef.length == 0) {
+      return; // empty graph, nothing to import
+    }
 
     // Continue cleaning up resources even if an exception was thrown.
     try (PointerScope scope = new PointerScope()) {
@@ -839,7 +1139,7 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
 
       TF_ImportGraphDefOptionsSetPrefix(opts, prefix);
 
-      TF_Buffer buf = TF_Buffer.newBufferFromString(graphDef);
+      TF_Buffer buf = TF_Buffer.newBufferFromString(new BytePointer(graphDef));
       TF_Status status = TF_Status.newStatus();
 
       TF_GraphImportGraphDef(handle, buf, opts, status);
@@ -863,6 +1163,18 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
     }
   }
 
+  private static byte[] toGraphDefBytes(TF_Graph handle) {
+    requireHandle(handle);
+
+    try (PointerScope scope = new PointerScope()) {
+      TF_Buffer buf = TF_Buffer.newBuffer();
+      TF_Status status = TF_Status.newStatus();
+      TF_GraphToGraphDef(handle, buf, status);
+      status.throwExceptionIfNotOK();
+      return buf.copyData();
+    }
+  }
+
   static void resolveOutputs(String type, TF_Operation[] srcOps,
       int[] srcIndices, TF_Output dst, int n) {
     if (srcOps.length != n) {
@@ -1027,9 +1339,8 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
     List<Operand<?>> varOutputs = new ArrayList<>();
     List<Class<? extends TType>> varTypes = new ArrayList<>();
 
-    for (Iterator<Operation> iter = graph.operations(); iter.hasNext(); ) {
-      Operation op = iter.next();
-      if (op.type().equals("VariableV2")) {
+    for (GraphOperation op : graph.variables()) {
+      if (op.type().equals(VARIABLE_V2)) {
         varNames.add(op.name());
         varOutputs.add(op.output(0));
         varTypes.add(op.output(0).type());
@@ -1069,6 +1380,57 @@ public final class Graph implements ExecutionEnvironment, AutoCloseable {
         .build();
   }
 
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  private static String addParallelRestore(Graph graph, SaverDef saverDef, int parallelism) {
+    Ops tf = Ops.create(graph).withSubScope("restore_parallel_" + parallelism);
+    Operand<TString> filename = (Operand<TString>) graph.output(saverDef.getFilenameTensorName());
+
+    List<Output<?>> varOutputs = new ArrayList<>();
+    for (GraphOperation op : graph.variables()) {
+      if (op.type().equals(VARIABLE_V2)) {
+        varOutputs.add(op.output(0));
+      }
+    }
+    // Distribute variables in groups of similar sizes
+    long[] sizes = new long[varOutputs.size()];
+    for (int i = 0; i < sizes.length; ++i) {
+      sizes[i] = staticByteSize(varOutputs.get(i));
+    }
+    int numGroups = Math.max(1, Math.min(parallelism, varOutputs.size()));
+
+    List<Op> restoreOps = new ArrayList<>(varOutputs.size());
+    for (List<Integer> group : BalancedGroups.of(sizes, numGroups)) {
+      if (group.isEmpty()) {
+        continue;
+      }
+      String[] varNames = new String[group.size()];
+      List<Class<? extends TType>> varTypes = new ArrayList<>(group.size());
+      for (int i = 0; i < varNames.length; ++i) {
+        Output<?> varOutput = varOutputs.get(group.get(i));
+        varNames[i] = varOutput.op().name();
+        varTypes.add(varOutput.type());
+      }
+      Constant<TString> varNamesTensor = tf.constant(StdArrays.ndCopyOf(varNames));
+      Restore restoreVariables = tf.train.restore(filename, varNamesTensor, tf.zerosLike(varNamesTensor), varTypes);
+      for (int i = 0; i < varNames.length; ++i) {
+        restoreOps.add(tf.assign((Operand) varOutputs.get(group.get(i)), (Operand) restoreVariables.tensors().get(i)));
+      }
+    }
+    return tf.withControlDependencies(restoreOps).withName("restore_all").noOp().op().name();
+  }
+
+  /**
+   * Returns the size in bytes of the value of an output, as known from its static shape, or 0 if unknown.
+   */
+  private static long staticByteSize(Output<?> output) {
+    Shape shape = output.shape();
+    if (shape.isUnknown() || shape.hasUnknownDimension()) {
+      return 0;
+    }
+    TensorTypeInfo<?> typeInfo = TensorTypeRegistry.find(output.dataType());
+    return shape.size() * (typeInfo.isVariableLength() ? 1 : typeInfo.byteSize());
+  }
+
   static {
     TensorFlow.init();
   }
@@ -61,6 +61,7 @@ public final class GraphOperationBuilder implements OperationBuilder {
 
   GraphOperationBuilder(Graph graph, String type, String name) {
     this.graph = graph;
+    this.type = type;
     Graph.Reference r = graph.ref();
     try {
       this.unsafeNativeHandle = allocate(r.nativeHandle(), type, name);
@@ -80,6 +81,7 @@ public final class GraphOperationBuilder implements OperationBuilder {
     try {
       GraphOperation op = new GraphOperation(graph, finish(unsafeNativeHandle));
       unsafeNativeHandle = null;
+      graph.onOperationBuilt(op, type);
       return op;
     } finally {
       r.close();
@@ -346,6 +348,7 @@ public final class GraphOperationBuilder implements OperationBuilder {
 
   private TF_OperationDescription unsafeNativeHandle;
   private Graph graph;
+  private final String type;
 
   private static void requireHandle(Pointer handle) {
     if (handle == null || handle.isNull()) {
@@ -0,0 +1,356 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+import org.tensorflow.op.Op;
+import org.tensorflow.proto.framework.CollectionDef;
+import org.tensorflow.proto.framework.MetaGraphDef;
+
+/**
+ * A binary snapshot of a {@link Graph}, including the metadata kept on the Java side.
+ *
+ * <p>A snapshot captures the definition of a graph with its initializers, its {@link
+ * org.tensorflow.proto.util.SaverDef SaverDef} and a set of {@link Signature signatures}. It can be
+ * restored into a new graph with a single bulk import, which is a lot faster than rebuilding the
+ * graph operation by operation, and saved to disk so it can be reused across restarts:
+ *
+ * <pre>{@code
+ * GraphSnapshot snapshot = GraphSnapshot.cached(cacheDir, "my-model-v3", () -> {
+ *   try (Graph g = new Graph()) {
+ *     Ops tf = Ops.create(g);
+ *     ...  // build the graph
+ *     return GraphSnapshot.of(g, signature);
+ *   }
+ * });
+ * try (Graph g = snapshot.restore()) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>The graph definition is kept serialized, exactly as returned by the native library, and is
+ * never parsed on the Java side. Snapshots are immutable and thread-safe.
+ */
+public final class GraphSnapshot {
+
+  /**
+   * Takes a snapshot of a graph.
+   *
+   * <p>The {@link org.tensorflow.proto.util.SaverDef SaverDef} of the graph is captured only if it
+   * has already been built; taking a snapshot never mutates the graph.
+   *
+   * @param graph graph to snapshot
+   * @param signatures signatures of the functions exposed by this graph, if any
+   * @return a snapshot of the graph
+   * @throws IllegalStateException if the graph has {@link Graph#setConstantPoolThreshold(long)
+   *     pooled constants}, whose values cannot be captured by a snapshot
+   */
+  public static GraphSnapshot of(Graph graph, Signature... signatures) {
+    return of(graph, Arrays.asList(signatures));
+  }
+
+  /**
+   * Takes a snapshot of a graph.
+   *
+   * @param graph graph to snapshot
+   * @param signatures signatures of the functions exposed by this graph
+   * @return a snapshot of the graph
+   * @throws IllegalStateException if the graph has pooled constants
+   * @see #of(Graph, Signature...)
+   */
+  public static GraphSnapshot of(Graph graph, Collection<Signature> signatures) {
+    if (graph.hasPooledConstants()) {
+      throw new IllegalStateException(
+          "Cannot take a snapshot of a graph with pooled constants, their initializers could not be run");
+    }
+    MetaGraphDef.Builder metadata = MetaGraphDef.newBuilder();
+    if (graph.existingSaverDef() != null) {
+      metadata.setSaverDef(graph.existingSaverDef());
+    }
+    for (Signature signature : signatures) {
+      metadata.putSignatureDef(signature.key(), signature.asSignatureDef());
+    }
+    CollectionDef.NodeList.Builder initializers = CollectionDef.NodeList.newBuilder();
+    for (Op initializer : graph.initializers()) {
+      initializers.addValue(initializer.op().name());
+    }
+    metadata.putCollectionDef(INITIALIZERS_KEY, CollectionDef.newBuilder().setNodeList(initializers).build());
+    return new GraphSnapshot(metadata.build(), graph.toGraphDefBytes());
+  }
+
+  /**
+   * Returns a snapshot cached on disk, or builds and caches a new one if none is found.
+   *
+   * <p>The snapshot is stored in {@code directory}, in a file named after a hash of the {@code key}.
+   * The key must therefore change whenever the graph returned by the {@code builder} does (e.g. by
+   * including a model version). If the cached file cannot be read, the snapshot is built again and
+   * the file is replaced.
+   *
+   * <p>Files are written atomically, so multiple processes can safely share the same cache
+   * directory.
+   *
+   * @param directory directory where snapshots are cached, created if it does not exist
+   * @param key key identifying the graph
+   * @param builder builds a snapshot of the graph when it is not cached yet
+   * @return the cached snapshot
+   * @throws IOException if the snapshot cannot be written to the cache
+   */
+  public static GraphSnapshot cached(Path directory, String key, Supplier<GraphSnapshot> builder)
+      throws IOException {
+    Path file = directory.resolve(hash(key.getBytes(StandardCharsets.UTF_8)) + FILE_EXTENSION);
+    if (Files.isRegularFile(file)) {
+      try {
+        return read(file);
+      } catch (IOException e) {
+        // corrupted or incompatible snapshot, rebuild it
+      }
+    }
+    GraphSnapshot snapshot = builder.get();
+    Files.createDirectories(directory);
+    Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+    try {
+      snapshot.write(tempFile);
+      try {
+        Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+    return snapshot;
+  }
+
+  /**
+   * Reads a snapshot from a file.
+   *
+   * @param file file to read
+   * @return the snapshot
+   * @throws IOException if the file cannot be read or is not a valid snapshot
+   * @see #write(Path)
+   */
+  public static GraphSnapshot read(Path file) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      return read(in, Files.size(file));
+    }
+  }
+
+  /**
+   * Reads a snapshot from a stream.
+   *
+   * @param in stream to read
+   * @return the snapshot
+   * @throws IOException if the stream cannot be read or does not contain a valid snapshot
+   * @see #write(OutputStream)
+   */
+  public static GraphSnapshot read(InputStream in) throws IOException {
+    return read(in, Long.MAX_VALUE);
+  }
+
+  /**
+   * Restores this snapshot into a new graph.
+   *
+   * <p>The graph definition is imported with a single native call and the initializers and {@link
+   * org.tensorflow.proto.util.SaverDef SaverDef} of the original graph are restored.
+   *
+   * @return a new graph, which must be closed by the caller
+   */
+  public Graph restore() {
+    Graph graph = new Graph();
+    try {
+      graph.importGraphDef(graphDef, "");
+      if (metadata.hasSaverDef()) {
+        graph.setSaverDef(metadata.getSaverDef());
+      }
+      CollectionDef initializers = metadata.getCollectionDefOrDefault(INITIALIZERS_KEY, null);
+      if (initializers != null) {
+        for (String name : initializers.getNodeList().getValueList()) {
+          GraphOperation op = graph.operation(name);
+          if (op == null) {
+            throw new IllegalStateException("Initializer \"" + name + "\" not found in graph snapshot");
+          }
+          graph.addInitializer(() -> op);
+        }
+      }
+    } catch (RuntimeException e) {
+      graph.close();
+      throw e;
+    }
+    return graph;
+  }
+
+  /**
+   * Returns the signatures captured in this snapshot.
+   */
+  public List<Signature> signatures() {
+    List<Signature> signatures = new ArrayList<>(metadata.getSignatureDefCount());
+    metadata.getSignatureDefMap().forEach((key, def) -> signatures.add(new Signature(key, def)));
+    return Collections.unmodifiableList(signatures);
+  }
+
+  /**
+   * Returns a hash of the content of this snapshot, as a hexadecimal string.
+   *
+   * <p>Two snapshots of identical graphs with identical metadata have the same hash.
+   */
+  public String hash() {
+    return hash(metadata.toByteArray(), graphDef);
+  }
+
+  /**
+   * Writes this snapshot to a file.
+   *
+   * @param file file to write, replaced if it already exists
+   * @throws IOException if the file cannot be written
+   * @see #read(Path)
+   */
+  public void write(Path file) throws IOException {
+    try (OutputStream out = Files.newOutputStream(file)) {
+      write(out);
+    }
+  }
+
+  /**
+   * Writes this snapshot to a stream.
+   *
+   * @param out stream to write to
+   * @throws IOException if the stream cannot be written
+   * @see #read(InputStream)
+   */
+  public void write(OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    byte[] metadataBytes = metadata.toByteArray();
+    data.writeInt(MAGIC);
+    data.writeInt(VERSION);
+    data.writeInt(metadataBytes.length);
+    data.write(metadataBytes);
+    data.writeInt(graphDef.length);
+    data.write(graphDef);
+    data.writeLong(checksum(metadataBytes, graphDef));
+    data.flush();
+  }
+
+  private static final int MAGIC = 0x54464753; // "TFGS"
+  private static final int VERSION = 2;
+  private static final int HEADER_SIZE = 16; // magic, version and the length of both sections
+  private static final int CHECKSUM_SIZE = 8;
+  private static final int READ_CHUNK_SIZE = 1 << 20; // 1MB
+  private static final String FILE_EXTENSION = ".tfgraph";
+  private static final String INITIALIZERS_KEY = "java_initializers";
+
+  private final MetaGraphDef metadata;
+  private final byte[] graphDef;
+
+  private GraphSnapshot(MetaGraphDef metadata, byte[] graphDef) {
+    this.metadata = metadata;
+    this.graphDef = graphDef;
+  }
+
+  private static GraphSnapshot read(InputStream in, long size) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+    if (data.readInt() != MAGIC) {
+      throw new IOException("Not a graph snapshot");
+    }
+    int version = data.readInt();
+    if (version != VERSION) {
+      throw new IOException("Unsupported graph snapshot version " + version);
+    }
+    long remaining = size - HEADER_SIZE - CHECKSUM_SIZE;
+    byte[] metadata = readSection(data, remaining);
+    byte[] graphDef = readSection(data, remaining - metadata.length);
+    if (data.readLong() != checksum(metadata, graphDef)) {
+      throw new IOException("Corrupted graph snapshot, checksum does not match");
+    }
+    try {
+      return new GraphSnapshot(MetaGraphDef.parseFrom(metadata), graphDef);
+    } catch (InvalidProtocolBufferException e) {
+      throw new IOException("Invalid graph snapshot metadata", e);
+    }
+  }
+
+  /**
+   * Reads a section prefixed by its length, which cannot exceed the remaining size of the snapshot.
+   *
+   * <p>The section is read by chunks, so a corrupted length in a stream of unknown size fails when
+   * reaching the end of the stream instead of allocating a large buffer upfront.
+   */
+  private static byte[] readSection(DataInputStream data, long remaining) throws IOException {
+    int length = data.readInt();
+    if (length < 0 || length > remaining) {
+      throw new IOException("Corrupted graph snapshot, invalid section length " + length);
+    }
+    byte[] section = new byte[Math.min(length, READ_CHUNK_SIZE)];
+    int offset = 0;
+    while (offset < length) {
+      if (offset == section.length) {
+        section = Arrays.copyOf(section, (int) Math.min(length, 2L * section.length));
+      }
+      int n = data.read(section, offset, section.length - offset);
+      if (n < 0) {
+        throw new EOFException("Truncated graph snapshot");
+      }
+      offset += n;
+    }
+    return section;
+  }
+
+  private static long checksum(byte[]... contents) {
+    CRC32 crc = new CRC32();
+    for (byte[] content : contents) {
+      crc.update(content);
+    }
+    return crc.getValue();
+  }
+
+  private static String hash(byte[]... contents) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    for (byte[] content : contents) {
+      digest.update(content);
+    }
+    StringBuilder sb = new StringBuilder();
+    for (byte b : digest.digest()) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+}
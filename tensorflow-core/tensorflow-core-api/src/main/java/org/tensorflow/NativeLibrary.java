@@ -15,10 +15,26 @@ limitations under the License.
 
 package org.tensorflow;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.jar.JarEntry;
 
 /**
  * Helper class for loading the TensorFlow Java native library.
@@ -38,10 +54,20 @@ import java.io.InputStream;
  * set of ClassLoader resources (under org/tensorflow/native/OS-ARCH). The resources paths used for
  * lookup must be consistent with any packaging (such as on Maven Central) of the TensorFlow Java
  * native libraries.
+ *
+ * <p>By default, libraries are extracted into a new temporary directory each time. Setting the
+ * org.tensorflow.NativeLibrary.CACHE_DIR system property enables a cache instead, where libraries
+ * are extracted under a sub-directory identified by the CRC and size of their packaged resources,
+ * so they are extracted only once per version without reading the resources on each run. A file
+ * lock allows concurrent JVMs to share this cache safely. The size and SHA-256 digest of each
+ * library are computed on extraction and recorded in the cache. Cached libraries whose size no
+ * longer matches are extracted again, but their content is not hashed again, so the cache directory
+ * should only be writable by the user running the application.
  */
 final class NativeLibrary {
   private static final boolean DEBUG =
       System.getProperty("org.tensorflow.NativeLibrary.DEBUG") != null;
+  private static final String CACHE_DIR_PROPERTY = "org.tensorflow.NativeLibrary.CACHE_DIR";
   private static final String JNI_LIBNAME = "tensorflow_jni";
 
   public static void load() {
@@ -63,15 +89,14 @@ final class NativeLibrary {
     final String jniLibName = System.mapLibraryName(JNI_LIBNAME);
     final String jniResourceName = makeResourceName(jniLibName);
     log("jniResourceName: " + jniResourceName);
-    final InputStream jniResource =
-        NativeLibrary.class.getClassLoader().getResourceAsStream(jniResourceName);
+    final URL jniResource = NativeLibrary.class.getClassLoader().getResource(jniResourceName);
     // Extract the JNI's dependency
     final String frameworkLibName =
         getVersionedLibraryName(System.mapLibraryName("tensorflow_framework"));
     final String frameworkResourceName = makeResourceName(frameworkLibName);
     log("frameworkResourceName: " + frameworkResourceName);
-    final InputStream frameworkResource =
-        NativeLibrary.class.getClassLoader().getResourceAsStream(frameworkResourceName);
+    final URL frameworkResource =
+        NativeLibrary.class.getClassLoader().getResource(frameworkResourceName);
     // Do not complain if the framework resource wasn't found. This may just mean that we're
     // building with --config=monolithic (in which case it's not needed and not included).
     if (jniResource == null) {
@@ -84,6 +109,24 @@ final class NativeLibrary {
                   + " org.tensorflow.NativeLibrary.DEBUG=1 to the system properties of the JVM.",
               os(), architecture()));
     }
+    if (frameworkResource == null) {
+      log(
+          frameworkResourceName
+              + " not found. This is fine assuming "
+              + jniResourceName
+              + " is not built to depend on it.");
+    }
+    final File cacheDirectory = cacheDirectory();
+    if (cacheDirectory != null) {
+      try {
+        System.load(
+            extractToCache(
+                cacheDirectory, jniResource, jniLibName, frameworkResource, frameworkLibName));
+        return;
+      } catch (IOException e) {
+        log("cannot use cache directory " + cacheDirectory + ": " + e);
+      }
+    }
     try {
       // Create a temporary directory for the extracted resource and its dependencies.
       final File tempPath = createTemporaryDirectory();
@@ -92,15 +135,9 @@ final class NativeLibrary {
       tempPath.deleteOnExit();
       final String tempDirectory = tempPath.getCanonicalPath();
       if (frameworkResource != null) {
-        extractResource(frameworkResource, frameworkLibName, tempDirectory);
-      } else {
-        log(
-            frameworkResourceName
-                + " not found. This is fine assuming "
-                + jniResourceName
-                + " is not built to depend on it.");
+        extractResource(frameworkResource.openStream(), frameworkLibName, tempDirectory);
       }
-      System.load(extractResource(jniResource, jniLibName, tempDirectory));
+      System.load(extractResource(jniResource.openStream(), jniLibName, tempDirectory));
     } catch (IOException e) {
       throw new UnsatisfiedLinkError(
           String.format(
@@ -201,6 +238,168 @@ final class NativeLibrary {
     return dstPath;
   }
 
+  /**
+   * Returns the directory where native libraries are cached across runs, or {@code null} if
+   * caching is not enabled.
+   */
+  private static File cacheDirectory() {
+    String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+    return cacheDir != null && !cacheDir.isEmpty() ? new File(cacheDir) : null;
+  }
+
+  /**
+   * Extracts the native libraries in the cache directory, unless a previous run already did it,
+   * and returns the path of the JNI library.
+   *
+   * <p>Libraries found in the cache are only reused if they have been completely extracted from
+   * the same resources and still have the size recorded at the time.
+   */
+  private static String extractToCache(
+      File cacheDirectory,
+      URL jniResource,
+      String jniLibName,
+      URL frameworkResource,
+      String frameworkLibName)
+      throws IOException {
+    if (!cacheDirectory.isDirectory() && !cacheDirectory.mkdirs()) {
+      throw new IOException("Cannot create directory " + cacheDirectory);
+    }
+    final String resourcesKey =
+        resourceKey(jniResource, jniLibName)
+            + (frameworkResource != null ? resourceKey(frameworkResource, frameworkLibName) : "");
+    final String version =
+        digest(new ByteArrayInputStream(resourcesKey.getBytes(StandardCharsets.UTF_8)));
+    final File libDirectory = new File(cacheDirectory, version);
+    final File jniFile = new File(libDirectory, jniLibName);
+    final File frameworkFile = new File(libDirectory, frameworkLibName);
+    // Lock the extraction of this version, in case other JVMs are trying to extract it too
+    try (RandomAccessFile lockFile =
+            new RandomAccessFile(new File(cacheDirectory, version + ".lock"), "rw");
+        FileLock lock = lockFile.getChannel().lock()) {
+      // The marker is only written once all libraries have been extracted successfully, it records
+      // the resources they come from and the size and digest of each library
+      final File marker = new File(libDirectory, ".extracted");
+      if (matchesMarker(marker, resourcesKey, libDirectory)) {
+        log("reusing native libraries cached in: " + libDirectory);
+      } else {
+        if (marker.exists() && !marker.delete()) {
+          throw new IOException("Cannot delete file " + marker);
+        }
+        if (!libDirectory.isDirectory() && !libDirectory.mkdirs()) {
+          throw new IOException("Cannot create directory " + libDirectory);
+        }
+        final StringBuilder markerContent = new StringBuilder(resourcesKey).append('\n');
+        if (frameworkResource != null) {
+          markerContent.append(extractAndDigest(frameworkResource, frameworkFile)).append('\n');
+        }
+        markerContent.append(extractAndDigest(jniResource, jniFile)).append('\n');
+        final File markerTmp = new File(libDirectory, ".extracted.tmp");
+        try (OutputStream out = new FileOutputStream(markerTmp)) {
+          out.write(markerContent.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        Files.move(markerTmp.toPath(), marker.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        log("extracted native libraries to: " + libDirectory);
+      }
+      return jniFile.getCanonicalPath();
+    }
+  }
+
+  /**
+   * Returns a key identifying a packaged resource without reading its content.
+   *
+   * <p>The key is made of the CRC and size of the jar entry, or of the size and modification time
+   * of the file, if the resource is not in a jar.
+   *
+   * @throws IOException if the resource cannot be identified without reading it
+   */
+  private static String resourceKey(URL resource, String libName) throws IOException {
+    final URLConnection connection = resource.openConnection();
+    if (connection instanceof JarURLConnection) {
+      final JarEntry entry = ((JarURLConnection) connection).getJarEntry();
+      if (entry.getCrc() != -1 && entry.getSize() != -1) {
+        return String.format("%s:crc=%x:size=%d;", libName, entry.getCrc(), entry.getSize());
+      }
+    } else if ("file".equals(resource.getProtocol())) {
+      final File file;
+      try {
+        file = new File(resource.toURI());
+      } catch (URISyntaxException e) {
+        throw new IOException(e);
+      }
+      return String.format("%s:size=%d:modified=%d;", libName, file.length(), file.lastModified());
+    }
+    throw new IOException("Cannot identify resource " + resource);
+  }
+
+  /**
+   * Extracts a resource to a file, computing the digest of its content at the same time.
+   *
+   * @return an entry for the marker file, made of the name, size and digest of the extracted file
+   */
+  private static String extractAndDigest(URL resource, File file) throws IOException {
+    final MessageDigest digest = newDigest();
+    final long size = copy(new DigestInputStream(resource.openStream(), digest), file);
+    return file.getName() + " " + size + " " + toHex(digest.digest());
+  }
+
+  /**
+   * Returns true if a marker file records the extraction of the given resources, and if the files
+   * it lists still have the recorded size.
+   */
+  private static boolean matchesMarker(File marker, String resourcesKey, File libDirectory)
+      throws IOException {
+    if (!marker.isFile()) {
+      return false;
+    }
+    final List<String> lines = Files.readAllLines(marker.toPath(), StandardCharsets.UTF_8);
+    if (lines.isEmpty() || !lines.get(0).equals(resourcesKey)) {
+      log("marker " + marker + " does not match the packaged libraries");
+      return false;
+    }
+    for (String line : lines.subList(1, lines.size())) {
+      final String[] fields = line.split(" ");
+      if (fields.length != 3) {
+        log("invalid entry in marker " + marker + ": " + line);
+        return false;
+      }
+      final File file = new File(libDirectory, fields[0]);
+      if (!file.isFile() || file.length() != Long.parseLong(fields[1])) {
+        log("size of " + file + " does not match the extracted library");
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Computes the SHA-256 digest of the content of a stream, which is closed afterwards. */
+  private static String digest(InputStream in) throws IOException {
+    final MessageDigest digest = newDigest();
+    try (InputStream input = in) {
+      byte[] buffer = new byte[1 << 20]; // 1MB
+      int n;
+      while ((n = input.read(buffer)) >= 0) {
+        digest.update(buffer, 0, n);
+      }
+    }
+    return toHex(digest.digest());
+  }
+
+  private static MessageDigest newDigest() throws IOException {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder sb = new StringBuilder();
+    for (byte b : bytes) {
+      sb.append(String.format("%02x", b));
+    }
+    return sb.toString();
+  }
+
   private static String os() {
     final String p = System.getProperty("os.name").toLowerCase();
     if (p.contains("linux")) {
@@ -0,0 +1,151 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.PointerScope;
+
+/**
+ * Static metadata of an operation type, computed once and shared by all operations of that type.
+ *
+ * <p>Generated op classes expose a descriptor of the operation they wrap and pass it to {@link
+ * ExecutionEnvironment#opBuilder(OperationDescriptor, String)}, so the environment does not need
+ * to resolve the same information each time an operation is built. For example, eager sessions
+ * convert the type and attribute names to native strings only once and reserve exactly the number
+ * of outputs of the operation when executing it.
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ */
+public final class OperationDescriptor {
+
+  /** Value of {@link #numOutputs()} when it depends on the attributes of the operation */
+  public static final int VARIABLE_NUM_OUTPUTS = -1;
+
+  /**
+   * Describes an operation type.
+   *
+   * @param type type of the operation (i.e., identifies the computation to be performed)
+   * @param numOutputs number of outputs of the operation, or {@link #VARIABLE_NUM_OUTPUTS} if it
+   *     depends on the value of its attributes
+   * @param attributeNames names of the attributes of the operation
+   * @return the descriptor
+   * @throws IllegalArgumentException if {@code numOutputs} is invalid
+   */
+  public static OperationDescriptor of(String type, int numOutputs, String... attributeNames) {
+    if (numOutputs < VARIABLE_NUM_OUTPUTS) {
+      throw new IllegalArgumentException("Invalid number of outputs for operation " + type + ": " + numOutputs);
+    }
+    return new OperationDescriptor(type, numOutputs, attributeNames.clone());
+  }
+
+  /**
+   * Returns the type of the operation.
+   */
+  public String type() {
+    return type;
+  }
+
+  /**
+   * Returns the number of outputs of the operation, or {@link #VARIABLE_NUM_OUTPUTS} if it depends
+   * on the value of its attributes.
+   */
+  public int numOutputs() {
+    return numOutputs;
+  }
+
+  /**
+   * Returns the names of the attributes of the operation.
+   */
+  public List<String> attributeNames() {
+    return Collections.unmodifiableList(Arrays.asList(attributeNames));
+  }
+
+  @Override
+  public String toString() {
+    return "OperationDescriptor[" + type + "]";
+  }
+
+  /**
+   * Returns the native string holding the type of the operation.
+   */
+  BytePointer nativeType() {
+    BytePointer nativeType = this.nativeType;
+    if (nativeType == null) {
+      nativeType = resolveNativeNames();
+    }
+    return nativeType;
+  }
+
+  /**
+   * Returns the native string holding the name of an attribute of the operation, or null if that
+   * attribute is not described.
+   *
+   * <p>Generated ops use the same string constants for describing and setting an attribute, so the
+   * name is normally found by identity, without comparing its characters.
+   */
+  BytePointer nativeAttributeName(String name) {
+    if (nativeType == null) {
+      resolveNativeNames();
+    }
+    for (int i = 0; i < attributeNames.length; ++i) {
+      if (attributeNames[i] == name) {
+        return nativeAttributeNames[i];
+      }
+    }
+    for (int i = 0; i < attributeNames.length; ++i) {
+      if (attributeNames[i].equals(name)) {
+        return nativeAttributeNames[i];
+      }
+    }
+    return null;
+  }
+
+  private final String type;
+  private final int numOutputs;
+  private final String[] attributeNames;
+
+  // Native names are owned by the descriptor and live as long as it, which is normally the
+  // lifetime of the application since descriptors are held by static fields of the op classes
+  private volatile BytePointer nativeType;
+  private BytePointer[] nativeAttributeNames;
+
+  private OperationDescriptor(String type, int numOutputs, String[] attributeNames) {
+    this.type = type;
+    this.numOutputs = numOutputs;
+    this.attributeNames = attributeNames;
+  }
+
+  private synchronized BytePointer resolveNativeNames() {
+    if (nativeType == null) {
+      // Make sure the names are not released by a pointer scope opened by the caller
+      try (PointerScope scope = new PointerScope()) {
+        BytePointer[] nativeNames = new BytePointer[attributeNames.length];
+        for (int i = 0; i < attributeNames.length; ++i) {
+          nativeNames[i] = new BytePointer(attributeNames[i]);
+          scope.detach(nativeNames[i]);
+        }
+        BytePointer nativeName = new BytePointer(type);
+        scope.detach(nativeName);
+        nativeAttributeNames = nativeNames;
+        nativeType = nativeName;  // published last, see nativeAttributeName()
+      }
+    }
+    return nativeType;
+  }
+}
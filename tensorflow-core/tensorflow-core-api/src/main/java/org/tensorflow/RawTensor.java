@@ -21,6 +21,8 @@ import static org.tensorflow.internal.c_api.global.tensorflow.TF_TensorByteSize;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_TensorType;
 
 import org.bytedeco.javacpp.PointerScope;
+import org.tensorflow.instrumentation.Instrumentation;
+import org.tensorflow.instrumentation.Instrumentations;
 import org.tensorflow.internal.buffer.TensorBuffers;
 import org.tensorflow.internal.c_api.TF_Tensor;
 import org.tensorflow.internal.types.registry.TensorTypeInfo;
@@ -66,6 +68,14 @@ public final class RawTensor implements Tensor {
   @Override
   public void close() {
     tensorScope.close();
+    if (instrumentation != null) {
+      instrumentation.tensorClosed(typeInfo.dataType(), instrumentedBytes);
+      instrumentation = null;
+    }
+    if (leakTracker != null) {
+      leakTracker.close();
+      leakTracker = null;
+    }
   }
 
   /**
@@ -134,6 +144,7 @@ public final class RawTensor implements Tensor {
       RawTensor t = new RawTensor(typeInfo, shape);
       t.tensorHandle = nativeHandle;
       t.tensorScope = scope.extend();
+      instrument(t);
       return t;
     }
   }
@@ -144,13 +155,8 @@ public final class RawTensor implements Tensor {
    * <p>Takes ownership of the handle.
    */
   static RawTensor fromHandle(TF_Tensor handle) {
-    TensorTypeInfo<?> typeInfo = TensorTypeRegistry.find(DataType.forNumber(dtype(handle)));
-    RawTensor t = new RawTensor(typeInfo, Shape.of(shape(handle)));
-    try (PointerScope scope = new PointerScope()) {
-        scope.attach(handle);
-        t.tensorHandle = handle;
-        t.tensorScope = scope.extend();
-    }
+    RawTensor t = wrap(handle);
+    instrument(t);
     return t;
   }
 
@@ -158,9 +164,12 @@ public final class RawTensor implements Tensor {
    * Create an eager Tensor object from a handle to the C TF_Tensor object.
    *
    * <p>Takes ownership of the handle.
+   *
+   * <p>The tensor is released by the session, closing it is not required, so it is neither reported
+   * to the instrumentation nor tracked by the {@link TensorLeakDetector}.
    */
   static RawTensor fromHandle(TF_Tensor handle, EagerSession session) {
-    RawTensor t = fromHandle(handle);
+    RawTensor t = wrap(handle);
     session.attach(handle);
     t.tensorScope.detach(handle);
     return t;
@@ -186,6 +195,35 @@ public final class RawTensor implements Tensor {
     return typeInfo.mapper().mapDense(this);
   }
 
+  /**
+   * Reports the allocation of a tensor to the installed instrumentation, if any, and remembers both
+   * the instrumentation and the size of the tensor to report it again when the tensor is closed.
+   *
+   * <p>The tensor is also tracked by the {@link TensorLeakDetector}, if enabled.
+   */
+  private static void instrument(RawTensor t) {
+    Instrumentation instrumentation = Instrumentations.current();
+    if (instrumentation != null) {
+      t.instrumentation = instrumentation;
+      t.instrumentedBytes = TF_TensorByteSize(t.tensorHandle);
+      instrumentation.tensorAllocated(t.typeInfo.dataType(), t.instrumentedBytes);
+    }
+    if (TensorLeakDetector.isEnabled()) {
+      t.leakTracker = TensorLeakDetector.track(t, t.typeInfo.dataType(), TF_TensorByteSize(t.tensorHandle));
+    }
+  }
+
+  private static RawTensor wrap(TF_Tensor handle) {
+    TensorTypeInfo<?> typeInfo = TensorTypeRegistry.find(DataType.forNumber(dtype(handle)));
+    RawTensor t = new RawTensor(typeInfo, Shape.of(shape(handle)));
+    try (PointerScope scope = new PointerScope()) {
+        scope.attach(handle);
+        t.tensorHandle = handle;
+        t.tensorScope = scope.extend();
+    }
+    return t;
+  }
+
   private static TF_Tensor requireHandle(TF_Tensor handle) {
     if (handle == null || handle.isNull()) {
       throw new IllegalStateException("close() was called on the Tensor");
@@ -226,6 +264,9 @@ public final class RawTensor implements Tensor {
   private final TensorTypeInfo<? extends TType> typeInfo;
   private final Shape shape;
   private ByteDataBuffer buffer = null;
+  private Instrumentation instrumentation = null;
+  private long instrumentedBytes;
+  private TensorLeakDetector.Tracker leakTracker = null;
 
   static {
     TensorFlow.init();
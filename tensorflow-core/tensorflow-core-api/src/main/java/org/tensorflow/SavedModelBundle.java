@@ -35,6 +35,8 @@ import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.PointerPointer;
 import org.bytedeco.javacpp.PointerScope;
 import org.tensorflow.exceptions.TensorFlowException;
+import org.tensorflow.instrumentation.Instrumentation;
+import org.tensorflow.instrumentation.Instrumentations;
 import org.tensorflow.internal.c_api.TF_Buffer;
 import org.tensorflow.internal.c_api.TF_Graph;
 import org.tensorflow.internal.c_api.TF_Session;
@@ -65,7 +67,14 @@ public class SavedModelBundle implements AutoCloseable {
 
     /** Load a <code>SavedModelBundle</code> with the configured options. */
     public SavedModelBundle load() {
-      return SavedModelBundle.load(exportDir, tags, configProto, runOptions);
+      Instrumentation instrumentation = Instrumentations.current();
+      if (instrumentation == null) {
+        return SavedModelBundle.load(exportDir, tags, configProto, runOptions);
+      }
+      long startTime = System.nanoTime();
+      SavedModelBundle bundle = SavedModelBundle.load(exportDir, tags, configProto, runOptions);
+      instrumentation.savedModelLoaded(exportDir, System.nanoTime() - startTime);
+      return bundle;
     }
 
     /**
@@ -176,12 +185,18 @@ public class SavedModelBundle implements AutoCloseable {
      * Save the model into the export directory.
      *
      * @throws IOException if saved model or variable state cannot be written on disk
+     * @throws IllegalStateException if the model has no function, or if its graph has {@link
+     *     Graph#setConstantPoolThreshold(long) pooled constants}, whose values cannot be saved
      */
     public void export() throws IOException {
       if (functions.isEmpty() || session == null) {
         throw new IllegalStateException("Model should contain at least one valid function");
       }
       Graph graph = session.graph();
+      if (graph.hasPooledConstants()) {
+        throw new IllegalStateException(
+            "Cannot export a graph with pooled constants, their initializers could not be run");
+      }
 
       // It is imperative to retrieve the graphDef after the saverDef, as the former might add
       // new ops to the graph for saving and restoring the variables.
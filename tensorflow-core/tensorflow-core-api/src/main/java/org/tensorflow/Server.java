@@ -20,12 +20,14 @@ import static org.tensorflow.internal.c_api.global.tensorflow.TF_NewServer;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_ServerJoin;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_ServerStart;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_ServerStop;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_ServerTarget;
 
 import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.PointerScope;
 import org.tensorflow.internal.c_api.TF_Server;
 import org.tensorflow.internal.c_api.TF_Status;
 import org.tensorflow.proto.distruntime.ServerDef;
+import org.tensorflow.proto.framework.ConfigProto;
 
 /**
  * An in-process TensorFlow server, for use in distributed training.
@@ -93,6 +95,16 @@ public final class Server implements AutoCloseable {
     stop(nativeHandle);
   }
 
+  /**
+   * Returns the target of this server, for creating sessions running on it.
+   *
+   * @return the target string, in the form {@code grpc://host:port}
+   * @see Session#Session(Graph, String, ConfigProto)
+   */
+  public synchronized String target() {
+    return target(nativeHandle);
+  }
+
   /** Blocks until the server has been successfully stopped. */
   public void join() {
     TF_Server handle = null;
@@ -159,6 +171,11 @@ public final class Server implements AutoCloseable {
     }
   }
 
+  private static String target(TF_Server nativeHandle) {
+    requireHandle(nativeHandle);
+    return TF_ServerTarget(nativeHandle).getString();
+  }
+
   private static void join(TF_Server nativeHandle) {
     requireHandle(nativeHandle);
     try (PointerScope scope = new PointerScope()) {
@@ -19,15 +19,24 @@ import static org.tensorflow.Graph.resolveOutputs;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_OperationGetAttrType;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_SessionRun;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_SetConfig;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_SetTarget;
 
 import com.google.protobuf.InvalidProtocolBufferException;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.Pointer;
 import org.bytedeco.javacpp.PointerPointer;
 import org.bytedeco.javacpp.PointerScope;
 import org.tensorflow.exceptions.TensorFlowException;
+import org.tensorflow.instrumentation.Instrumentation;
+import org.tensorflow.instrumentation.Instrumentations;
 import org.tensorflow.internal.c_api.TF_Buffer;
 import org.tensorflow.internal.c_api.TF_Graph;
 import org.tensorflow.internal.c_api.TF_Operation;
@@ -94,10 +103,28 @@ public final class Session implements AutoCloseable {
    * @throws IllegalArgumentException if the config is not a valid serialization of the ConfigProto protocol buffer.
    */
   public Session(Graph g, ConfigProto config) {
+    this(g, null, config);
+  }
+
+  /**
+   * Construct a new session with the associated {@link Graph}, running on the given target.
+   *
+   * <p>The target is usually the one of a TensorFlow {@link Server}, so the graph is executed by the
+   * distributed runtime and can place operations on the other tasks of its cluster.
+   *
+   * @param g The {@link Graph} the created Session will operate on.
+   * @param target the execution engine to connect to, like {@code grpc://localhost:2222}, or
+   *     {@code null} to run the graph in-process
+   * @param config Configuration parameters for the session specified as a <a href="https://www.tensorflow.org/code/tensorflow/core/protobuf/config.proto">ConfigProto</a>
+   * protocol buffer.
+   * @throws IllegalArgumentException if the config is not a valid serialization of the ConfigProto protocol buffer.
+   * @see Server#target()
+   */
+  public Session(Graph g, String target, ConfigProto config) {
     graph = g;
     Graph.Reference r = g.ref();
     try {
-      nativeHandle = allocate(r.nativeHandle(), null, config);
+      nativeHandle = allocate(r.nativeHandle(), target, config);
       graphRef = g.ref();
     } finally {
       r.close();
@@ -382,13 +409,56 @@ public final class Session implements AutoCloseable {
       return runHelper(true);
     }
 
+    /**
+     * Clears all feeds, fetches, targets and options of this runner, so it can be reused for another
+     * execution.
+     *
+     * <p>Reusing a runner avoids reallocating its internal lists and arrays on each execution, which
+     * matters when a session is invoked at a high rate.
+     *
+     * @return this runner
+     */
+    public Runner reset() {
+      inputs.clear();
+      inputTensors.clear();
+      outputs.clear();
+      targets.clear();
+      runOptions = null;
+      return this;
+    }
+
     private Run runHelper(boolean wantMetadata) {
-      TF_Tensor[] inputTensorHandles = new TF_Tensor[inputTensors.size()];
-      TF_Operation[] inputOpHandles = new TF_Operation[inputs.size()];
-      int[] inputOpIndices = new int[inputs.size()];
-      TF_Operation[] outputOpHandles = new TF_Operation[outputs.size()];
-      int[] outputOpIndices = new int[outputs.size()];
-      TF_Operation[] targetOpHandles = new TF_Operation[targets.size()];
+      // Values of pooled constants are only fed to runs executing their initializers, unless
+      // explicitly fed by the caller
+      Map<Output<?>, Tensor> constantPool = graph.constantPool();
+      List<Output<?>> pooledInputs = Collections.emptyList();
+      if (graph.needsConstantPool(targets)) {
+        Set<Output<?>> fedInputs = new HashSet<>(inputs);
+        pooledInputs = new ArrayList<>(constantPool.size());
+        for (Output<?> placeholder : constantPool.keySet()) {
+          if (!fedInputs.contains(placeholder)) {
+            pooledInputs.add(placeholder);
+          }
+        }
+      }
+      int numInputs = inputs.size() + pooledInputs.size();
+
+      // Handle arrays are reused from a previous run when the number of feeds, fetches and targets
+      // has not changed, which is the common case for a runner that is reset between executions.
+      if (inputTensorHandles.length != numInputs) {
+        inputTensorHandles = new TF_Tensor[numInputs];
+      }
+      if (inputOpHandles.length != numInputs) {
+        inputOpHandles = new TF_Operation[numInputs];
+        inputOpIndices = new int[numInputs];
+      }
+      if (outputOpHandles.length != outputs.size()) {
+        outputOpHandles = new TF_Operation[outputs.size()];
+        outputOpIndices = new int[outputs.size()];
+      }
+      if (targetOpHandles.length != targets.size()) {
+        targetOpHandles = new TF_Operation[targets.size()];
+      }
 
       // It's okay to use Operation.getUnsafeNativeHandle() here since the safety depends on the
       // validity of the Graph and graphRef ensures that.
@@ -396,12 +466,20 @@ public final class Session implements AutoCloseable {
       for (Tensor t : inputTensors) {
         inputTensorHandles[idx++] = t.asRawTensor().nativeHandle();
       }
+      for (Output<?> o : pooledInputs) {
+        inputTensorHandles[idx++] = constantPool.get(o).asRawTensor().nativeHandle();
+      }
       idx = 0;
       for (Output<?> o : inputs) {
         inputOpHandles[idx] = (TF_Operation) o.getUnsafeNativeHandle();
         inputOpIndices[idx] = o.index();
         idx++;
       }
+      for (Output<?> o : pooledInputs) {
+        inputOpHandles[idx] = (TF_Operation) o.getUnsafeNativeHandle();
+        inputOpIndices[idx] = o.index();
+        idx++;
+      }
       idx = 0;
       for (Output<?> o : outputs) {
         outputOpHandles[idx] = (TF_Operation) o.getUnsafeNativeHandle();
@@ -415,6 +493,8 @@ public final class Session implements AutoCloseable {
       Reference runRef = new Reference();
       RunMetadata metadata = null;
       List<Tensor> outputs = new ArrayList<>();
+      Instrumentation instrumentation = Instrumentations.current();
+      long startTime = instrumentation != null ? System.nanoTime() : 0L;
       try {
         metadata =
             Session.run(
@@ -433,9 +513,17 @@ public final class Session implements AutoCloseable {
           t.close();
         }
         outputs.clear();
+        if (instrumentation != null) {
+          instrumentation.sessionRun(Session.this, System.nanoTime() - startTime, false);
+        }
         throw e;
       } finally {
         runRef.close();
+        // Do not retain native handles of the tensors fed to this run
+        Arrays.fill(inputTensorHandles, null);
+      }
+      if (instrumentation != null) {
+        instrumentation.sessionRun(Session.this, System.nanoTime() - startTime, true);
       }
       Run ret = new Run();
       ret.outputs = outputs;
@@ -472,6 +560,12 @@ public final class Session implements AutoCloseable {
     private final ArrayList<Output<?>> outputs = new ArrayList<>();
     private final ArrayList<GraphOperation> targets = new ArrayList<>();
     private RunOptions runOptions = null;
+    private TF_Tensor[] inputTensorHandles = new TF_Tensor[0];
+    private TF_Operation[] inputOpHandles = new TF_Operation[0];
+    private int[] inputOpIndices = new int[0];
+    private TF_Operation[] outputOpHandles = new TF_Operation[0];
+    private int[] outputOpIndices = new int[0];
+    private TF_Operation[] targetOpHandles = new TF_Operation[0];
   }
 
   /**
@@ -481,6 +575,39 @@ public final class Session implements AutoCloseable {
     return new Runner();
   }
 
+  /**
+   * Returns a Runner owned by the calling thread, after {@link Runner#reset() resetting} it.
+   *
+   * <p>Each thread gets its own runner instance for this session, which is reused on every call to
+   * this method. This avoids allocating a new runner per execution, which is useful for sessions
+   * serving many requests concurrently:
+   *
+   * <pre>{@code
+   * try (Tensor result = session.reusableRunner().feed("x", x).fetch("y").run().get(0)) {
+   *   ...
+   * }
+   * }</pre>
+   *
+   * <p>Since the same instance is returned on each call, the runner must be completely configured
+   * and run before this method is called again from the same thread. Use {@link #runner()} to
+   * obtain a new, independent runner.
+   *
+   * <p>Runners are only weakly referenced, so they do not retain the session, nor are retained
+   * after their thread terminates. A new runner is allocated if the previous one has been garbage
+   * collected.
+   *
+   * @return the runner of the calling thread, ready to be configured
+   */
+  public Runner reusableRunner() {
+    WeakReference<Runner> runnerRef = threadRunners.get();
+    Runner runner = runnerRef != null ? runnerRef.get() : null;
+    if (runner == null) {
+      runner = new Runner();
+      threadRunners.set(new WeakReference<>(runner));
+    }
+    return runner.reset();
+  }
+
   /**
    * Executes an operation in the graph with the given name.
    *
@@ -556,6 +683,37 @@ public final class Session implements AutoCloseable {
         .run();
   }
 
+  /**
+   * Restore the actual state of the variables of this session's graph, reading the checkpoint
+   * concurrently.
+   *
+   * <p>Variables are split in up to {@code parallelism} groups of similar sizes, each of them
+   * being restored by its own {@code RestoreV2} operation. These operations are executed
+   * concurrently by the session, which speeds up the restoration of large models, particularly
+   * when their checkpoint is sharded in multiple data files.
+   *
+   * <p>Only {@code VariableV2} variables are restored. Note that this method might alter the
+   * underlying graph the first time it is called for a given parallelism, see {@link
+   * Graph#saverDef()} for more details.
+   *
+   * @param prefix prefix to restore from
+   * @param parallelism maximum number of {@code RestoreV2} operations to run concurrently
+   * @throws IllegalArgumentException if {@code parallelism} is not positive
+   * @see #restore(String)
+   */
+  public void restore(String prefix, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("Parallelism must be positive, got " + parallelism);
+    }
+    SaverDef saverDef = graph.saverDef();
+    String restoreOpName = graph.parallelRestoreOpName(parallelism);
+    try (TString prefixTensor = TString.scalarOf(prefix)) {
+      runner().addTarget(restoreOpName)
+          .feed(saverDef.getFilenameTensorName(), prefixTensor)
+          .run();
+    }
+  }
+
   /**
    * Output tensors and metadata obtained when executing a session.
    *
@@ -583,6 +741,7 @@ public final class Session implements AutoCloseable {
 
   private final Graph graph;
   private final Graph.Reference graphRef;
+  private final ThreadLocal<WeakReference<Runner>> threadRunners = new ThreadLocal<>();
 
   private final Object nativeHandleLock = new Object();
   private TF_Session nativeHandle;
@@ -613,6 +772,9 @@ public final class Session implements AutoCloseable {
     try (PointerScope scope = new PointerScope()) {
       TF_Status status = TF_Status.newStatus();
       TF_SessionOptions opts = TF_SessionOptions.newSessionOptions();
+      if (target != null) {
+        TF_SetTarget(opts, target);
+      }
       if (config != null) {
         BytePointer configBytes = new BytePointer(config.toByteArray());
         TF_SetConfig(opts, configBytes, configBytes.capacity(), status);
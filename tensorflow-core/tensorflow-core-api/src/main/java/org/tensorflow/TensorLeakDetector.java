@@ -0,0 +1,360 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import org.tensorflow.proto.framework.DataType;
+
+/**
+ * Detects tensors that are never closed, by recording where each of them has been allocated.
+ *
+ * <p>Tensors hold native memory that is only released when they are closed, or eventually when they
+ * are garbage-collected. Leaked tensors, like results of {@link Session.Runner#run()} that are never
+ * closed, can then keep a large amount of native memory alive, which is not accounted by the heap
+ * limits of the JVM.
+ *
+ * <p>Once enabled, this detector captures the stack trace of each tensor allocated in native memory
+ * and:
+ *
+ * <ul>
+ *   <li>reports tensors garbage-collected without being closed, once per allocation site;
+ *   <li>periodically reports, if requested, the native memory held by tensors not closed yet,
+ *       grouped by allocation site.
+ * </ul>
+ *
+ * <p>Leak detection is disabled by default, as capturing a stack trace on every allocation is
+ * costly. It can be enabled programmatically or at startup, by setting the {@code
+ * org.tensorflow.TensorLeakDetector.ENABLED} system property to {@code true} and optionally the
+ * {@code org.tensorflow.TensorLeakDetector.REPORT_INTERVAL_SECONDS} property to a number of seconds
+ * between reports of outstanding allocations. Only tensors allocated while the detector is enabled
+ * are tracked.
+ *
+ * <p>Tensors of an {@link EagerSession} are released by their session and are not tracked.
+ */
+public final class TensorLeakDetector {
+
+  /** System property enabling leak detection at startup */
+  public static final String ENABLED_PROPERTY = "org.tensorflow.TensorLeakDetector.ENABLED";
+
+  /** System property setting the interval between reports of outstanding allocations, in seconds */
+  public static final String REPORT_INTERVAL_PROPERTY =
+      "org.tensorflow.TensorLeakDetector.REPORT_INTERVAL_SECONDS";
+
+  /** Receives the reports of the leak detector. */
+  public interface Reporter {
+
+    /**
+     * Invoked when a tensor has been garbage-collected without being closed.
+     *
+     * <p>It is only invoked for the first leak of each allocation site, subsequent leaks being
+     * counted by the site.
+     *
+     * @param site where the tensor has been allocated
+     * @param dataType type of the tensor
+     * @param numBytes size of the tensor data, in bytes
+     */
+    void leakDetected(AllocationSite site, DataType dataType, long numBytes);
+
+    /**
+     * Invoked periodically with the sites of the tensors not closed yet.
+     *
+     * @param sites allocation sites, by decreasing number of bytes held
+     */
+    void outstandingAllocations(List<AllocationSite> sites);
+  }
+
+  /** A location in the code where tensors are allocated, with statistics about these tensors. */
+  public static final class AllocationSite {
+
+    /** Returns the stack trace of the allocation, starting with the innermost frame. */
+    public List<StackTraceElement> stackTrace() {
+      return stackTrace;
+    }
+
+    /** Returns the number of tensors allocated at this site and not closed yet. */
+    public long liveTensors() {
+      return liveTensors.sum();
+    }
+
+    /** Returns the number of bytes held by tensors allocated at this site and not closed yet. */
+    public long liveBytes() {
+      return liveBytes.sum();
+    }
+
+    /** Returns the number of tensors allocated at this site and collected without being closed. */
+    public long leakedTensors() {
+      return leakedTensors.sum();
+    }
+
+    /** Returns the number of bytes of tensors allocated at this site and collected without being closed. */
+    public long leakedBytes() {
+      return leakedBytes.sum();
+    }
+
+    /** Returns the stack trace of this site, formatted like the one of an exception. */
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder();
+      for (StackTraceElement frame : stackTrace) {
+        sb.append("\tat ").append(frame).append(System.lineSeparator());
+      }
+      return sb.toString();
+    }
+
+    private final List<StackTraceElement> stackTrace;
+    private final LongAdder liveTensors = new LongAdder();
+    private final LongAdder liveBytes = new LongAdder();
+    private final LongAdder leakedTensors = new LongAdder();
+    private final LongAdder leakedBytes = new LongAdder();
+    private final AtomicBoolean leakReported = new AtomicBoolean();
+
+    private AllocationSite(List<StackTraceElement> stackTrace) {
+      this.stackTrace = stackTrace;
+    }
+  }
+
+  /** Enables leak detection, without periodic reports of outstanding allocations. */
+  public static void enable() {
+    enable(0L, TimeUnit.SECONDS);
+  }
+
+  /**
+   * Enables leak detection.
+   *
+   * @param reportInterval interval between reports of outstanding allocations, or 0 to disable them
+   * @param unit unit of the interval
+   */
+  public static synchronized void enable(long reportInterval, TimeUnit unit) {
+    reportIntervalNanos = unit.toNanos(Math.max(reportInterval, 0L));
+    if (collector == null) {
+      collector = new Thread(TensorLeakDetector::collect, "tensorflow-leak-detector");
+      collector.setDaemon(true);
+      collector.start();
+    }
+    enabled = true;
+  }
+
+  /**
+   * Disables leak detection.
+   *
+   * <p>Tensors already tracked remain so until they are closed or collected.
+   */
+  public static void disable() {
+    enabled = false;
+  }
+
+  /** Returns true if leak detection is enabled. */
+  public static boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Sets the reporter of the leak detector.
+   *
+   * @param reporter reporter to use, or null to print reports on the standard error stream
+   */
+  public static void setReporter(Reporter reporter) {
+    TensorLeakDetector.reporter = reporter != null ? reporter : STANDARD_ERROR_REPORTER;
+  }
+
+  /**
+   * Returns the sites of the tensors allocated and not closed yet.
+   *
+   * @return allocation sites, by decreasing number of bytes held
+   */
+  public static List<AllocationSite> outstandingAllocations() {
+    // Sort on a snapshot of the bytes held, as they can change while sorting
+    Map<AllocationSite, Long> liveBytes = new IdentityHashMap<>();
+    for (AllocationSite site : sites.values()) {
+      if (site.liveTensors() > 0) {
+        liveBytes.put(site, site.liveBytes());
+      }
+    }
+    List<AllocationSite> outstanding = new ArrayList<>(liveBytes.keySet());
+    outstanding.sort((a, b) -> Long.compare(liveBytes.get(b), liveBytes.get(a)));
+    return outstanding;
+  }
+
+  /** Returns the number of bytes held by tracked tensors not closed yet. */
+  public static long outstandingBytes() {
+    long total = 0L;
+    for (AllocationSite site : sites.values()) {
+      total += site.liveBytes();
+    }
+    return total;
+  }
+
+  /** Sends the sites of the tensors allocated and not closed yet to the reporter. */
+  public static void reportOutstandingAllocations() {
+    reporter.outstandingAllocations(outstandingAllocations());
+  }
+
+  /**
+   * Tracks a tensor until it is closed or collected.
+   *
+   * @param tensor tensor to track
+   * @param dataType type of the tensor
+   * @param numBytes size of the tensor data, in bytes
+   * @return the tracker of the tensor, to close when the tensor is closed
+   */
+  static Tracker track(RawTensor tensor, DataType dataType, long numBytes) {
+    AllocationSite site = sites.computeIfAbsent(allocationStackTrace(), AllocationSite::new);
+    site.liveTensors.increment();
+    site.liveBytes.add(numBytes);
+    Tracker tracker = new Tracker(tensor, site, dataType, numBytes);
+    trackers.add(tracker);
+    return tracker;
+  }
+
+  /** Tracks the reachability of a tensor, to find out if it has been collected without being closed. */
+  static final class Tracker extends PhantomReference<RawTensor> {
+
+    /** Stops tracking the tensor, which has been released properly. */
+    void close() {
+      if (trackers.remove(this)) {
+        release();
+      }
+      clear();
+    }
+
+    private final AllocationSite site;
+    private final DataType dataType;
+    private final long numBytes;
+
+    private Tracker(RawTensor tensor, AllocationSite site, DataType dataType, long numBytes) {
+      super(tensor, queue);
+      this.site = site;
+      this.dataType = dataType;
+      this.numBytes = numBytes;
+    }
+
+    private void release() {
+      site.liveTensors.decrement();
+      site.liveBytes.add(-numBytes);
+    }
+  }
+
+  private static final int MAX_STACK_DEPTH = 32;
+  private static final long POLL_INTERVAL_MILLIS = 1000L;
+
+  private static final Reporter STANDARD_ERROR_REPORTER = new Reporter() {
+
+    @Override
+    public void leakDetected(AllocationSite site, DataType dataType, long numBytes) {
+      System.err.println("LEAK: a " + dataType + " tensor of " + numBytes
+          + " bytes was garbage-collected without being closed, it was allocated at:"
+          + System.lineSeparator() + site);
+    }
+
+    @Override
+    public void outstandingAllocations(List<AllocationSite> sites) {
+      long totalBytes = 0L;
+      long totalTensors = 0L;
+      for (AllocationSite site : sites) {
+        totalBytes += site.liveBytes();
+        totalTensors += site.liveTensors();
+      }
+      StringBuilder sb = new StringBuilder("Outstanding native tensor memory: ")
+          .append(totalBytes).append(" bytes in ").append(totalTensors).append(" tensors")
+          .append(System.lineSeparator());
+      for (AllocationSite site : sites) {
+        sb.append(site.liveBytes()).append(" bytes in ").append(site.liveTensors())
+            .append(" tensors allocated at:").append(System.lineSeparator()).append(site);
+      }
+      System.err.print(sb);
+    }
+  };
+
+  private static final ReferenceQueue<RawTensor> queue = new ReferenceQueue<>();
+  private static final Set<Tracker> trackers = ConcurrentHashMap.newKeySet();
+  private static final Map<List<StackTraceElement>, AllocationSite> sites = new ConcurrentHashMap<>();
+
+  private static volatile boolean enabled = false;
+  private static volatile long reportIntervalNanos = 0L;
+  private static volatile Reporter reporter = STANDARD_ERROR_REPORTER;
+  private static Thread collector = null;
+
+  private TensorLeakDetector() {}
+
+  /** Returns the stack trace of the caller allocating a tensor, without the frames of the tensor itself. */
+  private static List<StackTraceElement> allocationStackTrace() {
+    StackTraceElement[] frames = new Throwable().getStackTrace();
+    int first = 0;
+    while (first < frames.length && isInternalFrame(frames[first])) {
+      ++first;
+    }
+    int last = Math.min(frames.length, first + MAX_STACK_DEPTH);
+    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(frames, first, last)));
+  }
+
+  private static boolean isInternalFrame(StackTraceElement frame) {
+    return frame.getClassName().equals(TensorLeakDetector.class.getName())
+        || frame.getClassName().equals(RawTensor.class.getName());
+  }
+
+  /** Reports tensors collected without being closed, and outstanding allocations at the requested interval. */
+  private static void collect() {
+    long lastReport = System.nanoTime();
+    while (true) {
+      try {
+        Reference<? extends RawTensor> ref = queue.remove(POLL_INTERVAL_MILLIS);
+        while (ref != null) {
+          Tracker tracker = (Tracker) ref;
+          if (trackers.remove(tracker)) {
+            tracker.release();
+            tracker.site.leakedTensors.increment();
+            tracker.site.leakedBytes.add(tracker.numBytes);
+            if (tracker.site.leakReported.compareAndSet(false, true)) {
+              reporter.leakDetected(tracker.site, tracker.dataType, tracker.numBytes);
+            }
+          }
+          ref = queue.poll();
+        }
+        long interval = reportIntervalNanos;
+        if (interval > 0 && System.nanoTime() - lastReport >= interval) {
+          lastReport = System.nanoTime();
+          if (!trackers.isEmpty()) {
+            reportOutstandingAllocations();
+          }
+        }
+      } catch (InterruptedException e) {
+        return;
+      } catch (RuntimeException e) {
+        // A failing reporter must not stop the detection of other leaks
+        e.printStackTrace();
+      }
+    }
+  }
+
+  static {
+    if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+      enable(Long.getLong(REPORT_INTERVAL_PROPERTY, 0L), TimeUnit.SECONDS);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import org.tensorflow.Session;
+import org.tensorflow.proto.framework.DataType;
+
+/**
+ * Receives events about the native resources and executions of the TensorFlow runtime.
+ *
+ * <p>An implementation is installed with {@link Instrumentations#install(Instrumentation)}, or
+ * discovered at startup as a {@link java.util.ServiceLoader service provider}. It typically records
+ * the events in a metrics library, for example with Micrometer:
+ *
+ * <pre>{@code
+ * Instrumentations.install(new Instrumentation() {
+ *   AtomicLong liveBytes = registry.gauge("tensorflow.tensors.bytes", new AtomicLong());
+ *   Timer runs = registry.timer("tensorflow.session.runs");
+ *
+ *   public void tensorAllocated(DataType dataType, long numBytes) { liveBytes.addAndGet(numBytes); }
+ *   public void tensorClosed(DataType dataType, long numBytes) { liveBytes.addAndGet(-numBytes); }
+ *   public void sessionRun(Session session, long durationNanos, boolean succeeded) {
+ *     runs.record(durationNanos, TimeUnit.NANOSECONDS);
+ *   }
+ * });
+ * }</pre>
+ *
+ * <p>Events are sent synchronously by the thread doing the reported work, so implementations must be
+ * thread-safe and return quickly. All methods do nothing by default.
+ *
+ * @see JmxInstrumentation
+ */
+public interface Instrumentation {
+
+  /**
+   * Invoked when a tensor is allocated in native memory, either explicitly or as the result of an
+   * execution.
+   *
+   * <p>Tensors resulting from eager operations are not reported, since they are released by their
+   * {@link org.tensorflow.EagerSession} instead of being closed.
+   *
+   * @param dataType type of the tensor
+   * @param numBytes size of the tensor data, in bytes
+   */
+  default void tensorAllocated(DataType dataType, long numBytes) {}
+
+  /**
+   * Invoked when a tensor is closed.
+   *
+   * <p>It is only invoked for tensors whose allocation has been reported while this instrumentation
+   * was installed, and not for tensors released by the garbage collector without being closed. It
+   * is still invoked if this instrumentation has been replaced or uninstalled since then.
+   *
+   * @param dataType type of the tensor
+   * @param numBytes size of the tensor data, in bytes, as reported on allocation
+   */
+  default void tensorClosed(DataType dataType, long numBytes) {}
+
+  /**
+   * Invoked when a session completes the execution of a graph.
+   *
+   * @param session session that executed the graph
+   * @param durationNanos duration of the execution, in nanoseconds
+   * @param succeeded false if the execution failed with an exception
+   */
+  default void sessionRun(Session session, long durationNanos, boolean succeeded) {}
+
+  /**
+   * Invoked when an operation has been executed eagerly.
+   *
+   * @param type type of the operation
+   * @param durationNanos duration of the execution, in nanoseconds
+   */
+  default void eagerOperationExecuted(String type, long durationNanos) {}
+
+  /**
+   * Invoked when a saved model has been loaded.
+   *
+   * @param exportDir directory the model has been loaded from
+   * @param durationNanos duration of the loading, in nanoseconds
+   */
+  default void savedModelLoaded(String exportDir, long durationNanos) {}
+}
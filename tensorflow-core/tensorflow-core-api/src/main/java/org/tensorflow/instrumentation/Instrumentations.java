@@ -0,0 +1,79 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import java.util.Iterator;
+import java.util.ServiceLoader;
+
+/**
+ * Holds the {@link Instrumentation} receiving the events of the TensorFlow runtime.
+ *
+ * <p>Instrumentation is disabled by default. It is enabled by either:
+ *
+ * <ul>
+ *   <li>calling {@link #install(Instrumentation)},
+ *   <li>registering an implementation of {@link Instrumentation} as a service provider, in a
+ *       {@code META-INF/services/org.tensorflow.instrumentation.Instrumentation} file,
+ *   <li>setting the {@code org.tensorflow.instrumentation.jmx} system property to {@code true},
+ *       which installs a {@link JmxInstrumentation}.
+ * </ul>
+ *
+ * <p>When disabled, the cost of instrumentation in the runtime is limited to reading a single
+ * volatile field per event.
+ */
+public final class Instrumentations {
+
+  /** System property enabling the {@link JmxInstrumentation} at startup */
+  public static final String JMX_PROPERTY = "org.tensorflow.instrumentation.jmx";
+
+  /**
+   * Installs an instrumentation, replacing any previously installed one.
+   *
+   * @param instrumentation instrumentation to install, or null to disable instrumentation
+   */
+  public static void install(Instrumentation instrumentation) {
+    current = instrumentation;
+  }
+
+  /** Disables instrumentation. */
+  public static void uninstall() {
+    current = null;
+  }
+
+  /**
+   * Returns the installed instrumentation.
+   *
+   * @return the instrumentation, or null if instrumentation is disabled
+   */
+  public static Instrumentation current() {
+    return current;
+  }
+
+  private static volatile Instrumentation current;
+
+  private Instrumentations() {}
+
+  static {
+    if (Boolean.getBoolean(JMX_PROPERTY)) {
+      current = JmxInstrumentation.register();
+    } else {
+      Iterator<Instrumentation> providers = ServiceLoader.load(Instrumentation.class).iterator();
+      if (providers.hasNext()) {
+        current = providers.next();
+      }
+    }
+  }
+}
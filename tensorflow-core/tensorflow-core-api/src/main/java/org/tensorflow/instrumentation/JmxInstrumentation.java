@@ -0,0 +1,221 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.tensorflow.Session;
+import org.tensorflow.proto.framework.DataType;
+
+/**
+ * An {@link Instrumentation} aggregating the events of the TensorFlow runtime in counters and
+ * histograms, exposed through JMX.
+ *
+ * <p>Metrics can be browsed with any JMX client, like JConsole, under the {@link #OBJECT_NAME}
+ * MBean, or read directly from an instance of this class. Metrics are aggregated for all sessions
+ * and eager sessions of the JVM.
+ */
+public class JmxInstrumentation implements Instrumentation, JmxInstrumentationMXBean {
+
+  /** Name of the MBean registered by {@link #register()} */
+  public static final String OBJECT_NAME = "org.tensorflow:type=Instrumentation";
+
+  /**
+   * Registers a new instrumentation in the platform MBean server and installs it.
+   *
+   * <p>If an MBean is already registered under {@link #OBJECT_NAME}, it is replaced.
+   *
+   * @return the registered instrumentation
+   * @throws IllegalStateException if the MBean cannot be registered
+   */
+  public static JmxInstrumentation register() {
+    JmxInstrumentation instrumentation = new JmxInstrumentation();
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    try {
+      ObjectName name = new ObjectName(OBJECT_NAME);
+      try {
+        server.registerMBean(instrumentation, name);
+      } catch (InstanceAlreadyExistsException e) {
+        server.unregisterMBean(name);
+        server.registerMBean(instrumentation, name);
+      }
+    } catch (JMException e) {
+      throw new IllegalStateException("Cannot register TensorFlow instrumentation MBean", e);
+    }
+    Instrumentations.install(instrumentation);
+    return instrumentation;
+  }
+
+  @Override
+  public void tensorAllocated(DataType dataType, long numBytes) {
+    allocatedTensors.increment();
+    allocatedTensorBytes.add(numBytes);
+    liveTensors.increment();
+    liveTensorBytes.add(numBytes);
+  }
+
+  @Override
+  public void tensorClosed(DataType dataType, long numBytes) {
+    liveTensors.decrement();
+    liveTensorBytes.add(-numBytes);
+  }
+
+  @Override
+  public void sessionRun(Session session, long durationNanos, boolean succeeded) {
+    sessionRuns.record(durationNanos);
+    if (!succeeded) {
+      failedSessionRuns.increment();
+    }
+  }
+
+  @Override
+  public void eagerOperationExecuted(String type, long durationNanos) {
+    eagerOperations.record(durationNanos);
+    eagerOperationsByType.computeIfAbsent(type, t -> new LongAdder()).increment();
+  }
+
+  @Override
+  public void savedModelLoaded(String exportDir, long durationNanos) {
+    savedModelLoads.record(durationNanos);
+  }
+
+  @Override
+  public long getLiveTensors() {
+    return liveTensors.sum();
+  }
+
+  @Override
+  public long getLiveTensorBytes() {
+    return liveTensorBytes.sum();
+  }
+
+  @Override
+  public long getAllocatedTensors() {
+    return allocatedTensors.sum();
+  }
+
+  @Override
+  public long getAllocatedTensorBytes() {
+    return allocatedTensorBytes.sum();
+  }
+
+  @Override
+  public long getSessionRuns() {
+    return sessionRuns.count();
+  }
+
+  @Override
+  public long getFailedSessionRuns() {
+    return failedSessionRuns.sum();
+  }
+
+  @Override
+  public double getSessionRunMeanMillis() {
+    return sessionRuns.meanNanos() / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public double getSessionRunP50Millis() {
+    return sessionRuns.percentileNanos(0.5) / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public double getSessionRunP99Millis() {
+    return sessionRuns.percentileNanos(0.99) / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public double getSessionRunMaxMillis() {
+    return sessionRuns.maxNanos() / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public long getEagerOperations() {
+    return eagerOperations.count();
+  }
+
+  @Override
+  public Map<String, Long> getEagerOperationsByType() {
+    Map<String, Long> counts = new TreeMap<>();
+    eagerOperationsByType.forEach((type, count) -> counts.put(type, count.sum()));
+    return counts;
+  }
+
+  @Override
+  public double getEagerOperationMeanMillis() {
+    return eagerOperations.meanNanos() / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public double getEagerOperationP99Millis() {
+    return eagerOperations.percentileNanos(0.99) / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public long getSavedModelLoads() {
+    return savedModelLoads.count();
+  }
+
+  @Override
+  public double getSavedModelLoadMeanMillis() {
+    return savedModelLoads.meanNanos() / NANOS_PER_MILLI;
+  }
+
+  @Override
+  public void reset() {
+    allocatedTensors.reset();
+    allocatedTensorBytes.reset();
+    failedSessionRuns.reset();
+    sessionRuns.reset();
+    eagerOperations.reset();
+    eagerOperationsByType.clear();
+    savedModelLoads.reset();
+  }
+
+  /** Returns the histogram of the durations of graph executions by sessions. */
+  public LatencyHistogram sessionRunHistogram() {
+    return sessionRuns;
+  }
+
+  /** Returns the histogram of the durations of eager operations. */
+  public LatencyHistogram eagerOperationHistogram() {
+    return eagerOperations;
+  }
+
+  /** Returns the histogram of the durations of the loading of saved models. */
+  public LatencyHistogram savedModelLoadHistogram() {
+    return savedModelLoads;
+  }
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final LongAdder liveTensors = new LongAdder();
+  private final LongAdder liveTensorBytes = new LongAdder();
+  private final LongAdder allocatedTensors = new LongAdder();
+  private final LongAdder allocatedTensorBytes = new LongAdder();
+  private final LongAdder failedSessionRuns = new LongAdder();
+  private final LatencyHistogram sessionRuns = new LatencyHistogram();
+  private final LatencyHistogram eagerOperations = new LatencyHistogram();
+  private final Map<String, LongAdder> eagerOperationsByType = new ConcurrentHashMap<>();
+  private final LatencyHistogram savedModelLoads = new LatencyHistogram();
+}
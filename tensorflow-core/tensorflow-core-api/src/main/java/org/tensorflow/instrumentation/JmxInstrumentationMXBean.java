@@ -0,0 +1,79 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link JmxInstrumentation}, exposing the metrics of the TensorFlow
+ * runtime as JMX attributes.
+ *
+ * <p>Durations are in milliseconds and percentiles are approximations, as computed by a {@link
+ * LatencyHistogram}.
+ */
+public interface JmxInstrumentationMXBean {
+
+  /** Returns the number of tensors allocated and not closed yet. */
+  long getLiveTensors();
+
+  /** Returns the number of bytes held by tensors allocated and not closed yet. */
+  long getLiveTensorBytes();
+
+  /** Returns the total number of tensors allocated. */
+  long getAllocatedTensors();
+
+  /** Returns the total number of bytes allocated for tensors. */
+  long getAllocatedTensorBytes();
+
+  /** Returns the number of graph executions by sessions. */
+  long getSessionRuns();
+
+  /** Returns the number of graph executions by sessions that failed. */
+  long getFailedSessionRuns();
+
+  /** Returns the mean duration of graph executions by sessions. */
+  double getSessionRunMeanMillis();
+
+  /** Returns the median duration of graph executions by sessions. */
+  double getSessionRunP50Millis();
+
+  /** Returns the 99th percentile of the duration of graph executions by sessions. */
+  double getSessionRunP99Millis();
+
+  /** Returns the longest duration of graph executions by sessions. */
+  double getSessionRunMaxMillis();
+
+  /** Returns the number of operations executed eagerly. */
+  long getEagerOperations();
+
+  /** Returns the number of operations executed eagerly, by operation type. */
+  Map<String, Long> getEagerOperationsByType();
+
+  /** Returns the mean duration of eager operations. */
+  double getEagerOperationMeanMillis();
+
+  /** Returns the 99th percentile of the duration of eager operations. */
+  double getEagerOperationP99Millis();
+
+  /** Returns the number of saved models loaded. */
+  long getSavedModelLoads();
+
+  /** Returns the mean duration of the loading of saved models. */
+  double getSavedModelLoadMeanMillis();
+
+  /** Clears all cumulative counters and histograms, live tensor counters being preserved. */
+  void reset();
+}
@@ -0,0 +1,122 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of durations, with buckets bounded by powers of two nanoseconds.
+ *
+ * <p>Recording a value only increments a few atomic counters, so it can be done on every execution.
+ * Percentiles are approximated by the upper bound of the bucket they fall in, which is at most twice
+ * the exact value.
+ */
+public final class LatencyHistogram {
+
+  /**
+   * Records a duration.
+   *
+   * @param nanos duration in nanoseconds, negative values being recorded as 0
+   */
+  public void record(long nanos) {
+    long value = Math.max(nanos, 0L);
+    buckets.incrementAndGet(bucketOf(value));
+    count.increment();
+    sum.add(value);
+    max.accumulate(value);
+  }
+
+  /** Returns the number of recorded durations. */
+  public long count() {
+    return count.sum();
+  }
+
+  /** Returns the sum of all recorded durations, in nanoseconds. */
+  public long totalNanos() {
+    return sum.sum();
+  }
+
+  /** Returns the longest recorded duration, in nanoseconds, or 0 if none has been recorded. */
+  public long maxNanos() {
+    return max.get();
+  }
+
+  /** Returns the mean of the recorded durations, in nanoseconds, or 0 if none has been recorded. */
+  public double meanNanos() {
+    long n = count();
+    return n > 0 ? (double) totalNanos() / n : 0.0;
+  }
+
+  /**
+   * Returns an approximation of a percentile of the recorded durations.
+   *
+   * @param quantile quantile of the percentile, between 0 and 1 (e.g. 0.99 for the 99th percentile)
+   * @return upper bound of the duration at this percentile, in nanoseconds, or 0 if no durations have
+   *     been recorded
+   * @throws IllegalArgumentException if the quantile is not between 0 and 1
+   */
+  public long percentileNanos(double quantile) {
+    if (quantile < 0.0 || quantile > 1.0) {
+      throw new IllegalArgumentException("Quantile must be between 0 and 1, got " + quantile);
+    }
+    long total = 0L;
+    long[] counts = new long[NUM_BUCKETS];
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      counts[i] = buckets.get(i);
+      total += counts[i];
+    }
+    if (total == 0L) {
+      return 0L;
+    }
+    long rank = Math.max((long) Math.ceil(quantile * total), 1L);
+    long seen = 0L;
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      seen += counts[i];
+      if (seen >= rank) {
+        return Math.min(upperBoundOf(i), maxNanos());
+      }
+    }
+    return maxNanos();
+  }
+
+  /** Clears all recorded durations. */
+  public void reset() {
+    for (int i = 0; i < NUM_BUCKETS; ++i) {
+      buckets.set(i, 0L);
+    }
+    count.reset();
+    sum.reset();
+    max.reset();
+  }
+
+  // Bucket 0 holds zero durations, bucket i > 0 holds durations in [2^(i-1), 2^i)
+  private static final int NUM_BUCKETS = Long.SIZE;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+  private final LongAdder count = new LongAdder();
+  private final LongAdder sum = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+  private static int bucketOf(long nanos) {
+    return Long.SIZE - Long.numberOfLeadingZeros(nanos);
+  }
+
+  private static long upperBoundOf(int bucket) {
+    return bucket == 0 ? 0L : (1L << bucket) - 1;
+  }
+}
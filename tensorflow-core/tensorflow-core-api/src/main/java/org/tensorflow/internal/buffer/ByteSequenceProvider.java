@@ -16,6 +16,7 @@
  */
 package org.tensorflow.internal.buffer;
 
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.function.Function;
 import org.tensorflow.ndarray.NdArray;
@@ -40,6 +41,9 @@ public class ByteSequenceProvider<T> implements Iterable<byte[]> {
 
   @Override
   public Iterator<byte[]> iterator() {
+    if (sequences != null) {
+      return Arrays.asList(sequences).iterator();
+    }
     return new Iterator<byte[]>() {
 
       @Override
@@ -63,6 +67,29 @@ public class ByteSequenceProvider<T> implements Iterable<byte[]> {
     return source.size();
   }
 
+  /**
+   * Returns all sequences of bytes produced by this sequencer.
+   *
+   * <p>The sequences are extracted once from the source and then reused by any subsequent call,
+   * including iterations, so they are not converted again when written to the tensor.
+   *
+   * @return all sequences of bytes, or null if there are too many of them to fit in an array
+   */
+  byte[][] sequences() {
+    if (sequences == null && numSequences() <= MAX_SEQUENCES) {
+      byte[][] extracted = new byte[(int)numSequences()][];
+      int i = 0;
+      for (byte[] sequence : this) {
+        extracted[i++] = sequence;
+      }
+      sequences = extracted;
+    }
+    return sequences;
+  }
+
+  private static final long MAX_SEQUENCES = Integer.MAX_VALUE - 10;
+
   private final NdArray<T> source;
   private final Function<T, byte[]> byteExtractor;
+  private byte[][] sequences;
 }
@@ -21,13 +21,21 @@ import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_Assign;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_Copy;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_GetDataPointer;
 import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_GetSize;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_SmallCapacity;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TSTR_OFFSET;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TSTR_SMALL;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TSTR_TYPE_MASK;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.BufferOverflowException;
 import java.nio.ReadOnlyBufferException;
 import java.util.function.Function;
 import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.Loader;
 import org.bytedeco.javacpp.Pointer;
 import org.bytedeco.javacpp.PointerScope;
+import org.tensorflow.ndarray.buffer.ByteDataBuffer;
 import org.tensorflow.ndarray.buffer.DataBuffer;
 import org.tensorflow.internal.c_api.TF_TString;
 import org.tensorflow.ndarray.impl.buffer.AbstractDataBuffer;
@@ -46,6 +54,12 @@ import org.tensorflow.ndarray.NdArray;
  *
  * <p>After its data has been initialized, the buffer is read-only as it is not possible to change
  * safely a value without reinitializing the whole data.
+ *
+ * <p>When raw memory access is available, all values are written directly in tensor memory at
+ * once: sequences that fit in a {@code TF_TString} are stored inline (small string optimization)
+ * and the others are packed right after the array of {@code TF_TString}, which refers to them by
+ * offset. This avoids allocating native memory for each value, which is then also read back
+ * without calling the native library.
  */
 public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
 
@@ -57,7 +71,13 @@ public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
    */
   public static <T> long computeSize(ByteSequenceProvider<?> byteSequenceProvider) {
     // reserve space to store TF_TString objects
-    return byteSequenceProvider.numSequences() * Loader.sizeof(TF_TString.class);
+    long size = byteSequenceProvider.numSequences() * Loader.sizeof(TF_TString.class);
+    long packedDataSize = packedDataSize(byteSequenceProvider);
+    if (packedDataSize > 0) {
+      // reserve space to store sequences that cannot be inlined right after the TF_TString objects
+      size += packedDataSize;
+    }
+    return size;
   }
 
   /**
@@ -71,8 +91,14 @@ public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
    * @param byteSequenceProvider produces sequences of bytes to use as the tensor data
    */
   public <T> void init(ByteSequenceProvider<T> byteSequenceProvider) {
-    InitDataWriter writer = new InitDataWriter();
-    byteSequenceProvider.forEach(writer::writeNext);
+    long packedDataSize = packedDataSize(byteSequenceProvider);
+    if (packedDataSize >= 0 && memory != null
+        && memory.size() >= size() * TSTRING_SIZE + packedDataSize) {
+      initPacked(byteSequenceProvider.sequences());
+    } else {
+      InitDataWriter writer = new InitDataWriter();
+      byteSequenceProvider.forEach(writer::writeNext);
+    }
   }
 
   @Override
@@ -83,11 +109,140 @@ public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
   @Override
   public byte[] getObject(long index) {
     Validator.getArgs(this, index);
+    return get(index);
+  }
+
+  @Override
+  public DataBuffer<byte[]> read(byte[][] dst, int offset, int length) {
+    Validator.readArgs(this, dst.length, offset, length);
+    for (int i = 0; i < length; ++i) {
+      dst[offset + i] = get(i);
+    }
+    return this;
+  }
+
+  private byte[] get(long index) {
+    long dataPosition = dataPosition(index);
+    if (dataPosition >= 0) {
+      byte[] bytes = new byte[getLength(index)];
+      memory.offset(dataPosition).read(bytes);
+      return bytes;
+    }
     TF_TString tstring = data.getPointer(index);
     BytePointer ptr = TF_TString_GetDataPointer(tstring).capacity(TF_TString_GetSize(tstring));
     return ptr.getStringBytes();
   }
 
+  /**
+   * Returns a read-only view of the bytes of the value at the given index.
+   *
+   * <p>The view maps directly the memory of the tensor, without copying its data, and must not be
+   * accessed anymore once the tensor has been released. Values stored in the tensor memory are
+   * sliced from it, only large values allocated by TensorFlow require a call to the native library.
+   *
+   * @param index index of the value
+   * @return a read-only view of the bytes of this value
+   */
+  public ByteBuffer getByteBuffer(long index) {
+    Validator.getArgs(this, index);
+    long dataPosition = dataPosition(index);
+    if (dataPosition >= 0 && memoryView != null) {
+      ByteBuffer value = memoryView.duplicate();
+      value.position((int)dataPosition);
+      value.limit((int)dataPosition + getLength(index));
+      return value.slice();
+    }
+    TF_TString tstring = data.getPointer(index);
+    return TF_TString_GetDataPointer(tstring).capacity(TF_TString_GetSize(tstring)).asByteBuffer().asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns a new read-only view of the memory of this buffer, or null if it cannot be accessed
+   * directly.
+   *
+   * <p>Combined with {@link #dataPosition(long)}, this view allows to read repeatedly the values
+   * stored in the tensor memory without allocating any object, by moving its bounds.
+   *
+   * @return a view of the memory, starting at the first value of this buffer
+   */
+  public ByteBuffer memoryView() {
+    return memoryView != null ? memoryView.duplicate() : null;
+  }
+
+  /**
+   * Returns the position of the bytes of the value at the given index in the memory of this buffer,
+   * or -1 if they are stored outside of it.
+   *
+   * <p>Values initialized by this library or small enough to be inlined are stored in the tensor
+   * memory, while large values allocated by TensorFlow point to memory outside the tensor.
+   *
+   * @param index index of the value
+   * @return position of the bytes of the value relative to the first value of this buffer, or -1
+   */
+  public long dataPosition(long index) {
+    if (memory == null) {
+      return -1;
+    }
+    long position = index * TSTRING_SIZE;
+    switch (memory.getByte(position) & TF_TSTR_TYPE_MASK) {
+      case TF_TSTR_SMALL:
+        return position + 1;
+      case TF_TSTR_OFFSET:
+        return position + getUInt32(position + 4);
+      default:
+        return -1;
+    }
+  }
+
+  /**
+   * Returns the number of bytes of the value at the given index.
+   *
+   * @param index index of the value
+   * @return length of the sequence of bytes
+   */
+  public int getLength(long index) {
+    Validator.getArgs(this, index);
+    if (memory != null) {
+      long position = index * TSTRING_SIZE;
+      int header = memory.getByte(position) & 0xFF;
+      switch (header & TF_TSTR_TYPE_MASK) {
+        case TF_TSTR_SMALL:
+          return header >>> 2;
+        case TF_TSTR_OFFSET:
+          return (int)(getUInt32(position) >>> 2);
+        default:
+          break;
+      }
+    }
+    return (int)TF_TString_GetSize(data.getPointer(index));
+  }
+
+  /**
+   * Copies the bytes of the value at the given index to an array.
+   *
+   * <p>Values that are stored in the tensor memory, i.e. those initialized by this library or small
+   * enough to be inlined, are copied without allocating any object.
+   *
+   * @param index index of the value
+   * @param dst destination array, must be at least as large as the value
+   * @return number of bytes copied
+   * @throws java.nio.BufferOverflowException if the destination array is too small
+   */
+  public int readBytes(long index, byte[] dst) {
+    int length = getLength(index);
+    if (dst.length < length) {
+      throw new BufferOverflowException();
+    }
+    long dataPosition = dataPosition(index);
+    if (dataPosition >= 0) {
+      memory.offset(dataPosition).read(dst, 0, length);
+      return length;
+    }
+    TF_TString tstring = data.getPointer(index);
+    TF_TString_GetDataPointer(tstring).get(dst, 0, length);
+    return length;
+  }
+
   @Override
   public DataBuffer<byte[]> setObject(byte[] values, long index) {
     throw new ReadOnlyBufferException();
@@ -102,7 +257,7 @@ public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
   public DataBuffer<byte[]> copyTo(DataBuffer<byte[]> dst, long size) {
     if (size == size() && dst instanceof ByteSequenceTensorBuffer) {
       ByteSequenceTensorBuffer tensorDst = (ByteSequenceTensorBuffer) dst;
-      for (int i = 0; i < size; i++) {
+      for (long i = 0; i < size; i++) {
         TF_TString_Assign(tensorDst.data.getPointer(i), data.getPointer(i));
       }
     } else {
@@ -113,11 +268,97 @@ public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
 
   @Override
   public DataBuffer<byte[]> slice(long index, long size) {
-    return new ByteSequenceTensorBuffer(data.getPointer(index), size);
+    Validator.sliceArgs(this, index, size);
+    TF_TString sliceData = data.getPointer(index);
+    sliceData.capacity(sliceData.position() + size);
+    ByteBuffer sliceMemoryView = null;
+    if (memoryView != null) {
+      sliceMemoryView = memoryView.duplicate();
+      sliceMemoryView.position((int)(index * TSTRING_SIZE));
+      sliceMemoryView = sliceMemoryView.slice();
+    }
+    return new ByteSequenceTensorBuffer(
+        sliceData, memory != null ? memory.offset(index * TSTRING_SIZE) : null, sliceMemoryView);
   }
 
   ByteSequenceTensorBuffer(Pointer tensorMemory, long numElements) {
-    this.data = new TF_TString(tensorMemory).capacity(tensorMemory.position() + numElements);
+    this(new TF_TString(tensorMemory).capacity(tensorMemory.position() + numElements),
+        canAccessMemory() ? TensorRawDataBufferFactory.mapTensorToBytes(tensorMemory, false) : null,
+        canAccessMemory() && tensorMemory.capacity() <= Integer.MAX_VALUE
+            ? new BytePointer(tensorMemory).position(0).limit(tensorMemory.capacity()).asByteBuffer().asReadOnlyBuffer()
+            : null);
+  }
+
+  /**
+   * Returns true if the values stored in tensor memory can be read and written without calling the
+   * native library.
+   */
+  private static boolean canAccessMemory() {
+    return TensorRawDataBufferFactory.canBeUsed() && ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+  }
+
+  /**
+   * Returns how many bytes must be reserved after the array of {@code TF_TString} to pack the
+   * sequences that cannot be inlined, or -1 if values cannot be packed.
+   */
+  private static long packedDataSize(ByteSequenceProvider<?> byteSequenceProvider) {
+    if (!canAccessMemory()) {
+      return -1;
+    }
+    byte[][] sequences = byteSequenceProvider.sequences();
+    if (sequences == null) {
+      return -1;
+    }
+    long dataSize = 0;
+    for (byte[] bytes : sequences) {
+      if (bytes.length > TF_TString_SmallCapacity) {
+        if (bytes.length > MAX_OFFSET_STRING_SIZE) {
+          return -1;
+        }
+        dataSize += bytes.length;
+      }
+    }
+    // offsets are stored on 32 bits
+    return sequences.length * TSTRING_SIZE + dataSize <= MAX_OFFSET ? dataSize : -1;
+  }
+
+  private void initPacked(byte[][] sequences) {
+    long dataPosition = sequences.length * TSTRING_SIZE;
+    for (int i = 0; i < sequences.length; ++i) {
+      byte[] bytes = sequences[i];
+      long position = i * TSTRING_SIZE;
+      if (bytes.length <= TF_TString_SmallCapacity) {
+        memory.setByte((byte)((bytes.length << 2) | TF_TSTR_SMALL), position);
+        memory.offset(position + 1).write(bytes);
+        memory.setByte((byte)0, position + 1 + bytes.length);
+      } else {
+        setUInt32(((long)bytes.length << 2) | TF_TSTR_OFFSET, position);
+        setUInt32(dataPosition - position, position + 4);
+        memory.offset(dataPosition).write(bytes);
+        dataPosition += bytes.length;
+      }
+    }
+  }
+
+  // TF_TString offsets and sizes are always stored in little-endian
+  private long getUInt32(long position) {
+    return (memory.getByte(position) & 0xFFL)
+        | (memory.getByte(position + 1) & 0xFFL) << 8
+        | (memory.getByte(position + 2) & 0xFFL) << 16
+        | (memory.getByte(position + 3) & 0xFFL) << 24;
+  }
+
+  private void setUInt32(long value, long position) {
+    memory.setByte((byte)value, position);
+    memory.setByte((byte)(value >>> 8), position + 1);
+    memory.setByte((byte)(value >>> 16), position + 2);
+    memory.setByte((byte)(value >>> 24), position + 3);
+  }
+
+  private ByteSequenceTensorBuffer(TF_TString data, ByteDataBuffer memory, ByteBuffer memoryView) {
+    this.data = data;
+    this.memory = memory;
+    this.memoryView = memoryView;
   }
 
   private class InitDataWriter {
@@ -131,5 +372,11 @@ public class ByteSequenceTensorBuffer extends AbstractDataBuffer<byte[]> {
     }
   }
 
+  private static final long TSTRING_SIZE = Loader.sizeof(TF_TString.class);
+  private static final long MAX_OFFSET = 0xFFFFFFFFL;
+  private static final int MAX_OFFSET_STRING_SIZE = (1 << 30) - 1;
+
   private final TF_TString data;
+  private final ByteDataBuffer memory;  // raw view of the tensor memory, from the first value of this buffer
+  private final ByteBuffer memoryView;  // same as memory, as a read-only NIO buffer
 }
@@ -61,7 +61,7 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToBytes(tensorMemory, readOnly);
     }
-    return DataBuffers.of(tensorMemory.asByteBuffer().asReadOnlyBuffer());
+    return DataBuffers.of(nioBuffer(tensorMemory).asReadOnlyBuffer());
   }
 
   /**
@@ -75,7 +75,7 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToInts(tensorMemory);
     }
-    return DataBuffers.of(tensorMemory.asByteBuffer().asIntBuffer());
+    return DataBuffers.of(nioBuffer(tensorMemory).asIntBuffer());
   }
 
   /**
@@ -89,7 +89,7 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToLongs(tensorMemory);
     }
-    return DataBuffers.of(tensorMemory.asByteBuffer().asLongBuffer());
+    return DataBuffers.of(nioBuffer(tensorMemory).asLongBuffer());
   }
 
   /**
@@ -103,7 +103,7 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToFloats(tensorMemory);
     }
-    return DataBuffers.of(tensorMemory.asByteBuffer().asFloatBuffer());
+    return DataBuffers.of(nioBuffer(tensorMemory).asFloatBuffer());
   }
 
   /**
@@ -117,7 +117,7 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToDoubles(tensorMemory);
     }
-    return DataBuffers.of(tensorMemory.asByteBuffer().asDoubleBuffer());
+    return DataBuffers.of(nioBuffer(tensorMemory).asDoubleBuffer());
   }
 
   /**
@@ -131,7 +131,7 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToShorts(tensorMemory);
     }
-    return DataBuffers.of(tensorMemory.asByteBuffer().asShortBuffer());
+    return DataBuffers.of(nioBuffer(tensorMemory).asShortBuffer());
   }
 
   /**
@@ -147,7 +147,7 @@ public final class TensorBuffers {
     }
     // There is no boolean buffers in Java NIO, so apply a layout that converts booleans
     // from/to bytes when raw memory mapping is not available.
-    return DataLayouts.BOOL.applyTo(DataBuffers.of(tensorMemory.asByteBuffer()));
+    return DataLayouts.BOOL.applyTo(DataBuffers.of(nioBuffer(tensorMemory)));
   }
 
   /**
@@ -161,12 +161,19 @@ public final class TensorBuffers {
     if (TensorRawDataBufferFactory.canBeUsed()) {
       return TensorRawDataBufferFactory.mapTensorToStrings(tensorMemory, numElements);
     }
-    if (numElements > Integer.MAX_VALUE) {
-      throw new IllegalArgumentException("Cannot map string tensor of " + numElements + " elements");
-    }
+    // String elements are accessed through native pointers, so they are not bound to NIO limits
     return new ByteSequenceTensorBuffer(tensorMemory, numElements);
   }
 
+  private static ByteBuffer nioBuffer(Pointer tensorMemory) {
+    // NIO buffers are indexed with integers, only raw data buffers can map larger tensors
+    if (tensorMemory.capacity() > Integer.MAX_VALUE) {
+      throw new IllegalStateException("Cannot map tensor of " + tensorMemory.capacity()
+          + " bytes, raw data buffers are required for tensors larger than 2 GB");
+    }
+    return tensorMemory.asByteBuffer();
+  }
+
   private static Pointer tensorMemory(TF_Tensor nativeTensor) {
     return TF_TensorData(nativeTensor).capacity(TF_TensorByteSize(nativeTensor));
   }
@@ -20,6 +20,7 @@ package org.tensorflow.internal.c_api;
 import static org.tensorflow.internal.c_api.global.tensorflow.TFE_DeleteOp;
 import static org.tensorflow.internal.c_api.global.tensorflow.TFE_NewOp;
 
+import org.bytedeco.javacpp.BytePointer;
 import org.bytedeco.javacpp.Pointer;
 import org.bytedeco.javacpp.annotation.Properties;
 
@@ -48,6 +49,19 @@ public abstract class AbstractTFE_Op extends Pointer {
         return o;
     }
 
+    /**
+     * Calls TFE_NewOp(), and registers a deallocator.
+     * @return TFE_Op created. Do not call TFE_DeleteOp() on it.
+     */
+    public static TFE_Op newOp(TFE_Context ctx, BytePointer op_or_function_name, TF_Status status) {
+        TFE_Op o = TFE_NewOp(ctx, op_or_function_name, status);
+        if (o != null) {
+            o.context = ctx;
+            o.deallocator(new DeleteDeallocator(o));
+        }
+        return o;
+    }
+
     /**
      * Calls the deallocator, if registered, otherwise has no effect.
      */
@@ -0,0 +1,57 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.internal.types;
+
+import org.tensorflow.RawTensor;
+import org.tensorflow.TensorMapper;
+import org.tensorflow.internal.buffer.TensorBuffers;
+import org.tensorflow.ndarray.buffer.ShortDataBuffer;
+import org.tensorflow.ndarray.impl.dense.ShortDenseNdArray;
+import org.tensorflow.types.TInt16;
+
+/**
+ * Maps memory of {@link org.tensorflow.proto.framework.DataType#DT_INT16} tensors
+ * to a n-dimensional data space.
+ */
+public final class TInt16Mapper extends TensorMapper<TInt16> {
+
+  @Override
+  protected TInt16 mapDense(RawTensor tensor) {
+    ShortDataBuffer buffer = TensorBuffers.toShorts(nativeHandle(tensor));
+    return new DenseTInt16(tensor, buffer);
+  }
+
+  private static final class DenseTInt16 extends ShortDenseNdArray implements TInt16 {
+
+    @Override
+    public Class<TInt16> type() {
+      return TInt16.class;
+    }
+
+    @Override
+    public RawTensor asRawTensor() {
+      return rawTensor;
+    }
+
+    final RawTensor rawTensor;
+
+    DenseTInt16(RawTensor rawTensor, ShortDataBuffer buffer) {
+      super(buffer, rawTensor.shape());
+      this.rawTensor = rawTensor;
+    }
+  }
+}
@@ -16,7 +16,11 @@
  */
 package org.tensorflow.internal.types;
 
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import org.tensorflow.RawTensor;
 import org.tensorflow.TensorMapper;
@@ -43,7 +47,7 @@ public final class TStringMapper extends TensorMapper<TString> {
   @Override
   protected TString mapDense(RawTensor tensor) {
     ByteSequenceTensorBuffer buffer = TensorBuffers.toStrings(nativeHandle(tensor), tensor.shape().size());
-    return new DenseTString(tensor, buffer, UTF_8_LAYOUT);
+    return new DenseTString(tensor, buffer, StandardCharsets.UTF_8, UTF_8_LAYOUT);
   }
 
   /**
@@ -69,7 +73,7 @@ public final class TStringMapper extends TensorMapper<TString> {
 
     @Override
     public TString using(Charset charset) {
-      return new DenseTString(rawTensor, buffer, DataLayouts.ofStrings(charset));
+      return new DenseTString(rawTensor, buffer, charset, DataLayouts.ofStrings(charset));
     }
 
     @Override
@@ -77,6 +81,16 @@ public final class TStringMapper extends TensorMapper<TString> {
       return NdArrays.wrap(shape(), buffer);
     }
 
+    @Override
+    public ByteBuffer getByteBuffer(long... coordinates) {
+      return buffer.getByteBuffer(indexOf(coordinates));
+    }
+
+    @Override
+    public StringView stringView() {
+      return new DenseStringView(this);
+    }
+
     @Override
     public Class<TString> type() {
       return TString.class;
@@ -89,15 +103,172 @@ public final class TStringMapper extends TensorMapper<TString> {
 
     final RawTensor rawTensor;
     final ByteSequenceTensorBuffer buffer;
+    final Charset charset;
+
+    long indexOf(long[] coordinates) {
+      return positionOf(coordinates, true);
+    }
 
     DenseTString(
         RawTensor rawTensor,
         ByteSequenceTensorBuffer buffer,
+        Charset charset,
         DataLayout<DataBuffer<byte[]>, String> layout
     ) {
       super(layout.applyTo(buffer), rawTensor.shape());
       this.rawTensor = rawTensor;
       this.buffer = buffer;
+      this.charset = charset;
+    }
+  }
+
+  /**
+   * A view reading values directly from the tensor memory when possible.
+   *
+   * <p>Values made only of characters that are encoded on a single byte, like ASCII values in UTF-8,
+   * are read byte by byte from the tensor memory without being copied nor decoded. Other values are
+   * decoded into a buffer that is reused from one value to the next.
+   */
+  private static final class DenseStringView implements TString.StringView {
+
+    @Override
+    public TString.StringView moveTo(long... coordinates) {
+      long index = tensor.indexOf(coordinates);
+      int length = tensor.buffer.getLength(index);
+      long dataPosition = memory != null ? tensor.buffer.dataPosition(index) : -1;
+      if (dataPosition >= 0) {
+        memory.clear();
+        memory.position((int)dataPosition);
+        memory.limit((int)dataPosition + length);
+        bytes = memory;
+      } else {
+        bytes = tensor.buffer.getByteBuffer(index);
+      }
+      singleByte = singleByteCharset || (asciiCompatible && isAscii(bytes));
+      if (!singleByte) {
+        decode();
+      }
+      return this;
     }
+
+    @Override
+    public int length() {
+      return singleByte ? bytes.remaining() : chars.remaining();
+    }
+
+    @Override
+    public char charAt(int index) {
+      if (!singleByte) {
+        return chars.charAt(index);
+      }
+      if (index < 0 || index >= bytes.remaining()) {
+        throw new IndexOutOfBoundsException();
+      }
+      return (char)(bytes.get(bytes.position() + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      if (start < 0 || end > length() || start > end) {
+        throw new IndexOutOfBoundsException();
+      }
+      return new SubSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      if (!singleByte) {
+        return chars.toString();
+      }
+      byte[] value = new byte[bytes.remaining()];
+      int position = bytes.position();
+      bytes.get(value);
+      bytes.position(position);
+      return new String(value, StandardCharsets.ISO_8859_1);
+    }
+
+    private static boolean isAscii(ByteBuffer bytes) {
+      for (int i = bytes.position(); i < bytes.limit(); ++i) {
+        if (bytes.get(i) < 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    private void decode() {
+      int maxLength = (int)Math.ceil(bytes.remaining() * (double)decoder.maxCharsPerByte());
+      if (chars.capacity() < maxLength) {
+        chars = CharBuffer.allocate(Math.max(maxLength, chars.capacity() * 2));
+      }
+      int position = bytes.position();
+      chars.clear();
+      decoder.reset();
+      decoder.decode(bytes, chars, true);
+      decoder.flush(chars);
+      chars.flip();
+      bytes.position(position);
+    }
+
+    /** A sub-sequence of the current value of the view, which follows the view when it moves. */
+    private final class SubSequence implements CharSequence {
+
+      @Override
+      public int length() {
+        return end - start;
+      }
+
+      @Override
+      public char charAt(int index) {
+        if (index < 0 || index >= length()) {
+          throw new IndexOutOfBoundsException();
+        }
+        return DenseStringView.this.charAt(start + index);
+      }
+
+      @Override
+      public CharSequence subSequence(int start, int end) {
+        if (start < 0 || end > length() || start > end) {
+          throw new IndexOutOfBoundsException();
+        }
+        return new SubSequence(this.start + start, this.start + end);
+      }
+
+      @Override
+      public String toString() {
+        return new StringBuilder(this).toString();
+      }
+
+      SubSequence(int start, int end) {
+        this.start = start;
+        this.end = end;
+      }
+
+      private final int start;
+      private final int end;
+    }
+
+    DenseStringView(DenseTString tensor) {
+      this.tensor = tensor;
+      this.memory = tensor.buffer.memoryView();
+      this.decoder = tensor.charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPLACE)
+          .onUnmappableCharacter(CodingErrorAction.REPLACE);
+      this.singleByteCharset = tensor.charset.equals(StandardCharsets.ISO_8859_1);
+      this.asciiCompatible = tensor.charset.equals(StandardCharsets.UTF_8)
+          || tensor.charset.equals(StandardCharsets.US_ASCII);
+    }
+
+    private final DenseTString tensor;
+    private final ByteBuffer memory;
+    private final CharsetDecoder decoder;
+    private final boolean singleByteCharset;
+    private final boolean asciiCompatible;
+    private ByteBuffer bytes = EMPTY;
+    private boolean singleByte = true;
+    private CharBuffer chars = CharBuffer.allocate(INITIAL_CAPACITY);
+
+    private static final ByteBuffer EMPTY = ByteBuffer.allocate(0).asReadOnlyBuffer();
+    private static final int INITIAL_CAPACITY = 64;
   }
 }
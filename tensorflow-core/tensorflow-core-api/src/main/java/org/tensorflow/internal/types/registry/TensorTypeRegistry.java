@@ -25,9 +25,17 @@ import org.tensorflow.types.TBool;
 import org.tensorflow.types.TFloat16;
 import org.tensorflow.types.TFloat32;
 import org.tensorflow.types.TFloat64;
+import org.tensorflow.types.TInt16;
 import org.tensorflow.types.TInt32;
 import org.tensorflow.types.TInt64;
+import org.tensorflow.types.TInt8;
+import org.tensorflow.types.TQint16;
+import org.tensorflow.types.TQint32;
+import org.tensorflow.types.TQint8;
+import org.tensorflow.types.TQuint16;
+import org.tensorflow.types.TQuint8;
 import org.tensorflow.types.TString;
+import org.tensorflow.types.TUint16;
 import org.tensorflow.types.TUint8;
 import org.tensorflow.types.annotation.TensorType;
 import org.tensorflow.types.family.TType;
@@ -101,5 +109,13 @@ public final class TensorTypeRegistry {
     register(TString.class);
     register(TUint8.class);
     register(TBfloat16.class);
+    register(TInt8.class);
+    register(TInt16.class);
+    register(TUint16.class);
+    register(TQint8.class);
+    register(TQuint8.class);
+    register(TQint16.class);
+    register(TQuint16.class);
+    register(TQint32.class);
   }
 }
@@ -15,8 +15,9 @@ limitations under the License.
 
 package org.tensorflow.op;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
 
 /**
@@ -32,7 +33,8 @@ import java.util.regex.Pattern;
  * <p>This class is package private, user code creates {@link Scope} which internally delegates
  * calls to an underlying {@code NameScope}.
  *
- * <p>This class is <b>not</b> thread-safe.
+ * <p>This class is thread-safe: unique names are allocated using atomic counters, so independent
+ * subgraphs can be named concurrently from different threads.
  */
 final class NameScope {
 
@@ -67,13 +69,13 @@ final class NameScope {
     this(null, null, null);
   }
 
-  private NameScope(String opPrefix, String opName, Map<String, Integer> ids) {
+  private NameScope(String opPrefix, String opName, Map<String, AtomicInteger> ids) {
     this.opPrefix = opPrefix;
     this.opName = opName;
     if (ids != null) {
       this.ids = ids;
     } else {
-      this.ids = new HashMap<String, Integer>();
+      this.ids = new ConcurrentHashMap<>();
     }
   }
 
@@ -88,15 +90,15 @@ final class NameScope {
   //
   // The second use of makeUnique("a") updates ids to "a" -> 2
   // and returns "a_1", and so on.
+  //
+  // Counters are incremented atomically, so concurrent requests for the
+  // same id always get different names.
   private String makeUnique(String id) {
-    if (!ids.containsKey(id)) {
-      ids.put(id, 1);
+    int cur = ids.computeIfAbsent(id, k -> new AtomicInteger()).getAndIncrement();
+    if (cur == 0) {
       return id;
-    } else {
-      int cur = ids.get(id);
-      ids.put(id, cur + 1);
-      return String.format("%s_%d", id, cur);
     }
+    return String.format("%s_%d", id, cur);
   }
 
   private String fullyQualify(String name) {
@@ -118,7 +120,7 @@ final class NameScope {
   // NameScope generates unique names by appending a numeric suffix if
   // needed. This is a map containing names already created by this
   // instance mapped to the next available numeric suffix for it.
-  private final Map<String, Integer> ids;
+  private final Map<String, AtomicInteger> ids;
 
   private static void checkPattern(Pattern pattern, String name) {
     if (name == null) {
@@ -73,7 +73,17 @@ import org.tensorflow.OperationBuilder;
  * Constant.create(linear, ...);
  * }</pre>
  *
- * <p>Scope objects are <b>not</b> thread-safe.
+ * <p>Scope objects are thread-safe. Independent subgraphs can be built concurrently from different
+ * threads against the same graph, each of them usually in its own sub-scope:
+ *
+ * <pre>{@code
+ * Scope root = new Scope(graph);
+ * IntStream.range(0, numFeatures).parallel().forEach(i -> {
+ *   // Each tower gets a unique name, like "tower", "tower_1", etc.
+ *   Scope tower = root.withSubScope("tower");
+ *   ...
+ * });
+ * }</pre>
  */
 public final class Scope {
 
@@ -16,6 +16,7 @@ limitations under the License.
 package org.tensorflow.op.core;
 
 import java.nio.charset.Charset;
+import org.tensorflow.Graph;
 import org.tensorflow.Operand;
 import org.tensorflow.Operation;
 import org.tensorflow.OperationBuilder;
@@ -43,14 +44,18 @@ import org.tensorflow.op.RawOp;
 import org.tensorflow.op.Scope;
 import org.tensorflow.op.annotation.Endpoint;
 import org.tensorflow.op.annotation.Operator;
+import org.tensorflow.proto.framework.DataType;
 import org.tensorflow.types.TBfloat16;
 import org.tensorflow.types.TBool;
 import org.tensorflow.types.TFloat16;
 import org.tensorflow.types.TFloat32;
 import org.tensorflow.types.TFloat64;
+import org.tensorflow.types.TInt16;
 import org.tensorflow.types.TInt32;
 import org.tensorflow.types.TInt64;
+import org.tensorflow.types.TInt8;
 import org.tensorflow.types.TString;
+import org.tensorflow.types.TUint16;
 import org.tensorflow.types.TUint8;
 import org.tensorflow.types.family.TNumber;
 import org.tensorflow.types.family.TType;
@@ -1323,6 +1328,18 @@ public final class Constant<T extends TType> extends RawOp implements Operand<T>
       try (TUint8 tensor = TUint8.scalarOf(number.byteValue())) {
         return (Constant<T>) create(scope, tensor);
       }
+    } else if (type.equals(TInt8.class)) {
+      try (TInt8 tensor = TInt8.scalarOf(number.byteValue())) {
+        return (Constant<T>) create(scope, tensor);
+      }
+    } else if (type.equals(TInt16.class)) {
+      try (TInt16 tensor = TInt16.scalarOf(number.shortValue())) {
+        return (Constant<T>) create(scope, tensor);
+      }
+    } else if (type.equals(TUint16.class)) {
+      try (TUint16 tensor = TUint16.scalarOf(number.shortValue())) {
+        return (Constant<T>) create(scope, tensor);
+      }
     } else {
       throw new IllegalArgumentException("Tensor type " + type + " is an abstract or unknown numeric type.");
     }
@@ -1350,12 +1367,23 @@ public final class Constant<T extends TType> extends RawOp implements Operand<T>
    * <p>Note: this endpoint cannot be simply called {@code constant} since it will conflict with
    * other endpoints accepting an NdArray in parameter {e.g. {@link #tensorOf(Scope, FloatNdArray)}}.
    *
+   * <p>In a graph where the {@link org.tensorflow.Graph#setConstantPoolThreshold(long) constant pool} is enabled,
+   * large constants are added as a variable instead of a {@code Const} operation, initialized by
+   * the graph initializers from a copy of {@code tensor} retained by the pool.
+   *
    * @param scope is a scope used to add the underlying operation.
    * @param tensor a Tensor holding the constant value
    * @return a constant of the same data type as `tensor`
    */
   @Endpoint(name = "constantOf")
   public static <T extends TType> Constant<T> create(Scope scope, T tensor) {
+    if (scope.env() instanceof Graph) {
+      Graph graph = (Graph) scope.env();
+      long threshold = graph.constantPoolThreshold();
+      if (threshold >= 0 && tensor.numBytes() >= threshold && tensor.dataType() != DataType.DT_STRING) {
+        return createPooled(scope, graph, tensor);
+      }
+    }
     OperationBuilder builder = scope
         .env()
         .opBuilder(OP_NAME, scope.makeOpName(OP_NAME))
@@ -1372,6 +1400,32 @@ public final class Constant<T extends TType> extends RawOp implements Operand<T>
     return output;
   }
 
+  private static <T extends TType> Constant<T> createPooled(Scope scope, Graph graph, T tensor) {
+    String name = scope.makeOpName(OP_NAME);
+    OperationBuilder valueBuilder = graph
+        .opBuilder("Placeholder", name + "/pooled_value")
+        .setAttr("dtype", tensor.dataType())
+        .setAttr("shape", tensor.shape());
+    Operation value = scope.apply(valueBuilder).build();
+
+    OperationBuilder variableBuilder = graph
+        .opBuilder("VariableV2", name)
+        .setAttr("dtype", tensor.dataType())
+        .setAttr("shape", tensor.shape());
+    Operation variable = scope.apply(variableBuilder).build();
+
+    OperationBuilder assignBuilder = graph
+        .opBuilder("Assign", name + "/Assign")
+        .addInput(variable.output(0))
+        .addInput(value.output(0));
+    Operation assign = scope.apply(assignBuilder).build();
+
+    Init.add(scope, () -> assign);
+    graph.addToConstantPool(variable, assign, value.output(0), tensor);
+
+    return new Constant<>(variable);
+  }
+
   private Constant(Operation operation) {
     super(operation);
     output = operation.output(0);
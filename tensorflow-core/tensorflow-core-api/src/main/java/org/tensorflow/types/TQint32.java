@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.types;
+
+import java.util.function.Consumer;
+import org.tensorflow.Tensor;
+import org.tensorflow.exceptions.TensorFlowException;
+import org.tensorflow.internal.types.TQint32Mapper;
+import org.tensorflow.ndarray.IntNdArray;
+import org.tensorflow.ndarray.NdArray;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.StdArrays;
+import org.tensorflow.ndarray.buffer.IntDataBuffer;
+import org.tensorflow.proto.framework.DataType;
+import org.tensorflow.types.annotation.TensorType;
+import org.tensorflow.types.family.TQuantized;
+
+/** Quantized 32-bit signed integer tensor type. */
+@TensorType(dataType = DataType.DT_QINT32, byteSize = 4, mapperClass = TQint32Mapper.class)
+public interface TQint32 extends IntNdArray, TQuantized {
+
+  /**
+   * Allocates a new tensor for storing a single int value.
+   *
+   * @param value int to store in the new tensor
+   * @return the new tensor
+   */
+  static TQint32 scalarOf(int value) {
+    return Tensor.of(TQint32.class, Shape.scalar(), data -> data.setInt(value));
+  }
+
+  /**
+   * Allocates a new tensor for storing a vector of ints.
+   *
+   * @param values ints to store in the new tensor
+   * @return the new tensor
+   */
+  static TQint32 vectorOf(int... values) {
+    if (values == null) {
+      throw new IllegalArgumentException();
+    }
+    return Tensor.of(TQint32.class, Shape.of(values.length), data -> StdArrays.copyTo(values, data));
+  }
+
+  /**
+   * Allocates a new tensor which is a copy of a given array of ints.
+   *
+   * <p>The tensor will have the same shape as the source array and its data will be copied.
+   *
+   * @param src the source array giving the shape and data to the new tensor
+   * @return the new tensor
+   */
+  static TQint32 tensorOf(NdArray<Integer> src) {
+    return Tensor.of(TQint32.class, src.shape(), src::copyTo);
+  }
+
+  /**
+   * Allocates a new tensor of the given shape.
+   *
+   * @param shape shape of the tensor to allocate
+   * @return the new tensor
+   */
+  static TQint32 tensorOf(Shape shape) {
+    return Tensor.of(TQint32.class, shape);
+  }
+
+  /**
+   * Allocates a new tensor of the given shape, initialized with the provided data.
+   *
+   * @param shape shape of the tensor to allocate
+   * @param data buffer of ints to initialize the tensor with
+   * @return the new tensor
+   */
+  static TQint32 tensorOf(Shape shape, IntDataBuffer data) {
+    return Tensor.of(TQint32.class, shape, d -> d.write(data));
+  }
+
+  /**
+   * Allocates a new tensor of the given shape and initialize its data.
+   *
+   * @param shape shape of the tensor to allocate
+   * @param dataInit tensor data initializer
+   * @return the new tensor
+   * @throws TensorFlowException if the tensor cannot be allocated or initialized
+   */
+  static TQint32 tensorOf(Shape shape, Consumer<TQint32> dataInit) {
+    return Tensor.of(TQint32.class, shape, dataInit);
+  }
+}
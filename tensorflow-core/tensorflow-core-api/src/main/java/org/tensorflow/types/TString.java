@@ -17,6 +17,7 @@
 
 package org.tensorflow.types;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.function.Function;
@@ -210,4 +211,56 @@ public interface TString extends NdArray<String>, TType {
 
   /** @return the tensor data as a n-dimensional array of raw byte sequences. */
   NdArray<byte[]> asBytes();
+
+  /**
+   * Returns a read-only view of the raw bytes of a string value.
+   *
+   * <p>The view maps directly the memory of the tensor, so no data is copied. It must not be
+   * accessed anymore once the tensor has been closed.
+   *
+   * @param coordinates coordinates of the value to access
+   * @return a read-only view of the value bytes
+   */
+  ByteBuffer getByteBuffer(long... coordinates);
+
+  /**
+   * Returns a reusable view for reading string values without allocating a new {@code String}
+   * for each of them.
+   *
+   * <p>The view is positioned on a value by calling {@link StringView#moveTo(long...)}. Values whose
+   * characters are all encoded on a single byte, like ASCII values in UTF-8, are read directly from
+   * the tensor memory. Other values are decoded with the charset of this tensor into a buffer that
+   * is reused for each value. For example, to scan all values of a vector:
+   *
+   * <pre>{@code
+   * TString.StringView value = tensor.stringView();
+   * for (long i = 0; i < tensor.size(); ++i) {
+   *   if (value.moveTo(i).charAt(0) == '#') {
+   *     ...
+   *   }
+   * }
+   * }</pre>
+   *
+   * <p>A view is not thread-safe and must not be accessed anymore once the tensor has been closed.
+   *
+   * @return a new view, positioned on no value
+   */
+  StringView stringView();
+
+  /**
+   * A flyweight sequence of characters over the values of a string tensor.
+   *
+   * <p>The content of the view, including any sub-sequence obtained from it, changes each time it
+   * is moved to a different value. Call {@link #toString()} to keep a copy of the current value.
+   */
+  interface StringView extends CharSequence {
+
+    /**
+     * Moves this view to the value at the given coordinates.
+     *
+     * @param coordinates coordinates of the value to read
+     * @return this view
+     */
+    StringView moveTo(long... coordinates);
+  }
 }
@@ -0,0 +1,27 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+package org.tensorflow.types.family;
+
+/**
+ * Common interface for all quantized tensors.
+ *
+ * <p>Quantized tensors hold integers mapping to a range of real values, which is usually carried
+ * separately as a pair of minimum and maximum float tensors. Unlike {@link TNumber} tensors, they
+ * are only accepted by operations supporting quantization, like those in {@link
+ * org.tensorflow.op.QuantizationOps}.
+ */
+public interface TQuantized extends TType {}
@@ -0,0 +1,57 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link org.tensorflow.BalancedGroups}. */
+public class BalancedGroupsTest {
+
+  @Test
+  public void balanceBySize() {
+    List<List<Integer>> groups = BalancedGroups.of(new long[] {10, 40, 30, 20}, 2);
+    assertEquals(Arrays.asList(1, 0), groups.get(0));
+    assertEquals(Arrays.asList(2, 3), groups.get(1));
+  }
+
+  @Test
+  public void spreadItemsOfUnknownSize() {
+    List<List<Integer>> groups = BalancedGroups.of(new long[6], 3);
+    for (List<Integer> group : groups) {
+      assertEquals(2, group.size());
+    }
+  }
+
+  @Test
+  public void spreadItemsOfUnknownSizeAfterKnownOnes() {
+    List<List<Integer>> groups = BalancedGroups.of(new long[] {0, 100, 0, 0, 100}, 2);
+    assertEquals(Arrays.asList(1, 0, 3), groups.get(0));
+    assertEquals(Arrays.asList(4, 2), groups.get(1));
+  }
+
+  @Test
+  public void moreGroupsThanItems() {
+    List<List<Integer>> groups = BalancedGroups.of(new long[] {5}, 3);
+    assertEquals(Arrays.asList(0), groups.get(0));
+    assertTrue(groups.get(1).isEmpty());
+    assertTrue(groups.get(2).isEmpty());
+  }
+}
@@ -0,0 +1,119 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Variable;
+import org.tensorflow.proto.framework.GraphDef;
+import org.tensorflow.types.TFloat32;
+import org.tensorflow.types.TInt32;
+
+/** Unit tests for {@link org.tensorflow.CheckpointManager}. */
+public class CheckpointManagerTest {
+
+  @Test
+  public void saveAsynchronouslyAndRestore() throws Exception {
+    Path testFolder = Files.createTempDirectory("tf-checkpoint-manager-test");
+    try (Graph g = new Graph()) {
+      Ops tf = Ops.create(g);
+      Variable<TFloat32> x = tf.withName("x").variable(tf.constant(new float[] {1.0f, 2.0f, 3.0f}));
+      tf.withName("y").variable(tf.constant(10));
+      tf.withName("z").variable(tf.constant(new float[][] {{1.0f}, {2.0f}}));
+      tf.init();
+      Operand<TFloat32> incrementX = tf.assignAdd(x, tf.constant(new float[] {1.0f, 1.0f, 1.0f}));
+      GraphDef graphDef = g.toGraphDef();
+
+      try (Session s = new Session(g);
+          CheckpointManager checkpoints = CheckpointManager.builder(s, g, testFolder)
+              .maxToKeep(2)
+              .numShards(2)
+              .build()) {
+        s.runInit();
+        String first = checkpoints.save(1).get();
+        s.run(incrementX);
+        checkpoints.save(2);
+        s.run(incrementX);  // must not be seen by the checkpoint of step 2
+        String third = checkpoints.save(3).get();
+        String second = testFolder.resolve("ckpt-2").toString();
+
+        assertEquals(Arrays.asList(second, third), checkpoints.checkpoints());
+        assertEquals(third, checkpoints.latestCheckpoint());
+        assertFalse(Files.exists(testFolder.resolve("ckpt-1.index")));
+        assertTrue(Files.exists(testFolder.resolve("ckpt-2.index")));
+        assertTrue(Files.exists(testFolder.resolve("ckpt-3.index")));
+        assertFalse(Files.exists(testFolder.resolve("ckpt-3_temp")));
+        assertEquals(testFolder.resolve("ckpt-1").toString(), first);
+      }
+
+      try (Graph restoredGraph = new Graph()) {
+        restoredGraph.importGraphDef(graphDef);
+        try (Session restoredSession = new Session(restoredGraph)) {
+          restoredSession.restore(testFolder.resolve("ckpt-2").toString());
+          try (TFloat32 restoredX = (TFloat32) restoredSession.runner().fetch("x").run().get(0);
+              TInt32 restoredY = (TInt32) restoredSession.runner().fetch("y").run().get(0)) {
+            assertEquals(2.0f, restoredX.getFloat(0));
+            assertEquals(4.0f, restoredX.getFloat(2));
+            assertEquals(10, restoredY.getInt());
+          }
+        }
+      }
+    } finally {
+      Files.walk(testFolder)
+          .sorted(Comparator.reverseOrder())
+          .map(Path::toFile)
+          .forEach(File::delete);
+    }
+  }
+
+  @Test
+  public void failToBuildWithoutVariables() throws IOException {
+    Path testFolder = Files.createTempDirectory("tf-checkpoint-manager-test");
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Ops.create(g).constant(1);
+      assertThrows(IllegalStateException.class, () -> CheckpointManager.builder(s, g, testFolder).build());
+    } finally {
+      Files.delete(testFolder);
+    }
+  }
+
+  @Test
+  public void cannotSaveOnceClosed() throws Exception {
+    Path testFolder = Files.createTempDirectory("tf-checkpoint-manager-test");
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Ops tf = Ops.create(g);
+      tf.variable(tf.constant(1));
+      CheckpointManager checkpoints = CheckpointManager.builder(s, g, testFolder).build();
+      checkpoints.close();
+      assertThrows(IllegalStateException.class, () -> checkpoints.save(0));
+    } finally {
+      Files.delete(testFolder);
+    }
+  }
+}
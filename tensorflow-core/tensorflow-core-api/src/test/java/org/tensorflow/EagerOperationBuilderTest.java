@@ -15,6 +15,7 @@ limitations under the License.
 
 package org.tensorflow;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Test;
@@ -138,6 +139,22 @@ public class EagerOperationBuilderTest {
     }
   }
 
+  @Test
+  public void buildFromDescriptor() {
+    try (EagerSession session = EagerSession.create()) {
+      Ops tf = Ops.create(session);
+      OperationDescriptor descriptor = OperationDescriptor.of("UniqueV2", 2, "T", "Taxis", "out_idx");
+      Operation unique =
+          session.opBuilder(descriptor, "Unique")
+              .addInput(tf.constant(new int[] {1, 2, 1}).asOutput())
+              .addInput(tf.constant(new int[] {0}).asOutput())
+              .setAttr("out_idx", DataType.DT_INT32)
+              .build();
+      assertEquals(2, unique.numOutputs());
+      assertEquals(2, unique.output(0).shape().size(0));
+    }
+  }
+
   private static EagerOperationBuilder opBuilder(EagerSession session, String type, String name) {
     return new EagerOperationBuilder(session, type, name);
   }
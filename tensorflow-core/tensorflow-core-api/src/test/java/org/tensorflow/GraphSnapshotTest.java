@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Placeholder;
+import org.tensorflow.op.core.Variable;
+import org.tensorflow.op.math.Add;
+import org.tensorflow.types.TFloat32;
+
+public class GraphSnapshotTest {
+
+  @Test
+  public void restoreSnapshot() throws IOException {
+    GraphSnapshot snapshot;
+    try (Graph g = new Graph()) {
+      snapshot = GraphSnapshot.of(g, buildGraph(Ops.create(g)));
+    }
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    snapshot.write(out);
+    GraphSnapshot restored = GraphSnapshot.read(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(snapshot.hash(), restored.hash());
+    assertEquals(1, restored.signatures().size());
+    assertEquals("add", restored.signatures().get(0).key());
+
+    try (Graph g = restored.restore();
+        Session s = new Session(g)) {
+      assertNotNull(g.operation("sum"));
+      assertEquals(1, g.initializers().size());
+      assertEquals(1, g.variables().size());
+      s.runInit();
+      try (TFloat32 x = TFloat32.scalarOf(2.0f);
+          TFloat32 y = (TFloat32) s.runner().feed("x", x).fetch("sum").run().get(0)) {
+        assertEquals(12.0f, y.getFloat(), 0.0f);
+      }
+    }
+  }
+
+  @Test
+  public void cacheSnapshotOnDisk() throws IOException {
+    Path cacheDir = Files.createTempDirectory("tf-graph-snapshot-test");
+    AtomicInteger numBuilds = new AtomicInteger();
+    GraphSnapshot first = GraphSnapshot.cached(cacheDir, "model-v1", () -> {
+      numBuilds.incrementAndGet();
+      try (Graph g = new Graph()) {
+        return GraphSnapshot.of(g, buildGraph(Ops.create(g)));
+      }
+    });
+    GraphSnapshot second = GraphSnapshot.cached(cacheDir, "model-v1", () -> {
+      throw new AssertionError("Snapshot should have been read from the cache");
+    });
+    assertEquals(1, numBuilds.get());
+    assertEquals(first.hash(), second.hash());
+
+    try (Graph g = second.restore()) {
+      assertNotNull(g.operation("sum"));
+    }
+  }
+
+  @Test
+  public void rejectInvalidSnapshot() {
+    assertThrows(IOException.class,
+        () -> GraphSnapshot.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+  }
+
+  @Test
+  public void rejectCorruptedSnapshot() throws IOException {
+    assertThrows(IOException.class, () -> GraphSnapshot.read(snapshotStream(-1, 0, 0L)));
+    assertThrows(IOException.class, () -> GraphSnapshot.read(snapshotStream(Integer.MAX_VALUE, 0, 0L)));
+    assertThrows(IOException.class, () -> GraphSnapshot.read(snapshotStream(0, 0, 1L)));
+    assertEquals(0, GraphSnapshot.read(snapshotStream(0, 0, 0L)).signatures().size());
+
+    Path file = Files.createTempFile("tf-graph-snapshot-test", ".tfgraph");
+    try {
+      Files.copy(snapshotStream(0, 1024, 0L), file, StandardCopyOption.REPLACE_EXISTING);
+      assertThrows(IOException.class, () -> GraphSnapshot.read(file));
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  private static ByteArrayInputStream snapshotStream(int metadataLength, int graphDefLength, long checksum)
+      throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DataOutputStream data = new DataOutputStream(out);
+    data.writeInt(0x54464753);
+    data.writeInt(2);
+    data.writeInt(metadataLength);
+    data.writeInt(graphDefLength);
+    data.writeLong(checksum);
+    return new ByteArrayInputStream(out.toByteArray());
+  }
+
+  private static Signature buildGraph(Ops tf) {
+    Placeholder<TFloat32> x = tf.withName("x").placeholder(TFloat32.class);
+    Variable<TFloat32> v = tf.variable(tf.constant(10.0f));
+    Add<TFloat32> sum = tf.withName("sum").math.add(x, v);
+    return Signature.builder().key("add").input("x", x).output("sum", sum).build();
+  }
+}
@@ -18,6 +18,8 @@ package org.tensorflow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -29,6 +31,7 @@ import java.util.LinkedHashSet;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.tensorflow.exceptions.TFInvalidArgumentException;
+import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Ops;
 import org.tensorflow.op.core.Constant;
 import org.tensorflow.op.linalg.MatMul;
@@ -158,6 +161,54 @@ public class GraphTest {
     }
   }
 
+  @Test
+  public void indexVariables() {
+    GraphDef graphDef;
+    try (Graph g = new Graph()) {
+      Ops tf = Ops.create(g);
+      Operand<TFloat32> x = tf.withName("x").variable(Shape.scalar(), TFloat32.class);
+      Operand<TFloat32> y = tf.withName("y").variable(Shape.scalar(), TFloat32.class);
+      tf.withName("z").varHandleOp(TFloat32.class, Shape.scalar());
+      tf.math.add(x, tf.constant(1.0f));
+
+      assertEquals(new LinkedHashSet<>(Arrays.asList(g.operation("x"), g.operation("y"), g.operation("z"))),
+          g.variables());
+      graphDef = g.toGraphDef();
+    }
+    try (Graph g = new Graph()) {
+      g.importGraphDef(graphDef, "imported");
+      assertEquals(new HashSet<>(Arrays.asList(g.operation("imported/x"), g.operation("imported/y"),
+          g.operation("imported/z"))), g.variables());
+    }
+  }
+
+  @Test
+  public void cacheOperationAndOutputLookups() {
+    Graph graph = new Graph();
+    try (Graph g = graph) {
+      Ops tf = Ops.create(g);
+      assertNull(g.operation("split"));
+      assertNull(g.output("split:1"));
+
+      tf.withName("split").split(tf.constant(0), tf.constant(new int[] {1, 2}), 2L);
+      GraphOperation op = g.operation("split");
+      assertNotNull(op);
+      assertSame(op, g.operation("split"));
+
+      Output<?> output = g.output("split:1");
+      assertEquals(1, output.index());
+      assertEquals(op, output.op());
+      assertSame(output, g.output("split:1"));
+      assertEquals(0, g.output("split").index());
+    }
+    try {
+      graph.operation("split");
+      fail();
+    } catch (IllegalStateException e) {
+      // expected exception.
+    }
+  }
+
   @Test
   public void failImportOnInvalidGraphDefs() {
     try (Graph g = new Graph()) {
@@ -259,6 +259,24 @@ public class SavedModelBundleTest {
     }
   }
 
+  @Test
+  public void cannotExportGraphWithPooledConstants() throws IOException {
+    Path testFolder = Files.createTempDirectory("tf-saved-model-export-test");
+    try (Graph g = new Graph()) {
+      g.setConstantPoolThreshold(1024);
+      Ops tf = Ops.create(g);
+      tf.constant(new float[512]);
+      Signature signature = buildIdentityGraph(tf, Signature.DEFAULT_KEY);
+      try (Session s = new Session(g);
+          ConcreteFunction f = ConcreteFunction.create(signature, s)) {
+        s.runInit();
+        assertThrows(IllegalStateException.class, () ->
+            SavedModelBundle.exporter(testFolder.toString()).withFunction(f).export()
+        );
+      }
+    }
+  }
+
   @Test
   public void cannotExportOrImportInvalidTags() {
     assertThrows(IllegalArgumentException.class, () ->
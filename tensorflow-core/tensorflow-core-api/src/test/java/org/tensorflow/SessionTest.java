@@ -17,6 +17,8 @@ package org.tensorflow;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -26,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Test;
 import org.tensorflow.ndarray.NdArrays;
 import org.tensorflow.ndarray.Shape;
@@ -106,6 +109,65 @@ public class SessionTest {
     }
   }
 
+  @Test
+  public void resetAndReuseRunner() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Ops tf = Ops.create(g);
+      transpose_A_times_X(tf, new int[][]{{2}, {3}});
+      Session.Runner runner = s.runner();
+      for (int i = 0; i < 3; ++i) {
+        try (TInt32 x = TInt32.tensorOf(StdArrays.ndCopyOf(new int[][]{{5 + i}, {7}}));
+            AutoCloseableList<Tensor> outputs =
+                new AutoCloseableList<>(runner.reset().feed("X", x).fetch("Y").run())) {
+          assertEquals(1, outputs.size());
+          assertEquals(31 + 2 * i, ((TInt32) outputs.get(0)).getInt(0, 0));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void runTwiceWithSameFeeds() {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Ops tf = Ops.create(g);
+      transpose_A_times_X(tf, new int[][]{{2}, {3}});
+      Session.Runner runner = s.runner().fetch("Y");
+      try (TInt32 x = TInt32.tensorOf(StdArrays.ndCopyOf(new int[][]{{5}, {7}}));
+          AutoCloseableList<Tensor> outputs = new AutoCloseableList<>(runner.feed("X", x).run())) {
+        assertEquals(31, ((TInt32) outputs.get(0)).getInt(0, 0));
+        try (AutoCloseableList<Tensor> again = new AutoCloseableList<>(runner.run())) {
+          assertEquals(31, ((TInt32) again.get(0)).getInt(0, 0));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void reuseRunnerPerThread() throws Exception {
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Ops tf = Ops.create(g);
+      transpose_A_times_X(tf, new int[][]{{2}, {3}});
+      Session.Runner runner = s.reusableRunner();
+      assertSame(runner, s.reusableRunner());
+
+      AtomicReference<Session.Runner> otherRunner = new AtomicReference<>();
+      Thread thread = new Thread(() -> otherRunner.set(s.reusableRunner()));
+      thread.start();
+      thread.join();
+      assertNotNull(otherRunner.get());
+      assertNotSame(runner, otherRunner.get());
+
+      try (TInt32 x = TInt32.tensorOf(StdArrays.ndCopyOf(new int[][]{{5}, {7}}));
+          AutoCloseableList<Tensor> outputs =
+              new AutoCloseableList<>(s.reusableRunner().feed("X", x).fetch("Y").run())) {
+        assertEquals(31, ((TInt32) outputs.get(0)).getInt(0, 0));
+      }
+    }
+  }
+
   @Test
   public void runWithMetadata() {
     try (Graph g = new Graph();
@@ -254,6 +316,45 @@ public class SessionTest {
         .forEach(File::delete);
   }
 
+  @Test
+  public void saveAndRestoreInParallel() throws IOException {
+    Path testFolder = Files.createTempDirectory("tf-session-save-restore-test");
+    try (Graph g = new Graph()) {
+      Ops tf = Ops.create(g);
+      for (int i = 0; i < 10; ++i) {
+        tf.withName("v" + i).variable(tf.random.randomUniform(tf.constant(Shape.of(i + 1, 3L)), TFloat32.class));
+      }
+      Init init = tf.init();
+
+      try (Session s = new Session(g)) {
+        s.run(init);
+        s.save(testFolder.resolve("checkpoint").toString());
+        GraphDef graphDef = g.toGraphDef();
+
+        try (Graph restoredGraph = new Graph()) {
+          restoredGraph.importGraphDef(graphDef);
+          try (Session restoredSession = new Session(restoredGraph)) {
+            restoredSession.restore(testFolder.resolve("checkpoint").toString(), 4);
+            assertNotNull(restoredGraph.operation("restore_parallel_4/restore_all"));
+            for (int i = 0; i < 10; ++i) {
+              try (AutoCloseableList<Tensor> oldList = new AutoCloseableList<>(s.runner().fetch("v" + i).run());
+                  AutoCloseableList<Tensor> newList = new AutoCloseableList<>(
+                      restoredSession.runner().fetch("v" + i).run())) {
+                assertEquals(oldList.get(0), newList.get(0));
+              }
+            }
+          }
+        }
+      }
+    }
+
+    // Cleanup test dir
+    Files.walk(testFolder)
+        .sorted(Comparator.reverseOrder())
+        .map(Path::toFile)
+        .forEach(File::delete);
+  }
+
   @Test
   public static void testFetchVariable() {
     try (Graph g = new Graph();
@@ -0,0 +1,119 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.TensorLeakDetector.AllocationSite;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.proto.framework.DataType;
+import org.tensorflow.types.TFloat32;
+
+/** Unit tests for {@link org.tensorflow.TensorLeakDetector}. */
+public class TensorLeakDetectorTest {
+
+  @AfterEach
+  public void disable() {
+    TensorLeakDetector.disable();
+    TensorLeakDetector.setReporter(null);
+  }
+
+  @Test
+  public void trackOutstandingAllocations() {
+    TensorLeakDetector.enable();
+    long outstandingBytes = TensorLeakDetector.outstandingBytes();
+
+    try (TFloat32 t = allocate()) {
+      assertEquals(outstandingBytes + 64L, TensorLeakDetector.outstandingBytes());
+      AllocationSite site = siteOf("trackOutstandingAllocations");
+      assertNotNull(site);
+      assertEquals(1L, site.liveTensors());
+      assertEquals(64L, site.liveBytes());
+    }
+    assertEquals(outstandingBytes, TensorLeakDetector.outstandingBytes());
+  }
+
+  @Test
+  public void reportTensorsCollectedWithoutBeingClosed() throws Exception {
+    CompletableFuture<AllocationSite> leak = new CompletableFuture<>();
+    TensorLeakDetector.setReporter(new TensorLeakDetector.Reporter() {
+
+      @Override
+      public void leakDetected(AllocationSite site, DataType dataType, long numBytes) {
+        if (isAllocatedIn(site, "leak")) {
+          leak.complete(site);
+        }
+      }
+
+      @Override
+      public void outstandingAllocations(List<AllocationSite> sites) {}
+    });
+    TensorLeakDetector.enable();
+
+    leak();
+    for (int i = 0; i < 100 && !leak.isDone(); ++i) {
+      System.gc();
+      Thread.sleep(100);
+    }
+    AllocationSite site = leak.get(1, TimeUnit.SECONDS);
+    assertEquals(1L, site.leakedTensors());
+    assertEquals(64L, site.leakedBytes());
+    assertEquals(0L, site.liveTensors());
+  }
+
+  @Test
+  public void ignoreTensorsAllocatedWhileDisabled() {
+    long outstandingBytes = TensorLeakDetector.outstandingBytes();
+    try (TFloat32 t = allocate()) {
+      assertEquals(outstandingBytes, TensorLeakDetector.outstandingBytes());
+      assertFalse(TensorLeakDetector.isEnabled());
+    }
+  }
+
+  private static TFloat32 allocate() {
+    return TFloat32.tensorOf(Shape.of(4, 4));
+  }
+
+  private static void leak() {
+    allocate();
+  }
+
+  private static AllocationSite siteOf(String methodName) {
+    for (AllocationSite site : TensorLeakDetector.outstandingAllocations()) {
+      if (isAllocatedIn(site, methodName)) {
+        return site;
+      }
+    }
+    return null;
+  }
+
+  private static boolean isAllocatedIn(AllocationSite site, String methodName) {
+    for (StackTraceElement frame : site.stackTrace()) {
+      if (frame.getClassName().equals(TensorLeakDetectorTest.class.getName())
+          && frame.getMethodName().equals(methodName)) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,73 @@
+package org.tensorflow.benchmark;
+
+import java.io.IOException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.EagerSession;
+import org.tensorflow.Operand;
+import org.tensorflow.Operation;
+import org.tensorflow.OperationDescriptor;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TFloat32;
+
+/**
+ * Measures the throughput of tiny eager operations, built either from their type name or from a
+ * prebuilt {@link OperationDescriptor}.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class EagerOpBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Setup
+  public void setUp() {
+    session = EagerSession.create();
+    Ops tf = Ops.create(session);
+    x = tf.constant(1.0f);
+    y = tf.constant(2.0f);
+  }
+
+  @TearDown
+  public void tearDown() {
+    session.close();
+  }
+
+  @Benchmark
+  public Operation addByTypeName() {
+    return session.opBuilder("Add", "Add")
+        .addInput(x.asOutput())
+        .addInput(y.asOutput())
+        .setAttr("T", x.asOutput().dataType())
+        .build();
+  }
+
+  @Benchmark
+  public Operation addByDescriptor() {
+    return session.opBuilder(ADD, "Add")
+        .addInput(x.asOutput())
+        .addInput(y.asOutput())
+        .setAttr("T", x.asOutput().dataType())
+        .build();
+  }
+
+  private static final OperationDescriptor ADD = OperationDescriptor.of("Add", 1, "T");
+
+  private EagerSession session;
+  private Operand<TFloat32> x;
+  private Operand<TFloat32> y;
+}
@@ -0,0 +1,94 @@
+package org.tensorflow.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.CheckpointManager;
+import org.tensorflow.Graph;
+import org.tensorflow.Session;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TFloat32;
+
+/**
+ * Measures the throughput of restoring a checkpoint, in MB/s, when reading it with one or many
+ * concurrent {@code RestoreV2} operations.
+ *
+ * <p>Each invocation restores {@link #CHECKPOINT_SIZE_MB} MB of variables, so the throughput
+ * reported by JMH in ops/s is the restore throughput in MB/s.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class RestoreBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Param({"1", "4"})
+  public int numShards;
+
+  @Param({"1", "4"})
+  public int parallelism;
+
+  @Setup
+  public void setUp() throws Exception {
+    checkpointDir = Files.createTempDirectory("tf-restore-benchmark");
+    graph = new Graph();
+    Ops tf = Ops.create(graph);
+    long numFloats = VARIABLE_SIZE_MB * 1024L * 1024L / Float.BYTES;
+    for (int i = 0; i < NUM_VARIABLES; ++i) {
+      tf.variable(tf.random.randomUniform(tf.constant(Shape.of(numFloats)), TFloat32.class));
+    }
+    session = new Session(graph);
+    session.runInit();
+    try (CheckpointManager checkpoints = CheckpointManager.builder(session, graph, checkpointDir)
+        .numShards(numShards)
+        .build()) {
+      prefix = checkpoints.save(0).get();
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    session.close();
+    graph.close();
+    Files.walk(checkpointDir)
+        .sorted(Comparator.reverseOrder())
+        .map(Path::toFile)
+        .forEach(File::delete);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(CHECKPOINT_SIZE_MB)
+  public void restore() {
+    session.restore(prefix, parallelism);
+  }
+
+  private static final int NUM_VARIABLES = 32;
+  private static final int VARIABLE_SIZE_MB = 16;
+  private static final int CHECKPOINT_SIZE_MB = NUM_VARIABLES * VARIABLE_SIZE_MB;
+
+  private Path checkpointDir;
+  private Graph graph;
+  private Session session;
+  private String prefix;
+}
@@ -0,0 +1,121 @@
+package org.tensorflow.benchmark;
+
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_STRING;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_Copy;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_GetDataPointer;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TString_GetSize;
+import static org.tensorflow.internal.c_api.global.tensorflow.TF_TensorData;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.bytedeco.javacpp.BytePointer;
+import org.bytedeco.javacpp.Loader;
+import org.bytedeco.javacpp.PointerScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.RunnerException;
+import org.tensorflow.internal.c_api.AbstractTF_Tensor;
+import org.tensorflow.internal.c_api.TF_TString;
+import org.tensorflow.internal.c_api.TF_Tensor;
+import org.tensorflow.ndarray.NdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.types.TString;
+
+/**
+ * Compares string tensors initialized and read in bulk by {@link TString} with the same work done
+ * natively one element at a time, like it was done before.
+ */
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G"})
+@BenchmarkMode(Mode.AverageTime)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+public class TStringBenchmark {
+
+  public static void main(String[] args) throws IOException, RunnerException {
+    org.openjdk.jmh.Main.main(args);
+  }
+
+  @Param({"8", "64"})
+  public int stringLength;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    values = new String[NUM_STRINGS];
+    for (int i = 0; i < values.length; ++i) {
+      StringBuilder sb = new StringBuilder(Integer.toString(i));
+      while (sb.length() < stringLength) {
+        sb.append('x');
+      }
+      values[i] = sb.toString();
+    }
+    strings = NdArrays.vectorOfObjects(values);
+    tensor = TString.tensorOf(strings);
+    nativeTensor = allocatePerElement();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tensor.close();
+    nativeTensor.close();
+  }
+
+  @Benchmark
+  public void initTensorOf() {
+    TString.tensorOf(strings).close();
+  }
+
+  @Benchmark
+  public void initPerElement() {
+    allocatePerElement().close();
+  }
+
+  @Benchmark
+  public void readTensor(Blackhole bh) {
+    NdArray<byte[]> bytes = tensor.asBytes();
+    for (long i = 0; i < NUM_STRINGS; ++i) {
+      bh.consume(bytes.getObject(i));
+    }
+  }
+
+  @Benchmark
+  public void readPerElement(Blackhole bh) {
+    TF_TString data = new TF_TString(TF_TensorData(nativeTensor));
+    for (long i = 0; i < NUM_STRINGS; ++i) {
+      TF_TString tstring = data.getPointer(i);
+      bh.consume(TF_TString_GetDataPointer(tstring).capacity(TF_TString_GetSize(tstring)).getStringBytes());
+    }
+  }
+
+  private TF_Tensor allocatePerElement() {
+    TF_Tensor t = AbstractTF_Tensor.allocateTensor(TF_STRING, new long[] {NUM_STRINGS},
+        NUM_STRINGS * Loader.sizeof(TF_TString.class));
+    TF_TString data = new TF_TString(TF_TensorData(t));
+    long index = 0;
+    for (String value : values) {
+      byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+      try (PointerScope scope = new PointerScope()) {
+        TF_TString_Copy(data.getPointer(index++), new BytePointer(bytes), bytes.length);
+      }
+    }
+    return t;
+  }
+
+  private static final int NUM_STRINGS = 100_000;
+
+  private String[] values;
+  private NdArray<String> strings;
+  private TString tensor;
+  private TF_Tensor nativeTensor;
+}
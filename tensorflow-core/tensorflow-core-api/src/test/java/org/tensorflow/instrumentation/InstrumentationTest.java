@@ -0,0 +1,129 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import javax.management.ObjectName;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.EagerSession;
+import org.tensorflow.Graph;
+import org.tensorflow.Session;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TFloat32;
+import org.tensorflow.types.TInt32;
+
+/** Unit tests for the instrumentation of the TensorFlow runtime. */
+public class InstrumentationTest {
+
+  @AfterEach
+  public void uninstall() {
+    Instrumentations.uninstall();
+  }
+
+  @Test
+  public void countLiveTensors() {
+    JmxInstrumentation instrumentation = new JmxInstrumentation();
+    Instrumentations.install(instrumentation);
+
+    TFloat32 t = TFloat32.tensorOf(Shape.of(2, 4));
+    assertEquals(1L, instrumentation.getLiveTensors());
+    assertEquals(32L, instrumentation.getLiveTensorBytes());
+
+    t.close();
+    t.close();  // closing twice is only reported once
+    assertEquals(0L, instrumentation.getLiveTensors());
+    assertEquals(0L, instrumentation.getLiveTensorBytes());
+    assertEquals(1L, instrumentation.getAllocatedTensors());
+    assertEquals(32L, instrumentation.getAllocatedTensorBytes());
+  }
+
+  @Test
+  public void tensorsAllocatedBeforeInstallingAreIgnored() {
+    TInt32 t = TInt32.scalarOf(1);
+    JmxInstrumentation instrumentation = new JmxInstrumentation();
+    Instrumentations.install(instrumentation);
+    t.close();
+    assertEquals(0L, instrumentation.getLiveTensors());
+  }
+
+  @Test
+  public void closingIsReportedToTheInstrumentationOfTheAllocation() {
+    JmxInstrumentation instrumentation = new JmxInstrumentation();
+    Instrumentations.install(instrumentation);
+    TInt32 t = TInt32.scalarOf(1);
+
+    JmxInstrumentation other = new JmxInstrumentation();
+    Instrumentations.install(other);
+    t.close();
+    assertEquals(0L, instrumentation.getLiveTensors());
+    assertEquals(0L, other.getLiveTensors());
+  }
+
+  @Test
+  public void recordSessionRuns() {
+    JmxInstrumentation instrumentation = new JmxInstrumentation();
+    Instrumentations.install(instrumentation);
+
+    try (Graph g = new Graph();
+        Session s = new Session(g)) {
+      Ops tf = Ops.create(g);
+      tf.withName("sum").math.add(tf.constant(1), tf.constant(2));
+      try (TInt32 result = (TInt32) s.runner().fetch("sum").run().get(0)) {
+        assertEquals(3, result.getInt());
+        assertEquals(1L, instrumentation.getLiveTensors());
+      }
+    }
+    assertEquals(0L, instrumentation.getLiveTensors());
+    assertEquals(1L, instrumentation.getSessionRuns());
+    assertTrue(instrumentation.getSessionRunMaxMillis() > 0.0);
+  }
+
+  @Test
+  public void recordEagerOperations() {
+    JmxInstrumentation instrumentation = new JmxInstrumentation();
+    Instrumentations.install(instrumentation);
+
+    try (EagerSession session = EagerSession.create()) {
+      Ops tf = Ops.create(session);
+      assertEquals(3, tf.math.add(tf.constant(1), tf.constant(2)).asTensor().getInt());
+    }
+    // tensors resulting from eager operations are released by the session and not reported
+    assertEquals(0L, instrumentation.getLiveTensors());
+    assertEquals(3L, instrumentation.getEagerOperations());
+    assertEquals(2L, (long) instrumentation.getEagerOperationsByType().get("Const"));
+    assertEquals(1L, (long) instrumentation.getEagerOperationsByType().get("Add"));
+  }
+
+  @Test
+  public void registerMBean() throws Exception {
+    JmxInstrumentation instrumentation = JmxInstrumentation.register();
+    assertSame(instrumentation, Instrumentations.current());
+
+    try (TInt32 t = TInt32.scalarOf(1)) {
+      Object liveTensors = ManagementFactory.getPlatformMBeanServer()
+          .getAttribute(new ObjectName(JmxInstrumentation.OBJECT_NAME), "LiveTensors");
+      assertEquals(1L, liveTensors);
+    }
+    // registering again replaces the previous MBean
+    JmxInstrumentation.register();
+  }
+}
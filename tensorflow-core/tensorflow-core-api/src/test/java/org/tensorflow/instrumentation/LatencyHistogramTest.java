@@ -0,0 +1,78 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+==============================================================================*/
+
+package org.tensorflow.instrumentation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/** Unit tests for {@link LatencyHistogram}. */
+public class LatencyHistogramTest {
+
+  @Test
+  public void emptyHistogram() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0L, histogram.count());
+    assertEquals(0.0, histogram.meanNanos());
+    assertEquals(0L, histogram.maxNanos());
+    assertEquals(0L, histogram.percentileNanos(0.99));
+  }
+
+  @Test
+  public void recordDurations() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (int i = 1; i <= 99; ++i) {
+      histogram.record(1000L);
+    }
+    histogram.record(1_000_000L);
+
+    assertEquals(100L, histogram.count());
+    assertEquals(99 * 1000L + 1_000_000L, histogram.totalNanos());
+    assertEquals(1_000_000L, histogram.maxNanos());
+    assertEquals(10990.0, histogram.meanNanos());
+
+    long p50 = histogram.percentileNanos(0.5);
+    assertTrue(p50 >= 1000L && p50 < 2000L, "p50 was " + p50);
+    assertEquals(p50, histogram.percentileNanos(0.99));
+    assertEquals(1_000_000L, histogram.percentileNanos(1.0));
+  }
+
+  @Test
+  public void recordNegativeDurationsAsZero() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(-5L);
+    assertEquals(1L, histogram.count());
+    assertEquals(0L, histogram.totalNanos());
+    assertEquals(0L, histogram.percentileNanos(0.5));
+  }
+
+  @Test
+  public void reset() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(Long.MAX_VALUE);
+    histogram.reset();
+    assertEquals(0L, histogram.count());
+    assertEquals(0L, histogram.maxNanos());
+    assertEquals(0L, histogram.percentileNanos(1.0));
+  }
+
+  @Test
+  public void invalidQuantile() {
+    assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram().percentileNanos(1.5));
+  }
+}
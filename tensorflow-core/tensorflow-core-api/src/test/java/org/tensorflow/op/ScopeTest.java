@@ -17,8 +17,16 @@ package org.tensorflow.op;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.jupiter.api.Test;
 import org.tensorflow.Graph;
 import org.tensorflow.Output;
@@ -175,6 +183,66 @@ public class ScopeTest {
     }
   }
 
+  @Test
+  public void concurrentNames() throws Exception {
+    try (Graph g = new Graph()) {
+      Scope root = new Scope(g);
+      int numThreads = 8;
+      int numNames = 1000;
+      ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+      try {
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int i = 0; i < numThreads; ++i) {
+          futures.add(executor.submit(() -> {
+            List<String> names = new ArrayList<>();
+            for (int j = 0; j < numNames; ++j) {
+              names.add(root.makeOpName("add"));
+            }
+            return names;
+          }));
+        }
+        Set<String> allNames = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+          allNames.addAll(future.get());
+        }
+        assertEquals(numThreads * numNames, allNames.size());
+        assertTrue(allNames.contains("add"));
+        assertTrue(allNames.contains("add_" + (numThreads * numNames - 1)));
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
+  @Test
+  public void concurrentSubgraphs() throws Exception {
+    try (Graph g = new Graph()) {
+      Scope root = new Scope(g);
+      int numTowers = 16;
+      ExecutorService executor = Executors.newFixedThreadPool(4);
+      try {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < numTowers; ++i) {
+          int value = i;
+          futures.add(executor.submit(() -> {
+            Scope tower = root.withSubScope("tower");
+            Const.create(tower, value);
+            return Const.create(tower, value).output().op().name();
+          }));
+        }
+        Set<String> names = new HashSet<>();
+        for (Future<String> future : futures) {
+          names.add(future.get());
+        }
+        assertEquals(numTowers, names.size());
+        assertNotNull(g.operation("tower/Const_1"));
+        assertNotNull(g.operation("tower_" + (numTowers - 1) + "/Const_1"));
+      } finally {
+        executor.shutdown();
+      }
+    }
+  }
+
   // "handwritten" sample operator classes
   private static final class Const<T extends TType> {
     private final Output<T> output;
@@ -16,12 +16,16 @@ limitations under the License.
 package org.tensorflow.op.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import org.junit.jupiter.api.Test;
 import org.tensorflow.AutoCloseableList;
 import org.tensorflow.EagerSession;
 import org.tensorflow.Graph;
+import org.tensorflow.GraphOperation;
+import org.tensorflow.GraphSnapshot;
 import org.tensorflow.Operand;
 import org.tensorflow.Session;
 import org.tensorflow.Tensor;
@@ -170,6 +174,44 @@ public class ConstantTest {
     }
   }
 
+  @Test
+  public void createPooledConstants() {
+    FloatNdArray table = NdArrays.ofFloats(Shape.of(256, 4));
+    table.scalars().forEachIndexed((idx, f) -> f.setFloat(idx[0] * 10 + idx[1]));
+
+    try (Graph g = new Graph()) {
+      g.setConstantPoolThreshold(1024);
+      Ops tf = Ops.create(g);
+      Constant<TFloat32> small = tf.constant(new float[] {1.0f, 2.0f});
+      Constant<TFloat32> large = tf.withName("table").constant(table);
+      assertEquals("Const", small.op().type());
+      assertEquals("VariableV2", large.op().type());
+      assertEquals("table", large.op().name());
+      assertEquals(Shape.of(256, 4), large.shape());
+      assertFalse(g.toGraphDef().toString().contains("tensor_content"));
+      assertFalse(g.variables().contains((GraphOperation) large.op()));
+      assertThrows(IllegalStateException.class, () -> GraphSnapshot.of(g));
+
+      Operand<TFloat32> row = tf.gather(large, tf.constant(3), tf.constant(0));
+      try (Session sess = new Session(g)) {
+        sess.runInit();
+        try (TFloat32 result = (TFloat32) sess.runner().fetch(row).run().get(0)) {
+          assertEquals(NdArrays.vectorOf(30.0f, 31.0f, 32.0f, 33.0f), result);
+        }
+      }
+      try (Session sess = new Session(g)) {
+        sess.run(tf.init());
+        try (TFloat32 result = (TFloat32) sess.runner().fetch(row).run().get(0)) {
+          assertEquals(NdArrays.vectorOf(30.0f, 31.0f, 32.0f, 33.0f), result);
+        }
+      }
+      g.releaseConstantPool();
+      try (Session sess = new Session(g)) {
+        sess.run(tf.math.add(small, small));
+      }
+    }
+  }
+
   private static void testCreateFromNumber(Ops tf, Class<? extends TNumber> type) {
     Operand<? extends TNumber> constant = tf.constant(type, 10);
     assertEquals(type, constant.type());
@@ -0,0 +1,40 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.types;
+
+import org.tensorflow.ndarray.NdArray;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+
+public class TInt8Test extends NumericTypesTestBase<TInt8, Byte> {
+
+  @Override
+  TInt8 allocateTensor(Shape shape) {
+    return TInt8.tensorOf(shape);
+  }
+
+  @Override
+  NdArray<Byte> allocateNdArray(Shape shape) {
+    return NdArrays.ofBytes(shape);
+  }
+
+  @Override
+  Byte valueOf(Integer value) {
+    return value.byteValue();
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *  =======================================================================
+ */
+
+package org.tensorflow.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.EagerSession;
+import org.tensorflow.Operand;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Constant;
+import org.tensorflow.op.quantization.Dequantize;
+import org.tensorflow.op.quantization.Quantize;
+
+public class TQuantizedTest {
+
+  @Test
+  public void quantizeToQint8AndBack() {
+    try (EagerSession session = EagerSession.create()) {
+      Ops tf = Ops.create(session);
+      Operand<TFloat32> min = tf.constant(-1.0f);
+      Operand<TFloat32> max = tf.constant(1.0f);
+
+      Quantize<TQint8> quantized =
+          tf.quantization.quantize(tf.constant(new float[] {-1.0f, 0.0f, 0.5f, 1.0f}), min, max,
+              TQint8.class, Quantize.mode("SCALED"));
+      assertEquals(TQint8.class, quantized.output().type());
+      TQint8 data = quantized.output().asTensor();
+      assertEquals(Shape.of(4), data.shape());
+      assertEquals(0, data.getByte(1));
+      assertEquals(127, data.getByte(3));
+
+      Dequantize<TFloat32> dequantized =
+          tf.quantization.dequantize(quantized.output(), quantized.outputMin(),
+              quantized.outputMax(), TFloat32.class, Dequantize.mode("SCALED"));
+      TFloat32 result = dequantized.output().asTensor();
+      assertEquals(0.5f, result.getFloat(2), 0.01f);
+      assertEquals(1.0f, result.getFloat(3), 0.01f);
+    }
+  }
+
+  @Test
+  public void feedQuantizedTensors() {
+    try (EagerSession session = EagerSession.create()) {
+      Ops tf = Ops.create(session);
+      try (TQuint8 tensor = TQuint8.vectorOf((byte) 0, (byte) 200)) {
+        Constant<TQuint8> constant = tf.constantOf(tensor);
+        TQuint8 result = tf.identity(constant).asTensor();
+        assertTrue(result instanceof TQuint8);
+        assertEquals(200, Byte.toUnsignedInt(result.getByte(1)));
+      }
+      try (TQint32 tensor = TQint32.scalarOf(-42)) {
+        assertEquals(-42, tf.identity(tf.constantOf(tensor)).asTensor().getInt());
+      }
+    }
+  }
+
+  @Test
+  public void smallIntegerConstants() {
+    try (EagerSession session = EagerSession.create()) {
+      Ops tf = Ops.create(session);
+      assertEquals((byte) -3, tf.constant(TInt8.class, -3).asTensor().getByte());
+      assertEquals((short) 1000, tf.constant(TInt16.class, 1000).asTensor().getShort());
+      assertEquals(60000,
+          Short.toUnsignedInt(tf.constant(TUint16.class, 60000).asTensor().getShort()));
+    }
+  }
+}
@@ -20,14 +20,19 @@ package org.tensorflow.types;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import org.bytedeco.javacpp.Pointer;
 import org.junit.jupiter.api.Test;
 import org.tensorflow.ndarray.NdArray;
 import org.tensorflow.ndarray.NdArrays;
 import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffer;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.index.Indices;
 
 public class TStringTest {
 
@@ -105,6 +110,80 @@ public class TStringTest {
     }
   }
 
+  @Test
+  public void packSmallAndLargeStrings() {
+    String[] strings = new String[] {
+        "",
+        "1234567890123456789012",  // largest string stored inline
+        "12345678901234567890123",  // smallest string stored after the tensor values
+        A_LARGE_STRING,
+        BABY_CHICK,
+        "Pretty vacant"
+    };
+    try (TString tensor = TString.vectorOf(strings)) {
+      for (int i = 0; i < strings.length; ++i) {
+        assertEquals(strings[i], tensor.getObject(i));
+      }
+      DataBuffer<byte[]> buffer = DataBuffers.ofObjects(byte[].class, strings.length);
+      tensor.asBytes().read(buffer);
+      byte[][] bytes = new byte[strings.length][];
+      buffer.read(bytes);
+      for (int i = 0; i < strings.length; ++i) {
+        assertArrayEquals(strings[i].getBytes(StandardCharsets.UTF_8), bytes[i]);
+      }
+      NdArray<String> slice = tensor.slice(Indices.range(2, 5));
+      assertEquals(3, slice.size());
+      assertEquals(strings[2], slice.getObject(0));
+      assertEquals(strings[3], slice.getObject(1));
+      assertEquals(strings[4], slice.getObject(2));
+    }
+  }
+
+  @Test
+  public void copyPackedStrings() {
+    try (TString tensor = TString.vectorOf("TensorFlow", "For Java Rocks, and packs strings!");
+        TString copy = TString.tensorOf(tensor)) {
+      assertEquals(tensor, copy);
+    }
+  }
+
+  @Test
+  public void readValuesThroughViews() {
+    String[] strings = new String[] { "TensorFlow", "", BABY_CHICK, A_LARGE_STRING, "Java" };
+    try (TString tensor = TString.vectorOf(strings)) {
+      TString.StringView view = tensor.stringView();
+      assertEquals(0, view.length());
+      for (int i = 0; i < strings.length; ++i) {
+        assertEquals(strings[i], view.moveTo(i).toString());
+        assertEquals(strings[i].length(), view.length());
+
+        ByteBuffer bytes = tensor.getByteBuffer(i);
+        assertTrue(bytes.isReadOnly());
+        byte[] expected = strings[i].getBytes(StandardCharsets.UTF_8);
+        assertEquals(expected.length, bytes.remaining());
+        for (byte b : expected) {
+          assertEquals(b, bytes.get());
+        }
+      }
+      assertEquals('J', view.moveTo(4).charAt(0));
+      assertEquals("Flow", view.moveTo(0).subSequence(6, 10).toString());
+      CharSequence sub = view.moveTo(0).subSequence(1, 4);
+      assertEquals("ens", sub.toString());
+      view.moveTo(4);
+      assertEquals("ava", sub.toString());
+      assertThrows(IndexOutOfBoundsException.class, () -> view.charAt(4));
+    }
+  }
+
+  @Test
+  public void readViewsWithDifferentCharset() {
+    try (TString tensor = TString.tensorOf(StandardCharsets.UTF_16LE, NdArrays.vectorOfObjects("Pretty", BABY_CHICK))) {
+      TString.StringView view = tensor.using(StandardCharsets.UTF_16LE).stringView();
+      assertEquals("Pretty", view.moveTo(0).toString());
+      assertEquals(BABY_CHICK, view.moveTo(1).toString());
+    }
+  }
+
   @Test
   public void testNoLeaks() throws Exception {
     // warm up and try to get all JIT compilation done to stabilize memory usage...
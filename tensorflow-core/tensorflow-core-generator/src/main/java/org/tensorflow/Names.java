@@ -51,6 +51,7 @@ public class Names {
   public static final ClassName Operation = ClassName.get(TensorflowPackage, "Operation");
   public static final ClassName Operands = ClassName.get(OpPackage, "Operands");
   public static final ClassName OperationBuilder = ClassName.get(TensorflowPackage, "OperationBuilder");
+  public static final ClassName OperationDescriptor = ClassName.get(TensorflowPackage, "OperationDescriptor");
   public static final TypeName IterableOp = ParameterizedTypeName.get(ClassName.get(Iterable.class), Op);
 
   public static final ClassName Operand = ClassName.get(TensorflowPackage, "Operand");
@@ -310,6 +310,13 @@ final class ClassGenerator {
             .initializer("$S", op.getName())
             .build());
 
+    // add op descriptor field
+    builder
+        .addField(FieldSpec.builder(Names.OperationDescriptor, "OP_DESCRIPTOR", Modifier.PUBLIC, Modifier.STATIC, Modifier.FINAL)
+            .addJavadoc("$L", "Static metadata of this op, used to speed up its creation")
+            .initializer(buildDescriptorInitializer())
+            .build());
+
     // add output fields
     if (op.getOutputArgCount() > 0) {
       for (ArgDef output : op.getOutputArgList()) {
@@ -432,6 +439,32 @@ final class ClassGenerator {
     }
   }
 
+  /**
+   * Builds the initializer of the op descriptor field, listing the number of outputs and the attributes of the op.
+   *
+   * <p>The number of outputs is variable if any output is a list whose length depends on an attribute.
+   */
+  private CodeBlock buildDescriptorInitializer() {
+    int numOutputs = 0;
+    for (ArgDef output : op.getOutputArgList()) {
+      if (!output.getNumberAttr().isEmpty() || !output.getTypeListAttr().isEmpty()) {
+        numOutputs = -1;
+        break;
+      }
+      numOutputs++;
+    }
+    CodeBlock.Builder initializer = CodeBlock.builder().add("$T.of(OP_NAME, ", Names.OperationDescriptor);
+    if (numOutputs < 0) {
+      initializer.add("$T.VARIABLE_NUM_OUTPUTS", Names.OperationDescriptor);
+    } else {
+      initializer.add("$L", numOutputs);
+    }
+    for (AttrDef attr : op.getAttrList()) {
+      initializer.add(", $S", attr.getName());
+    }
+    return initializer.add(")").build();
+  }
+
   /**
    * Add the {@code create} factory methods.
    */
@@ -463,9 +496,8 @@ final class ClassGenerator {
 
     Set<TypeVariableName> typeVars = new LinkedHashSet<>(typeParams);
 
-    body.addStatement("$T opBuilder = scope.env().opBuilder($S, scope.makeOpName($S))",
-        Names.OperationBuilder, op.getName(),
-        className);
+    body.addStatement("$T opBuilder = scope.env().opBuilder(OP_DESCRIPTOR, scope.makeOpName($S))",
+        Names.OperationBuilder, className);
 
     // add the inputs as parameters, and add them to the op builder
     for (ArgDef input : op.getInputArgList()) {
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.example;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.tensorflow.Tensor;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.types.TFloat32;
+import org.tensorflow.types.TInt64;
+import org.tensorflow.types.TString;
+
+/**
+ * Converts batches of serialized {@code tf.train.Example} protos into tensors, following an {@link
+ * ExampleSchema}.
+ *
+ * <p>Examples are parsed directly from their wire format into the memory of pre-allocated batch
+ * tensors, without building any protobuf objects. Each feature results in a tensor whose first
+ * dimension is the size of the batch, followed by the shape of the feature in the schema. Large
+ * batches are parsed concurrently, using the common fork-join pool.
+ *
+ * <pre>{@code
+ * ExampleBatcher batcher = new ExampleBatcher(schema);
+ * try (Stream<ByteBuffer> records = TFRecordReader.records(shards)) {
+ *   List<ByteBuffer> examples = records.limit(1024).collect(Collectors.toList());
+ *   Map<String, Tensor> batch = batcher.batch(examples);
+ *   TFloat32 age = (TFloat32) batch.get("age");  // shape [1024]
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>Instances of this class are immutable and thread-safe.
+ */
+public class ExampleBatcher {
+
+  /**
+   * Creates a batcher for examples following a schema.
+   *
+   * @param schema features to extract
+   */
+  public ExampleBatcher(ExampleSchema schema) {
+    this.schema = schema;
+  }
+
+  /**
+   * Parses a batch of serialized examples into tensors.
+   *
+   * <p>The caller takes ownership of the returned tensors and must close them.
+   *
+   * @param examples serialized {@code tf.train.Example} protos, their positions are not changed
+   * @return tensors of the batch, mapped by feature key in the order of the schema
+   * @throws IllegalArgumentException if an example is invalid or does not match the schema
+   */
+  public Map<String, Tensor> batch(List<ByteBuffer> examples) {
+    int batchSize = examples.size();
+    List<FeatureSpec> features = schema.features();
+    Tensor[] tensors = new Tensor[features.size()];
+    FloatDataBuffer[] floats = new FloatDataBuffer[features.size()];
+    LongDataBuffer[] longs = new LongDataBuffer[features.size()];
+    byte[][][] bytes = new byte[features.size()][][];
+    try {
+      for (FeatureSpec feature : features) {
+        Shape shape = feature.shape.prepend(batchSize);
+        switch (feature.type) {
+          case FLOAT:
+            TFloat32 floatTensor = TFloat32.tensorOf(shape);
+            tensors[feature.index] = floatTensor;
+            floats[feature.index] = floatTensor.asRawTensor().data().asFloats();
+            break;
+          case INT64:
+            TInt64 longTensor = TInt64.tensorOf(shape);
+            tensors[feature.index] = longTensor;
+            longs[feature.index] = longTensor.asRawTensor().data().asLongs();
+            break;
+          case BYTES:
+            if (shape.size() > Integer.MAX_VALUE) {
+              throw new IllegalArgumentException("Too many values for feature \"" + feature.key + "\"");
+            }
+            bytes[feature.index] = new byte[(int) shape.size()][];
+            break;
+        }
+      }
+      ExampleParser parser = new ExampleParser(schema, floats, longs, bytes);
+      IntStream indices = IntStream.range(0, batchSize);
+      if (batchSize >= PARALLEL_BATCH_SIZE) {
+        indices = indices.parallel();
+      }
+      indices.forEach(i -> parser.parse(examples.get(i), i));
+
+      // String tensors are only allocated once all values are known, so they can be packed at once
+      for (FeatureSpec feature : features) {
+        if (feature.type == FeatureSpec.Type.BYTES) {
+          tensors[feature.index] = TString.tensorOfBytes(
+              feature.shape.prepend(batchSize), DataBuffers.ofObjects(bytes[feature.index]));
+        }
+      }
+    } catch (RuntimeException e) {
+      for (Tensor tensor : tensors) {
+        if (tensor != null) {
+          tensor.close();
+        }
+      }
+      throw e;
+    }
+    Map<String, Tensor> batch = new LinkedHashMap<>();
+    for (FeatureSpec feature : features) {
+      batch.put(feature.key, tensors[feature.index]);
+    }
+    return batch;
+  }
+
+  /**
+   * Returns the schema of this batcher.
+   */
+  public ExampleSchema schema() {
+    return schema;
+  }
+
+  /** Minimum number of examples in a batch for parsing them concurrently */
+  private static final int PARALLEL_BATCH_SIZE = 64;
+
+  private final ExampleSchema schema;
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.example;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.WireFormat;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+
+/**
+ * Parses serialized {@code tf.train.Example} protos directly into batch buffers.
+ *
+ * <p>The protobuf wire format is decoded in place, without materializing {@code Example},
+ * {@code Features} or {@code Feature} objects. The values of each feature are written to the
+ * region of its batch buffer reserved to the example being parsed, so different examples can be
+ * parsed concurrently into the same buffers.
+ */
+final class ExampleParser {
+
+  /**
+   * Creates a parser writing into the given buffers.
+   *
+   * <p>Buffers are indexed by {@link FeatureSpec#index feature index}, only the one matching the
+   * type of a feature needs to be set.
+   *
+   * @param schema features to extract
+   * @param floats buffers receiving {@code float} features
+   * @param longs buffers receiving {@code int64} features
+   * @param bytes arrays receiving {@code bytes} features
+   */
+  ExampleParser(ExampleSchema schema, FloatDataBuffer[] floats, LongDataBuffer[] longs, byte[][][] bytes) {
+    this.schema = schema;
+    this.floats = floats;
+    this.longs = longs;
+    this.bytes = bytes;
+  }
+
+  /**
+   * Parses an example into the batch buffers.
+   *
+   * @param example serialized {@code tf.train.Example}
+   * @param exampleIndex index of the example in the batch
+   * @throws IllegalArgumentException if the example is invalid or does not match the schema
+   */
+  void parse(ByteBuffer example, int exampleIndex) {
+    int[] counts = new int[schema.features().size()];
+    try {
+      CodedInputStream in = CodedInputStream.newInstance(example.duplicate());
+      int tag;
+      while ((tag = in.readTag()) != 0) {
+        if (tag == EXAMPLE_FEATURES_TAG) {
+          int limit = in.pushLimit(in.readRawVarint32());
+          parseFeatures(in, exampleIndex, counts);
+          in.popLimit(limit);
+        } else {
+          in.skipField(tag);
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Example " + exampleIndex + " is not a valid tf.train.Example", e);
+    }
+    for (FeatureSpec feature : schema.features()) {
+      int count = counts[feature.index];
+      if (count == 0 && feature.defaultValue != null) {
+        fillDefault(feature, exampleIndex);
+      } else if (count != feature.numElements) {
+        throw new IllegalArgumentException(
+            String.format("Feature \"%s\" of example %d has %d values, expected %d",
+                feature.key, exampleIndex, count, feature.numElements));
+      }
+    }
+  }
+
+  private static final int EXAMPLE_FEATURES_TAG = makeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+  private static final int FEATURES_ENTRY_TAG = makeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+  private static final int ENTRY_KEY_TAG = makeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+  private static final int ENTRY_VALUE_TAG = makeTag(2, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+  private static final int PACKED_VALUES_TAG = makeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+  private static final int FLOAT_VALUE_TAG = makeTag(1, WireFormat.WIRETYPE_FIXED32);
+  private static final int INT64_VALUE_TAG = makeTag(1, WireFormat.WIRETYPE_VARINT);
+  private static final int BYTES_VALUE_TAG = makeTag(1, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+
+  private final ExampleSchema schema;
+  private final FloatDataBuffer[] floats;
+  private final LongDataBuffer[] longs;
+  private final byte[][][] bytes;
+
+  private static int makeTag(int fieldNumber, int wireType) {
+    return (fieldNumber << 3) | wireType;
+  }
+
+  private void parseFeatures(CodedInputStream in, int exampleIndex, int[] counts) throws IOException {
+    int tag;
+    while ((tag = in.readTag()) != 0) {
+      if (tag != FEATURES_ENTRY_TAG) {
+        in.skipField(tag);
+        continue;
+      }
+      int limit = in.pushLimit(in.readRawVarint32());
+      FeatureSpec feature = null;
+      boolean keyFound = false;
+      ByteString pendingValue = null;
+      int entryTag;
+      while ((entryTag = in.readTag()) != 0) {
+        if (entryTag == ENTRY_KEY_TAG) {
+          feature = schema.feature(in.readStringRequireUtf8());
+          keyFound = true;
+        } else if (entryTag == ENTRY_VALUE_TAG) {
+          if (!keyFound) {
+            // Keys are normally serialized first, but this is not guaranteed
+            pendingValue = in.readBytes();
+          } else if (feature != null) {
+            int valueLimit = in.pushLimit(in.readRawVarint32());
+            parseFeature(in, feature, exampleIndex, counts);
+            in.popLimit(valueLimit);
+          } else {
+            in.skipField(entryTag);
+          }
+        } else {
+          in.skipField(entryTag);
+        }
+      }
+      if (feature != null && pendingValue != null) {
+        parseFeature(pendingValue.newCodedInput(), feature, exampleIndex, counts);
+      }
+      in.popLimit(limit);
+    }
+  }
+
+  private void parseFeature(CodedInputStream in, FeatureSpec feature, int exampleIndex, int[] counts)
+      throws IOException {
+    counts[feature.index] = 0; // in case of duplicate keys, the last value wins
+    int tag;
+    while ((tag = in.readTag()) != 0) {
+      int fieldNumber = WireFormat.getTagFieldNumber(tag);
+      if (fieldNumber == feature.type.fieldNumber
+          && WireFormat.getTagWireType(tag) == WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+        int limit = in.pushLimit(in.readRawVarint32());
+        switch (feature.type) {
+          case FLOAT:
+            parseFloats(in, feature, exampleIndex, counts);
+            break;
+          case INT64:
+            parseLongs(in, feature, exampleIndex, counts);
+            break;
+          case BYTES:
+            parseBytes(in, feature, exampleIndex, counts);
+            break;
+        }
+        in.popLimit(limit);
+      } else if (fieldNumber >= 1 && fieldNumber <= 3) {
+        throw new IllegalArgumentException(
+            String.format("Feature \"%s\" of example %d is not of type %s",
+                feature.key, exampleIndex, feature.type.name().toLowerCase()));
+      } else {
+        in.skipField(tag);
+      }
+    }
+  }
+
+  private void parseFloats(CodedInputStream in, FeatureSpec feature, int exampleIndex, int[] counts)
+      throws IOException {
+    FloatDataBuffer buffer = floats[feature.index];
+    long offset = (long) exampleIndex * feature.numElements;
+    int tag;
+    while ((tag = in.readTag()) != 0) {
+      if (tag == PACKED_VALUES_TAG) {
+        int limit = in.pushLimit(in.readRawVarint32());
+        while (!in.isAtEnd()) {
+          buffer.setFloat(in.readFloat(), offset + nextValue(feature, exampleIndex, counts));
+        }
+        in.popLimit(limit);
+      } else if (tag == FLOAT_VALUE_TAG) {
+        buffer.setFloat(in.readFloat(), offset + nextValue(feature, exampleIndex, counts));
+      } else {
+        in.skipField(tag);
+      }
+    }
+  }
+
+  private void parseLongs(CodedInputStream in, FeatureSpec feature, int exampleIndex, int[] counts)
+      throws IOException {
+    LongDataBuffer buffer = longs[feature.index];
+    long offset = (long) exampleIndex * feature.numElements;
+    int tag;
+    while ((tag = in.readTag()) != 0) {
+      if (tag == PACKED_VALUES_TAG) {
+        int limit = in.pushLimit(in.readRawVarint32());
+        while (!in.isAtEnd()) {
+          buffer.setLong(in.readInt64(), offset + nextValue(feature, exampleIndex, counts));
+        }
+        in.popLimit(limit);
+      } else if (tag == INT64_VALUE_TAG) {
+        buffer.setLong(in.readInt64(), offset + nextValue(feature, exampleIndex, counts));
+      } else {
+        in.skipField(tag);
+      }
+    }
+  }
+
+  private void parseBytes(CodedInputStream in, FeatureSpec feature, int exampleIndex, int[] counts)
+      throws IOException {
+    byte[][] values = bytes[feature.index];
+    int offset = exampleIndex * feature.numElements;
+    int tag;
+    while ((tag = in.readTag()) != 0) {
+      if (tag == BYTES_VALUE_TAG) {
+        values[offset + nextValue(feature, exampleIndex, counts)] = in.readByteArray();
+      } else {
+        in.skipField(tag);
+      }
+    }
+  }
+
+  private static int nextValue(FeatureSpec feature, int exampleIndex, int[] counts) {
+    int count = counts[feature.index];
+    if (count >= feature.numElements) {
+      throw new IllegalArgumentException(
+          String.format("Feature \"%s\" of example %d has more than %d values",
+              feature.key, exampleIndex, feature.numElements));
+    }
+    counts[feature.index] = count + 1;
+    return count;
+  }
+
+  private void fillDefault(FeatureSpec feature, int exampleIndex) {
+    long offset = (long) exampleIndex * feature.numElements;
+    for (int i = 0; i < feature.numElements; ++i) {
+      switch (feature.type) {
+        case FLOAT:
+          floats[feature.index].setFloat((Float) feature.defaultValue, offset + i);
+          break;
+        case INT64:
+          longs[feature.index].setLong((Long) feature.defaultValue, offset + i);
+          break;
+        case BYTES:
+          bytes[feature.index][(int) offset + i] = (byte[]) feature.defaultValue;
+          break;
+      }
+    }
+  }
+}
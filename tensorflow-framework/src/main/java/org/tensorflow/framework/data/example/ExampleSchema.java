@@ -0,0 +1,199 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.example;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.tensorflow.ndarray.Shape;
+
+/**
+ * Describes the features to extract from {@code tf.train.Example} protos, similar to a list of
+ * {@code FixedLenFeature} in Python.
+ *
+ * <p>Each feature has a fixed shape per example and is extracted as a {@code TFloat32}, {@code
+ * TInt64} or {@code TString} tensor, depending on its type. A default value can be provided for
+ * features that might be missing from some examples.
+ *
+ * <pre>{@code
+ * ExampleSchema schema = ExampleSchema.builder()
+ *     .floatFeature("age", Shape.scalar(), 0.0f)
+ *     .int64Feature("clicks", Shape.of(10))
+ *     .stringFeature("country", Shape.scalar())
+ *     .build();
+ * }</pre>
+ *
+ * @see ExampleBatcher
+ */
+public final class ExampleSchema {
+
+  /**
+   * Builds an {@link ExampleSchema}.
+   */
+  public static final class Builder {
+
+    /**
+     * Adds a required feature of {@code float} values.
+     *
+     * @param key key of the feature in the examples
+     * @param shape shape of the feature in each example
+     * @return this builder
+     */
+    public Builder floatFeature(String key, Shape shape) {
+      return add(key, FeatureSpec.Type.FLOAT, shape, null);
+    }
+
+    /**
+     * Adds a feature of {@code float} values.
+     *
+     * @param key key of the feature in the examples
+     * @param shape shape of the feature in each example
+     * @param defaultValue value of all elements of the feature if missing from an example
+     * @return this builder
+     */
+    public Builder floatFeature(String key, Shape shape, float defaultValue) {
+      return add(key, FeatureSpec.Type.FLOAT, shape, defaultValue);
+    }
+
+    /**
+     * Adds a required feature of {@code int64} values.
+     *
+     * @param key key of the feature in the examples
+     * @param shape shape of the feature in each example
+     * @return this builder
+     */
+    public Builder int64Feature(String key, Shape shape) {
+      return add(key, FeatureSpec.Type.INT64, shape, null);
+    }
+
+    /**
+     * Adds a feature of {@code int64} values.
+     *
+     * @param key key of the feature in the examples
+     * @param shape shape of the feature in each example
+     * @param defaultValue value of all elements of the feature if missing from an example
+     * @return this builder
+     */
+    public Builder int64Feature(String key, Shape shape, long defaultValue) {
+      return add(key, FeatureSpec.Type.INT64, shape, defaultValue);
+    }
+
+    /**
+     * Adds a required feature of {@code bytes} values.
+     *
+     * @param key key of the feature in the examples
+     * @param shape shape of the feature in each example
+     * @return this builder
+     */
+    public Builder stringFeature(String key, Shape shape) {
+      return add(key, FeatureSpec.Type.BYTES, shape, null);
+    }
+
+    /**
+     * Adds a feature of {@code bytes} values.
+     *
+     * @param key key of the feature in the examples
+     * @param shape shape of the feature in each example
+     * @param defaultValue value of all elements of the feature if missing from an example
+     * @return this builder
+     */
+    public Builder stringFeature(String key, Shape shape, byte[] defaultValue) {
+      if (defaultValue == null) {
+        throw new IllegalArgumentException("Default value of feature \"" + key + "\" cannot be null");
+      }
+      return add(key, FeatureSpec.Type.BYTES, shape, defaultValue);
+    }
+
+    /**
+     * Builds the schema.
+     */
+    public ExampleSchema build() {
+      return new ExampleSchema(features);
+    }
+
+    private Builder add(String key, FeatureSpec.Type type, Shape shape, Object defaultValue) {
+      if (shape.hasUnknownDimension()) {
+        throw new IllegalArgumentException("Shape of feature \"" + key + "\" must be fully defined");
+      }
+      if (shape.size() > Integer.MAX_VALUE) {
+        throw new IllegalArgumentException("Feature \"" + key + "\" is too large");
+      }
+      for (FeatureSpec feature : features) {
+        if (feature.key.equals(key)) {
+          throw new IllegalArgumentException("Feature \"" + key + "\" is already defined");
+        }
+      }
+      features.add(new FeatureSpec(features.size(), key, type, shape, defaultValue));
+      return this;
+    }
+
+    private final List<FeatureSpec> features = new ArrayList<>();
+
+    private Builder() {}
+  }
+
+  /**
+   * Returns a new builder for creating a schema.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Returns the keys of the features in this schema, in the order they were added.
+   */
+  public List<String> keys() {
+    List<String> keys = new ArrayList<>(features.size());
+    for (FeatureSpec feature : features) {
+      keys.add(feature.key);
+    }
+    return keys;
+  }
+
+  /**
+   * Returns the shape of a feature in each example.
+   *
+   * @param key key of the feature
+   * @throws IllegalArgumentException if this schema has no feature with that key
+   */
+  public Shape shape(String key) {
+    FeatureSpec feature = featuresByKey.get(key);
+    if (feature == null) {
+      throw new IllegalArgumentException("No feature \"" + key + "\" in this schema");
+    }
+    return feature.shape;
+  }
+
+  List<FeatureSpec> features() {
+    return features;
+  }
+
+  FeatureSpec feature(String key) {
+    return featuresByKey.get(key);
+  }
+
+  private final List<FeatureSpec> features;
+  private final Map<String, FeatureSpec> featuresByKey = new HashMap<>();
+
+  private ExampleSchema(List<FeatureSpec> features) {
+    this.features = Collections.unmodifiableList(new ArrayList<>(features));
+    for (FeatureSpec feature : features) {
+      featuresByKey.put(feature.key, feature);
+    }
+  }
+}
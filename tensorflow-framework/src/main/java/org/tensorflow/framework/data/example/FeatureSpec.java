@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.example;
+
+import org.tensorflow.ndarray.Shape;
+
+/**
+ * A feature of an {@link ExampleSchema}.
+ */
+final class FeatureSpec {
+
+  /**
+   * Type of a feature, matching the kinds of values of the {@code Feature} proto.
+   */
+  enum Type {
+    BYTES(1),
+    FLOAT(2),
+    INT64(3);
+
+    /** Number of the field holding this kind of list in a {@code Feature} proto */
+    final int fieldNumber;
+
+    Type(int fieldNumber) {
+      this.fieldNumber = fieldNumber;
+    }
+  }
+
+  final int index;
+  final String key;
+  final Type type;
+  final Shape shape;
+  final int numElements;
+  final Object defaultValue;
+
+  FeatureSpec(int index, String key, Type type, Shape shape, Object defaultValue) {
+    this.index = index;
+    this.key = key;
+    this.type = type;
+    this.shape = shape;
+    this.numElements = (int) shape.size();
+    this.defaultValue = defaultValue;
+  }
+}
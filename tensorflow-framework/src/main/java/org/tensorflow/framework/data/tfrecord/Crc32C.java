@@ -0,0 +1,93 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.tfrecord;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Computes CRC-32C (Castagnoli) checksums, as used by the TFRecord format.
+ *
+ * <p>{@code java.util.zip.CRC32C} is only available since Java 9, so this class implements the
+ * "slicing-by-8" algorithm, which processes 8 bytes per iteration using precomputed tables.
+ */
+final class Crc32C {
+
+  /**
+   * Computes the checksum of the remaining bytes of a buffer, without changing its position.
+   *
+   * @param data data to checksum
+   * @return the CRC-32C of the data
+   */
+  static int compute(ByteBuffer data) {
+    ByteBuffer buffer = data.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    int crc = ~0;
+    int i = buffer.position();
+    int end = buffer.limit();
+    for (; end - i >= 8; i += 8) {
+      long value = buffer.getLong(i);
+      int lo = (int) value ^ crc;
+      int hi = (int) (value >>> 32);
+      crc = TABLE[7][lo & 0xFF]
+          ^ TABLE[6][(lo >>> 8) & 0xFF]
+          ^ TABLE[5][(lo >>> 16) & 0xFF]
+          ^ TABLE[4][lo >>> 24]
+          ^ TABLE[3][hi & 0xFF]
+          ^ TABLE[2][(hi >>> 8) & 0xFF]
+          ^ TABLE[1][(hi >>> 16) & 0xFF]
+          ^ TABLE[0][hi >>> 24];
+    }
+    for (; i < end; ++i) {
+      crc = (crc >>> 8) ^ TABLE[0][(crc ^ buffer.get(i)) & 0xFF];
+    }
+    return ~crc;
+  }
+
+  /**
+   * Masks a checksum, as done by TensorFlow before storing it with the data it protects.
+   *
+   * <p>Computing the CRC of a string that contains embedded CRCs is problematic, so stored CRCs
+   * are rotated and offset by a constant.
+   *
+   * @param crc checksum to mask
+   * @return the masked checksum
+   */
+  static int mask(int crc) {
+    return ((crc >>> 15) | (crc << 17)) + MASK_DELTA;
+  }
+
+  private static final int POLYNOMIAL = 0x82F63B78; // reversed Castagnoli polynomial
+  private static final int MASK_DELTA = 0xA282EAD8;
+  private static final int[][] TABLE = new int[8][256];
+
+  static {
+    for (int n = 0; n < 256; ++n) {
+      int crc = n;
+      for (int k = 0; k < 8; ++k) {
+        crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+      }
+      TABLE[0][n] = crc;
+    }
+    for (int n = 0; n < 256; ++n) {
+      for (int t = 1; t < 8; ++t) {
+        int prev = TABLE[t - 1][n];
+        TABLE[t][n] = (prev >>> 8) ^ TABLE[0][prev & 0xFF];
+      }
+    }
+  }
+
+  private Crc32C() {}
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.tfrecord;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads records from a TFRecord file, without running a TensorFlow session.
+ *
+ * <p>The file is memory-mapped and records are returned as read-only {@link ByteBuffer} slices
+ * of that mapping, so no data is copied while reading. Each record is validated against the
+ * CRC-32C checksums stored in the file, unless disabled at opening.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * try (TFRecordReader reader = TFRecordReader.open(path)) {
+ *   ByteBuffer record;
+ *   while ((record = reader.next()) != null) {
+ *     Example example = Example.parseFrom(record);
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Sharded datasets can be read in parallel using {@link #records(Collection)}. Compressed
+ * TFRecord files are not supported.
+ *
+ * <p>Instances of this class are not thread-safe.
+ */
+public final class TFRecordReader implements AutoCloseable {
+
+  /**
+   * Opens a TFRecord file for reading, validating the checksums of each record.
+   *
+   * @param file file to read
+   * @return a reader positioned at the first record of the file
+   * @throws IOException if the file cannot be opened
+   */
+  public static TFRecordReader open(Path file) throws IOException {
+    return open(file, true);
+  }
+
+  /**
+   * Opens a TFRecord file for reading.
+   *
+   * @param file file to read
+   * @param verifyChecksums true to validate the checksums of each record
+   * @return a reader positioned at the first record of the file
+   * @throws IOException if the file cannot be opened
+   */
+  public static TFRecordReader open(Path file, boolean verifyChecksums) throws IOException {
+    return new TFRecordReader(FileChannel.open(file, StandardOpenOption.READ), verifyChecksums);
+  }
+
+  /**
+   * Returns a stream over all records of a set of TFRecord files, validating their checksums.
+   *
+   * <p>Files are read one after the other in a sequential stream. In a {@link Stream#parallel()
+   * parallel} stream, different files are read concurrently, which is the preferred way to read
+   * sharded datasets at disk speed:
+   *
+   * <pre>{@code
+   * try (Stream<ByteBuffer> records = TFRecordReader.records(shards)) {
+   *   long count = records.parallel().count();
+   * }
+   * }</pre>
+   *
+   * <p>Each file is opened only when the stream reaches it and closed right after its records have
+   * been streamed.
+   *
+   * @param files files to read
+   * @return a stream of records
+   * @throws UncheckedIOException if a file cannot be opened or is corrupted
+   */
+  public static Stream<ByteBuffer> records(Collection<Path> files) {
+    return files.stream().flatMap(file -> {
+      try {
+        return open(file).stream();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    });
+  }
+
+  /**
+   * Reads the next record of the file.
+   *
+   * <p>The returned buffer is a read-only view of the record in the mapped file, starting at
+   * position 0 and with a limit equal to the size of the record.
+   *
+   * @return the next record, or null if the end of the file has been reached
+   * @throws IOException if the file cannot be read or the record is corrupted
+   */
+  public ByteBuffer next() throws IOException {
+    if (position >= size) {
+      return null;
+    }
+    if (size - position < HEADER_SIZE) {
+      throw new IOException("Truncated record header at offset " + position);
+    }
+    ByteBuffer header = map(position, HEADER_SIZE);
+    if (verifyChecksums) {
+      header.limit(Long.BYTES);
+      int crc = Crc32C.mask(Crc32C.compute(header));
+      header.limit(HEADER_SIZE);
+      if (crc != header.getInt(Long.BYTES)) {
+        throw new IOException("Corrupted record length at offset " + position);
+      }
+    }
+    long length = header.getLong(0);
+    if (length < 0 || length > MAX_RECORD_SIZE) {
+      throw new IOException("Unsupported record length " + length + " at offset " + position);
+    }
+    if (size - position - HEADER_SIZE - FOOTER_SIZE < length) {
+      throw new IOException("Truncated record at offset " + position);
+    }
+    ByteBuffer record = map(position, HEADER_SIZE + (int) length + FOOTER_SIZE);
+    int dataCrc = record.getInt(HEADER_SIZE + (int) length);
+    record.position(HEADER_SIZE);
+    record.limit(HEADER_SIZE + (int) length);
+    ByteBuffer data = record.slice();
+    if (verifyChecksums && Crc32C.mask(Crc32C.compute(data)) != dataCrc) {
+      throw new IOException("Corrupted record data at offset " + position);
+    }
+    position += HEADER_SIZE + length + FOOTER_SIZE;
+    return data.asReadOnlyBuffer();
+  }
+
+  /**
+   * Returns a stream over the remaining records of this file.
+   *
+   * <p>Closing the stream closes this reader.
+   *
+   * @return a stream of records
+   * @throws UncheckedIOException if a record cannot be read while consuming the stream
+   */
+  public Stream<ByteBuffer> stream() {
+    Iterator<ByteBuffer> iterator = new Iterator<ByteBuffer>() {
+
+      @Override
+      public boolean hasNext() {
+        if (nextRecord == null) {
+          try {
+            nextRecord = TFRecordReader.this.next();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+        return nextRecord != null;
+      }
+
+      @Override
+      public ByteBuffer next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        ByteBuffer record = nextRecord;
+        nextRecord = null;
+        return record;
+      }
+
+      private ByteBuffer nextRecord;
+    };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(this::closeUnchecked);
+  }
+
+  /**
+   * Returns the offset in the file of the next record to read.
+   */
+  public long position() {
+    return position;
+  }
+
+  /**
+   * Closes the file.
+   *
+   * <p>Records already returned by this reader remain readable until they are garbage-collected.
+   */
+  @Override
+  public void close() throws IOException {
+    mapped = null;
+    channel.close();
+  }
+
+  private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES; // length + crc of length
+  private static final int FOOTER_SIZE = Integer.BYTES; // crc of data
+  private static final long MAX_RECORD_SIZE = Integer.MAX_VALUE - HEADER_SIZE - FOOTER_SIZE;
+
+  private final FileChannel channel;
+  private final boolean verifyChecksums;
+  private final long size;
+  private long position = 0;
+  private ByteBuffer mapped;
+  private long mappedOffset;
+
+  private TFRecordReader(FileChannel channel, boolean verifyChecksums) throws IOException {
+    this.channel = channel;
+    this.verifyChecksums = verifyChecksums;
+    this.size = channel.size();
+  }
+
+  /**
+   * Returns a little-endian view of a region of the file, starting at position 0.
+   *
+   * <p>Files are mapped by windows of up to 2 GB, a new window being mapped only when a region
+   * crosses the boundary of the current one.
+   */
+  private ByteBuffer map(long offset, int length) throws IOException {
+    if (mapped == null || offset < mappedOffset || offset + length > mappedOffset + mapped.capacity()) {
+      mapped = channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(size - offset, Integer.MAX_VALUE));
+      mappedOffset = offset;
+    }
+    ByteBuffer region = mapped.duplicate();
+    region.position((int) (offset - mappedOffset));
+    region.limit(region.position() + length);
+    return region.slice().order(ByteOrder.LITTLE_ENDIAN);
+  }
+
+  private void closeUnchecked() {
+    try {
+      close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
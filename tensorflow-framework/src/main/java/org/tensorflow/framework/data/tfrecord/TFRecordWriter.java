@@ -0,0 +1,152 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.tfrecord;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes records to a TFRecord file, without running a TensorFlow session.
+ *
+ * <p>Files written by this class can be read by {@link TFRecordReader} or by any TensorFlow
+ * TFRecord reader, like the {@code TFRecordDataset}. Small records are accumulated in a direct
+ * buffer before being written to the file, while large records are written directly from the
+ * buffer provided by the caller.
+ *
+ * <p>Example:
+ *
+ * <pre>{@code
+ * try (TFRecordWriter writer = TFRecordWriter.create(path)) {
+ *   for (Example example : examples) {
+ *     writer.write(example.toByteArray());
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Instances of this class are not thread-safe.
+ */
+public final class TFRecordWriter implements AutoCloseable {
+
+  /**
+   * Creates a new TFRecord file, replacing any existing file at the same location.
+   *
+   * @param file file to create
+   * @return a writer to the new file
+   * @throws IOException if the file cannot be created
+   */
+  public static TFRecordWriter create(Path file) throws IOException {
+    return new TFRecordWriter(
+        FileChannel.open(
+            file,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING));
+  }
+
+  /**
+   * Writes a record.
+   *
+   * @param record record data
+   * @throws IOException if the record cannot be written
+   */
+  public void write(byte[] record) throws IOException {
+    write(ByteBuffer.wrap(record));
+  }
+
+  /**
+   * Writes a record.
+   *
+   * <p>The remaining bytes of the buffer are written as a single record. The position of the
+   * buffer is not changed.
+   *
+   * @param record record data
+   * @throws IOException if the record cannot be written
+   */
+  public void write(ByteBuffer record) throws IOException {
+    ByteBuffer data = record.duplicate();
+    int length = data.remaining();
+    header.clear();
+    header.putLong(0, length);
+    header.limit(Long.BYTES);
+    int lengthCrc = Crc32C.mask(Crc32C.compute(header));
+    header.limit(HEADER_SIZE);
+    header.putInt(Long.BYTES, lengthCrc);
+    int dataCrc = Crc32C.mask(Crc32C.compute(data));
+
+    if (HEADER_SIZE + length + FOOTER_SIZE > buffer.remaining()) {
+      flush();
+    }
+    if (HEADER_SIZE + length + FOOTER_SIZE <= buffer.remaining()) {
+      buffer.put(header);
+      buffer.put(data);
+      buffer.putInt(dataCrc);
+    } else {
+      // Too large to be buffered, write it directly
+      footer.clear();
+      footer.putInt(0, dataCrc);
+      writeFully(header, data, footer);
+    }
+  }
+
+  /**
+   * Writes all buffered records to the file.
+   *
+   * @throws IOException if the records cannot be written
+   */
+  public void flush() throws IOException {
+    buffer.flip();
+    writeFully(buffer);
+    buffer.clear();
+  }
+
+  /**
+   * Flushes all buffered records and closes the file.
+   *
+   * @throws IOException if the records cannot be written or the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    try {
+      flush();
+    } finally {
+      channel.close();
+    }
+  }
+
+  private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES; // length + crc of length
+  private static final int FOOTER_SIZE = Integer.BYTES; // crc of data
+  private static final int BUFFER_SIZE = 1 << 16;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+  private final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+  private final ByteBuffer footer = ByteBuffer.allocate(FOOTER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+  private TFRecordWriter(FileChannel channel) {
+    this.channel = channel;
+  }
+
+  private void writeFully(ByteBuffer... buffers) throws IOException {
+    ByteBuffer last = buffers[buffers.length - 1];
+    while (last.hasRemaining()) {
+      channel.write(buffers);
+    }
+  }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.distribute;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.tensorflow.DeviceSpec;
+import org.tensorflow.Graph;
+import org.tensorflow.Operand;
+import org.tensorflow.Output;
+import org.tensorflow.framework.optimizers.Optimizer;
+import org.tensorflow.framework.optimizers.Optimizer.GradAndVar;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Split;
+import org.tensorflow.proto.framework.ConfigProto;
+import org.tensorflow.types.TInt32;
+import org.tensorflow.types.family.TNumber;
+import org.tensorflow.types.family.TType;
+
+/**
+ * Trains a model on multiple devices of a single host, by splitting each batch between replicas of
+ * the model.
+ *
+ * <p>The model is built once per device, each replica reading the same variables and computing the
+ * loss of its share of the batch. The gradients of all replicas are averaged and applied once to the
+ * variables, so a training step is equivalent to a step on the whole batch with a single replica.
+ *
+ * <pre>{@code
+ * DataParallelReplicator replicator =
+ *     new DataParallelReplicator(graph, DataParallelReplicator.cpuDevices(2));
+ * Variable<TFloat32> weights = tf.variable(...);  // variables are created once, before replicating
+ * List<Operand<TFloat32>> losses = replicator.replicate(Arrays.asList(features, labels),
+ *     (rtf, inputs) -> buildLoss(rtf, weights, inputs.get(0), inputs.get(1)));
+ * Op train = replicator.minimize(new GradientDescent(graph, 0.1f), losses);
+ *
+ * try (Session session = new Session(graph, DataParallelReplicator.virtualCpuConfig(2))) {
+ *   ...
+ * }
+ * }</pre>
+ *
+ * <p>Only the forward pass is replicated: operations computing the gradients are added by the
+ * native gradient builder, which does not assign them a device, so the session places them on its
+ * default device, usually the first one. The backward pass of all replicas is therefore computed
+ * on that device.
+ */
+public class DataParallelReplicator {
+
+  /**
+   * Builds the model of a replica.
+   *
+   * @param <T> type of the loss
+   */
+  @FunctionalInterface
+  public interface Model<T extends TNumber> {
+
+    /**
+     * Builds the operations of a replica and returns its loss.
+     *
+     * <p>Variables must not be created by this method, but before replicating the model, so they
+     * are shared by all replicas.
+     *
+     * @param tf API for building operations on the device of the replica
+     * @param inputs shares of the batch inputs for this replica, in the same order as the inputs
+     * @return the loss of the replica
+     */
+    Operand<T> build(Ops tf, List<Operand<?>> inputs);
+  }
+
+  /**
+   * Returns the specifications of the first CPU devices of the local host.
+   *
+   * @param numDevices number of devices
+   */
+  public static List<DeviceSpec> cpuDevices(int numDevices) {
+    List<DeviceSpec> devices = new ArrayList<>(numDevices);
+    for (int i = 0; i < numDevices; ++i) {
+      devices.add(DeviceSpec.newBuilder().deviceType(DeviceSpec.DeviceType.CPU).deviceIndex(i).build());
+    }
+    return devices;
+  }
+
+  /**
+   * Returns a session configuration exposing multiple virtual CPU devices.
+   *
+   * <p>Virtual CPU devices share the same thread pools and have no affinity to a core or a memory
+   * node, they only allow operations to be placed on distinct devices of a single CPU.
+   *
+   * @param numDevices number of CPU devices
+   */
+  public static ConfigProto virtualCpuConfig(int numDevices) {
+    return ConfigProto.newBuilder().putDeviceCount("CPU", numDevices).build();
+  }
+
+  /**
+   * Creates a replicator of models on multiple devices.
+   *
+   * @param graph graph of the model
+   * @param devices devices of the replicas, one replica per device
+   * @throws IllegalArgumentException if no devices are provided
+   */
+  public DataParallelReplicator(Graph graph, List<DeviceSpec> devices) {
+    if (devices.isEmpty()) {
+      throw new IllegalArgumentException("At least one device is required");
+    }
+    this.graph = graph;
+    this.tf = Ops.create(graph);
+    this.devices = Collections.unmodifiableList(new ArrayList<>(devices));
+  }
+
+  /**
+   * Builds a replica of the model on each device, each of them receiving an equal share of the
+   * batch.
+   *
+   * <p>Inputs are split along their first dimension, which must be a multiple of the number of
+   * replicas.
+   *
+   * @param batchInputs inputs of the model for the whole batch
+   * @param model builds the model of a replica
+   * @param <T> type of the loss
+   * @return the losses of the replicas
+   */
+  public <T extends TNumber> List<Operand<T>> replicate(List<Operand<?>> batchInputs, Model<T> model) {
+    Ops splitTf = tf.withSubScope("split_batch");
+    Operand<TInt32> axis = splitTf.constant(0);
+    List<List<Output<?>>> splitInputs = new ArrayList<>(batchInputs.size());
+    for (Operand<?> input : batchInputs) {
+      Split<?> split = splitTf.split(axis, input, (long) devices.size());
+      splitInputs.add(new ArrayList<>(split.output()));
+    }
+    List<Operand<T>> losses = new ArrayList<>(devices.size());
+    for (int replica = 0; replica < devices.size(); ++replica) {
+      List<Operand<?>> replicaInputs = new ArrayList<>(batchInputs.size());
+      for (List<Output<?>> splitInput : splitInputs) {
+        replicaInputs.add(splitInput.get(replica));
+      }
+      Ops replicaTf = tf.withSubScope("replica_" + replica).withDevice(devices.get(replica));
+      losses.add(model.build(replicaTf, replicaInputs));
+    }
+    return losses;
+  }
+
+  /**
+   * Minimizes the losses of the replicas, by applying the average of their gradients.
+   *
+   * @param optimizer optimizer applying the gradients
+   * @param losses losses of the replicas, as returned by {@link #replicate(List, Model)}
+   * @return an op updating the variables
+   */
+  public Op minimize(Optimizer optimizer, List<? extends Operand<?>> losses) {
+    return minimize(optimizer, losses, optimizer.getOptimizerName() + "-minimize");
+  }
+
+  /**
+   * Minimizes the losses of the replicas, by applying the average of their gradients.
+   *
+   * @param optimizer optimizer applying the gradients
+   * @param losses losses of the replicas, as returned by {@link #replicate(List, Model)}
+   * @param name name of the op updating the variables
+   * @return an op updating the variables
+   */
+  public Op minimize(Optimizer optimizer, List<? extends Operand<?>> losses, String name) {
+    return optimizer.applyGradients(averageGradients(optimizer, losses), name);
+  }
+
+  /**
+   * Computes the gradients of each replica and averages them per variable.
+   *
+   * <p>Gradients are summed on the device of the first replica and divided by the number of
+   * replicas, like the loss of the whole batch would be averaged over its examples.
+   *
+   * @param optimizer optimizer computing the gradients
+   * @param losses losses of the replicas
+   * @return the averaged gradients, with their variables
+   */
+  public List<GradAndVar<? extends TType>> averageGradients(Optimizer optimizer, List<? extends Operand<?>> losses) {
+    Map<Output<?>, List<Output<?>>> gradientsByVariable = new LinkedHashMap<>();
+    for (Operand<?> loss : losses) {
+      for (GradAndVar<?> gradAndVar : optimizer.computeGradients(loss)) {
+        gradientsByVariable
+            .computeIfAbsent(gradAndVar.getVariable(), v -> new ArrayList<>())
+            .add(gradAndVar.getGradient());
+      }
+    }
+    Ops averageTf = tf.withSubScope("average_gradients").withDevice(devices.get(0));
+    List<GradAndVar<? extends TType>> averaged = new ArrayList<>(gradientsByVariable.size());
+    for (Map.Entry<Output<?>, List<Output<?>>> entry : gradientsByVariable.entrySet()) {
+      averaged.add(average(averageTf, entry.getKey(), entry.getValue(), losses.size()));
+    }
+    return averaged;
+  }
+
+  /**
+   * Returns the devices of the replicas.
+   */
+  public List<DeviceSpec> devices() {
+    return devices;
+  }
+
+  /**
+   * Returns the graph of the model.
+   */
+  public Graph graph() {
+    return graph;
+  }
+
+  private final Graph graph;
+  private final Ops tf;
+  private final List<DeviceSpec> devices;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static GradAndVar<? extends TType> average(
+      Ops tf, Output<?> variable, List<Output<?>> gradients, int numReplicas) {
+    Operand sum = gradients.size() == 1 ? gradients.get(0) : tf.math.addN((List) gradients);
+    Operand divisor = tf.dtypes.cast(tf.constant(numReplicas), sum.type());
+    return new GradAndVar(tf.math.div(sum, divisor).asOutput(), (Output) variable);
+  }
+}
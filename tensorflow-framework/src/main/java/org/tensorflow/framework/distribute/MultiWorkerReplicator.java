@@ -0,0 +1,347 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.distribute;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.tensorflow.DeviceSpec;
+import org.tensorflow.Graph;
+import org.tensorflow.GraphOperation;
+import org.tensorflow.Operand;
+import org.tensorflow.Output;
+import org.tensorflow.Server;
+import org.tensorflow.Session;
+import org.tensorflow.framework.optimizers.Optimizer;
+import org.tensorflow.framework.optimizers.Optimizer.GradAndVar;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.collective.AllReduce;
+import org.tensorflow.op.collective.BroadcastRecv;
+import org.tensorflow.op.collective.BroadcastSend;
+import org.tensorflow.proto.distruntime.ClusterDef;
+import org.tensorflow.proto.distruntime.JobDef;
+import org.tensorflow.proto.distruntime.ServerDef;
+import org.tensorflow.proto.framework.ConfigProto;
+import org.tensorflow.types.family.TType;
+
+/**
+ * Trains a model synchronously on multiple workers, by all-reducing the gradients computed by each
+ * of them.
+ *
+ * <p>Each worker runs in its own process, or at least its own {@link Server}, and builds the same
+ * graph with its own copy of the variables. At each step, a worker computes the gradients of its
+ * share of the data, and the gradients of all workers are averaged with collective all-reduce
+ * operations before being applied, so the variables of all workers stay identical.
+ *
+ * <pre>{@code
+ * ClusterDef cluster = MultiWorkerReplicator.cluster(Arrays.asList("host0:2222", "host1:2222"));
+ * try (Graph graph = new Graph();
+ *     Server server = MultiWorkerReplicator.startServer(cluster, taskIndex)) {
+ *   MultiWorkerReplicator replicator = new MultiWorkerReplicator(graph, cluster, taskIndex);
+ *   Ops tf = replicator.tf();
+ *   Variable<TFloat32> weights = tf.variable(...);
+ *   Operand<TFloat32> loss = buildLoss(tf, weights, nextBatch(taskIndex));
+ *   Op train = replicator.minimize(new GradientDescent(graph, 0.1f), loss);
+ *   Op broadcast = replicator.broadcastVariables();
+ *
+ *   try (Session session = replicator.session(server)) {
+ *     session.runInit();
+ *     session.run(broadcast);
+ *     ...
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Collective operations block until all workers of the cluster execute them, so every worker
+ * must build its graph in the same order and run the same operations at each step. The keys
+ * identifying collective operations across workers are attributed in creation order.
+ */
+public class MultiWorkerReplicator {
+
+  /** Name of the job of the workers in the cluster */
+  public static final String JOB_NAME = "worker";
+
+  /**
+   * Returns the definition of a cluster with one worker per address.
+   *
+   * @param addresses addresses of the workers, like {@code host:port}, in task order
+   * @throws IllegalArgumentException if no addresses are provided
+   */
+  public static ClusterDef cluster(List<String> addresses) {
+    if (addresses.isEmpty()) {
+      throw new IllegalArgumentException("At least one worker is required");
+    }
+    JobDef.Builder job = JobDef.newBuilder().setName(JOB_NAME);
+    for (int task = 0; task < addresses.size(); ++task) {
+      job.putTasks(task, addresses.get(task));
+    }
+    return ClusterDef.newBuilder().addJob(job).build();
+  }
+
+  /**
+   * Returns the definition of a cluster of workers on the local host, listening on free ports.
+   *
+   * <p>This is mostly useful for testing, by running multiple workers in the same process or in
+   * multiple processes of the same host.
+   *
+   * @param numWorkers number of workers
+   * @throws UncheckedIOException if free ports cannot be found
+   */
+  public static ClusterDef localCluster(int numWorkers) {
+    List<String> addresses = new ArrayList<>(numWorkers);
+    for (int i = 0; i < numWorkers; ++i) {
+      addresses.add("localhost:" + freePort());
+    }
+    return cluster(addresses);
+  }
+
+  /**
+   * Returns the definition of the server of a worker.
+   *
+   * @param cluster cluster of the workers
+   * @param taskIndex index of the worker in the cluster
+   */
+  public static ServerDef serverDef(ClusterDef cluster, int taskIndex) {
+    return ServerDef.newBuilder()
+        .setCluster(cluster)
+        .setJobName(JOB_NAME)
+        .setTaskIndex(taskIndex)
+        .setProtocol("grpc")
+        .setDefaultSessionConfig(sessionConfig())
+        .build();
+  }
+
+  /**
+   * Creates and starts the server of a worker.
+   *
+   * @param cluster cluster of the workers
+   * @param taskIndex index of the worker in the cluster
+   * @return the started server, which must be closed by the caller
+   */
+  public static Server startServer(ClusterDef cluster, int taskIndex) {
+    Server server = new Server(serverDef(cluster, taskIndex));
+    server.start();
+    return server;
+  }
+
+  /**
+   * Returns the session configuration required by collective operations.
+   *
+   * <p>The first worker is the leader of the collective groups.
+   */
+  public static ConfigProto sessionConfig() {
+    return ConfigProto.newBuilder()
+        .setExperimental(ConfigProto.Experimental.newBuilder()
+            .setCollectiveGroupLeader("/job:" + JOB_NAME + "/replica:0/task:0"))
+        .build();
+  }
+
+  /**
+   * Creates a replicator for a worker of a cluster.
+   *
+   * @param graph graph of the model on this worker
+   * @param cluster cluster of the workers
+   * @param taskIndex index of this worker in the cluster
+   * @throws IllegalArgumentException if the cluster has no worker job or if the task index is out of
+   *     its bounds
+   */
+  public MultiWorkerReplicator(Graph graph, ClusterDef cluster, int taskIndex) {
+    JobDef job = cluster.getJobList().stream()
+        .filter(j -> JOB_NAME.equals(j.getName()))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Cluster has no \"" + JOB_NAME + "\" job"));
+    if (taskIndex < 0 || taskIndex >= job.getTasksCount()) {
+      throw new IllegalArgumentException(
+          "Task index " + taskIndex + " is out of bounds of a cluster of " + job.getTasksCount() + " workers");
+    }
+    this.graph = graph;
+    this.numWorkers = job.getTasksCount();
+    this.taskIndex = taskIndex;
+    this.device = DeviceSpec.newBuilder()
+        .job(JOB_NAME)
+        .replica(0)
+        .task(taskIndex)
+        .deviceType(DeviceSpec.DeviceType.CPU)
+        .deviceIndex(0)
+        .build();
+    this.tf = Ops.create(graph).withDevice(device);
+  }
+
+  /**
+   * Returns an API for building operations on the device of this worker.
+   */
+  public Ops tf() {
+    return tf;
+  }
+
+  /**
+   * Creates a session executing the graph on the server of this worker.
+   *
+   * @param server server of this worker, as returned by {@link #startServer(ClusterDef, int)}
+   * @return a new session, which must be closed by the caller
+   */
+  public Session session(Server server) {
+    return new Session(graph, server.target(), sessionConfig());
+  }
+
+  /**
+   * Minimizes the loss of this worker, by applying the average of the gradients of all workers.
+   *
+   * @param optimizer optimizer applying the gradients
+   * @param loss loss of this worker
+   * @return an op updating the variables
+   */
+  public Op minimize(Optimizer optimizer, Operand<?> loss) {
+    return minimize(optimizer, loss, optimizer.getOptimizerName() + "-minimize");
+  }
+
+  /**
+   * Minimizes the loss of this worker, by applying the average of the gradients of all workers.
+   *
+   * @param optimizer optimizer applying the gradients
+   * @param loss loss of this worker
+   * @param name name of the op updating the variables
+   * @return an op updating the variables
+   */
+  public Op minimize(Optimizer optimizer, Operand<?> loss, String name) {
+    return optimizer.applyGradients(allReduceGradients(optimizer, loss), name);
+  }
+
+  /**
+   * Computes the gradients of the loss of this worker and averages them with the ones of all other
+   * workers.
+   *
+   * <p>Each gradient is all-reduced by its own collective operation, so the transfer of the first
+   * gradients can start while others are still being computed.
+   *
+   * @param optimizer optimizer computing the gradients
+   * @param loss loss of this worker
+   * @return the averaged gradients, with their variables
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public List<GradAndVar<? extends TType>> allReduceGradients(Optimizer optimizer, Operand<?> loss) {
+    Ops allReduceTf = tf.withSubScope("all_reduce_gradients");
+    List<GradAndVar<? extends TType>> averaged = new ArrayList<>();
+    for (GradAndVar<?> gradAndVar : optimizer.computeGradients(loss)) {
+      AllReduce<?> allReduce = AllReduce.create(
+          allReduceTf.scope(),
+          (Operand) gradAndVar.getGradient(),
+          (long) numWorkers,
+          GROUP_KEY,
+          nextInstanceKey(),
+          "Add",
+          "Div",
+          Collections.emptyList());
+      averaged.add(new GradAndVar(allReduce.asOutput(), gradAndVar.getVariable()));
+    }
+    return averaged;
+  }
+
+  /**
+   * Returns an op copying the values of the variables of the first worker to the variables of all
+   * other workers.
+   *
+   * <p>It should be run by all workers once their variables are initialized and before training, so
+   * they all start from the same state even if their initializers are random. Only variables created
+   * before calling this method, with a fully defined shape, are broadcast.
+   *
+   * @throws IllegalStateException if the graph has no variables
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public Op broadcastVariables() {
+    Ops broadcastTf = tf.withSubScope("broadcast_variables");
+    List<Op> assignments = new ArrayList<>();
+    for (GraphOperation variable : graph.variables()) {
+      if (!VARIABLE_V2.equals(variable.type())) {
+        continue;
+      }
+      Output value = variable.output(0);
+      Shape shape = value.shape();
+      if (shape.isUnknown() || shape.hasUnknownDimension()) {
+        continue;
+      }
+      long instanceKey = nextInstanceKey();
+      if (taskIndex == 0) {
+        assignments.add(BroadcastSend.create(
+            broadcastTf.scope(), value, (long) numWorkers, GROUP_KEY, instanceKey, shape));
+      } else {
+        Operand received = BroadcastRecv.create(
+            broadcastTf.scope(), value.type(), (long) numWorkers, GROUP_KEY, instanceKey, shape);
+        assignments.add(broadcastTf.assign(value, received));
+      }
+    }
+    if (assignments.isEmpty()) {
+      throw new IllegalStateException("No variables to broadcast");
+    }
+    return broadcastTf.withControlDependencies(assignments).noOp();
+  }
+
+  /**
+   * Returns the number of workers in the cluster.
+   */
+  public int numWorkers() {
+    return numWorkers;
+  }
+
+  /**
+   * Returns the index of this worker in the cluster.
+   */
+  public int taskIndex() {
+    return taskIndex;
+  }
+
+  /**
+   * Returns the device of this worker.
+   */
+  public DeviceSpec device() {
+    return device;
+  }
+
+  /**
+   * Returns the graph of the model on this worker.
+   */
+  public Graph graph() {
+    return graph;
+  }
+
+  private static final String VARIABLE_V2 = "VariableV2";
+  private static final long GROUP_KEY = 1L;
+
+  private final Graph graph;
+  private final Ops tf;
+  private final int numWorkers;
+  private final int taskIndex;
+  private final DeviceSpec device;
+  private long instanceKey = 0L;
+
+  private synchronized long nextInstanceKey() {
+    return ++instanceKey;
+  }
+
+  private static int freePort() {
+    try (ServerSocket socket = new ServerSocket(0)) {
+      socket.setReuseAddress(true);
+      return socket.getLocalPort();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
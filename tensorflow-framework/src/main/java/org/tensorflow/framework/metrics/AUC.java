@@ -0,0 +1,113 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics;
+
+import org.tensorflow.Operand;
+import org.tensorflow.framework.metrics.impl.ConfusionMatrixConditions;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.family.TNumber;
+
+import static org.tensorflow.framework.utils.CastHelper.cast;
+
+/**
+ * A metric that approximates the area under the ROC or PR curve of binary predictions.
+ *
+ * <p>The true positives, false positives, true negatives and false negatives are accumulated in
+ * variables for a fixed number of thresholds evenly distributed between 0 and 1. The area is then
+ * computed with a Riemann sum, using the trapezoidal rule, over the points of the curve at each
+ * threshold. The quality of the approximation depends on the number of thresholds.
+ *
+ * @param <T> The data type for the metric result.
+ */
+public class AUC<T extends TNumber> extends ConfusionMatrixConditions<T> {
+
+  /** The default number of thresholds */
+  public static final int DEFAULT_NUM_THRESHOLDS = 200;
+
+  private final AUCCurve curve;
+
+  /**
+   * Creates an AUC metric of the ROC curve, with {@link #DEFAULT_NUM_THRESHOLDS} thresholds.
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name of this metric, if null then metric name is {@link Class#getSimpleName()}.
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param type the type for the variables and result
+   */
+  public AUC(Ops tf, String name, long seed, Class<T> type) {
+    this(tf, name, DEFAULT_NUM_THRESHOLDS, AUCCurve.ROC, seed, type);
+  }
+
+  /**
+   * Creates an AUC metric
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name of this metric, if null then metric name is {@link Class#getSimpleName()}.
+   * @param numThresholds the number of thresholds used to discretize the curve, must be greater
+   *     than 1
+   * @param curve the curve for which the area is computed
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param type the type for the variables and result
+   * @throws IllegalArgumentException if <code>numThresholds</code> is less than 2
+   */
+  public AUC(Ops tf, String name, int numThresholds, AUCCurve curve, long seed, Class<T> type) {
+    super(tf, name, numThresholds, seed, type);
+    this.curve = curve;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Operand<T> result() {
+    Ops tf = getTF();
+    Operand<T> truePositives = getTruePositives();
+    Operand<T> x;
+    Operand<T> y;
+    if (curve == AUCCurve.PR) {
+      x = tf.math.divNoNan(truePositives, tf.math.add(truePositives, getFalseNegatives()));
+      y = tf.math.divNoNan(truePositives, tf.math.add(truePositives, getFalsePositives()));
+    } else {
+      Operand<T> falsePositives = getFalsePositives();
+      x = tf.math.divNoNan(falsePositives, tf.math.add(falsePositives, getTrueNegatives()));
+      y = tf.math.divNoNan(truePositives, tf.math.add(truePositives, getFalseNegatives()));
+    }
+    // thresholds are ascending, so points of the curve are ordered by decreasing x
+    int numIntervals = getNumThresholds() - 1;
+    Operand<T> dx = tf.math.sub(head(x, numIntervals), tail(x, numIntervals));
+    Operand<T> heights =
+        tf.math.div(
+            tf.math.add(head(y, numIntervals), tail(y, numIntervals)),
+            cast(tf, tf.constant(2), getResultType()));
+    return tf.reduceSum(tf.math.mul(dx, heights), tf.constant(0));
+  }
+
+  /**
+   * Gets the curve for which the area is computed
+   *
+   * @return the curve
+   */
+  public AUCCurve getCurve() {
+    return curve;
+  }
+
+  private Operand<T> head(Operand<T> values, int size) {
+    return getTF().slice(values, getTF().constant(new int[] {0}), getTF().constant(new int[] {size}));
+  }
+
+  private Operand<T> tail(Operand<T> values, int size) {
+    return getTF().slice(values, getTF().constant(new int[] {1}), getTF().constant(new int[] {size}));
+  }
+}
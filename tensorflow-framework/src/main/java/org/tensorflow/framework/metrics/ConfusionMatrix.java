@@ -0,0 +1,146 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics;
+
+import org.tensorflow.Operand;
+import org.tensorflow.framework.metrics.impl.MetricsHelper;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Variable;
+import org.tensorflow.types.TInt32;
+import org.tensorflow.types.family.TNumber;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.tensorflow.framework.utils.CastHelper.cast;
+
+/**
+ * A metric that accumulates the confusion matrix of multi-class predictions.
+ *
+ * <p>The matrix is accumulated in a variable of shape <code>[numClasses, numClasses]</code>, where
+ * rows are indexed by label and columns by prediction. Labels and predictions are class indices,
+ * in the range <code>[0, numClasses)</code>.
+ *
+ * @param <T> The data type for the metric result.
+ */
+public class ConfusionMatrix<T extends TNumber> extends Metric<T> {
+  public static final String MATRIX = "matrix";
+
+  private final int numClasses;
+  private final Class<T> resultType;
+  private final Variable<T> matrix;
+
+  /**
+   * Creates a ConfusionMatrix metric
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name of this metric, if null then metric name is {@link Class#getSimpleName()}.
+   * @param numClasses the number of classes
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param type the type for the variables and result
+   * @throws IllegalArgumentException if <code>numClasses</code> is not positive
+   */
+  public ConfusionMatrix(Ops tf, String name, int numClasses, long seed, Class<T> type) {
+    super(tf, name, seed);
+    if (numClasses <= 0) {
+      throw new IllegalArgumentException("numClasses must be > 0.");
+    }
+    this.numClasses = numClasses;
+    this.resultType = type;
+    this.matrix =
+        getTF().withName(getVariableName(MATRIX)).variable(Shape.of(numClasses, numClasses), type);
+  }
+
+  /**
+   * Accumulates the confusion matrix of the predictions.
+   *
+   * @param labels the class indices of the labels
+   * @param predictions the predicted class indices, of the same shape as <code>labels</code>
+   * @param sampleWeights sample weights to be applied to values, may be null.
+   * @return a List of Operations to update the metric state
+   */
+  @Override
+  public List<Op> updateStateList(
+      Operand<? extends TNumber> labels,
+      Operand<? extends TNumber> predictions,
+      Operand<? extends TNumber> sampleWeights) {
+    Ops tf = getTF();
+    Operand<TInt32> flatShape = tf.constant(new int[] {-1});
+    Operand<TInt32> tLabels = tf.reshape(cast(tf, labels, TInt32.class), flatShape);
+    Operand<TInt32> tPredictions = tf.reshape(cast(tf, predictions, TInt32.class), flatShape);
+    Operand<T> weights;
+    if (sampleWeights == null) {
+      weights = tf.onesLike(cast(tf, tLabels, resultType));
+    } else {
+      weights =
+          MetricsHelper.broadcastWeights(
+              tf, cast(tf, sampleWeights, resultType), cast(tf, predictions, resultType));
+      weights = tf.reshape(weights, flatShape);
+    }
+    // each (label, prediction) pair is a cell of the flattened matrix
+    Operand<TInt32> cells = tf.math.add(tf.math.mul(tLabels, tf.constant(numClasses)), tPredictions);
+    Operand<T> counts =
+        tf.math.unsortedSegmentSum(weights, cells, tf.constant(numClasses * numClasses));
+    return Collections.singletonList(
+        tf.assignAdd(matrix, tf.reshape(counts, tf.constant(new int[] {numClasses, numClasses}))));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Operand<T> result() {
+    return getTF().identity(matrix);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Op resetStates() {
+    Ops tf = getTF();
+    return tf.withControlDependencies(
+            Collections.singletonList(
+                tf.assign(
+                    matrix, tf.zeros(tf.constant(new long[] {numClasses, numClasses}), resultType))))
+        .noOp();
+  }
+
+  /**
+   * Gets the variable accumulating the confusion matrix
+   *
+   * @return the confusion matrix variable
+   */
+  public Variable<T> getMatrix() {
+    return matrix;
+  }
+
+  /**
+   * Gets the number of classes
+   *
+   * @return the number of classes
+   */
+  public int getNumClasses() {
+    return numClasses;
+  }
+
+  /**
+   * Gets the type for the variables
+   *
+   * @return the type for the variables
+   */
+  public Class<T> getResultType() {
+    return resultType;
+  }
+}
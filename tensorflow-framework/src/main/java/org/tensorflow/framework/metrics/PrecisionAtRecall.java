@@ -0,0 +1,103 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics;
+
+import org.tensorflow.Operand;
+import org.tensorflow.framework.metrics.impl.ConfusionMatrixConditions;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.family.TNumber;
+
+import static org.tensorflow.framework.utils.CastHelper.cast;
+
+/**
+ * A metric that computes the best precision of binary predictions where the recall is greater than
+ * or equal to a target value.
+ *
+ * <p>The true positives, false positives and false negatives are accumulated in variables for a
+ * fixed number of thresholds evenly distributed between 0 and 1. The result is the highest
+ * precision among the thresholds for which the recall reaches the target, or 0 if there is none.
+ *
+ * @param <T> The data type for the metric result.
+ */
+public class PrecisionAtRecall<T extends TNumber> extends ConfusionMatrixConditions<T> {
+
+  /** The default number of thresholds */
+  public static final int DEFAULT_NUM_THRESHOLDS = 200;
+
+  private final float recall;
+
+  /**
+   * Creates a PrecisionAtRecall metric, with {@link #DEFAULT_NUM_THRESHOLDS} thresholds.
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name of this metric, if null then metric name is {@link Class#getSimpleName()}.
+   * @param recall the target recall, in the range <code>[0, 1]</code>
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param type the type for the variables and result
+   * @throws IllegalArgumentException if <code>recall</code> is not in the range <code>[0, 1]</code>
+   */
+  public PrecisionAtRecall(Ops tf, String name, float recall, long seed, Class<T> type) {
+    this(tf, name, recall, DEFAULT_NUM_THRESHOLDS, seed, type);
+  }
+
+  /**
+   * Creates a PrecisionAtRecall metric
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name of this metric, if null then metric name is {@link Class#getSimpleName()}.
+   * @param recall the target recall, in the range <code>[0, 1]</code>
+   * @param numThresholds the number of thresholds, must be greater than 1
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param type the type for the variables and result
+   * @throws IllegalArgumentException if <code>recall</code> is not in the range <code>[0, 1]</code>
+   *     or if <code>numThresholds</code> is less than 2
+   */
+  public PrecisionAtRecall(
+      Ops tf, String name, float recall, int numThresholds, long seed, Class<T> type) {
+    super(tf, name, numThresholds, seed, type);
+    if (recall < 0f || recall > 1f) {
+      throw new IllegalArgumentException("recall must be in the range [0, 1].");
+    }
+    this.recall = recall;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Operand<T> result() {
+    Ops tf = getTF();
+    Operand<T> truePositives = getTruePositives();
+    Operand<T> recalls =
+        tf.math.divNoNan(truePositives, tf.math.add(truePositives, getFalseNegatives()));
+    Operand<T> precisions =
+        tf.math.divNoNan(truePositives, tf.math.add(truePositives, getFalsePositives()));
+    Operand<T> feasible =
+        cast(
+            tf,
+            tf.math.greaterEqual(recalls, cast(tf, tf.constant(recall), getResultType())),
+            getResultType());
+    return tf.reduceMax(tf.math.mul(precisions, feasible), tf.constant(0));
+  }
+
+  /**
+   * Gets the target recall
+   *
+   * @return the target recall
+   */
+  public float getRecall() {
+    return recall;
+  }
+}
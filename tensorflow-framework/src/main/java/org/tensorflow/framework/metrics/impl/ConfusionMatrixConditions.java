@@ -0,0 +1,192 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics.impl;
+
+import org.tensorflow.Operand;
+import org.tensorflow.framework.metrics.Metric;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Variable;
+import org.tensorflow.types.family.TNumber;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encapsulates metrics that accumulate the true positives, false positives, true negatives and
+ * false negatives of binary predictions at a fixed set of thresholds.
+ *
+ * <p>Counts are accumulated in variables of shape <code>[numThresholds]</code>, so any number of
+ * batches can be evaluated without fetching the predictions from the device. Only the result
+ * computed from these counts needs to be transferred.
+ *
+ * @param <T> The data type for the metric result
+ */
+public abstract class ConfusionMatrixConditions<T extends TNumber> extends Metric<T> {
+
+  private final float[] thresholds;
+  private final Class<T> resultType;
+  private final Map<ConfusionMatrixEnum, Variable<T>> variables =
+      new EnumMap<>(ConfusionMatrixEnum.class);
+
+  /**
+   * Creates a metric accumulating conditions at thresholds evenly distributed between 0 and 1.
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name for this metric. If null, name defaults to {@link Class#getSimpleName()}.
+   * @param numThresholds the number of thresholds, must be greater than 1
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param resultType the type for the variables and result
+   * @throws IllegalArgumentException if <code>numThresholds</code> is less than 2
+   */
+  protected ConfusionMatrixConditions(
+      Ops tf, String name, int numThresholds, long seed, Class<T> resultType) {
+    this(tf, name, MetricsHelper.buildThresholds(numThresholds), seed, resultType);
+  }
+
+  /**
+   * Creates a metric accumulating conditions at the given thresholds.
+   *
+   * @param tf the TensorFlow Ops
+   * @param name the name for this metric. If null, name defaults to {@link Class#getSimpleName()}.
+   * @param thresholds the thresholds, in ascending order
+   * @param seed the seed for random number generation. An initializer created with a given seed
+   *     will always produce the same random tensor for a given shape and data type.
+   * @param resultType the type for the variables and result
+   * @throws IllegalArgumentException if <code>thresholds</code> is empty
+   */
+  protected ConfusionMatrixConditions(
+      Ops tf, String name, float[] thresholds, long seed, Class<T> resultType) {
+    super(tf, name, seed);
+    if (thresholds.length == 0) {
+      throw new IllegalArgumentException("At least one threshold is required.");
+    }
+    this.thresholds = thresholds.clone();
+    this.resultType = resultType;
+    for (ConfusionMatrixEnum condition : ConfusionMatrixEnum.values()) {
+      variables.put(
+          condition,
+          getTF()
+              .withName(getVariableName(condition.getVariableName()))
+              .variable(Shape.of(thresholds.length), resultType));
+    }
+  }
+
+  /**
+   * Accumulates the conditions of the predictions at each threshold.
+   *
+   * @param labels the labels, a label is considered positive if it is not zero
+   * @param predictions the predictions, in the range <code>[0, 1]</code>
+   * @param sampleWeights sample weights to be applied to values, may be null.
+   * @return a List of Operations to update the metric state
+   */
+  @Override
+  public List<Op> updateStateList(
+      Operand<? extends TNumber> labels,
+      Operand<? extends TNumber> predictions,
+      Operand<? extends TNumber> sampleWeights) {
+    return MetricsHelper.updateConfusionMatrixVariables(
+        getTF(), variables, labels, predictions, thresholds, sampleWeights);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Op resetStates() {
+    Ops tf = getTF();
+    List<Op> controls = new ArrayList<>();
+    Operand<T> zeros = tf.zeros(tf.constant(new long[] {thresholds.length}), resultType);
+    for (Variable<T> variable : variables.values()) {
+      controls.add(tf.assign(variable, zeros));
+    }
+    return tf.withControlDependencies(controls).noOp();
+  }
+
+  /**
+   * Gets the thresholds
+   *
+   * @return a copy of the thresholds
+   */
+  public float[] getThresholds() {
+    return thresholds.clone();
+  }
+
+  /**
+   * Gets the number of thresholds
+   *
+   * @return the number of thresholds
+   */
+  public int getNumThresholds() {
+    return thresholds.length;
+  }
+
+  /**
+   * Gets the variables accumulating each condition
+   *
+   * @return the variables, by condition
+   */
+  public Map<ConfusionMatrixEnum, Variable<T>> getVariables() {
+    return Collections.unmodifiableMap(variables);
+  }
+
+  /**
+   * Gets the true positives variable
+   *
+   * @return the true positives variable
+   */
+  public Variable<T> getTruePositives() {
+    return variables.get(ConfusionMatrixEnum.TRUE_POSITIVES);
+  }
+
+  /**
+   * Gets the false positives variable
+   *
+   * @return the false positives variable
+   */
+  public Variable<T> getFalsePositives() {
+    return variables.get(ConfusionMatrixEnum.FALSE_POSITIVES);
+  }
+
+  /**
+   * Gets the true negatives variable
+   *
+   * @return the true negatives variable
+   */
+  public Variable<T> getTrueNegatives() {
+    return variables.get(ConfusionMatrixEnum.TRUE_NEGATIVES);
+  }
+
+  /**
+   * Gets the false negatives variable
+   *
+   * @return the false negatives variable
+   */
+  public Variable<T> getFalseNegatives() {
+    return variables.get(ConfusionMatrixEnum.FALSE_NEGATIVES);
+  }
+
+  /**
+   * Gets the type for the variables
+   *
+   * @return the type for the variables
+   */
+  public Class<T> getResultType() {
+    return resultType;
+  }
+}
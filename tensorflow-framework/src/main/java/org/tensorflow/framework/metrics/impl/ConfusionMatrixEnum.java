@@ -0,0 +1,42 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics.impl;
+
+/** The conditions counted, at each threshold, by metrics based on a confusion matrix. */
+public enum ConfusionMatrixEnum {
+  /** True positives */
+  TRUE_POSITIVES("truePositives"),
+  /** False positives */
+  FALSE_POSITIVES("falsePositives"),
+  /** True negatives */
+  TRUE_NEGATIVES("trueNegatives"),
+  /** False negatives */
+  FALSE_NEGATIVES("falseNegatives");
+
+  private final String variableName;
+
+  ConfusionMatrixEnum(String variableName) {
+    this.variableName = variableName;
+  }
+
+  /**
+   * Gets the base name of the variable accumulating this condition
+   *
+   * @return the base name of the variable
+   */
+  public String getVariableName() {
+    return variableName;
+  }
+}
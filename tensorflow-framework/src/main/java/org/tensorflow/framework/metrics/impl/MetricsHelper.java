@@ -19,16 +19,20 @@ import org.tensorflow.framework.metrics.exceptions.NotBroadcastableException;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Op;
 import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Variable;
 import org.tensorflow.op.math.Mean;
 import org.tensorflow.types.TBool;
+import org.tensorflow.types.TFloat32;
 import org.tensorflow.types.TFloat64;
 import org.tensorflow.types.TInt32;
 import org.tensorflow.types.family.TIntegral;
 import org.tensorflow.types.family.TNumber;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.tensorflow.framework.losses.impl.LossesHelper.allAxes;
 import static org.tensorflow.framework.utils.CastHelper.cast;
@@ -39,6 +43,7 @@ import static org.tensorflow.framework.utils.CastHelper.cast;
  */
 public class MetricsHelper {
   public static final float NEG_INF = -1e10f;
+  public static final float EPSILON = 1e-7f;
   private static final String ASSERT_BROADCAST_ERROR_PREFIX =
       "weights can not be broadcast to values.";
 
@@ -212,6 +217,100 @@ public class MetricsHelper {
     return ctf.math.mul(weights, tf.onesLike(values));
   }
 
+  /**
+   * Builds a list of thresholds evenly distributed between 0 and 1.
+   *
+   * <p>The first and last thresholds are slightly beyond 0 and 1 respectively, so that predictions
+   * of exactly 0 and 1 are correctly bucketed.
+   *
+   * @param numThresholds the number of thresholds, must be greater than 1
+   * @return the thresholds, in ascending order
+   * @throws IllegalArgumentException if <code>numThresholds</code> is less than 2
+   */
+  public static float[] buildThresholds(int numThresholds) {
+    if (numThresholds < 2) {
+      throw new IllegalArgumentException("numThresholds must be > 1.");
+    }
+    float[] thresholds = new float[numThresholds];
+    thresholds[0] = -EPSILON;
+    for (int i = 1; i < numThresholds - 1; i++) {
+      thresholds[i] = (float) i / (numThresholds - 1);
+    }
+    thresholds[numThresholds - 1] = 1.0f + EPSILON;
+    return thresholds;
+  }
+
+  /**
+   * Creates the operations that accumulate, for each threshold, the true positives, false
+   * positives, true negatives and false negatives of a set of predictions.
+   *
+   * <p>A prediction is considered positive at a given threshold if it is strictly greater than
+   * that threshold. A label is considered positive if it is not zero. The counts are computed in a
+   * single pass by broadcasting the predictions against all thresholds, and are added to the
+   * variables, which must have a shape of <code>[thresholds.length]</code>.
+   *
+   * @param tf the TensorFlow Ops
+   * @param variables the variables to update, only the conditions present in this map are computed
+   * @param labels the labels, of any shape
+   * @param predictions the predictions, in the range <code>[0, 1]</code> and of the same shape as
+   *     <code>labels</code>
+   * @param thresholds the thresholds
+   * @param sampleWeights optional weights broadcastable to the predictions, may be null
+   * @param <T> the data type of the variables
+   * @return the update operations
+   */
+  public static <T extends TNumber> List<Op> updateConfusionMatrixVariables(
+      Ops tf,
+      Map<ConfusionMatrixEnum, Variable<T>> variables,
+      Operand<? extends TNumber> labels,
+      Operand<? extends TNumber> predictions,
+      float[] thresholds,
+      Operand<? extends TNumber> sampleWeights) {
+    tf = tf.withSubScope("updateConfusionMatrixVariables");
+    Operand<TInt32> flatShape = tf.constant(new int[] {1, -1});
+    Operand<TFloat32> flatPredictions =
+        tf.reshape(cast(tf, predictions, TFloat32.class), flatShape);
+    Operand<TBool> labelIsPos = tf.reshape(cast(tf, labels, TBool.class), flatShape);
+    Operand<TBool> labelIsNeg = tf.math.logicalNot(labelIsPos);
+    Operand<TFloat32> thresholdsColumn =
+        tf.reshape(tf.constant(thresholds), tf.constant(new int[] {thresholds.length, 1}));
+    // [thresholds.length, numPredictions]
+    Operand<TBool> predIsPos = tf.math.greater(flatPredictions, thresholdsColumn);
+    Operand<TBool> predIsNeg = tf.math.logicalNot(predIsPos);
+
+    List<Op> updateOperations = new ArrayList<>();
+    for (Map.Entry<ConfusionMatrixEnum, Variable<T>> entry : variables.entrySet()) {
+      Variable<T> variable = entry.getValue();
+      Class<T> type = variable.type();
+      Operand<TBool> condition;
+      switch (entry.getKey()) {
+        case TRUE_POSITIVES:
+          condition = tf.math.logicalAnd(labelIsPos, predIsPos);
+          break;
+        case FALSE_POSITIVES:
+          condition = tf.math.logicalAnd(labelIsNeg, predIsPos);
+          break;
+        case TRUE_NEGATIVES:
+          condition = tf.math.logicalAnd(labelIsNeg, predIsNeg);
+          break;
+        case FALSE_NEGATIVES:
+          condition = tf.math.logicalAnd(labelIsPos, predIsNeg);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown condition " + entry.getKey());
+      }
+      Operand<T> counts = cast(tf, condition, type);
+      if (sampleWeights != null) {
+        Operand<T> weights =
+            broadcastWeights(tf, cast(tf, sampleWeights, type), cast(tf, predictions, type));
+        counts = tf.math.mul(counts, tf.reshape(weights, flatShape));
+      }
+      updateOperations.add(
+          tf.assignAdd(variable, tf.reduceSum(counts, tf.constant(1))));
+    }
+    return updateOperations;
+  }
+
   // aliases for mean
 
   /**
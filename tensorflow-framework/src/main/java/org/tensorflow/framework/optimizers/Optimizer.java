@@ -16,8 +16,8 @@
 package org.tensorflow.framework.optimizers;
 
 import org.tensorflow.Graph;
+import org.tensorflow.GraphOperation;
 import org.tensorflow.Operand;
-import org.tensorflow.Operation;
 import org.tensorflow.Output;
 import org.tensorflow.op.Op;
 import org.tensorflow.op.Ops;
@@ -34,6 +34,7 @@ import java.util.stream.Collectors;
 public abstract class Optimizer {
 
   public static final String VARIABLE_V2 = "VariableV2";
+  private static final String VAR_HANDLE_OP = "VarHandleOp";
   /** Global state variables */
   // TODO make this be used.
   protected final List<Variable<?>> globals;
@@ -117,29 +118,47 @@ public abstract class Optimizer {
   /**
    * Computes the gradients based on a loss operand.
    *
+   * <p>Only the variables that the loss depends on are differentiated, which are looked up from
+   * the {@link Graph#variables() variable index} of the graph and restricted to the {@link
+   * Graph#subgraphTo(Set) subgraph} leading to the loss. Resource variables ({@code VarHandleOp})
+   * are not supported, as the updates applied by this optimizer require reference variables: they
+   * are left untouched if the loss also depends on reference variables, otherwise an exception is
+   * thrown since there would be nothing to minimize.
+   *
    * @param loss the loss operation
    * @param <T> the data type of the loss, gradients and variables.
    * @return the computed gradients
+   * @throws IllegalArgumentException if the loss only depends on resource variables
    */
   public <T extends TType> List<GradAndVar<?>> computeGradients(Operand<?> loss) {
-    List<Operation> variables = new ArrayList<>();
-    graph
-        .operations()
-        .forEachRemaining(
-            (Operation op) -> {
-              if (op.type().equals(VARIABLE_V2)) {
-                variables.add(op);
-              }
-            });
-
-    Output<?>[] variableOutputArray = new Output[variables.size()];
-    for (int i = 0; i < variables.size(); i++) {
-      // First output of a variable is it's output.
-      variableOutputArray[i] = variables.get(i).output(0);
+    Set<GraphOperation> lossSubgraph = graph.subgraphTo(Collections.singleton(loss));
+    List<Output<?>> variableOutputs = new ArrayList<>();
+    List<String> resourceVariables = new ArrayList<>();
+    for (GraphOperation variable : graph.variables()) {
+      if (!lossSubgraph.contains(variable)) {
+        continue;
+      }
+      if (variable.type().equals(VARIABLE_V2)) {
+        // First output of a variable is it's output.
+        variableOutputs.add(variable.output(0));
+      } else if (variable.type().equals(VAR_HANDLE_OP)) {
+        resourceVariables.add(variable.name());
+      }
+    }
+    List<GradAndVar<? extends TType>> gradVarPairs = new ArrayList<>();
+    if (variableOutputs.isEmpty()) {
+      if (!resourceVariables.isEmpty()) {
+        throw new IllegalArgumentException(
+            "Loss only depends on resource variables, which cannot be updated by "
+                + getOptimizerName()
+                + ": "
+                + resourceVariables);
+      }
+      return gradVarPairs;
     }
 
+    Output<?>[] variableOutputArray = variableOutputs.toArray(new Output<?>[0]);
     Output<?>[] gradients = graph.addGradients(loss.asOutput(), variableOutputArray);
-    List<GradAndVar<? extends TType>> gradVarPairs = new ArrayList<>();
 
     for (int i = 0; i < variableOutputArray.length; i++) {
       @SuppressWarnings("unchecked")
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.summary;
+
+import java.util.Arrays;
+import org.tensorflow.proto.framework.HistogramProto;
+
+/**
+ * Builds {@link HistogramProto histograms} the same way TensorFlow does for its histogram
+ * summaries.
+ *
+ * <p>Values are counted in exponentially growing buckets, mirrored around zero, so TensorBoard
+ * renders them like histograms written by the {@code HistogramSummary} op. Consecutive empty
+ * buckets are collapsed into a single one.
+ */
+final class Histograms {
+
+  /**
+   * Builds the histogram of a set of values.
+   *
+   * @param values values to count, non-finite values included
+   * @return the histogram
+   */
+  static HistogramProto of(double[] values) {
+    double[] counts = new double[BUCKET_LIMITS.length];
+    double min = Double.MAX_VALUE;
+    double max = -Double.MAX_VALUE;
+    double sum = 0.0;
+    double sumSquares = 0.0;
+    for (double value : values) {
+      int bucket = Arrays.binarySearch(BUCKET_LIMITS, value);
+      // Limits are exclusive: a value equal to a limit belongs to the next bucket
+      bucket = bucket >= 0 ? bucket + 1 : -bucket - 1;
+      counts[Math.min(bucket, counts.length - 1)] += 1.0;
+      min = Math.min(min, value);
+      max = Math.max(max, value);
+      sum += value;
+      sumSquares += value * value;
+    }
+    HistogramProto.Builder histogram = HistogramProto.newBuilder()
+        .setMin(min)
+        .setMax(max)
+        .setNum(values.length)
+        .setSum(sum)
+        .setSumSquares(sumSquares);
+    for (int i = 0; i < counts.length; ) {
+      double limit = BUCKET_LIMITS[i];
+      double count = counts[i++];
+      if (count <= 0.0) {
+        while (i < counts.length && counts[i] <= 0.0) {
+          limit = BUCKET_LIMITS[i];
+          count = counts[i++];
+        }
+      }
+      histogram.addBucketLimit(limit).addBucket(count);
+    }
+    return histogram.build();
+  }
+
+  /** Upper limits of the buckets, identical to those of {@code tensorflow::histogram::Histogram} */
+  private static final double[] BUCKET_LIMITS = defaultBucketLimits();
+
+  private static double[] defaultBucketLimits() {
+    double[] positive = new double[1000];
+    int n = 0;
+    for (double limit = 1.0e-12; limit < 1.0e20; limit *= 1.1) {
+      positive[n++] = limit;
+    }
+    double[] limits = new double[2 * n + 3];
+    limits[0] = -Double.MAX_VALUE;
+    for (int i = 0; i < n; ++i) {
+      limits[1 + i] = -positive[n - i - 1];
+      limits[n + 2 + i] = positive[i];
+    }
+    limits[n + 1] = 0.0;
+    limits[2 * n + 2] = Double.MAX_VALUE;
+    return limits;
+  }
+
+  private Histograms() {}
+}
@@ -0,0 +1,518 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.summary;
+
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.tensorflow.framework.data.tfrecord.TFRecordWriter;
+import org.tensorflow.ndarray.FloatNdArray;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.proto.framework.Summary;
+import org.tensorflow.proto.util.Event;
+
+/**
+ * Writes summaries to an event file that can be visualized with TensorBoard, without running any
+ * TensorFlow operation.
+ *
+ * <p>Summaries are queued in memory by the calling thread and written to the file by a background
+ * thread, so recording them does not slow down the training loop. The queue is bounded: when it is
+ * full, a new summary is handled according to the {@link DropPolicy} of the writer. Events are
+ * flushed to disk regularly, when the queue is drained, when {@link #flush()} is called and when
+ * the writer is closed.
+ *
+ * <pre>{@code
+ * try (SummaryWriter writer = SummaryWriter.create(logDir)) {
+ *   for (long step = 0; step < numSteps; ++step) {
+ *     ...
+ *     writer.scalar("loss", loss, step);
+ *     writer.histogram("weights", weights, step);
+ *   }
+ * }
+ * }</pre>
+ *
+ * <p>Instances of this class are thread-safe.
+ */
+public final class SummaryWriter implements AutoCloseable {
+
+  /**
+   * Defines what happens to a summary recorded while the queue of the writer is full.
+   */
+  public enum DropPolicy {
+
+    /** The new summary is dropped */
+    DROP_NEWEST,
+
+    /** The oldest queued summary is dropped to make room for the new one */
+    DROP_OLDEST,
+
+    /** The calling thread waits until there is room for the new summary */
+    BLOCK
+  }
+
+  /**
+   * Builds a {@link SummaryWriter}.
+   */
+  public static final class Builder {
+
+    /**
+     * Sets the maximum number of summaries waiting to be written. Default is 1024.
+     *
+     * @param queueCapacity capacity of the queue, must be positive
+     * @return this builder
+     */
+    public Builder queueCapacity(int queueCapacity) {
+      if (queueCapacity <= 0) {
+        throw new IllegalArgumentException("Queue capacity must be positive, got " + queueCapacity);
+      }
+      this.queueCapacity = queueCapacity;
+      return this;
+    }
+
+    /**
+     * Sets the maximum time between two flushes of the event file. Default is 2 minutes, like in
+     * Python.
+     *
+     * @param flushIntervalMillis flush interval in milliseconds, must be positive
+     * @return this builder
+     */
+    public Builder flushIntervalMillis(long flushIntervalMillis) {
+      if (flushIntervalMillis <= 0) {
+        throw new IllegalArgumentException("Flush interval must be positive, got " + flushIntervalMillis);
+      }
+      this.flushIntervalMillis = flushIntervalMillis;
+      return this;
+    }
+
+    /**
+     * Sets the policy to apply when a summary is recorded while the queue is full. Default is
+     * {@link DropPolicy#DROP_NEWEST}.
+     *
+     * @param dropPolicy policy to apply
+     * @return this builder
+     */
+    public Builder dropPolicy(DropPolicy dropPolicy) {
+      this.dropPolicy = dropPolicy;
+      return this;
+    }
+
+    /**
+     * Sets the suffix appended to the name of the event file. Default is none.
+     *
+     * @param filenameSuffix suffix of the file name
+     * @return this builder
+     */
+    public Builder filenameSuffix(String filenameSuffix) {
+      this.filenameSuffix = filenameSuffix;
+      return this;
+    }
+
+    /**
+     * Creates the event file and starts the writer.
+     *
+     * @return the writer
+     * @throws IOException if the log directory or the event file cannot be created
+     */
+    public SummaryWriter build() throws IOException {
+      return new SummaryWriter(this);
+    }
+
+    private final Path logDir;
+    private int queueCapacity = 1024;
+    private long flushIntervalMillis = 120_000L;
+    private DropPolicy dropPolicy = DropPolicy.DROP_NEWEST;
+    private String filenameSuffix = "";
+
+    private Builder(Path logDir) {
+      this.logDir = logDir;
+    }
+  }
+
+  /**
+   * Returns a new builder for creating a writer of events in a log directory.
+   *
+   * @param logDir directory of the event file, created if it does not exist
+   */
+  public static Builder builder(Path logDir) {
+    return new Builder(logDir);
+  }
+
+  /**
+   * Creates a writer of events in a log directory, with default options.
+   *
+   * @param logDir directory of the event file, created if it does not exist
+   * @return the writer
+   * @throws IOException if the log directory or the event file cannot be created
+   */
+  public static SummaryWriter create(Path logDir) throws IOException {
+    return builder(logDir).build();
+  }
+
+  /**
+   * Records a scalar value.
+   *
+   * @param tag name of the summary
+   * @param value value at this step
+   * @param step global step
+   * @return true if the summary was queued, false if it was dropped
+   * @throws IllegalStateException if this writer is closed
+   */
+  public boolean scalar(String tag, float value, long step) {
+    double wallTime = wallTime();
+    return enqueue(() -> event(wallTime, step, Summary.Value.newBuilder()
+        .setTag(tag)
+        .setSimpleValue(value)));
+  }
+
+  /**
+   * Records the histogram of a set of values.
+   *
+   * <p>Values are copied, and the histogram is computed by the background thread.
+   *
+   * @param tag name of the summary
+   * @param values values at this step
+   * @param step global step
+   * @return true if the summary was queued, false if it was dropped
+   * @throws IllegalStateException if this writer is closed
+   */
+  public boolean histogram(String tag, double[] values, long step) {
+    double wallTime = wallTime();
+    double[] copy = values.clone();
+    return enqueue(() -> event(wallTime, step, Summary.Value.newBuilder()
+        .setTag(tag)
+        .setHisto(Histograms.of(copy))));
+  }
+
+  /**
+   * Records the histogram of a set of values.
+   *
+   * <p>Values are copied, and the histogram is computed by the background thread.
+   *
+   * @param tag name of the summary
+   * @param values values at this step
+   * @param step global step
+   * @return true if the summary was queued, false if it was dropped
+   * @throws IllegalStateException if this writer is closed
+   */
+  public boolean histogram(String tag, float[] values, long step) {
+    double wallTime = wallTime();
+    float[] copy = values.clone();
+    return enqueue(() -> event(wallTime, step, Summary.Value.newBuilder()
+        .setTag(tag)
+        .setHisto(Histograms.of(toDoubles(copy)))));
+  }
+
+  /**
+   * Records the histogram of the values of an array, like a {@code TFloat32} tensor.
+   *
+   * <p>Values are copied, and the histogram is computed by the background thread.
+   *
+   * @param tag name of the summary
+   * @param values values at this step
+   * @param step global step
+   * @return true if the summary was queued, false if it was dropped
+   * @throws IllegalArgumentException if the array has too many values
+   * @throws IllegalStateException if this writer is closed
+   */
+  public boolean histogram(String tag, FloatNdArray values, long step) {
+    if (values.size() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("Too many values for histogram \"" + tag + "\"");
+    }
+    float[] copy = new float[(int) values.size()];
+    values.read(DataBuffers.of(copy, false, false));
+    return histogram(tag, copy, step);
+  }
+
+  /**
+   * Records an image.
+   *
+   * @param tag name of the summary
+   * @param encodedImage image encoded in PNG, JPEG or GIF
+   * @param height height of the image, in pixels
+   * @param width width of the image, in pixels
+   * @param channels number of channels of the image: 1 for grayscale, 3 for RGB and 4 for RGBA
+   * @param step global step
+   * @return true if the summary was queued, false if it was dropped
+   * @throws IllegalStateException if this writer is closed
+   */
+  public boolean image(String tag, byte[] encodedImage, int height, int width, int channels, long step) {
+    double wallTime = wallTime();
+    ByteString image = ByteString.copyFrom(encodedImage);
+    return enqueue(() -> event(wallTime, step, Summary.Value.newBuilder()
+        .setTag(tag)
+        .setImage(Summary.Image.newBuilder()
+            .setHeight(height)
+            .setWidth(width)
+            .setColorspace(channels)
+            .setEncodedImageString(image))));
+  }
+
+  /**
+   * Waits until all summaries recorded so far have been written and flushed to the event file.
+   *
+   * @throws IOException if the events cannot be written
+   * @throws InterruptedException if the calling thread is interrupted while waiting
+   */
+  public void flush() throws IOException, InterruptedException {
+    synchronized (this) {
+      long target = numQueued;
+      flushRequested = true;
+      notifyAll();
+      while (numFlushed < target && failure == null && writerThread.isAlive()) {
+        wait();
+      }
+    }
+    throwIfFailed();
+  }
+
+  /**
+   * Writes all pending summaries and closes the event file.
+   *
+   * <p>Summaries cannot be recorded once the writer is closed.
+   *
+   * @throws IOException if the events cannot be written or the file cannot be closed
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (this) {
+      closed = true;
+      notifyAll();
+    }
+    boolean interrupted = false;
+    while (writerThread.isAlive()) {
+      try {
+        writerThread.join();
+      } catch (InterruptedException e) {
+        interrupted = true;
+      }
+    }
+    if (interrupted) {
+      Thread.currentThread().interrupt();
+    }
+    throwIfFailed();
+  }
+
+  /**
+   * Returns the event file of this writer.
+   */
+  public Path file() {
+    return file;
+  }
+
+  /**
+   * Returns the number of summaries dropped so far, because the queue was full or the writer failed.
+   */
+  public synchronized long droppedSummaries() {
+    return numDropped;
+  }
+
+  private static final String FILE_VERSION = "brain.Event:2";
+
+  private final Path file;
+  private final TFRecordWriter writer;
+  private final int queueCapacity;
+  private final long flushIntervalMillis;
+  private final DropPolicy dropPolicy;
+  private final Thread writerThread;
+
+  // All fields below are guarded by this
+  private final ArrayDeque<Supplier<Event>> queue = new ArrayDeque<>();
+  private long numQueued = 0;  // minus the ones dropped while queued
+  private long numFlushed = 0;
+  private long numDropped = 0;
+  private boolean flushRequested = false;
+  private boolean closed = false;
+  private IOException failure = null;
+
+  private SummaryWriter(Builder builder) throws IOException {
+    Files.createDirectories(builder.logDir);
+    long now = System.currentTimeMillis();
+    file = builder.logDir.resolve(
+        "events.out.tfevents." + (now / 1000) + "." + hostname() + builder.filenameSuffix);
+    writer = TFRecordWriter.create(file);
+    queueCapacity = builder.queueCapacity;
+    flushIntervalMillis = builder.flushIntervalMillis;
+    dropPolicy = builder.dropPolicy;
+    try {
+      writer.write(Event.newBuilder().setWallTime(now / 1000.0).setFileVersion(FILE_VERSION).build().toByteArray());
+      writer.flush();
+    } catch (IOException e) {
+      writer.close();
+      throw e;
+    }
+    writerThread = new Thread(this::writeEvents, "summary-writer-" + file.getFileName());
+    writerThread.setDaemon(true);
+    writerThread.start();
+  }
+
+  private boolean enqueue(Supplier<Event> event) {
+    synchronized (this) {
+      if (closed) {
+        throw new IllegalStateException("Summary writer is closed");
+      }
+      if (failure != null) {
+        ++numDropped;
+        return false;
+      }
+      while (queue.size() >= queueCapacity) {
+        switch (dropPolicy) {
+          case DROP_NEWEST:
+            ++numDropped;
+            return false;
+          case DROP_OLDEST:
+            queue.removeFirst();
+            --numQueued;
+            ++numDropped;
+            break;
+          case BLOCK:
+            try {
+              wait();
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+              ++numDropped;
+              return false;
+            }
+            if (closed) {
+              throw new IllegalStateException("Summary writer is closed");
+            }
+            if (failure != null) {
+              ++numDropped;
+              return false;
+            }
+            break;
+        }
+      }
+      queue.addLast(event);
+      ++numQueued;
+      if (queue.size() == 1) {
+        notifyAll();
+      }
+      return true;
+    }
+  }
+
+  private void writeEvents() {
+    List<Supplier<Event>> batch = new ArrayList<>();
+    long numWritten = 0;
+    long lastFlushMillis = System.currentTimeMillis();
+    try {
+      while (true) {
+        boolean flushNow;
+        synchronized (this) {
+          long waitMillis;
+          while (queue.isEmpty() && !closed && !flushRequested
+              && (waitMillis = lastFlushMillis + flushIntervalMillis - System.currentTimeMillis()) > 0) {
+            wait(waitMillis);
+          }
+          if (queue.isEmpty() && closed) {
+            break;
+          }
+          batch.addAll(queue);
+          queue.clear();
+          flushRequested = false;
+          notifyAll();  // wakes up producers blocked on a full queue
+        }
+        for (Supplier<Event> event : batch) {
+          writer.write(event.get().toByteArray());
+        }
+        numWritten += batch.size();
+        batch.clear();
+
+        synchronized (this) {
+          flushNow = queue.isEmpty() || System.currentTimeMillis() - lastFlushMillis >= flushIntervalMillis;
+        }
+        if (flushNow) {
+          writer.flush();
+          lastFlushMillis = System.currentTimeMillis();
+          synchronized (this) {
+            numFlushed = numWritten;
+            notifyAll();
+          }
+        }
+      }
+      writer.close();
+      synchronized (this) {
+        numFlushed = numWritten;
+        notifyAll();
+      }
+    } catch (IOException e) {
+      fail(e);
+    } catch (InterruptedException e) {
+      fail(new IOException("Summary writer has been interrupted", e));
+    } catch (RuntimeException e) {
+      fail(new IOException("Failed to build summary event", e));
+    }
+  }
+
+  private void fail(IOException e) {
+    try {
+      writer.close();
+    } catch (IOException suppressed) {
+      e.addSuppressed(suppressed);
+    }
+    synchronized (this) {
+      failure = e;
+      numDropped += queue.size();
+      queue.clear();
+      notifyAll();
+    }
+  }
+
+  private void throwIfFailed() throws IOException {
+    IOException e;
+    synchronized (this) {
+      e = failure;
+    }
+    if (e != null) {
+      throw new IOException("Failed to write summaries to " + file, e);
+    }
+  }
+
+  private static Event event(double wallTime, long step, Summary.Value.Builder value) {
+    return Event.newBuilder()
+        .setWallTime(wallTime)
+        .setStep(step)
+        .setSummary(Summary.newBuilder().addValue(value))
+        .build();
+  }
+
+  private static double wallTime() {
+    return System.currentTimeMillis() / 1000.0;
+  }
+
+  private static double[] toDoubles(float[] values) {
+    double[] doubles = new double[values.length];
+    for (int i = 0; i < values.length; ++i) {
+      doubles[i] = values[i];
+    }
+    return doubles;
+  }
+
+  private static String hostname() {
+    try {
+      return InetAddress.getLocalHost().getHostName();
+    } catch (UnknownHostException e) {
+      return "localhost";
+    }
+  }
+}
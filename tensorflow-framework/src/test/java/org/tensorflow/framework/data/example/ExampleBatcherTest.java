@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.example;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.Tensor;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.types.TFloat32;
+import org.tensorflow.types.TInt64;
+import org.tensorflow.types.TString;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.tensorflow.framework.data.example.ExampleParserTest.bytes;
+import static org.tensorflow.framework.data.example.ExampleParserTest.example;
+import static org.tensorflow.framework.data.example.ExampleParserTest.floats;
+import static org.tensorflow.framework.data.example.ExampleParserTest.longs;
+import static org.tensorflow.framework.data.example.ExampleParserTest.serialize;
+import static org.tensorflow.framework.data.example.ExampleParserTest.strings;
+
+public class ExampleBatcherTest {
+
+  private static final ExampleSchema SCHEMA = ExampleSchema.builder()
+      .floatFeature("weights", Shape.of(2))
+      .int64Feature("id", Shape.scalar())
+      .stringFeature("name", Shape.scalar(), bytes("unknown"))
+      .build();
+
+  @Test
+  public void batchExamples() {
+    // Large enough to be parsed concurrently
+    int batchSize = 1000;
+    List<ByteBuffer> examples = new ArrayList<>();
+    for (int i = 0; i < batchSize; ++i) {
+      if (i % 2 == 0) {
+        examples.add(serialize(example(
+            "weights", floats(i, -i),
+            "id", longs(i),
+            "name", strings("example" + i))));
+      } else {
+        examples.add(serialize(example("weights", floats(i, -i), "id", longs(i))));
+      }
+    }
+    Map<String, Tensor> batch = new ExampleBatcher(SCHEMA).batch(examples);
+    try {
+      assertEquals(Arrays.asList("weights", "id", "name"), new ArrayList<>(batch.keySet()));
+
+      TFloat32 weights = (TFloat32) batch.get("weights");
+      assertEquals(Shape.of(batchSize, 2), weights.shape());
+      assertEquals(999.0f, weights.getFloat(999, 0), 0.0f);
+      assertEquals(-999.0f, weights.getFloat(999, 1), 0.0f);
+
+      TInt64 ids = (TInt64) batch.get("id");
+      assertEquals(Shape.of(batchSize), ids.shape());
+      for (int i = 0; i < batchSize; ++i) {
+        assertEquals(i, ids.getLong(i));
+      }
+
+      TString names = (TString) batch.get("name");
+      assertEquals("example10", names.getObject(10));
+      assertArrayEquals(bytes("unknown"), names.asBytes().getObject(11));
+    } finally {
+      batch.values().forEach(Tensor::close);
+    }
+  }
+
+  @Test
+  public void rejectInvalidBatch() {
+    List<ByteBuffer> examples = Arrays.asList(
+        serialize(example("weights", floats(1.0f, 2.0f), "id", longs(1L))),
+        serialize(example("weights", floats(1.0f), "id", longs(2L))));
+    assertThrows(IllegalArgumentException.class, () -> new ExampleBatcher(SCHEMA).batch(examples));
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.example;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedOutputStream;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.ndarray.buffer.DataBuffers;
+import org.tensorflow.ndarray.buffer.FloatDataBuffer;
+import org.tensorflow.ndarray.buffer.LongDataBuffer;
+import org.tensorflow.proto.example.BytesList;
+import org.tensorflow.proto.example.Example;
+import org.tensorflow.proto.example.Feature;
+import org.tensorflow.proto.example.Features;
+import org.tensorflow.proto.example.FloatList;
+import org.tensorflow.proto.example.Int64List;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ExampleParserTest {
+
+  private static final ExampleSchema SCHEMA = ExampleSchema.builder()
+      .floatFeature("weights", Shape.of(3))
+      .int64Feature("ids", Shape.of(2), -1L)
+      .stringFeature("name", Shape.scalar(), bytes("unknown"))
+      .build();
+
+  @Test
+  public void parseExamples() {
+    Batch batch = new Batch(2);
+    batch.parser.parse(serialize(example(
+        "weights", floats(1.0f, 2.0f, 3.0f),
+        "ids", longs(10L, 20L),
+        "name", strings("first"))), 0);
+    batch.parser.parse(serialize(example(
+        "weights", floats(4.0f, 5.0f, 6.0f),
+        "ids", longs(30L, 40L),
+        "name", strings("second"),
+        "ignored", floats(7.0f))), 1);
+
+    float[] weights = new float[6];
+    batch.floats[0].read(weights);
+    assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f, 4.0f, 5.0f, 6.0f}, weights);
+    long[] ids = new long[4];
+    batch.longs[1].read(ids);
+    assertArrayEquals(new long[] {10L, 20L, 30L, 40L}, ids);
+    assertArrayEquals(bytes("first"), batch.bytes[2][0]);
+    assertArrayEquals(bytes("second"), batch.bytes[2][1]);
+  }
+
+  @Test
+  public void fillMissingFeaturesWithDefaults() {
+    Batch batch = new Batch(1);
+    batch.parser.parse(serialize(example("weights", floats(1.0f, 2.0f, 3.0f))), 0);
+    assertEquals(-1L, batch.longs[1].getLong(0));
+    assertEquals(-1L, batch.longs[1].getLong(1));
+    assertArrayEquals(bytes("unknown"), batch.bytes[2][0]);
+  }
+
+  @Test
+  public void rejectInvalidExamples() {
+    Batch batch = new Batch(1);
+    // missing required feature
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.parser.parse(serialize(example("ids", longs(1L, 2L))), 0));
+    // too few values
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.parser.parse(serialize(example("weights", floats(1.0f, 2.0f))), 0));
+    // too many values
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.parser.parse(serialize(example("weights", floats(1.0f, 2.0f, 3.0f, 4.0f))), 0));
+    // wrong type
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.parser.parse(serialize(example("weights", longs(1L, 2L, 3L))), 0));
+    // not an example
+    assertThrows(IllegalArgumentException.class,
+        () -> batch.parser.parse(ByteBuffer.wrap(new byte[] {10, 100, 1}), 0));
+  }
+
+  @Test
+  public void parseUnpackedValuesAndUnorderedEntries() throws IOException {
+    ByteString floatList = encode(out -> {
+      for (float value : new float[] {1.0f, 2.0f, 3.0f}) {
+        out.writeFloat(1, value); // unpacked encoding
+      }
+    });
+    ByteString feature = encode(out -> out.writeBytes(2, floatList));
+    ByteString entry = encode(out -> {
+      out.writeBytes(2, feature); // value before key
+      out.writeString(1, "weights");
+    });
+    ByteString features = encode(out -> out.writeBytes(1, entry));
+    ByteString example = encode(out -> out.writeBytes(1, features));
+
+    Batch batch = new Batch(1);
+    batch.parser.parse(example.asReadOnlyByteBuffer(), 0);
+    float[] weights = new float[3];
+    batch.floats[0].read(weights);
+    assertArrayEquals(new float[] {1.0f, 2.0f, 3.0f}, weights);
+  }
+
+  private interface Encoder {
+    void encode(CodedOutputStream out) throws IOException;
+  }
+
+  private static ByteString encode(Encoder encoder) throws IOException {
+    ByteString.Output bytes = ByteString.newOutput();
+    CodedOutputStream out = CodedOutputStream.newInstance(bytes);
+    encoder.encode(out);
+    out.flush();
+    return bytes.toByteString();
+  }
+
+  private static final class Batch {
+
+    final FloatDataBuffer[] floats = new FloatDataBuffer[3];
+    final LongDataBuffer[] longs = new LongDataBuffer[3];
+    final byte[][][] bytes = new byte[3][][];
+    final ExampleParser parser;
+
+    Batch(int batchSize) {
+      floats[0] = DataBuffers.ofFloats(3L * batchSize);
+      longs[1] = DataBuffers.ofLongs(2L * batchSize);
+      bytes[2] = new byte[batchSize][];
+      parser = new ExampleParser(SCHEMA, floats, longs, bytes);
+    }
+  }
+
+  static Example example(Object... keysAndFeatures) {
+    Features.Builder features = Features.newBuilder();
+    for (int i = 0; i < keysAndFeatures.length; i += 2) {
+      features.putFeature((String) keysAndFeatures[i], (Feature) keysAndFeatures[i + 1]);
+    }
+    return Example.newBuilder().setFeatures(features).build();
+  }
+
+  static ByteBuffer serialize(Example example) {
+    return ByteBuffer.wrap(example.toByteArray());
+  }
+
+  static Feature floats(float... values) {
+    FloatList.Builder list = FloatList.newBuilder();
+    for (float value : values) {
+      list.addValue(value);
+    }
+    return Feature.newBuilder().setFloatList(list).build();
+  }
+
+  static Feature longs(long... values) {
+    Int64List.Builder list = Int64List.newBuilder();
+    for (long value : values) {
+      list.addValue(value);
+    }
+    return Feature.newBuilder().setInt64List(list).build();
+  }
+
+  static Feature strings(String... values) {
+    BytesList.Builder list = BytesList.newBuilder();
+    for (String value : values) {
+      list.addValue(ByteString.copyFromUtf8(value));
+    }
+    return Feature.newBuilder().setBytesList(list).build();
+  }
+
+  static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.tfrecord;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class Crc32CTest {
+
+  @Test
+  public void computeKnownValues() {
+    assertEquals(0, Crc32C.compute(ByteBuffer.allocate(0)));
+    assertEquals(0xE3069283, Crc32C.compute(bytes("123456789")));
+    // Test vectors from RFC 3720, section B.4
+    assertEquals(0x8A9136AA, Crc32C.compute(ByteBuffer.allocate(32)));
+    byte[] ones = new byte[32];
+    Arrays.fill(ones, (byte) 0xFF);
+    assertEquals(0x62A8AB43, Crc32C.compute(ByteBuffer.wrap(ones)));
+    byte[] ascending = new byte[32];
+    for (int i = 0; i < ascending.length; ++i) {
+      ascending[i] = (byte) i;
+    }
+    assertEquals(0x46DD794E, Crc32C.compute(ByteBuffer.wrap(ascending)));
+  }
+
+  @Test
+  public void computeRemainingBytesOnly() {
+    ByteBuffer buffer = bytes("xx123456789yy");
+    buffer.position(2);
+    buffer.limit(11);
+    assertEquals(0xE3069283, Crc32C.compute(buffer));
+    assertEquals(2, buffer.position());
+    assertEquals(0xE3069283, Crc32C.compute(buffer.slice()));
+  }
+
+  @Test
+  public void maskChecksums() {
+    int crc = Crc32C.compute(bytes("foo"));
+    int masked = Crc32C.mask(crc);
+    assertEquals(crc, Integer.rotateLeft(masked - 0xA282EAD8, 15));
+  }
+
+  private static ByteBuffer bytes(String value) {
+    return ByteBuffer.wrap(value.getBytes(StandardCharsets.US_ASCII));
+  }
+}
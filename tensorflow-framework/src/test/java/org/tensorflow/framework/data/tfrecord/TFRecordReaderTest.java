@@ -0,0 +1,181 @@
+/*
+ * Copyright 2020 The TensorFlow Authors. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.tensorflow.framework.data.tfrecord;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TFRecordReaderTest {
+
+  @Test
+  public void writeAndReadRecords() throws IOException {
+    Path file = Files.createTempFile("tfrecord-test", ".tfrecord");
+    try {
+      List<byte[]> records = new ArrayList<>();
+      records.add(new byte[0]);
+      records.add("hello".getBytes(StandardCharsets.UTF_8));
+      records.add(randomBytes(100_000, 1)); // larger than the writer buffer
+      for (int i = 0; i < 1000; ++i) {
+        records.add(("record " + i).getBytes(StandardCharsets.UTF_8));
+      }
+      try (TFRecordWriter writer = TFRecordWriter.create(file)) {
+        for (byte[] record : records) {
+          writer.write(record);
+        }
+      }
+      try (TFRecordReader reader = TFRecordReader.open(file)) {
+        for (byte[] expected : records) {
+          ByteBuffer record = reader.next();
+          assertTrue(record.isReadOnly());
+          assertEquals(0, record.position());
+          assertArrayEquals(expected, toArray(record));
+        }
+        assertNull(reader.next());
+        assertEquals(Files.size(file), reader.position());
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void readKnownEncoding() throws IOException {
+    Path file = Files.createTempFile("tfrecord-test", ".tfrecord");
+    try {
+      // Record "foo", encoded as specified by the TFRecord format
+      Files.write(file, new byte[] {
+          3, 0, 0, 0, 0, 0, 0, 0,                  // length
+          (byte) 0xB0, (byte) 0x99, 0x49, 0x0E,    // masked crc of length
+          'f', 'o', 'o',                           // data
+          0x61, (byte) 0x8A, (byte) 0xBE, (byte) 0xFE  // masked crc of data
+      });
+      try (TFRecordReader reader = TFRecordReader.open(file)) {
+        assertArrayEquals("foo".getBytes(StandardCharsets.US_ASCII), toArray(reader.next()));
+        assertNull(reader.next());
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void detectCorruptedRecords() throws IOException {
+    Path file = Files.createTempFile("tfrecord-test", ".tfrecord");
+    try {
+      try (TFRecordWriter writer = TFRecordWriter.create(file)) {
+        writer.write("first".getBytes(StandardCharsets.UTF_8));
+        writer.write("second".getBytes(StandardCharsets.UTF_8));
+      }
+      // Flip a byte in the data of the second record
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.write(ByteBuffer.wrap(new byte[] {'S'}), 12 + 5 + 4 + 12);
+      }
+      try (TFRecordReader reader = TFRecordReader.open(file)) {
+        reader.next();
+        assertThrows(IOException.class, reader::next);
+      }
+      try (TFRecordReader reader = TFRecordReader.open(file, false)) {
+        reader.next();
+        assertArrayEquals("Second".getBytes(StandardCharsets.UTF_8), toArray(reader.next()));
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void detectTruncatedRecords() throws IOException {
+    Path file = Files.createTempFile("tfrecord-test", ".tfrecord");
+    try {
+      try (TFRecordWriter writer = TFRecordWriter.create(file)) {
+        writer.write("truncated".getBytes(StandardCharsets.UTF_8));
+      }
+      try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+        channel.truncate(channel.size() - 2);
+      }
+      try (TFRecordReader reader = TFRecordReader.open(file)) {
+        assertThrows(IOException.class, reader::next);
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  @Test
+  public void readShardsInParallel() throws IOException {
+    Path dir = Files.createTempDirectory("tfrecord-test");
+    List<Path> shards = new ArrayList<>();
+    try {
+      for (int s = 0; s < 8; ++s) {
+        Path shard = dir.resolve("data-" + s + "-of-8.tfrecord");
+        try (TFRecordWriter writer = TFRecordWriter.create(shard)) {
+          for (int i = 0; i < 500; ++i) {
+            writer.write((s + ":" + i).getBytes(StandardCharsets.UTF_8));
+          }
+        }
+        shards.add(shard);
+      }
+      Set<String> values = ConcurrentHashMap.newKeySet();
+      try (Stream<ByteBuffer> records = TFRecordReader.records(shards)) {
+        records.parallel().forEach(r -> values.add(StandardCharsets.UTF_8.decode(r).toString()));
+      }
+      assertEquals(8 * 500, values.size());
+      assertTrue(values.contains("7:499"));
+
+      Files.write(shards.get(3), new byte[] {1, 2, 3});
+      try (Stream<ByteBuffer> records = TFRecordReader.records(shards)) {
+        assertThrows(UncheckedIOException.class, records::count);
+      }
+    } finally {
+      for (Path shard : shards) {
+        Files.delete(shard);
+      }
+      Files.delete(dir);
+    }
+  }
+
+  private static byte[] toArray(ByteBuffer buffer) {
+    byte[] array = new byte[buffer.remaining()];
+    buffer.duplicate().get(array);
+    return array;
+  }
+
+  private static byte[] randomBytes(int size, long seed) {
+    byte[] bytes = new byte[size];
+    new Random(seed).nextBytes(bytes);
+    return bytes;
+  }
+}
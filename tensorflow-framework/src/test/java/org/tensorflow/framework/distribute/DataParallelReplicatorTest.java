@@ -0,0 +1,99 @@
+package org.tensorflow.framework.distribute;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.Graph;
+import org.tensorflow.Operand;
+import org.tensorflow.Session;
+import org.tensorflow.framework.optimizers.GradientDescent;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Variable;
+import org.tensorflow.proto.framework.NodeDef;
+import org.tensorflow.types.TFloat32;
+
+/** Test cases for DataParallelReplicator */
+public class DataParallelReplicatorTest {
+
+  private static final float[][] FEATURES = {{1.0f, 2.0f}, {3.0f, 4.0f}, {5.0f, 6.0f}, {7.0f, 8.0f}};
+  private static final float[][] LABELS = {{1.0f}, {2.0f}, {3.0f}, {4.0f}};
+
+  @Test
+  public void replicatedStepMatchesSingleStep() {
+    float[] expected = train(1);
+    float[] replicated = train(2);
+    assertArrayEquals(expected, replicated, 1e-5f);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void replicasArePlacedOnTheirDevice() {
+    try (Graph graph = new Graph()) {
+      Ops tf = Ops.create(graph);
+      DataParallelReplicator replicator =
+          new DataParallelReplicator(graph, DataParallelReplicator.cpuDevices(2));
+      Operand<TFloat32> batch = tf.constant(FEATURES);
+      List<Operand<TFloat32>> losses = replicator.replicate(
+          Collections.singletonList(batch),
+          (rtf, inputs) -> rtf.math.mean((Operand<TFloat32>) inputs.get(0), rtf.constant(0)));
+      assertEquals(2, losses.size());
+      assertEquals("/device:CPU:0", deviceOf(graph, losses.get(0)));
+      assertEquals("/device:CPU:1", deviceOf(graph, losses.get(1)));
+    }
+  }
+
+  @Test
+  public void requiresDevices() {
+    try (Graph graph = new Graph()) {
+      assertThrows(IllegalArgumentException.class,
+          () -> new DataParallelReplicator(graph, Collections.emptyList()));
+    }
+  }
+
+  private static String deviceOf(Graph graph, Operand<?> operand) {
+    for (NodeDef node : graph.toGraphDef().getNodeList()) {
+      if (node.getName().equals(operand.op().name())) {
+        return node.getDevice();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Trains a linear model for one step on the same batch, with a given number of replicas, and
+   * returns the resulting weights.
+   */
+  @SuppressWarnings("unchecked")
+  private static float[] train(int numReplicas) {
+    try (Graph graph = new Graph()) {
+      Ops tf = Ops.create(graph);
+      Variable<TFloat32> weights = tf.withName("weights").variable(tf.constant(new float[][] {{0.5f}, {-0.5f}}));
+      DataParallelReplicator replicator =
+          new DataParallelReplicator(graph, DataParallelReplicator.cpuDevices(numReplicas));
+      List<Operand<TFloat32>> losses = replicator.replicate(
+          Arrays.asList(tf.constant(FEATURES), tf.constant(LABELS)),
+          (rtf, inputs) -> {
+            Operand<TFloat32> predictions = rtf.linalg.matMul((Operand<TFloat32>) inputs.get(0), weights);
+            Operand<TFloat32> errors = rtf.math.squaredDifference(predictions, (Operand<TFloat32>) inputs.get(1));
+            return rtf.math.mean(errors, rtf.constant(new int[] {0, 1}));
+          });
+      Op train = replicator.minimize(new GradientDescent(graph, 0.1f), losses);
+
+      try (Session session = new Session(graph, DataParallelReplicator.virtualCpuConfig(numReplicas))) {
+        session.runInit();
+        session.run(train);
+        try (TFloat32 result = (TFloat32) session.runner().fetch(weights).run().get(0)) {
+          assertEquals(Shape.of(2, 1), result.shape());
+          return new float[] {result.getFloat(0, 0), result.getFloat(1, 0)};
+        }
+      }
+    }
+  }
+}
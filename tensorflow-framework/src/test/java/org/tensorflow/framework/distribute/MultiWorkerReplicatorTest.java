@@ -0,0 +1,118 @@
+package org.tensorflow.framework.distribute;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.Graph;
+import org.tensorflow.Operand;
+import org.tensorflow.Server;
+import org.tensorflow.Session;
+import org.tensorflow.framework.optimizers.GradientDescent;
+import org.tensorflow.op.Op;
+import org.tensorflow.op.Ops;
+import org.tensorflow.op.core.Variable;
+import org.tensorflow.proto.distruntime.ClusterDef;
+import org.tensorflow.types.TFloat32;
+
+/** Test cases for MultiWorkerReplicator */
+public class MultiWorkerReplicatorTest {
+
+  private static final float[][] FEATURES = {{1.0f, 2.0f}, {3.0f, 4.0f}, {5.0f, 6.0f}, {7.0f, 8.0f}};
+  private static final float[][] LABELS = {{1.0f}, {2.0f}, {3.0f}, {4.0f}};
+
+  @Test
+  public void allWorkersApplyAveragedGradients() throws Exception {
+    ClusterDef cluster = MultiWorkerReplicator.localCluster(2);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      List<Future<float[]>> results = new ArrayList<>();
+      for (int task = 0; task < 2; ++task) {
+        int taskIndex = task;
+        results.add(executor.submit(() -> trainWorker(cluster, taskIndex)));
+      }
+      float[] expected = trainLocally();
+      for (Future<float[]> result : results) {
+        assertArrayEquals(expected, result.get(), 1e-5f);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void taskIndexMustBeInCluster() {
+    ClusterDef cluster = MultiWorkerReplicator.cluster(Collections.singletonList("localhost:2222"));
+    try (Graph graph = new Graph()) {
+      assertThrows(IllegalArgumentException.class, () -> new MultiWorkerReplicator(graph, cluster, 1));
+    }
+  }
+
+  @Test
+  public void placesOperationsOnWorkerDevice() {
+    ClusterDef cluster = MultiWorkerReplicator.localCluster(3);
+    try (Graph graph = new Graph()) {
+      MultiWorkerReplicator replicator = new MultiWorkerReplicator(graph, cluster, 2);
+      assertEquals(3, replicator.numWorkers());
+      assertEquals("/job:worker/replica:0/task:2/device:CPU:0", replicator.device().toString());
+    }
+  }
+
+  /**
+   * Trains a worker for one step on its half of the batch, after receiving the initial weights of
+   * the first worker, and returns the resulting weights.
+   */
+  private static float[] trainWorker(ClusterDef cluster, int taskIndex) throws Exception {
+    try (Graph graph = new Graph();
+        Server server = MultiWorkerReplicator.startServer(cluster, taskIndex)) {
+      MultiWorkerReplicator replicator = new MultiWorkerReplicator(graph, cluster, taskIndex);
+      Ops tf = replicator.tf();
+      float[][] initialWeights = taskIndex == 0 ? new float[][] {{0.5f}, {-0.5f}} : new float[][] {{0.0f}, {0.0f}};
+      Variable<TFloat32> weights = tf.withName("weights").variable(tf.constant(initialWeights));
+      Operand<TFloat32> loss = loss(tf, weights,
+          new float[][] {FEATURES[2 * taskIndex], FEATURES[2 * taskIndex + 1]},
+          new float[][] {LABELS[2 * taskIndex], LABELS[2 * taskIndex + 1]});
+      Op train = replicator.minimize(new GradientDescent(graph, 0.1f), loss);
+      Op broadcast = replicator.broadcastVariables();
+
+      try (Session session = replicator.session(server)) {
+        session.runInit();
+        session.run(broadcast);
+        session.run(train);
+        return fetch(session, weights);
+      }
+    }
+  }
+
+  /** Trains a single model for one step on the whole batch and returns the resulting weights. */
+  private static float[] trainLocally() {
+    try (Graph graph = new Graph();
+        Session session = new Session(graph)) {
+      Ops tf = Ops.create(graph);
+      Variable<TFloat32> weights = tf.withName("weights").variable(tf.constant(new float[][] {{0.5f}, {-0.5f}}));
+      Op train = new GradientDescent(graph, 0.1f).minimize(loss(tf, weights, FEATURES, LABELS));
+      session.runInit();
+      session.run(train);
+      return fetch(session, weights);
+    }
+  }
+
+  private static Operand<TFloat32> loss(Ops tf, Operand<TFloat32> weights, float[][] features, float[][] labels) {
+    Operand<TFloat32> predictions = tf.linalg.matMul(tf.constant(features), weights);
+    Operand<TFloat32> errors = tf.math.squaredDifference(predictions, tf.constant(labels));
+    return tf.math.mean(errors, tf.constant(new int[] {0, 1}));
+  }
+
+  private static float[] fetch(Session session, Operand<TFloat32> weights) {
+    try (TFloat32 result = (TFloat32) session.runner().fetch(weights).run().get(0)) {
+      return new float[] {result.getFloat(0, 0), result.getFloat(1, 0)};
+    }
+  }
+}
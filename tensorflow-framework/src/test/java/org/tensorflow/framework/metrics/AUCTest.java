@@ -0,0 +1,105 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.Operand;
+import org.tensorflow.framework.utils.TestSession;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TFloat32;
+import org.tensorflow.types.TInt32;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AUCTest {
+  private final TestSession.Mode tfMode = TestSession.Mode.GRAPH;
+
+  private final int[] trueArray = {0, 0, 1, 1};
+  private final float[] predictionArray = {0f, 0.5f, 0.3f, 0.9f};
+
+  @Test
+  public void testROC() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      AUC<TFloat32> instance = new AUC<>(tf, "AUC_testROC", 3, AUCCurve.ROC, 1001L, TFloat32.class);
+      session.run(instance.resetStates());
+      Operand<TInt32> yTrue = tf.constant(trueArray);
+      Operand<TFloat32> yPrediction = tf.constant(predictionArray);
+      session.run(instance.updateState(yTrue, yPrediction, null));
+      session.evaluate(new float[] {2f, 1f, 0f}, instance.getTruePositives());
+      session.evaluate(new float[] {2f, 0f, 0f}, instance.getFalsePositives());
+      session.evaluate(new float[] {0f, 2f, 2f}, instance.getTrueNegatives());
+      session.evaluate(new float[] {0f, 1f, 2f}, instance.getFalseNegatives());
+      session.evaluate(0.75f, instance.result());
+    }
+  }
+
+  @Test
+  public void testPR() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      AUC<TFloat32> instance = new AUC<>(tf, "AUC_testPR", 3, AUCCurve.PR, 1001L, TFloat32.class);
+      session.run(instance.resetStates());
+      Operand<TInt32> yTrue = tf.constant(trueArray);
+      Operand<TFloat32> yPrediction = tf.constant(predictionArray);
+      session.run(instance.updateState(yTrue, yPrediction, null));
+      session.evaluate(0.625f, instance.result());
+    }
+  }
+
+  @Test
+  public void testWeighted() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      AUC<TFloat32> instance =
+          new AUC<>(tf, "AUC_testWeighted", 3, AUCCurve.ROC, 1001L, TFloat32.class);
+      session.run(instance.resetStates());
+      Operand<TInt32> yTrue = tf.constant(trueArray);
+      Operand<TFloat32> yPrediction = tf.constant(predictionArray);
+      Operand<TFloat32> sampleWeight = tf.constant(new float[] {1f, 2f, 3f, 4f});
+      session.run(instance.updateState(yTrue, yPrediction, sampleWeight));
+      session.evaluate(0.7857143f, instance.result());
+    }
+  }
+
+  @Test
+  public void testAccumulatesBatches() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      AUC<TFloat32> instance =
+          new AUC<>(tf, "AUC_testAccumulatesBatches", 3, AUCCurve.ROC, 1001L, TFloat32.class);
+      session.run(instance.resetStates());
+      session.run(
+          instance.updateState(
+              tf.constant(new int[] {0, 0}), tf.constant(new float[] {0f, 0.5f}), null));
+      session.run(
+          instance.updateState(
+              tf.constant(new int[] {1, 1}), tf.constant(new float[] {0.3f, 0.9f}), null));
+      session.evaluate(0.75f, instance.result());
+      session.run(instance.resetStates());
+      session.evaluate(new float[] {0f, 0f, 0f}, instance.getTruePositives());
+    }
+  }
+
+  @Test
+  public void testInvalidNumThresholds() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> new AUC<>(tf, "AUC_testInvalid", 1, AUCCurve.ROC, 1001L, TFloat32.class));
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.Operand;
+import org.tensorflow.framework.utils.TestSession;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TFloat32;
+import org.tensorflow.types.TInt64;
+
+class ConfusionMatrixTest {
+  private final TestSession.Mode tfMode = TestSession.Mode.GRAPH;
+
+  @Test
+  public void testUnweighted() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      ConfusionMatrix<TFloat32> instance =
+          new ConfusionMatrix<>(tf, "CM_testUnweighted", 3, 1001L, TFloat32.class);
+      session.run(instance.resetStates());
+      Operand<TInt64> yTrue = tf.constant(new long[] {0, 1, 2, 2});
+      Operand<TInt64> yPrediction = tf.constant(new long[] {0, 2, 2, 1});
+      session.run(instance.updateState(yTrue, yPrediction, null));
+      session.evaluate(new float[] {1, 0, 0, 0, 0, 1, 0, 1, 1}, instance.result());
+      session.run(instance.updateState(yTrue, yPrediction, null));
+      session.evaluate(new float[] {2, 0, 0, 0, 0, 2, 0, 2, 2}, instance.result());
+    }
+  }
+
+  @Test
+  public void testWeighted() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      ConfusionMatrix<TFloat32> instance =
+          new ConfusionMatrix<>(tf, "CM_testWeighted", 3, 1001L, TFloat32.class);
+      session.run(instance.resetStates());
+      Operand<TInt64> yTrue = tf.constant(new long[] {0, 1, 2, 2});
+      Operand<TInt64> yPrediction = tf.constant(new long[] {0, 2, 2, 1});
+      Operand<TFloat32> sampleWeight = tf.constant(new float[] {1f, 2f, 3f, 4f});
+      session.run(instance.updateState(yTrue, yPrediction, sampleWeight));
+      session.evaluate(new float[] {1, 0, 0, 0, 0, 2, 0, 4, 3}, instance.result());
+    }
+  }
+}
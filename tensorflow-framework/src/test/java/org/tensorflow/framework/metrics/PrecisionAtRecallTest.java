@@ -0,0 +1,57 @@
+/* Copyright 2020 The TensorFlow Authors. All Rights Reserved.
+
+Licensed under the Apache License, Version 2.0 (the "License");
+you may not use this file except in compliance with the License.
+You may obtain a copy of the License at
+
+    http://www.apache.org/licenses/LICENSE-2.0
+
+Unless required by applicable law or agreed to in writing, software
+distributed under the License is distributed on an "AS IS" BASIS,
+WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+See the License for the specific language governing permissions and
+limitations under the License.
+=======================================================================*/
+package org.tensorflow.framework.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.tensorflow.Operand;
+import org.tensorflow.framework.utils.TestSession;
+import org.tensorflow.op.Ops;
+import org.tensorflow.types.TFloat64;
+import org.tensorflow.types.TInt32;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PrecisionAtRecallTest {
+  private final TestSession.Mode tfMode = TestSession.Mode.GRAPH;
+
+  @Test
+  public void testResult() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      PrecisionAtRecall<TFloat64> lowRecall =
+          new PrecisionAtRecall<>(tf, "PAR_low", 0.5f, 3, 1001L, TFloat64.class);
+      PrecisionAtRecall<TFloat64> highRecall =
+          new PrecisionAtRecall<>(tf, "PAR_high", 0.8f, 3, 1001L, TFloat64.class);
+      session.run(lowRecall.resetStates());
+      session.run(highRecall.resetStates());
+      Operand<TInt32> yTrue = tf.constant(new int[] {0, 0, 1, 1});
+      Operand<TFloat64> yPrediction = tf.constant(new double[] {0, 0.5, 0.3, 0.9});
+      session.run(lowRecall.updateState(yTrue, yPrediction, null));
+      session.run(highRecall.updateState(yTrue, yPrediction, null));
+      session.evaluate(1.0, lowRecall.result());
+      session.evaluate(0.5, highRecall.result());
+    }
+  }
+
+  @Test
+  public void testInvalidRecall() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Ops tf = session.getTF();
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> new PrecisionAtRecall<>(tf, "PAR_invalid", 1.5f, 1001L, TFloat64.class));
+    }
+  }
+}
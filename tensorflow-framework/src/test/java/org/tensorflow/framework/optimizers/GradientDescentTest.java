@@ -2,6 +2,7 @@ package org.tensorflow.framework.optimizers;
 
 import org.junit.jupiter.api.*;
 import org.tensorflow.Graph;
+import org.tensorflow.Operand;
 import org.tensorflow.framework.utils.TestSession;
 import org.tensorflow.ndarray.Shape;
 import org.tensorflow.op.Op;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /** Test cases for GradientDescent Optimizer */
 public class GradientDescentTest {
@@ -47,6 +49,18 @@ public class GradientDescentTest {
     }
   }
 
+  @Test
+  public void testResourceVariablesOnly() {
+    try (TestSession session = TestSession.createTestSession(tfMode)) {
+      Graph graph = session.getGraph();
+      Ops tf = session.getTF();
+      Operand<?> handle = tf.varHandleOp(TFloat32.class, Shape.scalar());
+      Operand<TFloat32> loss = tf.math.square(tf.readVariableOp(handle, TFloat32.class));
+      GradientDescent instance = new GradientDescent(graph);
+      assertThrows(IllegalArgumentException.class, () -> instance.minimize(loss));
+    }
+  }
+
   @Test
   public void testBasic() {
     float[] var0Init = {1.0F, 2.0F};
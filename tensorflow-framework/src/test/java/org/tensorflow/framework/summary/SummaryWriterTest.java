@@ -0,0 +1,151 @@
+package org.tensorflow.framework.summary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.tensorflow.framework.data.tfrecord.TFRecordReader;
+import org.tensorflow.ndarray.NdArrays;
+import org.tensorflow.ndarray.Shape;
+import org.tensorflow.proto.framework.HistogramProto;
+import org.tensorflow.proto.framework.Summary;
+import org.tensorflow.proto.util.Event;
+
+public class SummaryWriterTest {
+
+  @Test
+  public void writeSummaries() throws Exception {
+    Path logDir = Files.createTempDirectory("summary-test");
+    try {
+      Path file;
+      try (SummaryWriter writer = SummaryWriter.create(logDir)) {
+        file = writer.file();
+        for (int step = 0; step < 100; ++step) {
+          assertTrue(writer.scalar("loss", 1.0f / (step + 1), step));
+        }
+        assertTrue(writer.histogram("weights", new float[] {-1.0f, 0.0f, 0.5f, 2.0f}, 100));
+        assertTrue(writer.histogram("bias", NdArrays.ofFloats(Shape.of(2, 2)), 100));
+        assertTrue(writer.image("image", new byte[] {1, 2, 3}, 1, 1, 3, 100));
+        writer.flush();
+        assertEquals(104, readEvents(file).size());
+      }
+      assertTrue(file.getFileName().toString().startsWith("events.out.tfevents."));
+
+      List<Event> events = readEvents(file);
+      assertEquals(104, events.size());
+      assertEquals("brain.Event:2", events.get(0).getFileVersion());
+      for (int step = 0; step < 100; ++step) {
+        Event event = events.get(step + 1);
+        assertEquals(step, event.getStep());
+        Summary.Value value = event.getSummary().getValue(0);
+        assertEquals("loss", value.getTag());
+        assertEquals(1.0f / (step + 1), value.getSimpleValue());
+      }
+      HistogramProto histogram = events.get(101).getSummary().getValue(0).getHisto();
+      assertEquals(4, histogram.getNum(), 0.0);
+      assertEquals(-1.0, histogram.getMin(), 0.0);
+      assertEquals(2.0, histogram.getMax(), 0.0);
+      assertEquals(1.5, histogram.getSum(), 0.0);
+      assertEquals(4, histogram.getBucketList().stream().mapToDouble(Double::doubleValue).sum(), 0.0);
+      assertEquals(4, events.get(102).getSummary().getValue(0).getHisto().getNum(), 0.0);
+      Summary.Image image = events.get(103).getSummary().getValue(0).getImage();
+      assertEquals(3, image.getColorspace());
+      assertEquals(3, image.getEncodedImageString().size());
+    } finally {
+      deleteRecursively(logDir);
+    }
+  }
+
+  @Test
+  public void dropNewestWhenQueueIsFull() throws Exception {
+    Path logDir = Files.createTempDirectory("summary-test");
+    try {
+      long accepted = 0;
+      try (SummaryWriter writer = SummaryWriter.builder(logDir)
+          .queueCapacity(1)
+          .dropPolicy(SummaryWriter.DropPolicy.DROP_NEWEST)
+          .build()) {
+        for (int step = 0; step < 10_000; ++step) {
+          if (writer.scalar("loss", step, step)) {
+            ++accepted;
+          }
+        }
+        writer.flush();
+        assertEquals(10_000, accepted + writer.droppedSummaries());
+        assertEquals(accepted + 1, readEvents(writer.file()).size());
+      }
+    } finally {
+      deleteRecursively(logDir);
+    }
+  }
+
+  @Test
+  public void blockWhenQueueIsFull() throws Exception {
+    Path logDir = Files.createTempDirectory("summary-test");
+    try {
+      try (SummaryWriter writer = SummaryWriter.builder(logDir)
+          .queueCapacity(1)
+          .dropPolicy(SummaryWriter.DropPolicy.BLOCK)
+          .build()) {
+        for (int step = 0; step < 1000; ++step) {
+          assertTrue(writer.scalar("loss", step, step));
+        }
+        writer.close();
+        assertEquals(0, writer.droppedSummaries());
+        assertEquals(1001, readEvents(writer.file()).size());
+      }
+    } finally {
+      deleteRecursively(logDir);
+    }
+  }
+
+  @Test
+  public void cannotRecordOnceClosed() throws Exception {
+    Path logDir = Files.createTempDirectory("summary-test");
+    try {
+      SummaryWriter writer = SummaryWriter.create(logDir);
+      writer.close();
+      assertThrows(IllegalStateException.class, () -> writer.scalar("loss", 0.0f, 0));
+    } finally {
+      deleteRecursively(logDir);
+    }
+  }
+
+  @Test
+  public void histogramBuckets() {
+    HistogramProto histogram = Histograms.of(new double[] {0.0, 0.0, 1.0, -1.0, 1.0e30});
+    assertEquals(5, histogram.getNum(), 0.0);
+    assertEquals(histogram.getBucketCount(), histogram.getBucketLimitCount());
+    assertEquals(5, histogram.getBucketList().stream().mapToDouble(Double::doubleValue).sum(), 0.0);
+    for (int i = 1; i < histogram.getBucketLimitCount(); ++i) {
+      assertTrue(histogram.getBucketLimit(i) > histogram.getBucketLimit(i - 1));
+    }
+    assertEquals(Double.MAX_VALUE, histogram.getBucketLimit(histogram.getBucketLimitCount() - 1), 0.0);
+  }
+
+  private static List<Event> readEvents(Path file) throws IOException {
+    List<Event> events = new ArrayList<>();
+    try (TFRecordReader reader = TFRecordReader.open(file)) {
+      ByteBuffer record;
+      while ((record = reader.next()) != null) {
+        events.add(Event.parseFrom(record));
+      }
+    }
+    return events;
+  }
+
+  private static void deleteRecursively(Path dir) throws IOException {
+    try (Stream<Path> paths = Files.walk(dir)) {
+      paths.sorted(Comparator.reverseOrder()).forEach(p -> p.toFile().delete());
+    }
+  }
+}